@@ -0,0 +1,102 @@
+package com.example.organizationservice.bench;
+
+import com.example.organizationservice.model.AdminUser;
+import com.example.organizationservice.repository.AdminUserRepository;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.InsertManyOptions;
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Latency of the per-org admin rename/delete as master_admins grows.
+ *
+ * For each size, seeds N admins (one per org), then times AdminUserRepository.updateOrganizationName
+ * (updateMulti) and deleteByOrganizationName (deleteMany) for random orgs, next to the old
+ * findAll + filter + save-per-admin path. The indexed columns should stay flat; the scan grows with N.
+ * Needs a running MongoDB.
+ *
+ * mvn -Pbench test-compile exec:exec -Dbench.main=com.example.organizationservice.bench.AdminBulkOpsBenchmark \
+ *     -Dbench.args="10000,100000,1000000" [-Dbench.jvmArgs="-Dbench.mongo.uri=... -Dbench.iterations=200 -Dbench.scan-iterations=3"]
+ */
+public class AdminBulkOpsBenchmark {
+
+    private static final String DB = "org_bench_db";
+
+    public static void main(String[] args) {
+        String uri = System.getProperty("bench.mongo.uri", "mongodb://localhost:27017");
+        int iterations = Integer.getInteger("bench.iterations", 200);
+        int scanIterations = Integer.getInteger("bench.scan-iterations", 3);
+        String sizes = args.length > 0 ? args[0] : "10000,100000,1000000";
+
+        try (MongoClient client = MongoClients.create(uri)) {
+            MongoTemplate template = new MongoTemplate(client, DB);
+            AdminUserRepository adminRepo = new MongoRepositoryFactory(template).getRepository(AdminUserRepository.class);
+
+            System.out.printf("%12s %16s %16s %16s%n", "admins", "updateMulti ms", "deleteMany ms", "findAll scan ms");
+            for (String size : sizes.split(",")) {
+                int n = Integer.parseInt(size.trim());
+                template.dropCollection(AdminUser.class);
+                seed(template.getCollection("master_admins"), n);
+                template.indexOps(AdminUser.class).createIndex(new Index().on("email", Sort.Direction.ASC).unique());
+                template.indexOps(AdminUser.class).createIndex(new Index().on("organizationName", Sort.Direction.ASC));
+
+                long updateNs = 0;
+                for (int i = 0; i < iterations; i++) {
+                    int org = ThreadLocalRandom.current().nextInt(n);
+                    long start = System.nanoTime();
+                    adminRepo.updateOrganizationName("org-" + org, "renamed-" + org);
+                    updateNs += System.nanoTime() - start;
+                    adminRepo.updateOrganizationName("renamed-" + org, "org-" + org);
+                }
+
+                long deleteNs = 0;
+                for (int i = 0; i < iterations; i++) {
+                    String org = "org-" + ThreadLocalRandom.current().nextInt(n);
+                    long start = System.nanoTime();
+                    adminRepo.deleteByOrganizationName(org);
+                    deleteNs += System.nanoTime() - start;
+                }
+
+                long scanNs = 0;
+                for (int i = 0; i < scanIterations; i++) {
+                    String org = "org-" + ThreadLocalRandom.current().nextInt(n);
+                    long start = System.nanoTime();
+                    adminRepo.findAll().stream()
+                            .filter(a -> org.equals(a.getOrganizationName()))
+                            .forEach(a -> {
+                                a.setOrganizationName(org);
+                                adminRepo.save(a);
+                            });
+                    scanNs += System.nanoTime() - start;
+                }
+
+                System.out.printf("%12d %16.3f %16.3f %16.1f%n", n,
+                        updateNs / 1e6 / iterations, deleteNs / 1e6 / iterations, scanNs / 1e6 / scanIterations);
+            }
+            template.getDb().drop();
+        }
+    }
+
+    private static void seed(MongoCollection<Document> coll, int n) {
+        List<Document> batch = new ArrayList<>(10_000);
+        for (int i = 0; i < n; i++) {
+            batch.add(new Document("email", "admin-" + i + "@bench.example")
+                    .append("passwordHash", "$2a$10$benchbenchbenchbenchbenchbenchbenchbenchbenchbenchbe")
+                    .append("organizationName", "org-" + i));
+            if (batch.size() == 10_000) {
+                coll.insertMany(batch, new InsertManyOptions().ordered(false));
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) coll.insertMany(batch, new InsertManyOptions().ordered(false));
+    }
+}
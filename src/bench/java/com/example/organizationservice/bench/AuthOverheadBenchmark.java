@@ -0,0 +1,88 @@
+package com.example.organizationservice.bench;
+
+import com.example.organizationservice.model.AdminUser;
+import com.example.organizationservice.repository.AdminUserRepository;
+import com.example.organizationservice.security.AdminLookupCache;
+import com.example.organizationservice.security.AuthMetrics;
+import com.example.organizationservice.security.JwtAuthenticationFilter;
+import com.example.organizationservice.security.JwtUtil;
+import com.example.organizationservice.security.TokenRevocationList;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request authentication cost:
+ * - manualCheck: what AdminController.deleteOrg used to do (fresh token verify + adminRepo.findById)
+ * - filter: JwtAuthenticationFilter with warm token and admin-lookup caches
+ * Needs a running MongoDB (-Dbench.mongo.uri, default mongodb://localhost:27017).
+ *
+ * mvn -Pbench test-compile exec:exec -Dbench.args="AuthOverheadBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AuthOverheadBenchmark {
+
+    private static final String SECRET = "bdf89a41e923c77e2cd9f7b123aa64ff913cbb87d2f11c4efae8e7d334b09da2";
+
+    private MongoClient client;
+    private MongoTemplate template;
+    private AdminUserRepository adminRepo;
+    private JwtUtil uncachedJwt;
+    private JwtAuthenticationFilter filter;
+    private String adminId;
+    private String token;
+
+    @Setup
+    public void setup() {
+        client = MongoClients.create(System.getProperty("bench.mongo.uri", "mongodb://localhost:27017"));
+        template = new MongoTemplate(client, "org_bench_db");
+        adminRepo = new MongoRepositoryFactory(template).getRepository(AdminUserRepository.class);
+        adminId = adminRepo.save(new AdminUser(null, "admin@bench.example", "x", "Bench")).getId();
+
+        uncachedJwt = new JwtUtil(SECRET, 3_600_000, 0);
+        JwtUtil jwt = new JwtUtil(SECRET, 3_600_000, 10_000);
+        // the token has no session, so the revocation list (not started here) is never consulted
+        TokenRevocationList revocations = new TokenRevocationList(template, new SimpleMeterRegistry(), 100_000, 0.01, 1000, 3_600_000, 5000, 10_000);
+        filter = new JwtAuthenticationFilter(jwt, new AdminLookupCache(adminRepo, 10_000, 30_000), revocations, new AuthMetrics(new SimpleMeterRegistry()));
+        token = jwt.generateToken(adminId, "Bench");
+    }
+
+    @TearDown
+    public void tearDown() {
+        template.getDb().drop();
+        client.close();
+    }
+
+    @Benchmark
+    public boolean manualCheck() {
+        Claims claims = uncachedJwt.validateToken(token).getBody();
+        return adminRepo.findById(claims.getSubject())
+                .map(a -> "Bench".equals(a.getOrganizationName()))
+                .orElse(false);
+    }
+
+    @Benchmark
+    public Object filter() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("DELETE", "/org/delete");
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        SecurityContextHolder.clearContext();
+        return principal;
+    }
+}
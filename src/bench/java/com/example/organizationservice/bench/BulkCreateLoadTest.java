@@ -0,0 +1,159 @@
+package com.example.organizationservice.bench;
+
+import com.example.organizationservice.OrganizationServiceApplication;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Provisioning throughput: N organizations through POST /org/create vs. POST /org/bulk-create.
+ *
+ * Starts an in-memory MongoDB wire-protocol server and the application on a random port in this JVM, then for
+ * each org count creates that many organizations once with one request per org (bench.clients concurrent
+ * callers) and once in bulk batches of bench.batch-size (same number of concurrent callers), and prints
+ * organizations/s for both. Every run uses fresh names, so both paths do the full work.
+ *
+ * bench.bcrypt-strength (default 10) applies to both paths; hashing is a large share of either, so the gap
+ * mostly comes from round trips saved. Against a real mongod (-Dbench.mongo.uri) the gap grows with latency.
+ *
+ * mvn -Pbench test-compile exec:exec -Dbench.main=com.example.organizationservice.bench.BulkCreateLoadTest \
+ *     -Dbench.args="500,2000" [-Dbench.jvmArgs="-Dbench.clients=8 -Dbench.batch-size=250 -Dbench.mongo.uri=..."]
+ */
+public class BulkCreateLoadTest {
+
+    private static final String PASSWORD = "Admin@1234";
+
+    public static void main(String[] args) throws Exception {
+        int clients = Integer.getInteger("bench.clients", 8);
+        int batchSize = Integer.getInteger("bench.batch-size", 250);
+        String bcryptStrength = System.getProperty("bench.bcrypt-strength", "10");
+        String mongoUri = System.getProperty("bench.mongo.uri");
+        String counts = args.length > 0 ? args[0] : "500,2000";
+
+        MongoServer mongo = null;
+        if (mongoUri == null) {
+            mongo = new MongoServer(new MemoryBackend());
+            InetSocketAddress address = mongo.bind();
+            mongoUri = "mongodb://" + address.getHostString() + ":" + address.getPort();
+        }
+        ConfigurableApplicationContext app = new SpringApplicationBuilder(OrganizationServiceApplication.class)
+                // command-line args so they override application.properties
+                .run("--server.port=0",
+                        "--spring.mongodb.uri=" + mongoUri + "/org_bulk_bench_db",
+                        "--app.org-events.enabled=false",
+                        "--app.rate-limit.enabled=false",
+                        "--app.password.bcrypt-strength=" + bcryptStrength,
+                        "--app.bulk-create.max-items=" + Math.max(batchSize, 1000),
+                        "--logging.level.root=warn");
+        String baseUrl = "http://localhost:" + app.getEnvironment().getProperty("local.server.port");
+        HttpClient http = HttpClient.newBuilder()
+                .executor(Executors.newFixedThreadPool(clients + 4))
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        // warm up both paths (JIT, connection pools)
+        single(http, baseUrl, "warmup-single-" + System.nanoTime(), 50, clients);
+        bulk(http, baseUrl, "warmup-bulk-" + System.nanoTime(), 50, 25, clients);
+
+        System.out.printf("%10s %10s %16s %16s %10s%n", "orgs", "batch", "single orgs/s", "bulk orgs/s", "speedup");
+        for (String count : counts.split(",")) {
+            int n = Integer.parseInt(count.trim());
+            double singleRate = single(http, baseUrl, "single-" + System.nanoTime(), n, clients);
+            double bulkRate = bulk(http, baseUrl, "bulk-" + System.nanoTime(), n, batchSize, clients);
+            System.out.printf("%10d %10d %16.1f %16.1f %9.1fx%n", n, batchSize, singleRate, bulkRate, bulkRate / singleRate);
+        }
+
+        app.close();
+        if (mongo != null) mongo.shutdownNow();
+        System.exit(0);
+    }
+
+    private static double single(HttpClient http, String baseUrl, String prefix, int n, int clients) throws Exception {
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger failures = new AtomicInteger();
+        long start = System.nanoTime();
+        runClients(clients, () -> {
+            for (int i = next.getAndIncrement(); i < n; i = next.getAndIncrement()) {
+                String body = "{\"organization_name\":\"" + prefix + "-" + i + "\",\"email\":\"" + prefix + "-" + i
+                        + "@bench.example\",\"password\":\"" + PASSWORD + "\"}";
+                if (post(http, baseUrl + "/org/create", body).statusCode() != 200) failures.incrementAndGet();
+            }
+        });
+        return rate(n, failures.get(), start);
+    }
+
+    private static double bulk(HttpClient http, String baseUrl, String prefix, int n, int batchSize, int clients) throws Exception {
+        AtomicInteger nextBatch = new AtomicInteger();
+        AtomicInteger failures = new AtomicInteger();
+        int batches = (n + batchSize - 1) / batchSize;
+        long start = System.nanoTime();
+        runClients(clients, () -> {
+            for (int b = nextBatch.getAndIncrement(); b < batches; b = nextBatch.getAndIncrement()) {
+                StringBuilder body = new StringBuilder("[");
+                int from = b * batchSize;
+                int to = Math.min(from + batchSize, n);
+                for (int i = from; i < to; i++) {
+                    if (i > from) body.append(',');
+                    body.append("{\"organization_name\":\"").append(prefix).append('-').append(i)
+                            .append("\",\"email\":\"").append(prefix).append('-').append(i)
+                            .append("@bench.example\",\"password\":\"").append(PASSWORD).append("\"}");
+                }
+                HttpResponse<String> response = post(http, baseUrl + "/org/bulk-create", body.append(']').toString());
+                if (response.statusCode() != 200) {
+                    failures.addAndGet(to - from);
+                } else {
+                    // count items that did not come back with status 200
+                    int created = response.body().split("\"status\":200", -1).length - 1;
+                    failures.addAndGet(to - from - created);
+                }
+            }
+        });
+        return rate(n, failures.get(), start);
+    }
+
+    private static double rate(int n, int failures, long startNanos) {
+        double seconds = (System.nanoTime() - startNanos) / 1e9;
+        if (failures > 0) System.out.printf("  (%d of %d creates failed)%n", failures, n);
+        return (n - failures) / seconds;
+    }
+
+    private interface Client {
+        void run() throws Exception;
+    }
+
+    private static void runClients(int clients, Client client) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(clients);
+        List<Future<?>> futures = new ArrayList<>(clients);
+        for (int i = 0; i < clients; i++) {
+            futures.add(pool.submit(() -> {
+                client.run();
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) future.get();
+        pool.shutdown();
+    }
+
+    private static HttpResponse<String> post(HttpClient http, String url, String json) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                .timeout(Duration.ofSeconds(120))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+        return http.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.organizationservice.bench;
+
+import com.example.organizationservice.OrganizationServiceApplication;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Cost of a retry storm on POST /org/create: S concurrent copies of one create request sharing an Idempotency-Key,
+ * then S more sequential retries of it, compared with a single create.
+ *
+ * Starts an in-memory MongoDB wire-protocol server and the application on a random port in this JVM. For each
+ * storm size, bench.rounds organizations are created that way and the mean wall time per organization is printed
+ * next to the storm size 1 baseline. Every copy must answer 200 with the same organization; anything else is
+ * reported. Single-flight folds the concurrent copies into one create and the stored outcome answers the retries,
+ * so the ratio should stay close to 1 plus a lookup per retry.
+ *
+ * mvn -Pbench test-compile exec:exec -Dbench.main=com.example.organizationservice.bench.CreateRetryStormLoadTest \
+ *     -Dbench.args="1,10,100" [-Dbench.jvmArgs="-Dbench.rounds=20 -Dbench.bcrypt-strength=10 -Dbench.mongo.uri=..."]
+ */
+public class CreateRetryStormLoadTest {
+
+    private static final String PASSWORD = "Admin@1234";
+
+    public static void main(String[] args) throws Exception {
+        int rounds = Integer.getInteger("bench.rounds", 20);
+        String bcryptStrength = System.getProperty("bench.bcrypt-strength", "10");
+        String mongoUri = System.getProperty("bench.mongo.uri");
+        String sizes = args.length > 0 ? args[0] : "1,10,100";
+
+        MongoServer mongo = null;
+        if (mongoUri == null) {
+            mongo = new MongoServer(new MemoryBackend());
+            InetSocketAddress address = mongo.bind();
+            mongoUri = "mongodb://" + address.getHostString() + ":" + address.getPort();
+        }
+        ConfigurableApplicationContext app = new SpringApplicationBuilder(OrganizationServiceApplication.class)
+                // command-line args so they override application.properties
+                .run("--server.port=0",
+                        "--spring.mongodb.uri=" + mongoUri + "/org_retry_bench_db",
+                        "--app.org-events.enabled=false",
+                        "--app.rate-limit.enabled=false",
+                        "--app.password.bcrypt-strength=" + bcryptStrength,
+                        "--logging.level.root=warn");
+        String baseUrl = "http://localhost:" + app.getEnvironment().getProperty("local.server.port");
+        int maxStorm = 1;
+        for (String size : sizes.split(",")) maxStorm = Math.max(maxStorm, Integer.parseInt(size.trim()));
+        ExecutorService pool = Executors.newFixedThreadPool(maxStorm);
+        HttpClient http = HttpClient.newBuilder()
+                .executor(Executors.newFixedThreadPool(4))
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        // warm up (JIT, connection pools, BCrypt pool)
+        for (int i = 0; i < 5; i++) storm(http, pool, baseUrl, 4);
+
+        System.out.printf("%8s %14s %10s%n", "storm", "ms per org", "vs single");
+        double single = 0;
+        for (String size : sizes.split(",")) {
+            int storm = Integer.parseInt(size.trim());
+            long start = System.nanoTime();
+            for (int r = 0; r < rounds; r++) storm(http, pool, baseUrl, storm);
+            double ms = (System.nanoTime() - start) / 1e6 / rounds;
+            if (single == 0) single = ms;
+            System.out.printf("%8d %14.1f %9.2fx%n", storm, ms, ms / single);
+        }
+
+        pool.shutdown();
+        app.close();
+        if (mongo != null) mongo.shutdownNow();
+        System.exit(0);
+    }
+
+    /** One organization: size concurrent copies of its create, then size - 1 sequential retries. */
+    private static void storm(HttpClient http, ExecutorService pool, String baseUrl, int size) throws Exception {
+        String name = "storm-" + UUID.randomUUID();
+        String key = UUID.randomUUID().toString();
+        String body = "{\"organization_name\":\"" + name + "\",\"email\":\"admin@" + name
+                + ".example\",\"password\":\"" + PASSWORD + "\"}";
+        CountDownLatch go = new CountDownLatch(1);
+        List<Future<HttpResponse<String>>> copies = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            copies.add(pool.submit(() -> {
+                go.await();
+                return post(http, baseUrl + "/org/create", key, body);
+            }));
+        }
+        go.countDown();
+        List<HttpResponse<String>> responses = new ArrayList<>(2 * size);
+        for (Future<HttpResponse<String>> copy : copies) responses.add(copy.get());
+        for (int i = 1; i < size; i++) responses.add(post(http, baseUrl + "/org/create", key, body));
+        String first = responses.get(0).body();
+        for (HttpResponse<String> response : responses) {
+            if (response.statusCode() != 200 || !response.body().equals(first)) {
+                System.out.printf("  (%s: %d %s)%n", name, response.statusCode(), response.body());
+            }
+        }
+    }
+
+    private static HttpResponse<String> post(HttpClient http, String url, String key, String json) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                .timeout(Duration.ofSeconds(120))
+                .header("Content-Type", "application/json")
+                .header("Idempotency-Key", key)
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+        return http.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
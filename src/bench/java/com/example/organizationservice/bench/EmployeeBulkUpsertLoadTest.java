@@ -0,0 +1,163 @@
+package com.example.organizationservice.bench;
+
+import com.example.organizationservice.OrganizationServiceApplication;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Employee write throughput of one node through POST /org/employees/bulk-upsert.
+ *
+ * Starts an in-memory MongoDB wire-protocol server and the application on a random port in this JVM, creates one
+ * organization and logs in, then for each employee count upserts that many employees in batches of
+ * bench.batch-size from bench.clients concurrent callers: once as inserts (new emails) and once as updates of
+ * the same emails with a new salary. Prints employees/s for both passes; every run uses fresh emails.
+ *
+ * The in-memory stand-in serializes writes and scans the collection for every upsert (no query planner), so it
+ * slows down as the tenant grows and only suits small counts. The per-node figure (tens of thousands of writes/s)
+ * is measured against a real mongod via -Dbench.mongo.uri, where each upsert is one email index lookup.
+ *
+ * mvn -Pbench test-compile exec:exec -Dbench.main=com.example.organizationservice.bench.EmployeeBulkUpsertLoadTest \
+ *     -Dbench.args="2000" [-Dbench.jvmArgs="-Dbench.clients=8 -Dbench.batch-size=1000 -Dbench.mongo.uri=..."]
+ */
+public class EmployeeBulkUpsertLoadTest {
+
+    private static final String ORG = "employee-bench";
+    private static final String PASSWORD = "Admin@1234";
+
+    public static void main(String[] args) throws Exception {
+        int clients = Integer.getInteger("bench.clients", 8);
+        int batchSize = Integer.getInteger("bench.batch-size", 1000);
+        String mongoUri = System.getProperty("bench.mongo.uri");
+        String counts = args.length > 0 ? args[0] : "2000";
+
+        MongoServer mongo = null;
+        if (mongoUri == null) {
+            mongo = new MongoServer(new MemoryBackend());
+            InetSocketAddress address = mongo.bind();
+            mongoUri = "mongodb://" + address.getHostString() + ":" + address.getPort();
+        }
+        ConfigurableApplicationContext app = new SpringApplicationBuilder(OrganizationServiceApplication.class)
+                // command-line args so they override application.properties
+                .run("--server.port=0",
+                        "--spring.mongodb.uri=" + mongoUri + "/employee_bench_db",
+                        "--app.org-events.enabled=false",
+                        "--app.rate-limit.enabled=false",
+                        "--app.employees.bulk-max-items=" + Math.max(batchSize, 10000),
+                        "--logging.level.root=warn");
+        String baseUrl = "http://localhost:" + app.getEnvironment().getProperty("local.server.port");
+        HttpClient http = HttpClient.newBuilder()
+                .executor(Executors.newFixedThreadPool(clients + 4))
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        String org = ORG + "-" + System.nanoTime();
+        String email = "admin@" + org + ".example";
+        HttpResponse<String> created = send(http, "POST", baseUrl + "/org/create", null,
+                "{\"organization_name\":\"" + org + "\",\"email\":\"" + email + "\",\"password\":\"" + PASSWORD + "\"}");
+        if (created.statusCode() != 200) throw new IllegalStateException("create failed: " + created.body());
+        HttpResponse<String> login = send(http, "POST", baseUrl + "/admin/login", null,
+                "{\"email\":\"" + email + "\",\"password\":\"" + PASSWORD + "\"}");
+        String token = tokenOf(login.body());
+        String url = baseUrl + "/org/employees/bulk-upsert?organization_name=" + org;
+
+        // warm up (JIT, connection pools, the tenant's employee indexes)
+        upsert(http, url, token, "warmup-" + System.nanoTime(), 500, batchSize, clients, 1);
+
+        System.out.printf("%10s %10s %18s %18s%n", "employees", "batch", "insert employees/s", "update employees/s");
+        for (String count : counts.split(",")) {
+            int n = Integer.parseInt(count.trim());
+            String prefix = "run-" + System.nanoTime();
+            double insertRate = upsert(http, url, token, prefix, n, batchSize, clients, 1);
+            double updateRate = upsert(http, url, token, prefix, n, batchSize, clients, 2);
+            System.out.printf("%10d %10d %18.1f %18.1f%n", n, batchSize, insertRate, updateRate);
+        }
+
+        app.close();
+        if (mongo != null) mongo.shutdownNow();
+        System.exit(0);
+    }
+
+    /** Upserts employees prefix-0..n-1 with salary pass * 1000; returns employees written per second. */
+    private static double upsert(HttpClient http, String url, String token, String prefix, int n, int batchSize,
+                                 int clients, int pass) throws Exception {
+        AtomicInteger nextBatch = new AtomicInteger();
+        AtomicLong written = new AtomicLong();
+        int batches = (n + batchSize - 1) / batchSize;
+        long start = System.nanoTime();
+        runClients(clients, () -> {
+            for (int b = nextBatch.getAndIncrement(); b < batches; b = nextBatch.getAndIncrement()) {
+                StringBuilder body = new StringBuilder("[");
+                int from = b * batchSize;
+                int to = Math.min(from + batchSize, n);
+                for (int i = from; i < to; i++) {
+                    if (i > from) body.append(',');
+                    body.append("{\"name\":\"Employee ").append(i)
+                            .append("\",\"email\":\"").append(prefix).append('-').append(i)
+                            .append("@bench.example\",\"position\":\"p").append(i % 16)
+                            .append("\",\"salary\":").append(pass * 1000).append('}');
+                }
+                HttpResponse<String> response = send(http, "POST", url, token, body.append(']').toString());
+                if (response.statusCode() == 200) {
+                    written.addAndGet(count(response.body(), "upserted") + count(response.body(), "matched"));
+                }
+            }
+        });
+        double seconds = (System.nanoTime() - start) / 1e9;
+        if (written.get() < n) System.out.printf("  (%d of %d upserts failed)%n", n - written.get(), n);
+        return written.get() / seconds;
+    }
+
+    private static long count(String result, String field) {
+        int start = result.indexOf("\"" + field + "\":") + field.length() + 3;
+        int end = start;
+        while (end < result.length() && Character.isDigit(result.charAt(end))) end++;
+        return Long.parseLong(result.substring(start, end));
+    }
+
+    private static String tokenOf(String loginResponse) {
+        int start = loginResponse.indexOf("\"token\":\"") + 9;
+        return loginResponse.substring(start, loginResponse.indexOf('"', start));
+    }
+
+    private interface Client {
+        void run() throws Exception;
+    }
+
+    private static void runClients(int clients, Client client) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(clients);
+        List<Future<?>> futures = new ArrayList<>(clients);
+        for (int i = 0; i < clients; i++) {
+            futures.add(pool.submit(() -> {
+                client.run();
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) future.get();
+        pool.shutdown();
+    }
+
+    private static HttpResponse<String> send(HttpClient http, String method, String url, String token, String json) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(url))
+                .timeout(Duration.ofSeconds(120))
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(json));
+        if (token != null) request.header("Authorization", "Bearer " + token);
+        return http.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+}
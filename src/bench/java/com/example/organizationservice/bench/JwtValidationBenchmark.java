@@ -0,0 +1,65 @@
+package com.example.organizationservice.bench;
+
+import com.example.organizationservice.security.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import java.security.Key;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtUtil throughput:
+ * - generate: generateToken (HS256 sign + JSON encode), done once per login
+ * - newParserPerCall: the previous implementation (parser built for every call)
+ * - cold: shared parser, cache disabled (full HMAC verify + JSON decode every time)
+ * - warm: shared parser, token already in the verified-token cache
+ *
+ * mvn -Pbench test-compile exec:exec -Dbench.args="JwtValidationBenchmark -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtValidationBenchmark {
+
+    private static final String SECRET = "bdf89a41e923c77e2cd9f7b123aa64ff913cbb87d2f11c4efae8e7d334b09da2";
+
+    private Key key;
+    private JwtUtil coldJwt;
+    private JwtUtil warmJwt;
+    private String token;
+
+    @Setup
+    public void setup() {
+        key = Keys.hmacShaKeyFor(SECRET.getBytes());
+        coldJwt = new JwtUtil(SECRET, 3_600_000, 0);
+        warmJwt = new JwtUtil(SECRET, 3_600_000, 10_000);
+        token = warmJwt.generateToken("65f0c0ffee0000000000beef", "Microsoft");
+        warmJwt.validateToken(token);
+    }
+
+    @Benchmark
+    public String generate() {
+        return coldJwt.generateToken("65f0c0ffee0000000000beef", "Microsoft");
+    }
+
+    @Benchmark
+    public Jws<Claims> newParserPerCall() {
+        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+    }
+
+    @Benchmark
+    public Jws<Claims> cold() {
+        return coldJwt.validateToken(token);
+    }
+
+    @Benchmark
+    public Jws<Claims> warm() {
+        return warmJwt.validateToken(token);
+    }
+}
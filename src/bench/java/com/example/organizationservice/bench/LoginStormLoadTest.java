@@ -0,0 +1,129 @@
+package com.example.organizationservice.bench;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * GET /org/get latency with and without a concurrent /admin/login storm, against a running service.
+ *
+ * Creates one organization, then probes GET /org/get from a few clients for a quiet phase and for a
+ * storm phase where many clients hammer /admin/login. Prints p50/p95/p99 of the GETs for both phases
+ * and the login outcome counts (200/503 shows the hashing pool shedding load). Start the service with
+ * app.rate-limit.enabled=false, or the per-IP login limit answers most of the storm with 429.
+ *
+ * mvn -Pbench test-compile exec:exec -Dbench.main=com.example.organizationservice.bench.LoginStormLoadTest \
+ *     [-Dbench.jvmArgs="-Dbench.base-url=http://localhost:8081 -Dbench.login-clients=200 -Dbench.seconds=20"]
+ */
+public class LoginStormLoadTest {
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = System.getProperty("bench.base-url", "http://localhost:8081");
+        int loginClients = Integer.getInteger("bench.login-clients", 200);
+        int probeClients = Integer.getInteger("bench.probe-clients", 4);
+        int seconds = Integer.getInteger("bench.seconds", 20);
+
+        HttpClient http = HttpClient.newBuilder()
+                .executor(Executors.newFixedThreadPool(loginClients + probeClients + 4))
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        String org = "loadtest-" + System.currentTimeMillis();
+        String email = "admin@" + org + ".example";
+        String create = "{\"organization_name\":\"" + org + "\",\"email\":\"" + email + "\",\"password\":\"Admin@1234\"}";
+        HttpResponse<String> created = http.send(post(baseUrl + "/org/create", create), HttpResponse.BodyHandlers.ofString());
+        if (created.statusCode() != 200) throw new IllegalStateException("create failed: " + created.body());
+
+        List<Long> quiet = probe(http, baseUrl + "/org/get?organization_name=" + org, probeClients, seconds, null);
+
+        String login = "{\"email\":\"" + email + "\",\"password\":\"Admin@1234\"}";
+        AtomicLong ok = new AtomicLong();
+        AtomicLong busy = new AtomicLong();
+        AtomicLong other = new AtomicLong();
+        Runnable storm = () -> {
+            HttpResponse<Void> res = sendQuietly(http, post(baseUrl + "/admin/login", login));
+            if (res == null) other.incrementAndGet();
+            else if (res.statusCode() == 200) ok.incrementAndGet();
+            else if (res.statusCode() == 503) busy.incrementAndGet();
+            else other.incrementAndGet();
+        };
+        List<Long> stormy = probe(http, baseUrl + "/org/get?organization_name=" + org, probeClients, seconds,
+                new Storm(loginClients, storm));
+
+        report("quiet", quiet);
+        report("login storm", stormy);
+        System.out.printf("logins: 200=%d 503=%d other=%d%n", ok.get(), busy.get(), other.get());
+        System.exit(0);
+    }
+
+    private record Storm(int clients, Runnable request) { }
+
+    private static List<Long> probe(HttpClient http, String url, int clients, int seconds, Storm storm) throws InterruptedException {
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        AtomicBoolean running = new AtomicBoolean(true);
+        int total = clients + (storm == null ? 0 : storm.clients());
+        ExecutorService pool = Executors.newFixedThreadPool(total);
+        for (int i = 0; i < clients; i++) {
+            pool.submit(() -> {
+                while (running.get()) {
+                    long start = System.nanoTime();
+                    if (sendQuietly(http, HttpRequest.newBuilder(URI.create(url)).GET().build()) != null) {
+                        latencies.add(System.nanoTime() - start);
+                    }
+                }
+            });
+        }
+        if (storm != null) {
+            for (int i = 0; i < storm.clients(); i++) {
+                pool.submit(() -> {
+                    while (running.get()) storm.request().run();
+                });
+            }
+        }
+        Thread.sleep(TimeUnit.SECONDS.toMillis(seconds));
+        running.set(false);
+        pool.shutdown();
+        pool.awaitTermination(30, TimeUnit.SECONDS);
+        return latencies;
+    }
+
+    private static HttpRequest post(String url, String json) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private static HttpResponse<Void> sendQuietly(HttpClient http, HttpRequest request) {
+        try {
+            return http.send(request, HttpResponse.BodyHandlers.discarding());
+        } catch (Exception ex) {
+            return null;
+        }
+    }
+
+    private static void report(String phase, List<Long> latenciesNs) {
+        List<Long> sorted = new ArrayList<>(latenciesNs);
+        Collections.sort(sorted);
+        if (sorted.isEmpty()) {
+            System.out.printf("%-12s no successful GETs%n", phase);
+            return;
+        }
+        System.out.printf("%-12s GET /org/get n=%d p50=%.2fms p95=%.2fms p99=%.2fms%n", phase, sorted.size(),
+                pct(sorted, 0.50), pct(sorted, 0.95), pct(sorted, 0.99));
+    }
+
+    private static double pct(List<Long> sorted, double p) {
+        return sorted.get(Math.min(sorted.size() - 1, (int) Math.ceil(p * sorted.size()) - 1)) / 1e6;
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.organizationservice.bench;
+
+import com.example.organizationservice.model.OrganizationMetadata;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of OrganizationMetadata, the GET /org/get response body:
+ * - jackson3: tools.jackson JsonMapper, what Spring MVC/WebFlux use for responses
+ * - jackson2: com.fasterxml ObjectMapper (still on the classpath), for comparison
+ * - jackson3Empty: the empty body returned with a 404
+ *
+ * mvn -Pbench test-compile exec:exec -Dbench.args="MetadataSerializationBenchmark -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MetadataSerializationBenchmark {
+
+    private JsonMapper jackson3;
+    private ObjectMapper jackson2;
+    private OrganizationMetadata meta;
+    private OrganizationMetadata empty;
+
+    @Setup
+    public void setup() {
+        jackson3 = JsonMapper.builder().build();
+        jackson2 = new ObjectMapper();
+        meta = new OrganizationMetadata("65f0c0ffee0000000000cafe", "Microsoft", "tenant_65f0c0ffee0000000000cafe",
+                "65f0c0ffee0000000000beef", "single_mongo_instance", null, null);
+        empty = new OrganizationMetadata();
+    }
+
+    @Benchmark
+    public byte[] jackson3() {
+        return jackson3.writeValueAsBytes(meta);
+    }
+
+    @Benchmark
+    public byte[] jackson2() throws JsonProcessingException {
+        return jackson2.writeValueAsBytes(meta);
+    }
+
+    @Benchmark
+    public byte[] jackson3Empty() {
+        return jackson3.writeValueAsBytes(empty);
+    }
+}
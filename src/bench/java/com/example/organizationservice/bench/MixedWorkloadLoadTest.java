@@ -0,0 +1,320 @@
+package com.example.organizationservice.bench;
+
+import com.example.organizationservice.OrganizationServiceApplication;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.File;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * End-to-end mixed workload through the real controllers, with no external services.
+ *
+ * Starts an in-memory MongoDB wire-protocol server (mongo-java-server) and the application on a random port
+ * in this JVM, seeds organizations, then runs closed-loop clients issuing create/get/update/delete/login
+ * by weight (-Dbench.mix). Per endpoint it records throughput, p50/p95/p99/mean/max latency and status counts,
+ * and writes them as JSON (-Dbench.out). With -Dbench.baseline=<previous json> it exits with status 1 if any
+ * endpoint's p95 rose, or its throughput fell, by more than -Dbench.max-regression (default 0.25).
+ *
+ * Use -Dbench.profile=reactive to load the WebFlux stack instead, and -Dbench.bcrypt-strength (default 10)
+ * to keep BCrypt from dominating create/update/login. Absolute numbers reflect the in-memory stand-in,
+ * so compare runs made on the same machine with the same settings.
+ *
+ * mvn -Pbench test-compile exec:exec -Dbench.main=com.example.organizationservice.bench.MixedWorkloadLoadTest \
+ *     [-Dbench.jvmArgs="-Dbench.clients=32 -Dbench.seconds=30 -Dbench.mix=get:60,login:15,create:10,update:10,delete:5 \
+ *      -Dbench.out=target/load-test/mixed-workload.json -Dbench.baseline=target/load-test/baseline.json"]
+ */
+public class MixedWorkloadLoadTest {
+
+    private static final String PASSWORD = "Admin@1234";
+
+    private record Org(String name, String email) { }
+
+    public static void main(String[] args) throws Exception {
+        int clients = Integer.getInteger("bench.clients", 32);
+        int seconds = Integer.getInteger("bench.seconds", 30);
+        int warmupSeconds = Integer.getInteger("bench.warmup-seconds", 5);
+        int seedOrgs = Integer.getInteger("bench.seed-orgs", 50);
+        String profile = System.getProperty("bench.profile", "");
+        String bcryptStrength = System.getProperty("bench.bcrypt-strength", "10");
+        Map<String, Integer> mix = parseMix(System.getProperty("bench.mix", "get:60,login:15,create:10,update:10,delete:5"));
+        File out = new File(System.getProperty("bench.out", "target/load-test/mixed-workload.json"));
+        String baseline = System.getProperty("bench.baseline");
+        double maxRegression = Double.parseDouble(System.getProperty("bench.max-regression", "0.25"));
+
+        MongoServer mongo = new MongoServer(new MemoryBackend());
+        InetSocketAddress mongoAddress = mongo.bind();
+        ConfigurableApplicationContext app = new SpringApplicationBuilder(OrganizationServiceApplication.class)
+                .profiles(profile.isBlank() ? new String[0] : new String[]{profile})
+                // command-line args so they override application.properties
+                .run("--server.port=0",
+                        "--spring.mongodb.uri=mongodb://" + mongoAddress.getHostString() + ":" + mongoAddress.getPort() + "/org_load_db",
+                        "--app.org-events.enabled=false",
+                        "--app.rate-limit.enabled=false",
+                        "--app.password.bcrypt-strength=" + bcryptStrength,
+                        "--logging.level.root=warn");
+        String baseUrl = "http://localhost:" + app.getEnvironment().getProperty("local.server.port");
+
+        HttpClient http = HttpClient.newBuilder()
+                .executor(Executors.newFixedThreadPool(clients + 4))
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        Workload workload = new Workload(http, baseUrl, "load-" + System.currentTimeMillis());
+        for (int i = 0; i < seedOrgs; i++) workload.create(null);
+
+        run(workload, clients, warmupSeconds, mix, null);
+        Map<String, Recorder> recorders = new LinkedHashMap<>();
+        for (String op : List.of("create", "get", "update", "delete", "login")) recorders.put(op, new Recorder());
+        run(workload, clients, seconds, mix, recorders);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("timestamp", Instant.now().toString());
+        result.put("stack", profile.isBlank() ? "servlet" : profile);
+        result.put("clients", clients);
+        result.put("bcrypt_strength", Integer.parseInt(bcryptStrength));
+        result.put("seconds", seconds);
+        result.put("mix", mix);
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        recorders.forEach((op, recorder) -> endpoints.put(op, recorder.summary(seconds)));
+        result.put("endpoints", endpoints);
+
+        JsonMapper json = JsonMapper.builder().enable(SerializationFeature.INDENT_OUTPUT).build();
+        out.getAbsoluteFile().getParentFile().mkdirs();
+        json.writeValue(out, result);
+        System.out.println(json.writeValueAsString(endpoints));
+        System.out.println("results written to " + out.getPath());
+
+        int status = baseline == null ? 0 : compare(json.readTree(new File(baseline)), endpoints, maxRegression);
+        app.close();
+        mongo.shutdownNow();
+        System.exit(status);
+    }
+
+    private static void run(Workload workload, int clients, int seconds, Map<String, Integer> mix,
+                            Map<String, Recorder> recorders) throws InterruptedException {
+        int totalWeight = mix.values().stream().mapToInt(Integer::intValue).sum();
+        AtomicBoolean running = new AtomicBoolean(true);
+        ExecutorService pool = Executors.newFixedThreadPool(clients);
+        for (int i = 0; i < clients; i++) {
+            pool.submit(() -> {
+                while (running.get()) {
+                    int pick = ThreadLocalRandom.current().nextInt(totalWeight);
+                    for (Map.Entry<String, Integer> op : mix.entrySet()) {
+                        pick -= op.getValue();
+                        if (pick < 0) {
+                            workload.execute(op.getKey(), recorders == null ? null : recorders.get(op.getKey()));
+                            break;
+                        }
+                    }
+                }
+            });
+        }
+        Thread.sleep(TimeUnit.SECONDS.toMillis(seconds));
+        running.set(false);
+        pool.shutdown();
+        pool.awaitTermination(60, TimeUnit.SECONDS);
+    }
+
+    /** The five operations; keeps a pool of live organizations so get/update/delete/login hit real data. */
+    private static final class Workload {
+        private final HttpClient http;
+        private final String baseUrl;
+        private final String prefix;
+        private final AtomicLong sequence = new AtomicLong();
+        private final List<Org> live = new ArrayList<>();
+
+        Workload(HttpClient http, String baseUrl, String prefix) {
+            this.http = http;
+            this.baseUrl = baseUrl;
+            this.prefix = prefix;
+        }
+
+        void execute(String op, Recorder recorder) {
+            switch (op) {
+                case "create" -> create(recorder);
+                case "get" -> {
+                    Org org = pick(false);
+                    if (org != null) send(recorder, get("/org/get?organization_name=" + org.name()));
+                }
+                case "update" -> {
+                    Org org = pick(false);
+                    // same credentials, so the org stays usable for later logins
+                    if (org != null) send(recorder, json("PUT", "/org/update", createBody(org)));
+                }
+                case "login" -> {
+                    Org org = pick(false);
+                    if (org != null) send(recorder, json("POST", "/admin/login", loginBody(org)));
+                }
+                case "delete" -> {
+                    Org org = pick(true);
+                    if (org == null) return;
+                    HttpResponse<String> login = send(null, json("POST", "/admin/login", loginBody(org)));
+                    String token = login != null && login.statusCode() == 200 ? tokenOf(login.body()) : "";
+                    send(recorder, HttpRequest.newBuilder(URI.create(baseUrl + "/org/delete?organization_name=" + org.name()))
+                            .header("Authorization", "Bearer " + token)
+                            .DELETE()
+                            .build());
+                }
+                default -> throw new IllegalArgumentException("unknown operation: " + op);
+            }
+        }
+
+        void create(Recorder recorder) {
+            String name = prefix + "-" + sequence.incrementAndGet();
+            Org org = new Org(name, "admin@" + name + ".example");
+            HttpResponse<String> res = send(recorder, json("POST", "/org/create", createBody(org)));
+            if (res != null && res.statusCode() == 200) {
+                synchronized (live) {
+                    live.add(org);
+                }
+            }
+        }
+
+        // remove=true takes the org out of the pool (delete); keeps at least a handful around for the others
+        private Org pick(boolean remove) {
+            synchronized (live) {
+                if (live.isEmpty() || (remove && live.size() < 10)) return null;
+                int i = ThreadLocalRandom.current().nextInt(live.size());
+                Org org = live.get(i);
+                if (remove) {
+                    live.set(i, live.get(live.size() - 1));
+                    live.remove(live.size() - 1);
+                }
+                return org;
+            }
+        }
+
+        private HttpResponse<String> send(Recorder recorder, HttpRequest request) {
+            long start = System.nanoTime();
+            try {
+                HttpResponse<String> res = http.send(request, HttpResponse.BodyHandlers.ofString());
+                if (recorder != null) recorder.record(System.nanoTime() - start, String.valueOf(res.statusCode()));
+                return res;
+            } catch (Exception ex) {
+                if (recorder != null) recorder.record(System.nanoTime() - start, ex.getClass().getSimpleName());
+                return null;
+            }
+        }
+
+        private HttpRequest get(String path) {
+            return HttpRequest.newBuilder(URI.create(baseUrl + path)).GET().build();
+        }
+
+        private HttpRequest json(String method, String path, String body) {
+            return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+        }
+
+        private static String createBody(Org org) {
+            return "{\"organization_name\":\"" + org.name() + "\",\"email\":\"" + org.email() + "\",\"password\":\"" + PASSWORD + "\"}";
+        }
+
+        private static String loginBody(Org org) {
+            return "{\"email\":\"" + org.email() + "\",\"password\":\"" + PASSWORD + "\"}";
+        }
+
+        private static String tokenOf(String loginResponse) {
+            int start = loginResponse.indexOf("\"token\":\"") + 9;
+            return loginResponse.substring(start, loginResponse.indexOf('"', start));
+        }
+    }
+
+    /** Latency histogram (all responses) plus counts per status code or exception. */
+    private static final class Recorder {
+        private final Timer timer = Timer.builder("load")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .percentilePrecision(2)
+                .distributionStatisticExpiry(Duration.ofDays(1))
+                .distributionStatisticBufferLength(1)
+                .register(new SimpleMeterRegistry());
+        private final Map<String, LongAdder> statuses = new ConcurrentHashMap<>();
+
+        void record(long nanos, String status) {
+            timer.record(nanos, TimeUnit.NANOSECONDS);
+            statuses.computeIfAbsent(status, s -> new LongAdder()).increment();
+        }
+
+        Map<String, Object> summary(int seconds) {
+            Map<String, Object> summary = new LinkedHashMap<>();
+            long requests = timer.count();
+            long errors = statuses.entrySet().stream()
+                    .filter(e -> !e.getKey().startsWith("2") && !e.getKey().equals("304"))
+                    .mapToLong(e -> e.getValue().sum())
+                    .sum();
+            summary.put("requests", requests);
+            summary.put("errors", errors);
+            summary.put("throughput_rps", round(requests / (double) seconds));
+            for (ValueAtPercentile p : timer.takeSnapshot().percentileValues()) {
+                summary.put("p" + Math.round(p.percentile() * 100) + "_ms", round(p.value(TimeUnit.MILLISECONDS)));
+            }
+            summary.put("mean_ms", round(timer.mean(TimeUnit.MILLISECONDS)));
+            summary.put("max_ms", round(timer.max(TimeUnit.MILLISECONDS)));
+            Map<String, Long> byStatus = new LinkedHashMap<>();
+            statuses.entrySet().stream().sorted(Map.Entry.comparingByKey())
+                    .forEach(e -> byStatus.put(e.getKey(), e.getValue().sum()));
+            summary.put("statuses", byStatus);
+            return summary;
+        }
+
+        private static double round(double value) {
+            return Math.round(value * 100) / 100.0;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static int compare(JsonNode baseline, Map<String, Object> current, double maxRegression) {
+        int status = 0;
+        for (Map.Entry<String, Object> endpoint : current.entrySet()) {
+            JsonNode before = baseline.path("endpoints").path(endpoint.getKey());
+            if (before.isMissingNode()) continue;
+            Map<String, Object> now = (Map<String, Object>) endpoint.getValue();
+            double p95Before = before.path("p95_ms").asDouble();
+            double p95Now = ((Number) now.getOrDefault("p95_ms", 0.0)).doubleValue();
+            double rpsBefore = before.path("throughput_rps").asDouble();
+            double rpsNow = ((Number) now.get("throughput_rps")).doubleValue();
+            boolean slower = p95Before > 0 && p95Now > p95Before * (1 + maxRegression);
+            boolean fewer = rpsBefore > 0 && rpsNow < rpsBefore * (1 - maxRegression);
+            System.out.printf("%-8s p95 %.2f -> %.2f ms, throughput %.1f -> %.1f rps%s%n", endpoint.getKey(),
+                    p95Before, p95Now, rpsBefore, rpsNow, slower || fewer ? "  REGRESSION" : "");
+            if (slower || fewer) status = 1;
+        }
+        return status;
+    }
+
+    private static Map<String, Integer> parseMix(String mix) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String part : mix.split(",")) {
+            String[] kv = part.trim().split(":");
+            weights.put(kv[0].trim(), Integer.parseInt(kv[1].trim()));
+        }
+        return weights;
+    }
+}
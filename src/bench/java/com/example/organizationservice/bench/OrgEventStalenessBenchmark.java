@@ -0,0 +1,82 @@
+package com.example.organizationservice.bench;
+
+import com.example.organizationservice.model.OrgEvent;
+import com.example.organizationservice.repository.AdminUserRepository;
+import com.example.organizationservice.repository.OrganizationMetadataRepository;
+import com.example.organizationservice.security.AdminLookupCache;
+import com.example.organizationservice.service.OrgEventListener;
+import com.example.organizationservice.service.OrgEventPublisher;
+import com.example.organizationservice.service.OrganizationMetadataCache;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cross-node cache staleness through the org event outbox.
+ *
+ * Runs two in-process "nodes" (separate publisher, listener, cache and node id) against one MongoDB.
+ * Node A publishes events at a fixed rate; node B's org.events.staleness timer then reports how long
+ * each change took to be invalidated on B. Use -Dbench.mode=change-stream against a replica set.
+ *
+ * mvn -Pbench test-compile exec:exec -Dbench.main=com.example.organizationservice.bench.OrgEventStalenessBenchmark \
+ *     [-Dbench.jvmArgs="-Dbench.mongo.uri=... -Dbench.mode=poll -Dbench.events=2000 -Dbench.rate=200"]
+ */
+public class OrgEventStalenessBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        String uri = System.getProperty("bench.mongo.uri", "mongodb://localhost:27017");
+        String mode = System.getProperty("bench.mode", "poll");
+        int events = Integer.getInteger("bench.events", 2000);
+        int rate = Integer.getInteger("bench.rate", 200);
+
+        try (MongoClient client = MongoClients.create(uri)) {
+            MongoTemplate template = new MongoTemplate(client, "org_bench_db");
+            template.dropCollection(OrgEvent.class);
+            MongoRepositoryFactory repositories = new MongoRepositoryFactory(template);
+            OrganizationMetadataRepository orgRepo = repositories.getRepository(OrganizationMetadataRepository.class);
+            AdminUserRepository adminRepo = repositories.getRepository(AdminUserRepository.class);
+
+            SimpleMeterRegistry registryA = new SimpleMeterRegistry();
+            OrgEventPublisher publisherA = new OrgEventPublisher(template, registryA, true, "node-a", 100, 10_000, 16 * 1024 * 1024);
+
+            SimpleMeterRegistry registryB = new SimpleMeterRegistry();
+            OrgEventPublisher publisherB = new OrgEventPublisher(template, registryB, true, "node-b", 100, 10_000, 16 * 1024 * 1024);
+            OrganizationMetadataCache cacheB = new OrganizationMetadataCache(orgRepo, registryB, 10_000, 300_000, 30_000);
+            AdminLookupCache adminLookupB = new AdminLookupCache(adminRepo, 10_000, 30_000);
+            OrgEventListener listenerB = new OrgEventListener(template, publisherB, cacheB, adminLookupB, registryB, true, mode, 100);
+
+            publisherA.start();
+            listenerB.start();
+            Thread.sleep(1000); // let node B open its cursor
+
+            long intervalNs = TimeUnit.SECONDS.toNanos(1) / rate;
+            long next = System.nanoTime();
+            for (int i = 0; i < events; i++) {
+                publisherA.publish(OrgEvent.Type.UPDATED, null, "org-" + i);
+                next += intervalNs;
+                long sleepNs = next - System.nanoTime();
+                if (sleepNs > 0) TimeUnit.NANOSECONDS.sleep(sleepNs);
+            }
+            Thread.sleep(3000); // drain
+
+            publisherA.stop();
+            listenerB.stop();
+
+            Timer staleness = registryB.get("org.events.staleness").timer();
+            HistogramSnapshot snapshot = staleness.takeSnapshot();
+            System.out.printf("mode=%s events published=%d observed=%d mean=%.1fms max=%.1fms%n",
+                    mode, events, staleness.count(), staleness.mean(TimeUnit.MILLISECONDS), staleness.max(TimeUnit.MILLISECONDS));
+            for (ValueAtPercentile p : snapshot.percentileValues()) {
+                System.out.printf("p%.0f=%.1fms%n", p.percentile() * 100, p.value(TimeUnit.MILLISECONDS));
+            }
+            template.getDb().drop();
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.organizationservice.bench;
+
+import com.example.organizationservice.OrganizationServiceApplication;
+import com.example.organizationservice.security.OperatorTokenFilter;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.InsertManyOptions;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * GET /org/list over large master_organizations: NDJSON stream vs. walking JSON pages.
+ *
+ * Starts the application in this JVM against bench.mongo.uri, seeds N organization documents per size
+ * (straight insertMany, no tenant collections), then reads the whole listing once as an NDJSON stream and once
+ * page by page (bench.page-size, following next_after). Prints orgs/s and the peak used heap sampled every
+ * 10k organizations; with a small -Xmx the stream's peak should not move between sizes.
+ * Needs a running MongoDB; -Dbench.mongo.uri=memory uses the in-memory stand-in instead (it holds the data on
+ * this JVM's heap, so only its throughput is meaningful).
+ *
+ * mvn -Pbench test-compile exec:exec -Dbench.main=com.example.organizationservice.bench.OrgListStreamBenchmark \
+ *     -Dbench.args="100000,1000000" -Dbench.jvmArgs="-Xmx256m [-Dbench.mongo.uri=... -Dbench.page-size=1000]"
+ */
+public class OrgListStreamBenchmark {
+
+    private static final String DB = "org_list_bench_db";
+    private static final String OPERATOR_TOKEN = "bench-operator-token";
+
+    public static void main(String[] args) throws Exception {
+        String mongoUri = System.getProperty("bench.mongo.uri", "mongodb://localhost:27017");
+        int pageSize = Integer.getInteger("bench.page-size", 1000);
+        String sizes = args.length > 0 ? args[0] : "100000,1000000";
+
+        MongoServer mongo = null;
+        if (mongoUri.equals("memory")) {
+            mongo = new MongoServer(new MemoryBackend());
+            InetSocketAddress address = mongo.bind();
+            mongoUri = "mongodb://" + address.getHostString() + ":" + address.getPort();
+        }
+        ConfigurableApplicationContext app = new SpringApplicationBuilder(OrganizationServiceApplication.class)
+                // command-line args so they override application.properties
+                .run("--server.port=0",
+                        "--spring.mongodb.uri=" + mongoUri + "/" + DB,
+                        "--app.org-events.enabled=false",
+                        "--app.rate-limit.enabled=false",
+                        "--app.tenant-pool.enabled=false",
+                        "--app.operator.token=" + OPERATOR_TOKEN,
+                        "--logging.level.root=warn");
+        String baseUrl = "http://localhost:" + app.getEnvironment().getProperty("local.server.port");
+        HttpClient http = HttpClient.newHttpClient();
+        JsonMapper json = JsonMapper.builder().build();
+
+        try (MongoClient client = MongoClients.create(mongoUri)) {
+            MongoCollection<Document> orgs = client.getDatabase(DB).getCollection("master_organizations");
+            System.out.printf("%12s %14s %14s %16s %16s%n", "orgs", "ndjson orgs/s", "ndjson heap MB", "pages orgs/s", "pages heap MB");
+            for (String size : sizes.split(",")) {
+                int n = Integer.parseInt(size.trim());
+                orgs.deleteMany(new Document());
+                seed(orgs, n);
+
+                System.gc();
+                AtomicLong peak = new AtomicLong(usedHeap());
+                long start = System.nanoTime();
+                long streamed;
+                HttpResponse<Stream<String>> response = http.send(
+                        HttpRequest.newBuilder(URI.create(baseUrl + "/org/list")).header("Accept", "application/x-ndjson")
+                                .header(OperatorTokenFilter.HEADER, OPERATOR_TOKEN).build(),
+                        HttpResponse.BodyHandlers.ofLines());
+                try (Stream<String> lines = response.body()) {
+                    AtomicLong count = new AtomicLong();
+                    lines.forEach(line -> {
+                        if (count.incrementAndGet() % 10_000 == 0) peak.accumulateAndGet(usedHeap(), Math::max);
+                    });
+                    streamed = count.get();
+                }
+                double streamSeconds = (System.nanoTime() - start) / 1e9;
+                long streamPeak = peak.get();
+
+                System.gc();
+                peak.set(usedHeap());
+                start = System.nanoTime();
+                long paged = 0;
+                String after = null;
+                do {
+                    String url = baseUrl + "/org/list?limit=" + pageSize
+                            + (after == null ? "" : "&after=" + URLEncoder.encode(after, StandardCharsets.UTF_8));
+                    JsonNode page = json.readTree(http.send(HttpRequest.newBuilder(URI.create(url))
+                                    .header(OperatorTokenFilter.HEADER, OPERATOR_TOKEN).build(),
+                            HttpResponse.BodyHandlers.ofString()).body());
+                    paged += page.get("organizations").size();
+                    JsonNode next = page.get("next_after");
+                    after = next == null || next.isNull() ? null : next.asString();
+                    if (paged % 10_000 < pageSize) peak.accumulateAndGet(usedHeap(), Math::max);
+                } while (after != null);
+                double pageSeconds = (System.nanoTime() - start) / 1e9;
+
+                if (streamed != n || paged != n) System.out.printf("  (expected %d, streamed %d, paged %d)%n", n, streamed, paged);
+                System.out.printf("%12d %14.0f %14.1f %16.0f %16.1f%n", n, n / streamSeconds, streamPeak / (1024.0 * 1024.0),
+                        n / pageSeconds, peak.get() / (1024.0 * 1024.0));
+            }
+            orgs.deleteMany(new Document());
+        }
+
+        app.close();
+        if (mongo != null) mongo.shutdownNow();
+        System.exit(0);
+    }
+
+    private static void seed(MongoCollection<Document> orgs, int n) {
+        List<Document> batch = new ArrayList<>(10_000);
+        for (int i = 0; i < n; i++) {
+            ObjectId id = new ObjectId();
+            batch.add(new Document("_id", id)
+                    .append("organizationName", String.format("org-%09d", i))
+                    .append("collectionName", "tenant_" + id.toHexString())
+                    .append("adminUserId", new ObjectId().toHexString())
+                    .append("connectionDetails", "single_mongo_instance"));
+            if (batch.size() == 10_000) {
+                orgs.insertMany(batch, new InsertManyOptions().ordered(false));
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) orgs.insertMany(batch, new InsertManyOptions().ordered(false));
+    }
+
+    private static long usedHeap() {
+        Runtime rt = Runtime.getRuntime();
+        return rt.totalMemory() - rt.freeMemory();
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.organizationservice.bench;
+
+import com.example.organizationservice.security.TenantRateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost TenantRateLimiter adds to each request (TenantRateLimiter.admit, as called by the filters):
+ * - hotTenant*: 1, 8 and 64 threads admitted against one organization, the worst contention a single bucket sees
+ * - spreadTenants64: 64 threads over 10k organizations (map lookups dominate)
+ * - rejected64: 64 threads rejected on one login IP, the path a flooding client takes
+ * - synchronizedHotTenant64: a classic synchronized token bucket under the same load as hotTenant64, for contrast
+ * The organization limit is set far above what the benchmark can reach, so admitted paths never reject.
+ * Scores are per-thread ns/op: with more threads than cores they measure time slicing, not contention.
+ *
+ * mvn -Pbench test-compile exec:exec -Dbench.args="RateLimiterBenchmark -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RateLimiterBenchmark {
+
+    private static final int TENANTS = 10_000;
+    private static final String IP = "10.0.0.1";
+
+    private TenantRateLimiter limiter;
+    private String[] tenants;
+    private LockedBucket locked;
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+    }
+
+    @Setup
+    public void setup() {
+        limiter = new TenantRateLimiter(new SimpleMeterRegistry(), true, 1e10, 1_000_000, 0.001, 1, 0, 100_000, 60_000);
+        tenants = new String[TENANTS];
+        for (int i = 0; i < TENANTS; i++) tenants[i] = "bench-org-" + i;
+        limiter.admit(TenantRateLimiter.LOGIN_PATH, null, IP); // spends the login burst: every later login is rejected
+        locked = new LockedBucket(1e10, 1_000_000);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public long hotTenant1() {
+        return limiter.admit("/org/get", "microsoft", IP);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public long hotTenant8() {
+        return limiter.admit("/org/get", "microsoft", IP);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public long hotTenant64() {
+        return limiter.admit("/org/get", "microsoft", IP);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public long spreadTenants64(Cursor cursor) {
+        cursor.next = (cursor.next + 1) % TENANTS;
+        return limiter.admit("/org/get", tenants[cursor.next], IP);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public long rejected64() {
+        return limiter.admit(TenantRateLimiter.LOGIN_PATH, null, IP);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public boolean synchronizedHotTenant64() {
+        return locked.tryAcquire();
+    }
+
+    /** Refill-on-read token bucket behind one monitor. */
+    static final class LockedBucket {
+        private final double perNano;
+        private final double burst;
+        private double tokens;
+        private long refilledAt = System.nanoTime();
+
+        LockedBucket(double requestsPerSecond, double burst) {
+            this.perNano = requestsPerSecond / 1e9;
+            this.burst = burst;
+            this.tokens = burst;
+        }
+
+        synchronized boolean tryAcquire() {
+            long now = System.nanoTime();
+            tokens = Math.min(burst, tokens + (now - refilledAt) * perNano);
+            refilledAt = now;
+            if (tokens < 1) return false;
+            tokens--;
+            return true;
+        }
+    }
+}
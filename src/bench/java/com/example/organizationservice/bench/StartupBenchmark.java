@@ -0,0 +1,176 @@
+package com.example.organizationservice.bench;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.model.ReplaceOptions;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import org.bson.Document;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cold start of the packaged service: default mode vs. fast-startup mode (Spring AOT + AppCDS archive + lazy init).
+ *
+ * Needs the fast-startup build first (mvn -Pfast-startup -DskipTests package): its jar runs in both modes, as
+ * java -jar target/<jar> (default) and from target/fast-startup with the CDS archive, -Dspring.aot.enabled=true
+ * and the fast-startup profile. Runs from the project directory, like the training run, so the archive matches.
+ *
+ * Starts an in-memory MongoDB wire-protocol server in this JVM (or uses -Dbench.mongo.uri) with one organization,
+ * then starts the service bench.runs times per mode and reports, per mode, the median and best of:
+ * - time from process launch to the first 200 from GET /org/get for that organization
+ * - time to /actuator/health/readiness UP (MongoDB reached, master indexes created)
+ * - resident set size (VmRSS from /proc, Linux only) right after the first 200
+ *
+ * mvn -Pbench test-compile exec:exec -Dbench.main=com.example.organizationservice.bench.StartupBenchmark \
+ *     [-Dbench.jvmArgs="-Dbench.runs=5 -Dbench.java-opts=-Xmx256m -Dbench.mongo.uri=..."]
+ */
+public class StartupBenchmark {
+
+    private static final String ORG = "startup-bench";
+    private static final String JAR = "organization-service-0.0.1-SNAPSHOT.jar";
+
+    public static void main(String[] args) throws Exception {
+        int runs = Integer.getInteger("bench.runs", 5);
+        String javaOpts = System.getProperty("bench.java-opts", "");
+        String mongoUri = System.getProperty("bench.mongo.uri");
+        Path defaultJar = Path.of("target", JAR);
+        Path fastJar = Path.of("target", "fast-startup", JAR);
+        Path archive = Path.of("target", "fast-startup", "application.jsa");
+        for (Path required : List.of(defaultJar, fastJar, archive)) {
+            if (!Files.exists(required)) {
+                throw new IllegalStateException(required + " missing: run mvn -Pfast-startup -DskipTests package first");
+            }
+        }
+
+        MongoServer mongo = null;
+        if (mongoUri == null) {
+            mongo = new MongoServer(new MemoryBackend());
+            InetSocketAddress address = mongo.bind();
+            mongoUri = "mongodb://" + address.getHostString() + ":" + address.getPort();
+        }
+        String dbUri = mongoUri + "/startup_bench_db";
+        try (MongoClient client = MongoClients.create(dbUri)) {
+            client.getDatabase("startup_bench_db").getCollection("master_organizations")
+                    .replaceOne(new Document("organizationName", ORG),
+                            new Document("organizationName", ORG).append("collectionName", "tenant_startup_bench")
+                                    .append("adminUserId", "startup-bench-admin"),
+                            new ReplaceOptions().upsert(true));
+        }
+
+        List<String> defaultMode = new ArrayList<>(split(javaOpts));
+        defaultMode.addAll(List.of("-jar", defaultJar.toString()));
+        List<String> fastMode = new ArrayList<>(split(javaOpts));
+        fastMode.addAll(List.of("-XX:SharedArchiveFile=" + archive, "-Dspring.aot.enabled=true",
+                "-Dspring.profiles.active=fast-startup", "-jar", fastJar.toString()));
+
+        HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+        System.out.printf("%-14s %22s %22s %16s%n", "mode", "first /org/get ms", "readiness UP ms", "RSS MB");
+        System.out.printf("%-14s %22s %22s %16s%n", "", "(median / best)", "(median / best)", "(median)");
+        for (String[] mode : new String[][]{{"default"}, {"fast-startup"}}) {
+            List<String> jvm = mode[0].equals("default") ? defaultMode : fastMode;
+            long[] firstGet = new long[runs];
+            long[] ready = new long[runs];
+            long[] rss = new long[runs];
+            for (int run = 0; run < runs; run++) {
+                long[] result = startOnce(http, jvm, dbUri);
+                firstGet[run] = result[0];
+                ready[run] = result[1];
+                rss[run] = result[2];
+            }
+            System.out.printf("%-14s %13d / %6d %13d / %6d %16.1f%n", mode[0],
+                    median(firstGet), min(firstGet), median(ready), min(ready), median(rss) / 1024.0);
+        }
+
+        if (mongo != null) mongo.shutdownNow();
+        System.exit(0);
+    }
+
+    /** One cold start: {ms to first 200 from /org/get, ms to readiness UP, RSS in kB at the first 200}. */
+    private static long[] startOnce(HttpClient http, List<String> jvm, String dbUri) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvm);
+        command.addAll(List.of("--server.port=" + port, "--spring.mongodb.uri=" + dbUri,
+                "--app.org-events.enabled=false", "--app.tenant-pool.enabled=false", "--logging.level.root=warn"));
+        String base = "http://localhost:" + port;
+        long launched = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(File.createTempFile("startup-bench", ".log"))
+                .start();
+        try {
+            long firstGet = waitFor(http, base + "/org/get?organization_name=" + ORG, launched, process);
+            long rss = rssKb(process.pid());
+            long ready = waitFor(http, base + "/actuator/health/readiness", launched, process);
+            return new long[]{firstGet, ready, rss};
+        } finally {
+            process.destroy();
+            if (!process.waitFor(10, TimeUnit.SECONDS)) process.destroyForcibly().waitFor();
+        }
+    }
+
+    /** Polls url until it answers 200; returns ms since launch. */
+    private static long waitFor(HttpClient http, String url, long launched, Process process) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url)).timeout(Duration.ofSeconds(5)).GET().build();
+        long deadline = launched + TimeUnit.SECONDS.toNanos(120);
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) throw new IllegalStateException("service exited with " + process.exitValue());
+            try {
+                if (http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - launched);
+                }
+            } catch (IOException notListeningYet) {
+                // keep polling
+            }
+            Thread.sleep(5);
+        }
+        throw new IllegalStateException("no 200 from " + url + " within 120 s");
+    }
+
+    private static long rssKb(long pid) {
+        try {
+            for (String line : Files.readAllLines(Path.of("/proc", String.valueOf(pid), "status"))) {
+                if (line.startsWith("VmRSS:")) return Long.parseLong(line.replaceAll("[^0-9]", ""));
+            }
+        } catch (Exception ex) {
+            // not Linux
+        }
+        return 0;
+    }
+
+    private static int freePort() throws Exception {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static List<String> split(String opts) {
+        return opts.isBlank() ? List.of() : Arrays.asList(opts.trim().split("\\s+"));
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    private static long min(long[] values) {
+        return Arrays.stream(values).min().orElse(0);
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.organizationservice.bench;
+
+import com.example.organizationservice.service.TenantCollectionCopier;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.InsertManyOptions;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Throughput and heap profile of TenantCollectionCopier.
+ *
+ * Seeds a scratch tenant collection with N employee-shaped documents, copies it, and prints
+ * docs/s plus the peak used heap sampled after every batch. Needs a running MongoDB.
+ *
+ * mvn -Pbench test-compile exec:exec -Dbench.main=com.example.organizationservice.bench.TenantCopyBenchmark \
+ *     -Dbench.args="10000,1000000,10000000" [-Dbench.jvmArgs="-Xmx512m -Dbench.mongo.uri=mongodb://localhost:27017 -Dbench.batch-size=1000"]
+ */
+public class TenantCopyBenchmark {
+
+    private static final String DB = "org_bench_db";
+
+    public static void main(String[] args) {
+        String uri = System.getProperty("bench.mongo.uri", "mongodb://localhost:27017");
+        int batchSize = Integer.getInteger("bench.batch-size", 1000);
+        String sizes = args.length > 0 ? args[0] : "10000,1000000,10000000";
+
+        try (MongoClient client = MongoClients.create(uri)) {
+            MongoTemplate template = new MongoTemplate(client, DB);
+            TenantCollectionCopier copier = new TenantCollectionCopier(template, batchSize);
+
+            System.out.printf("%12s %10s %14s %14s%n", "documents", "seconds", "docs/s", "peak heap MB");
+            for (String size : sizes.split(",")) {
+                long n = Long.parseLong(size.trim());
+                template.dropCollection("org_bench_src");
+                template.dropCollection("org_bench_dst");
+                template.dropCollection("master_copy_checkpoints");
+                seed(template.getCollection("org_bench_src"), n);
+
+                System.gc();
+                AtomicLong peakHeap = new AtomicLong(usedHeap());
+                long start = System.nanoTime();
+                copier.copy("org_bench_src", "org_bench_dst", cp -> peakHeap.accumulateAndGet(usedHeap(), Math::max));
+                double seconds = (System.nanoTime() - start) / 1e9;
+
+                System.out.printf("%12d %10.2f %14.0f %14.1f%n", n, seconds, n / seconds, peakHeap.get() / (1024.0 * 1024.0));
+            }
+            template.getDb().drop();
+        }
+    }
+
+    private static void seed(MongoCollection<Document> coll, long n) {
+        List<Document> batch = new ArrayList<>(10_000);
+        for (long i = 0; i < n; i++) {
+            batch.add(new Document("name", "employee-" + i)
+                    .append("email", "employee-" + i + "@bench.example")
+                    .append("position", "engineer")
+                    .append("salary", 50_000 + (i % 50_000))
+                    .append("createdAt", new Date())
+                    .append("updatedAt", new Date()));
+            if (batch.size() == 10_000) {
+                coll.insertMany(batch, new InsertManyOptions().ordered(false));
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) coll.insertMany(batch, new InsertManyOptions().ordered(false));
+    }
+
+    private static long usedHeap() {
+        Runtime rt = Runtime.getRuntime();
+        return rt.totalMemory() - rt.freeMemory();
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.organizationservice.bench;
+
+import com.example.organizationservice.model.OrganizationMetadata;
+import com.example.organizationservice.model.TenantStats;
+import com.example.organizationservice.service.TenantUsageRecorder;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoCollection;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of sizing one tenant, per call:
+ * - storedStats: what GET /org/stats reads, one _id lookup in master_tenant_stats
+ * - countDocuments / collStats: asking the tenant collection itself, the per-tenant cost the store avoids
+ * - recordRequest / recordWrite: what the request filters and write paths add to a request (in-memory only),
+ *   spread over 1024 organizations; run with -t 4 to see them under contention
+ *
+ * Starts an in-memory MongoDB wire-protocol server in the benchmark JVM unless -Dbench.mongo.uri is given
+ * (then org_bench_db is used and its collections dropped). The three Mongo-backed numbers are only meaningful
+ * against a real mongod.
+ *
+ * mvn -Pbench test-compile exec:exec -Dbench.args="TenantStatsBenchmark -p documents=100000" -Dbench.jvmArgs="-Dbench.mongo.uri=mongodb://localhost:27017"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TenantStatsBenchmark {
+
+    private static final int ORGANIZATIONS = 1024;
+
+    @Param("100000")
+    public int documents;
+
+    private MongoServer server;
+    private MongoClient client;
+    private MongoTemplate template;
+    private String collectionName;
+    private String tenantId;
+    private TenantUsageRecorder recorder;
+    private OrganizationMetadata[] tenants;
+    private String[] names;
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+    }
+
+    @Setup
+    public void setup() {
+        String uri = System.getProperty("bench.mongo.uri");
+        if (uri == null) {
+            server = new MongoServer(new MemoryBackend());
+            InetSocketAddress address = server.bind();
+            uri = "mongodb://" + address.getHostString() + ":" + address.getPort();
+        }
+        client = MongoClients.create(uri);
+        template = new MongoTemplate(client, "org_bench_db");
+
+        tenantId = new ObjectId().toHexString();
+        collectionName = "tenant_" + tenantId;
+        MongoCollection<Document> tenant = template.getCollection(collectionName);
+        List<Document> batch = new ArrayList<>(10_000);
+        for (int i = 0; i < documents; i++) {
+            batch.add(new Document("type", "employee").append("name", "Employee " + i)
+                    .append("email", "employee" + i + "@bench.example").append("position", "engineer").append("salary", 1000.0 + i));
+            if (batch.size() == 10_000 || i == documents - 1) {
+                tenant.insertMany(batch);
+                batch.clear();
+            }
+        }
+        template.save(new TenantStats(tenantId, "bench", documents, documents * 120L, 0, 0, 0, 0, 0, 0, 0, 0, new Date(), new Date()));
+
+        // flushes are not run: the benchmark only measures what a request pays, so the organization cache is not needed
+        recorder = new TenantUsageRecorder(template, null, new SimpleMeterRegistry(), 5000, 100_000);
+        tenants = new OrganizationMetadata[ORGANIZATIONS];
+        names = new String[ORGANIZATIONS];
+        for (int i = 0; i < ORGANIZATIONS; i++) {
+            names[i] = "bench-org-" + i;
+            tenants[i] = new OrganizationMetadata(new ObjectId().toHexString(), names[i], "tenant_" + i, null, null, null, null);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        template.dropCollection(collectionName);
+        template.dropCollection(TenantStats.class);
+        client.close();
+        if (server != null) server.shutdownNow();
+    }
+
+    @Benchmark
+    public TenantStats storedStats() {
+        return template.findById(tenantId, TenantStats.class);
+    }
+
+    @Benchmark
+    public long countDocuments() {
+        return template.getCollection(collectionName).countDocuments();
+    }
+
+    @Benchmark
+    public Document collStats() {
+        return template.executeCommand(new Document("collStats", collectionName));
+    }
+
+    @Benchmark
+    public void recordRequest(Cursor cursor) {
+        recorder.request(names[cursor.next++ & (ORGANIZATIONS - 1)]);
+    }
+
+    @Benchmark
+    public void recordWrite(Cursor cursor) {
+        recorder.written(tenants[cursor.next++ & (ORGANIZATIONS - 1)], 1, 120, 1);
+    }
+}
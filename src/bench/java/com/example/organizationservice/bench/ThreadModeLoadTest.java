@@ -0,0 +1,133 @@
+package com.example.organizationservice.bench;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Throughput and latency of /org/get, /org/create and /admin/login at 1k-10k concurrent clients,
+ * against a running service.
+ *
+ * Each client is a closed loop of async requests (no client thread per connection), so 10k clients
+ * are cheap on this side. Run it once against a service started with spring.threads.virtual.enabled=false
+ * and once with =true (Java 21+), passing -Dbench.label to tag the rows. Add -Djdk.tracePinnedThreads=short
+ * to the service JVM to see whether any request path pins its carrier. Disable the per-tenant rate limits on the
+ * service (app.rate-limit.enabled=false): all clients share one organization and one IP.
+ *
+ * Raise the open-file limit on both sides (ulimit -n 65536) and server.tomcat.max-connections above the
+ * largest client count, or the socket limits are measured instead of the threading model.
+ *
+ * mvn -Pbench test-compile exec:exec -Dbench.main=com.example.organizationservice.bench.ThreadModeLoadTest \
+ *     -Dbench.args="1000,5000,10000" [-Dbench.jvmArgs="-Dbench.base-url=http://localhost:8081 -Dbench.seconds=20 -Dbench.label=virtual"]
+ */
+public class ThreadModeLoadTest {
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = System.getProperty("bench.base-url", "http://localhost:8081");
+        int seconds = Integer.getInteger("bench.seconds", 20);
+        String label = System.getProperty("bench.label", "server");
+        String clientCounts = args.length > 0 ? args[0] : "1000,5000,10000";
+
+        HttpClient http = HttpClient.newBuilder()
+                .executor(Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors() * 2))
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+
+        String run = "threadmode-" + System.currentTimeMillis();
+        String email = "admin@" + run + ".example";
+        HttpResponse<String> created = http.send(post(baseUrl + "/org/create", createBody(run, email)),
+                HttpResponse.BodyHandlers.ofString());
+        if (created.statusCode() != 200) throw new IllegalStateException("create failed: " + created.body());
+
+        AtomicLong orgSeq = new AtomicLong();
+        HttpRequest get = HttpRequest.newBuilder(URI.create(baseUrl + "/org/get?organization_name=" + run)).GET().build();
+        HttpRequest login = post(baseUrl + "/admin/login", "{\"email\":\"" + email + "\",\"password\":\"Admin@1234\"}");
+        Supplier<HttpRequest> create = () -> {
+            String org = run + "-" + orgSeq.incrementAndGet();
+            return post(baseUrl + "/org/create", createBody(org, "admin@" + org + ".example"));
+        };
+
+        System.out.printf("%-10s %-14s %8s %10s %9s %9s %9s %8s %8s%n",
+                "mode", "endpoint", "clients", "req/s", "p50 ms", "p95 ms", "p99 ms", "5xx", "errors");
+        for (String count : clientCounts.split(",")) {
+            int clients = Integer.parseInt(count.trim());
+            report(label, "/org/get", clients, drive(http, () -> get, clients, seconds), seconds);
+            report(label, "/org/create", clients, drive(http, create, clients, seconds), seconds);
+            report(label, "/admin/login", clients, drive(http, () -> login, clients, seconds), seconds);
+        }
+        System.exit(0);
+    }
+
+    private record Result(List<Long> latenciesNs, long serverErrors, long failures) { }
+
+    private static Result drive(HttpClient http, Supplier<HttpRequest> request, int clients, int seconds)
+            throws InterruptedException {
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        AtomicLong serverErrors = new AtomicLong();
+        AtomicLong failures = new AtomicLong();
+        AtomicBoolean running = new AtomicBoolean(true);
+        CountDownLatch done = new CountDownLatch(clients);
+
+        for (int i = 0; i < clients; i++) {
+            new Object() {
+                void next() {
+                    if (!running.get()) {
+                        done.countDown();
+                        return;
+                    }
+                    long start = System.nanoTime();
+                    http.sendAsync(request.get(), HttpResponse.BodyHandlers.discarding()).whenComplete((res, ex) -> {
+                        if (ex != null) failures.incrementAndGet();
+                        else if (res.statusCode() >= 500) serverErrors.incrementAndGet();
+                        else latencies.add(System.nanoTime() - start);
+                        next();
+                    });
+                }
+            }.next();
+        }
+        Thread.sleep(TimeUnit.SECONDS.toMillis(seconds));
+        running.set(false);
+        done.await(60, TimeUnit.SECONDS);
+        return new Result(latencies, serverErrors.get(), failures.get());
+    }
+
+    private static String createBody(String org, String email) {
+        return "{\"organization_name\":\"" + org + "\",\"email\":\"" + email + "\",\"password\":\"Admin@1234\"}";
+    }
+
+    private static HttpRequest post(String url, String json) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(60))
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private static void report(String label, String endpoint, int clients, Result result, int seconds) {
+        List<Long> sorted = new ArrayList<>(result.latenciesNs());
+        Collections.sort(sorted);
+        if (sorted.isEmpty()) {
+            System.out.printf("%-10s %-14s %8d %10s %9s %9s %9s %8d %8d%n", label, endpoint, clients,
+                    "-", "-", "-", "-", result.serverErrors(), result.failures());
+            return;
+        }
+        System.out.printf("%-10s %-14s %8d %10.0f %9.2f %9.2f %9.2f %8d %8d%n", label, endpoint, clients,
+                sorted.size() / (double) seconds, pct(sorted, 0.50), pct(sorted, 0.95), pct(sorted, 0.99),
+                result.serverErrors(), result.failures());
+    }
+
+    private static double pct(List<Long> sorted, double p) {
+        return sorted.get(Math.min(sorted.size() - 1, (int) Math.ceil(p * sorted.size()) - 1)) / 1e6;
+    }
+}
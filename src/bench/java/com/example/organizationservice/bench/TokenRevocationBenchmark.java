@@ -0,0 +1,191 @@
+package com.example.organizationservice.bench;
+
+import com.example.organizationservice.model.RevokedSession;
+import com.example.organizationservice.security.BloomFilter;
+import com.example.organizationservice.security.JwtUtil;
+import com.example.organizationservice.security.TokenRevocationList;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoCollection;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.Document;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.net.InetSocketAddress;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * Token validation throughput with a large revocation list (default 1M revoked sessions):
+ * - validateUnrevoked: what the JWT filters do for a live token: JwtUtil.validateToken (warm cache) plus
+ *   TokenRevocationList.isRevoked, cycling over 1024 live sessions (the ~1% false positives hit the exact cache)
+ * - validateRevoked: the same for a revoked session (filter hit, answered from the exact cache)
+ * - bloomProbe: BloomFilter.mightContain alone, for a live session id
+ * - hashSetProbe: an exact in-memory set of every revoked id, the alternative the filter replaces
+ * - mongoExactCheck: the _id lookup in master_revoked_sessions every validation would need without a filter
+ * Setup prints the filter load time, its size next to the HashSet's heap, and the measured false-positive rate.
+ *
+ * Starts an in-memory MongoDB wire-protocol server in the benchmark JVM unless -Dbench.mongo.uri is given
+ * (then master_revoked_sessions in org_bench_db is filled and dropped). Needs a few GB of heap at 1M.
+ *
+ * mvn -Pbench test-compile exec:exec -Dbench.args="TokenRevocationBenchmark -p entries=1000000" -Dbench.jvmArgs="-Xmx3g"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TokenRevocationBenchmark {
+
+    private static final String SECRET = "bdf89a41e923c77e2cd9f7b123aa64ff913cbb87d2f11c4efae8e7d334b09da2";
+    private static final int LIVE = 1024;
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    @Param("1000000")
+    public int entries;
+
+    private MongoServer server;
+    private MongoClient client;
+    private MongoTemplate template;
+    private TokenRevocationList revocations;
+    private JwtUtil jwt;
+    private BloomFilter bloom;
+    private Set<String> exactSet;
+    private String[] liveTokens;
+    private String[] liveSessions;
+    private String revokedToken;
+    private String revokedSession;
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+    }
+
+    @Setup
+    public void setup() throws InterruptedException {
+        String uri = System.getProperty("bench.mongo.uri");
+        if (uri == null) {
+            server = new MongoServer(new MemoryBackend());
+            InetSocketAddress address = server.bind();
+            uri = "mongodb://" + address.getHostString() + ":" + address.getPort();
+        }
+        client = MongoClients.create(uri);
+        template = new MongoTemplate(client, "org_bench_db");
+        template.dropCollection(RevokedSession.class);
+
+        MongoCollection<Document> collection = template.getCollection(template.getCollectionName(RevokedSession.class));
+        Date now = new Date();
+        Date expiresAt = new Date(now.getTime() + TimeUnit.HOURS.toMillis(1));
+        List<String> revoked = new ArrayList<>(entries);
+        List<Document> batch = new ArrayList<>(10_000);
+        for (int i = 0; i < entries; i++) {
+            String sessionId = sessionId();
+            revoked.add(sessionId);
+            batch.add(new Document("_id", sessionId).append("adminId", "bench-admin-" + (i % 1000))
+                    .append("revokedAt", now).append("expiresAt", expiresAt));
+            if (batch.size() == 10_000 || i == entries - 1) {
+                collection.insertMany(batch);
+                batch.clear();
+            }
+        }
+        revokedSession = revoked.get(entries / 2);
+
+        long loadStarted = System.nanoTime();
+        revocations = new TokenRevocationList(template, new SimpleMeterRegistry(), entries, 0.01, 1000, 3_600_000, 5000, 10_000);
+        revocations.start();
+        while (!revocations.isLoaded()) Thread.sleep(10);
+        // measure the loaded filter alone, without the catch-up reads
+        revocations.stop();
+        long loadMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - loadStarted);
+
+        bloom = BloomFilter.create(entries, 0.01);
+        revoked.forEach(bloom::put);
+        long before = usedHeap();
+        exactSet = new HashSet<>(revoked);
+        long setBytes = usedHeap() - before;
+
+        int falsePositives = 0;
+        int probes = 100_000;
+        for (int i = 0; i < probes; i++) {
+            if (bloom.mightContain(sessionId())) falsePositives++;
+        }
+        System.out.printf("%n%d revoked sessions: filter loaded from Mongo in %d ms; Bloom filter %.1f MB (%d hashes), "
+                        + "HashSet ~%.1f MB; false positives %.2f%% of %d live ids%n",
+                entries, loadMs, bloom.bitSize() / 8.0 / 1024 / 1024, bloom.hashCount(), setBytes / 1024.0 / 1024,
+                100.0 * falsePositives / probes, probes);
+
+        jwt = new JwtUtil(SECRET, 900_000, 10_000);
+        liveSessions = new String[LIVE];
+        liveTokens = new String[LIVE];
+        for (int i = 0; i < LIVE; i++) {
+            liveSessions[i] = sessionId();
+            liveTokens[i] = jwt.generateToken("65f0c0ffee0000000000beef", "Microsoft", liveSessions[i]);
+        }
+        revokedToken = jwt.generateToken("65f0c0ffee0000000000beef", "Microsoft", revokedSession);
+        for (String token : liveTokens) validate(token);
+        validate(revokedToken);
+    }
+
+    @TearDown
+    public void tearDown() {
+        template.dropCollection(RevokedSession.class);
+        client.close();
+        if (server != null) server.shutdownNow();
+    }
+
+    private boolean validate(String token) {
+        Claims claims = jwt.validateToken(token).getBody();
+        return revocations.isRevoked(claims.get(JwtUtil.SESSION_CLAIM, String.class));
+    }
+
+    @Benchmark
+    public boolean validateUnrevoked(Cursor cursor) {
+        return validate(liveTokens[cursor.next++ & (LIVE - 1)]);
+    }
+
+    @Benchmark
+    public boolean validateRevoked() {
+        return validate(revokedToken);
+    }
+
+    @Benchmark
+    public boolean bloomProbe(Cursor cursor) {
+        return bloom.mightContain(liveSessions[cursor.next++ & (LIVE - 1)]);
+    }
+
+    @Benchmark
+    public boolean hashSetProbe(Cursor cursor) {
+        return exactSet.contains(liveSessions[cursor.next++ & (LIVE - 1)]);
+    }
+
+    @Benchmark
+    public boolean mongoExactCheck(Cursor cursor) {
+        return template.exists(query(where("_id").is(liveSessions[cursor.next++ & (LIVE - 1)])), RevokedSession.class);
+    }
+
+    private static String sessionId() {
+        byte[] random = new byte[16];
+        RANDOM.nextBytes(random);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(random);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
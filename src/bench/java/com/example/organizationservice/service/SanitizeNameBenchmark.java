@@ -0,0 +1,28 @@
+package com.example.organizationservice.service;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OrganizationService.sanitizeName (trim + lowercase + regex replaceAll) on typical organization names.
+ * Lives in the service package because sanitizeName is package-private.
+ *
+ * mvn -Pbench test-compile exec:exec -Dbench.args="SanitizeNameBenchmark -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SanitizeNameBenchmark {
+
+    @Param({"microsoft", "  Acme Corp. (EU) ", "The Wedding Company - Bengaluru Operations & Logistics 2025"})
+    public String name;
+
+    @Benchmark
+    public String sanitizeName() {
+        return OrganizationService.sanitizeName(name);
+    }
+}
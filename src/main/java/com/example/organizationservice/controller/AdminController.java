@@ -1,87 +1,164 @@
 package com.example.organizationservice.controller;
 
 import com.example.organizationservice.dto.LoginRequest;
-import com.example.organizationservice.dto.LoginResponse;
-import com.example.organizationservice.model.AdminUser;
+import com.example.organizationservice.dto.RefreshRequest;
+import com.example.organizationservice.model.OrgDeletionJob;
 import com.example.organizationservice.model.OrganizationMetadata;
-import com.example.organizationservice.repository.AdminUserRepository;
+import com.example.organizationservice.model.TenantMoveJob;
 import com.example.organizationservice.repository.OrganizationMetadataRepository;
-import com.example.organizationservice.security.JwtUtil;
+import com.example.organizationservice.security.AdminPrincipal;
+import com.example.organizationservice.security.PasswordHasher;
+import com.example.organizationservice.security.PasswordHashingBusyException;
+import com.example.organizationservice.service.AdminAuthService;
+import com.example.organizationservice.service.AdminSessionService;
 import com.example.organizationservice.service.OrganizationService;
-
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jws;
-import io.jsonwebtoken.JwtException;
+import com.example.organizationservice.service.TenantMoveWorker;
+import com.example.organizationservice.service.TenantMovingException;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.net.URI;
+import java.util.concurrent.CompletableFuture;
+
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class AdminController {
 
     @Autowired
-    private AdminUserRepository adminRepo;
+    private OrganizationMetadataRepository orgRepo;
 
     @Autowired
-    private OrganizationMetadataRepository orgRepo;
+    private AdminAuthService adminAuth;
 
     @Autowired
-    private JwtUtil jwtUtil;
+    private AdminSessionService sessions;
 
     @Autowired
-    private BCryptPasswordEncoder passwordEncoder;
+    private PasswordHasher passwordHasher;
 
     @Autowired
     private OrganizationService orgService;
 
+    @Autowired
+    private TenantMoveWorker moveWorker;
+
+    /**
+     * BCrypt runs on the PasswordHasher pool; the request thread is released while it runs.
+     * A saturated pool answers 503 with Retry-After.
+     * Answers a short-lived access token and the refresh token of a new session (AdminSessionService); the session
+     * insert and token signing run on PasswordHasher.followUps().
+     */
     @PostMapping("/admin/login")
-    public ResponseEntity<?> login(@RequestBody LoginRequest req) {
-        AdminUser admin = adminRepo.findByEmail(req.getEmail()).orElse(null);
-        if (admin == null) {
-            return ResponseEntity.status(401).body("invalid credentials");
+    public CompletableFuture<ResponseEntity<?>> login(@RequestBody LoginRequest req) {
+        try {
+            return adminAuth.authenticate(req.getEmail(), req.getPassword())
+                    // the session insert runs off the hashing pool so Mongo latency never holds a BCrypt thread
+                    .thenApplyAsync(admin -> admin
+                            .<ResponseEntity<?>>map(a -> ResponseEntity.ok(sessions.open(a)))
+                            .orElseGet(() -> ResponseEntity.status(401).body("invalid credentials")), passwordHasher.followUps());
+        } catch (PasswordHashingBusyException busy) {
+            return CompletableFuture.completedFuture(ResponseEntity.status(503)
+                    .header("Retry-After", String.valueOf(busy.getRetryAfterSeconds()))
+                    .body(busy.getMessage()));
         }
-        if (!passwordEncoder.matches(req.getPassword(), admin.getPasswordHash())) {
-            return ResponseEntity.status(401).body("invalid credentials");
+    }
+
+    /** New access token and refresh token for a refresh token; each refresh token works once. */
+    @PostMapping("/admin/refresh")
+    public ResponseEntity<?> refresh(@RequestBody RefreshRequest req) {
+        try {
+            return sessions.refresh(req.getRefreshToken())
+                    .<ResponseEntity<?>>map(ResponseEntity::ok)
+                    .orElseGet(() -> ResponseEntity.status(401).body("invalid refresh token"));
+        } catch (Exception e) {
+            return ResponseEntity.status(500).body(e.getMessage());
+        }
+    }
+
+    /** Ends the session of the presented token: it and its refresh token stop working on every node. */
+    @PostMapping("/admin/logout")
+    public ResponseEntity<?> logout(@AuthenticationPrincipal AdminPrincipal principal) {
+        if (principal.getSessionId() == null) {
+            return ResponseEntity.badRequest().body("token has no session");
+        }
+        try {
+            sessions.revokeSession(principal.getSessionId(), principal.getAdminId());
+            return ResponseEntity.noContent().build();
+        } catch (Exception e) {
+            return ResponseEntity.status(500).body(e.getMessage());
         }
-        String token = jwtUtil.generateToken(admin.getId(), admin.getOrganizationName());
-        return ResponseEntity.ok(new LoginResponse(token));
     }
 
     @DeleteMapping("/org/delete")
     public ResponseEntity<?> deleteOrg(
             @RequestParam("organization_name") String organization_name,
-            @RequestHeader(value = "Authorization", required = false) String authorization
+            @AuthenticationPrincipal AdminPrincipal principal
     ) {
-        if (authorization == null || !authorization.startsWith("Bearer ")) {
-            return ResponseEntity.status(401).body("Authorization header required");
+        // token already validated and admin resolved by JwtAuthenticationFilter
+        if (!organization_name.equals(principal.getOrganizationName())) {
+            return ResponseEntity.status(403).body("token does not belong to this organization");
         }
-        String token = authorization.substring("Bearer ".length());
         try {
-            Jws<Claims> claims = jwtUtil.validateToken(token);
-            String orgFromToken = claims.getBody().get("organization", String.class);
-            String adminId = claims.getBody().getSubject();
-            if (!organization_name.equals(orgFromToken)) {
-                return ResponseEntity.status(403).body("token does not belong to this organization");
-            }
-
-            // Ensure admin exists and belongs to this org
-            AdminUser admin = adminRepo.findById(adminId).orElse(null);
-            if (admin == null || !organization_name.equals(admin.getOrganizationName())) {
-                return ResponseEntity.status(403).body("invalid admin");
-            }
-
-            // perform deletion
-            orgService.deleteOrganization(organization_name);
-            return ResponseEntity.ok("organization deleted");
-
-        } catch (JwtException ex) {
-            return ResponseEntity.status(401).body("invalid token: " + ex.getMessage());
+            // tombstone now, cleanup in the background: 202 with the job to poll
+            OrgDeletionJob job = orgService.deleteOrganization(organization_name);
+            return ResponseEntity.accepted().location(deletionStatusUri(job)).body(job);
+        } catch (TenantMovingException moving) {
+            return OrganizationController.tenantMoving(moving);
         } catch (IllegalArgumentException iae) {
             return ResponseEntity.badRequest().body(iae.getMessage());
         } catch (Exception e) {
             return ResponseEntity.status(500).body(e.getMessage());
         }
     }
+
+    /**
+     * Progress of a deletion started by DELETE /org/delete. Public: the admin's token stops working during the
+     * deletion, and the random job id is only known to whoever started it.
+     */
+    @GetMapping("/org/delete/status")
+    public ResponseEntity<?> deletionStatus(@RequestParam("job_id") String jobId) {
+        return orgService.getDeletionJob(jobId)
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(404).body("deletion job not found"));
+    }
+
+    static URI deletionStatusUri(OrgDeletionJob job) {
+        return URI.create("/org/delete/status?job_id=" + job.getId());
+    }
+
+    /**
+     * Operators only (X-Operator-Token, see OperatorTokenFilter): moves the organization's tenant collection to
+     * another cluster (app.tenant-clusters.names) in the background while it stays readable. Answers 202 with the
+     * job; its progress is at the Location header.
+     */
+    @PostMapping("/org/move")
+    public ResponseEntity<?> moveOrg(
+            @RequestParam("organization_name") String organization_name,
+            @RequestParam("cluster") String cluster
+    ) {
+        try {
+            TenantMoveJob job = moveWorker.submit(organization_name, cluster);
+            return ResponseEntity.accepted().location(moveStatusUri(job)).body(job);
+        } catch (IllegalArgumentException iae) {
+            return ResponseEntity.badRequest().body(iae.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.status(500).body(e.getMessage());
+        }
+    }
+
+    /** Operators only, like POST /org/move. */
+    @GetMapping("/org/move/status")
+    public ResponseEntity<?> moveStatus(@RequestParam("job_id") String jobId) {
+        return moveWorker.find(jobId)
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(404).body("move job not found"));
+    }
+
+    static URI moveStatusUri(TenantMoveJob job) {
+        return URI.create("/org/move/status?job_id=" + job.getId());
+    }
 }
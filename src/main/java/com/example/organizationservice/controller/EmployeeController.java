@@ -0,0 +1,116 @@
+package com.example.organizationservice.controller;
+
+import com.example.organizationservice.model.Employee;
+import com.example.organizationservice.model.OrganizationMetadata;
+import com.example.organizationservice.security.AdminPrincipal;
+import com.example.organizationservice.service.EmployeeService;
+import com.example.organizationservice.service.OrganizationService;
+import com.example.organizationservice.service.TenantMovingException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Employees of the caller's organization (same token check as DELETE /org/delete); see EmployeeService.
+ * Unknown employee ids answer 404; a clashing email 409; a write during a move to another cluster 503.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/org/employees")
+public class EmployeeController {
+
+    @Autowired
+    private OrganizationService orgService;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @PostMapping("/create")
+    public ResponseEntity<?> create(@RequestParam("organization_name") String organization_name,
+                                    @RequestBody Employee employee,
+                                    @AuthenticationPrincipal AdminPrincipal principal) {
+        return handle(organization_name, principal, tenant -> ResponseEntity.ok(employeeService.create(tenant, employee)));
+    }
+
+    @GetMapping("/get")
+    public ResponseEntity<?> get(@RequestParam("organization_name") String organization_name,
+                                 @RequestParam("id") String id,
+                                 @RequestParam(value = "fields", required = false) List<String> fields,
+                                 @AuthenticationPrincipal AdminPrincipal principal) {
+        return handle(organization_name, principal, tenant -> employeeService.get(tenant, id, fields)
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .orElseGet(EmployeeController::notFound));
+    }
+
+    /** Keyset pagination in id order: pass the previous page's next_after as after. Optional position filter and fields projection. */
+    @GetMapping("/list")
+    public ResponseEntity<?> list(@RequestParam("organization_name") String organization_name,
+                                  @RequestParam(value = "position", required = false) String position,
+                                  @RequestParam(value = "after", required = false) String after,
+                                  @RequestParam(value = "limit", defaultValue = "100") int limit,
+                                  @RequestParam(value = "fields", required = false) List<String> fields,
+                                  @AuthenticationPrincipal AdminPrincipal principal) {
+        return handle(organization_name, principal, tenant -> ResponseEntity.ok(employeeService.list(tenant, position, after, limit, fields)));
+    }
+
+    /** Sets the fields present in the body; the rest are left as they are. */
+    @PutMapping("/update")
+    public ResponseEntity<?> update(@RequestParam("organization_name") String organization_name,
+                                    @RequestParam("id") String id,
+                                    @RequestBody Employee changes,
+                                    @AuthenticationPrincipal AdminPrincipal principal) {
+        return handle(organization_name, principal, tenant -> employeeService.update(tenant, id, changes)
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .orElseGet(EmployeeController::notFound));
+    }
+
+    @DeleteMapping("/delete")
+    public ResponseEntity<?> delete(@RequestParam("organization_name") String organization_name,
+                                    @RequestParam("id") String id,
+                                    @AuthenticationPrincipal AdminPrincipal principal) {
+        return handle(organization_name, principal, tenant -> employeeService.delete(tenant, id)
+                ? ResponseEntity.ok("Employee deleted")
+                : notFound());
+    }
+
+    /**
+     * Body is a JSON array of employees, matched on email: missing ones are created, existing ones get the fields
+     * present. Answers 200 with the counts and the items that were not written; 400 only for an empty or oversized batch.
+     */
+    @PostMapping("/bulk-upsert")
+    public ResponseEntity<?> bulkUpsert(@RequestParam("organization_name") String organization_name,
+                                        @RequestBody List<Employee> employees,
+                                        @AuthenticationPrincipal AdminPrincipal principal) {
+        return handle(organization_name, principal, tenant -> ResponseEntity.ok(employeeService.bulkUpsert(tenant, employees)));
+    }
+
+    private ResponseEntity<?> handle(String organizationName, AdminPrincipal principal,
+                                     Function<OrganizationMetadata, ResponseEntity<?>> action) {
+        if (!organizationName.equals(principal.getOrganizationName())) {
+            return ResponseEntity.status(403).body("token does not belong to this organization");
+        }
+        try {
+            OrganizationMetadata tenant = orgService.getByName(organizationName)
+                    .orElseThrow(() -> new IllegalArgumentException("organization not found"));
+            return action.apply(tenant);
+        } catch (TenantMovingException moving) {
+            return OrganizationController.tenantMoving(moving);
+        } catch (DuplicateKeyException dke) {
+            return ResponseEntity.status(409).body(dke.getMessage());
+        } catch (IllegalArgumentException iae) {
+            return ResponseEntity.badRequest().body(iae.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.status(500).body(e.getMessage());
+        }
+    }
+
+    static ResponseEntity<?> notFound() {
+        return ResponseEntity.status(404).body("employee not found");
+    }
+}
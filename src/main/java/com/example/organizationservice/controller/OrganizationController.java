@@ -1,30 +1,72 @@
 package com.example.organizationservice.controller;
 
 import com.example.organizationservice.dto.CreateOrgRequest;
+import com.example.organizationservice.dto.BulkCreateResult;
 import com.example.organizationservice.dto.UpdateOrgRequest;
 import com.example.organizationservice.model.OrganizationMetadata;
+import com.example.organizationservice.security.PasswordHashingBusyException;
+import com.example.organizationservice.service.BulkOrganizationService;
+import com.example.organizationservice.service.IdempotencyKeyException;
+import com.example.organizationservice.service.IdempotentCreateService;
+import com.example.organizationservice.service.OrganizationMetadataCache;
 import com.example.organizationservice.service.OrganizationService;
+import com.example.organizationservice.service.TenantMovingException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/org")
 public class OrganizationController {
 
+    static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+    static final String IDEMPOTENT_REPLAYED = "Idempotent-Replayed";
+
     @Autowired
     private OrganizationService orgService;
 
+    @Autowired
+    private IdempotentCreateService idempotentCreates;
+
+    @Autowired
+    private BulkOrganizationService bulkOrgService;
+
+    @Autowired
+    private JsonMapper jsonMapper;
+
+    /**
+     * With an Idempotency-Key header, retries get the first attempt's answer (Idempotent-Replayed: true) instead of
+     * a 409 for their own organization; see IdempotentCreateService.
+     */
     @PostMapping("/create")
-    public ResponseEntity<?> createOrganization(@RequestBody CreateOrgRequest req) {
+    public ResponseEntity<?> createOrganization(@RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey,
+                                                @RequestBody CreateOrgRequest req) {
         try {
-            OrganizationMetadata meta = orgService.createOrganization(
+            IdempotentCreateService.Created created = idempotentCreates.createOrganization(
+                    idempotencyKey,
                     req.getOrganization_name(),
                     req.getEmail(),
                     req.getPassword()
             );
-            return ResponseEntity.ok(meta);
+            return created.replayed()
+                    ? ResponseEntity.ok().header(IDEMPOTENT_REPLAYED, "true").body(created.organization())
+                    : ResponseEntity.ok(created.organization());
+        } catch (PasswordHashingBusyException busy) {
+            return ResponseEntity.status(503).header("Retry-After", String.valueOf(busy.getRetryAfterSeconds())).body(busy.getMessage());
+        } catch (IdempotencyKeyException ike) {
+            return idempotencyKeyError(ike);
         } catch (DuplicateKeyException dke) {
             return ResponseEntity.status(409).body(dke.getMessage());
         } catch (IllegalArgumentException iae) {
@@ -34,14 +76,83 @@ public class OrganizationController {
         }
     }
 
+    /**
+     * Body is a JSON array of create requests. Answers 200 with one BulkCreateResult per item, in order;
+     * 400 only when the batch itself is empty or too large.
+     */
+    @PostMapping("/bulk-create")
+    public ResponseEntity<?> bulkCreateOrganizations(@RequestBody List<CreateOrgRequest> requests) {
+        try {
+            List<BulkCreateResult> results = bulkOrgService.createOrganizations(requests);
+            return ResponseEntity.ok(results);
+        } catch (IllegalArgumentException iae) {
+            return ResponseEntity.badRequest().body(iae.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.status(500).body(e.getMessage());
+        }
+    }
+
+    /**
+     * Served from the metadata cache. The ETag lets Spring answer a matching If-None-Match
+     * with 304 before the body is serialized.
+     */
     @GetMapping("/get")
     public ResponseEntity<?> getOrganization(@RequestParam("organization_name") String orgName) {
-        return orgService.getByName(orgName)
-                .map(org -> ResponseEntity.ok().body(org))
-                .orElseGet(() -> ResponseEntity.status(404).body(new OrganizationMetadata()));
+        OrganizationMetadataCache.Entry entry = orgService.getCachedByName(orgName);
+        if (!entry.isPresent()) {
+            return ResponseEntity.status(404).body(new OrganizationMetadata());
+        }
+        return ResponseEntity.ok().eTag(entry.etag()).body(entry.metadata());
     }
 
 
+    /**
+     * Keyset pagination in organizationName order: pass the previous page's next_after as after.
+     * Optional prefix filter and fields projection (comma-separated; organizationName is always included).
+     */
+    @GetMapping("/list")
+    public ResponseEntity<?> listOrganizations(@RequestParam(value = "prefix", required = false) String prefix,
+                                               @RequestParam(value = "after", required = false) String after,
+                                               @RequestParam(value = "limit", defaultValue = "100") int limit,
+                                               @RequestParam(value = "fields", required = false) List<String> fields) {
+        try {
+            return ResponseEntity.ok(orgService.listOrganizations(prefix, after, limit, fields));
+        } catch (IllegalArgumentException iae) {
+            return ResponseEntity.badRequest().body(iae.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.status(500).body(e.getMessage());
+        }
+    }
+
+    /**
+     * Same filter with Accept: application/x-ndjson: every matching organization, one JSON object per line,
+     * written as the Mongo cursor advances (no page size, nothing collected in memory).
+     */
+    @GetMapping(value = "/list", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamOrganizations(@RequestParam(value = "prefix", required = false) String prefix,
+                                                                     @RequestParam(value = "after", required = false) String after,
+                                                                     @RequestParam(value = "fields", required = false) List<String> fields) {
+        // declared as StreamingResponseBody so MVC streams it; errors are written the same way as plain text
+        Stream<Map<String, Object>> organizations;
+        try {
+            organizations = orgService.streamOrganizations(prefix, after, fields);
+        } catch (IllegalArgumentException iae) {
+            return ResponseEntity.badRequest().contentType(MediaType.TEXT_PLAIN).body(out -> out.write(iae.getMessage().getBytes(StandardCharsets.UTF_8)));
+        } catch (Exception e) {
+            return ResponseEntity.status(500).contentType(MediaType.TEXT_PLAIN).body(out -> out.write(String.valueOf(e.getMessage()).getBytes(StandardCharsets.UTF_8)));
+        }
+        StreamingResponseBody body = out -> {
+            try (organizations) {
+                Iterator<Map<String, Object>> it = organizations.iterator();
+                while (it.hasNext()) {
+                    out.write(jsonMapper.writeValueAsBytes(it.next()));
+                    out.write('\n');
+                }
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
     @PutMapping("/update")
     public ResponseEntity<?> updateOrganization(@RequestBody UpdateOrgRequest req) {
         try {
@@ -51,10 +162,22 @@ public class OrganizationController {
                     req.getPassword()
             );
             return ResponseEntity.ok(updated);
+        } catch (PasswordHashingBusyException busy) {
+            return ResponseEntity.status(503).header("Retry-After", String.valueOf(busy.getRetryAfterSeconds())).body(busy.getMessage());
         } catch (IllegalArgumentException iae) {
             return ResponseEntity.badRequest().body(iae.getMessage());
         } catch (Exception e) {
             return ResponseEntity.status(500).body(e.getMessage());
         }
     }
+
+    static ResponseEntity<?> tenantMoving(TenantMovingException ex) {
+        return ResponseEntity.status(503).header("Retry-After", String.valueOf(ex.getRetryAfterSeconds())).body(ex.getMessage());
+    }
+
+    static ResponseEntity<?> idempotencyKeyError(IdempotencyKeyException ex) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(ex.getStatus());
+        if (ex.getRetryAfterSeconds() > 0) response.header("Retry-After", String.valueOf(ex.getRetryAfterSeconds()));
+        return response.body(ex.getMessage());
+    }
 }
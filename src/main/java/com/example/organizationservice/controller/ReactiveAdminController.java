@@ -0,0 +1,104 @@
+package com.example.organizationservice.controller;
+
+import com.example.organizationservice.dto.LoginRequest;
+import com.example.organizationservice.dto.RefreshRequest;
+import com.example.organizationservice.security.AdminPrincipal;
+import com.example.organizationservice.service.ReactiveAdminAuthService;
+import com.example.organizationservice.service.ReactiveAdminSessionService;
+import com.example.organizationservice.service.ReactiveOrganizationService;
+import com.example.organizationservice.service.TenantMoveWorker;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * WebFlux twin of AdminController (reactive profile); same paths, status codes and bodies.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveAdminController {
+
+    @Autowired
+    private ReactiveAdminAuthService adminAuth;
+
+    @Autowired
+    private ReactiveAdminSessionService sessions;
+
+    @Autowired
+    private ReactiveOrganizationService orgService;
+
+    @Autowired
+    private TenantMoveWorker moveWorker;
+
+    @PostMapping("/admin/login")
+    public Mono<ResponseEntity<?>> login(@RequestBody LoginRequest req) {
+        return adminAuth.authenticate(req.getEmail(), req.getPassword())
+                .flatMap(sessions::open)
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.status(401).body("invalid credentials"))
+                .onErrorResume(ReactiveOrganizationController::errorResponse);
+    }
+
+    @PostMapping("/admin/refresh")
+    public Mono<ResponseEntity<?>> refresh(@RequestBody RefreshRequest req) {
+        return sessions.refresh(req.getRefreshToken())
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.status(401).body("invalid refresh token"))
+                .onErrorResume(ReactiveOrganizationController::errorResponse);
+    }
+
+    @PostMapping("/admin/logout")
+    public Mono<ResponseEntity<?>> logout(@AuthenticationPrincipal AdminPrincipal principal) {
+        if (principal.getSessionId() == null) {
+            return Mono.just(ResponseEntity.badRequest().body("token has no session"));
+        }
+        return sessions.revokeSession(principal.getSessionId(), principal.getAdminId())
+                .then(Mono.<ResponseEntity<?>>fromSupplier(() -> ResponseEntity.noContent().build()))
+                .onErrorResume(ReactiveOrganizationController::errorResponse);
+    }
+
+    @DeleteMapping("/org/delete")
+    public Mono<ResponseEntity<?>> deleteOrg(
+            @RequestParam("organization_name") String organization_name,
+            @AuthenticationPrincipal AdminPrincipal principal
+    ) {
+        // token already validated and admin resolved by ReactiveJwtAuthenticationFilter
+        if (!organization_name.equals(principal.getOrganizationName())) {
+            return Mono.just(ResponseEntity.status(403).body("token does not belong to this organization"));
+        }
+        return orgService.deleteOrganization(organization_name)
+                .<ResponseEntity<?>>map(job -> ResponseEntity.accepted().location(AdminController.deletionStatusUri(job)).body(job))
+                .onErrorResume(ReactiveOrganizationController::errorResponse);
+    }
+
+    @GetMapping("/org/delete/status")
+    public Mono<ResponseEntity<?>> deletionStatus(@RequestParam("job_id") String jobId) {
+        return orgService.getDeletionJob(jobId)
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.status(404).body("deletion job not found"));
+    }
+
+    /** Submitting records the job with the blocking MongoTemplate, so it runs on boundedElastic. */
+    @PostMapping("/org/move")
+    public Mono<ResponseEntity<?>> moveOrg(
+            @RequestParam("organization_name") String organization_name,
+            @RequestParam("cluster") String cluster
+    ) {
+        return Mono.fromCallable(() -> moveWorker.submit(organization_name, cluster))
+                .subscribeOn(Schedulers.boundedElastic())
+                .<ResponseEntity<?>>map(job -> ResponseEntity.accepted().location(AdminController.moveStatusUri(job)).body(job))
+                .onErrorResume(ReactiveOrganizationController::errorResponse);
+    }
+
+    @GetMapping("/org/move/status")
+    public Mono<ResponseEntity<?>> moveStatus(@RequestParam("job_id") String jobId) {
+        return Mono.fromCallable(() -> moveWorker.find(jobId))
+                .subscribeOn(Schedulers.boundedElastic())
+                .map(job -> job.<ResponseEntity<?>>map(ResponseEntity::ok)
+                        .orElseGet(() -> ResponseEntity.status(404).body("move job not found")));
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.organizationservice.controller;
+
+import com.example.organizationservice.model.Employee;
+import com.example.organizationservice.model.OrganizationMetadata;
+import com.example.organizationservice.security.AdminPrincipal;
+import com.example.organizationservice.service.ReactiveEmployeeService;
+import com.example.organizationservice.service.ReactiveOrganizationService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * WebFlux twin of EmployeeController, on ReactiveEmployeeService.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping("/org/employees")
+public class ReactiveEmployeeController {
+
+    @Autowired
+    private ReactiveOrganizationService orgService;
+
+    @Autowired
+    private ReactiveEmployeeService employeeService;
+
+    @PostMapping("/create")
+    public Mono<ResponseEntity<?>> create(@RequestParam("organization_name") String organization_name,
+                                          @RequestBody Employee employee,
+                                          @AuthenticationPrincipal AdminPrincipal principal) {
+        return handle(organization_name, principal, tenant -> employeeService.create(tenant, employee).map(ResponseEntity::ok));
+    }
+
+    @GetMapping("/get")
+    public Mono<ResponseEntity<?>> get(@RequestParam("organization_name") String organization_name,
+                                       @RequestParam("id") String id,
+                                       @RequestParam(value = "fields", required = false) List<String> fields,
+                                       @AuthenticationPrincipal AdminPrincipal principal) {
+        return handle(organization_name, principal, tenant -> employeeService.get(tenant, id, fields)
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .defaultIfEmpty(EmployeeController.notFound()));
+    }
+
+    @GetMapping("/list")
+    public Mono<ResponseEntity<?>> list(@RequestParam("organization_name") String organization_name,
+                                        @RequestParam(value = "position", required = false) String position,
+                                        @RequestParam(value = "after", required = false) String after,
+                                        @RequestParam(value = "limit", defaultValue = "100") int limit,
+                                        @RequestParam(value = "fields", required = false) List<String> fields,
+                                        @AuthenticationPrincipal AdminPrincipal principal) {
+        return handle(organization_name, principal, tenant -> employeeService.list(tenant, position, after, limit, fields).map(ResponseEntity::ok));
+    }
+
+    @PutMapping("/update")
+    public Mono<ResponseEntity<?>> update(@RequestParam("organization_name") String organization_name,
+                                          @RequestParam("id") String id,
+                                          @RequestBody Employee changes,
+                                          @AuthenticationPrincipal AdminPrincipal principal) {
+        return handle(organization_name, principal, tenant -> employeeService.update(tenant, id, changes)
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .defaultIfEmpty(EmployeeController.notFound()));
+    }
+
+    @DeleteMapping("/delete")
+    public Mono<ResponseEntity<?>> delete(@RequestParam("organization_name") String organization_name,
+                                          @RequestParam("id") String id,
+                                          @AuthenticationPrincipal AdminPrincipal principal) {
+        return handle(organization_name, principal, tenant -> employeeService.delete(tenant, id)
+                .map(deleted -> deleted ? ResponseEntity.ok("Employee deleted") : EmployeeController.notFound()));
+    }
+
+    @PostMapping("/bulk-upsert")
+    public Mono<ResponseEntity<?>> bulkUpsert(@RequestParam("organization_name") String organization_name,
+                                              @RequestBody List<Employee> employees,
+                                              @AuthenticationPrincipal AdminPrincipal principal) {
+        return handle(organization_name, principal, tenant -> employeeService.bulkUpsert(tenant, employees).map(ResponseEntity::ok));
+    }
+
+    private Mono<ResponseEntity<?>> handle(String organizationName, AdminPrincipal principal,
+                                           Function<OrganizationMetadata, Mono<ResponseEntity<?>>> action) {
+        if (!organizationName.equals(principal.getOrganizationName())) {
+            return Mono.just(ResponseEntity.status(403).body("token does not belong to this organization"));
+        }
+        return orgService.getCachedByName(organizationName)
+                .flatMap(entry -> entry.isPresent()
+                        ? action.apply(entry.metadata())
+                        : Mono.error(new IllegalArgumentException("organization not found")))
+                .onErrorResume(ReactiveOrganizationController::errorResponse);
+    }
+}
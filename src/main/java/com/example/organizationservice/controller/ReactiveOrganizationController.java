@@ -0,0 +1,118 @@
+package com.example.organizationservice.controller;
+
+import com.example.organizationservice.dto.CreateOrgRequest;
+import com.example.organizationservice.dto.UpdateOrgRequest;
+import com.example.organizationservice.model.OrganizationMetadata;
+import com.example.organizationservice.security.PasswordHashingBusyException;
+import com.example.organizationservice.service.BulkOrganizationService;
+import com.example.organizationservice.service.IdempotencyKeyException;
+import com.example.organizationservice.service.ReactiveIdempotentCreateService;
+import com.example.organizationservice.service.ReactiveOrganizationService;
+import com.example.organizationservice.service.TenantMovingException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+
+/**
+ * WebFlux twin of OrganizationController (reactive profile); same paths, status codes and bodies.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping("/org")
+public class ReactiveOrganizationController {
+
+    @Autowired
+    private ReactiveOrganizationService orgService;
+
+    @Autowired
+    private ReactiveIdempotentCreateService idempotentCreates;
+
+    @Autowired
+    private BulkOrganizationService bulkOrgService;
+
+    /** See OrganizationController.createOrganization. */
+    @PostMapping("/create")
+    public Mono<ResponseEntity<?>> createOrganization(@RequestHeader(value = OrganizationController.IDEMPOTENCY_KEY, required = false) String idempotencyKey,
+                                                      @RequestBody CreateOrgRequest req) {
+        return idempotentCreates.createOrganization(idempotencyKey, req.getOrganization_name(), req.getEmail(), req.getPassword())
+                .<ResponseEntity<?>>map(created -> created.replayed()
+                        ? ResponseEntity.ok().header(OrganizationController.IDEMPOTENT_REPLAYED, "true").body(created.organization())
+                        : ResponseEntity.ok(created.organization()))
+                .onErrorResume(ReactiveOrganizationController::errorResponse);
+    }
+
+    /** Shares the blocking BulkOrganizationService; the batch runs on boundedElastic, never on an event loop. */
+    @PostMapping("/bulk-create")
+    public Mono<ResponseEntity<?>> bulkCreateOrganizations(@RequestBody List<CreateOrgRequest> requests) {
+        return Mono.fromCallable(() -> bulkOrgService.createOrganizations(requests))
+                .subscribeOn(Schedulers.boundedElastic())
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .onErrorResume(ReactiveOrganizationController::errorResponse);
+    }
+
+    /** Served from the shared metadata cache; WebFlux answers a matching If-None-Match with 304. */
+    @GetMapping("/get")
+    public Mono<ResponseEntity<?>> getOrganization(@RequestParam("organization_name") String orgName) {
+        return orgService.getCachedByName(orgName)
+                .map(entry -> entry.isPresent()
+                        ? ResponseEntity.ok().eTag(entry.etag()).body(entry.metadata())
+                        : ResponseEntity.status(404).body(new OrganizationMetadata()));
+    }
+
+    /** See OrganizationController.listOrganizations. */
+    @GetMapping("/list")
+    public Mono<ResponseEntity<?>> listOrganizations(@RequestParam(value = "prefix", required = false) String prefix,
+                                                     @RequestParam(value = "after", required = false) String after,
+                                                     @RequestParam(value = "limit", defaultValue = "100") int limit,
+                                                     @RequestParam(value = "fields", required = false) List<String> fields) {
+        return orgService.listOrganizations(prefix, after, limit, fields)
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .onErrorResume(ReactiveOrganizationController::errorResponse);
+    }
+
+    /** NDJSON stream; WebFlux writes each element as one line as the cursor emits it. */
+    @GetMapping(value = "/list", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Mono<ResponseEntity<?>> streamOrganizations(@RequestParam(value = "prefix", required = false) String prefix,
+                                                       @RequestParam(value = "after", required = false) String after,
+                                                       @RequestParam(value = "fields", required = false) List<String> fields) {
+        try {
+            return Mono.just(ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON)
+                    .body(orgService.streamOrganizations(prefix, after, fields)));
+        } catch (IllegalArgumentException iae) {
+            return Mono.just(ResponseEntity.badRequest().contentType(MediaType.TEXT_PLAIN).body(iae.getMessage()));
+        }
+    }
+
+    @PutMapping("/update")
+    public Mono<ResponseEntity<?>> updateOrganization(@RequestBody UpdateOrgRequest req) {
+        return orgService.updateOrganization(req.getOrganization_name(), req.getEmail(), req.getPassword())
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .onErrorResume(ReactiveOrganizationController::errorResponse);
+    }
+
+    static Mono<ResponseEntity<?>> errorResponse(Throwable ex) {
+        if (ex instanceof PasswordHashingBusyException busy) {
+            return Mono.just(ResponseEntity.status(503).header("Retry-After", String.valueOf(busy.getRetryAfterSeconds())).body(busy.getMessage()));
+        }
+        if (ex instanceof TenantMovingException moving) {
+            return Mono.just(OrganizationController.tenantMoving(moving));
+        }
+        if (ex instanceof IdempotencyKeyException ike) {
+            return Mono.just(OrganizationController.idempotencyKeyError(ike));
+        }
+        if (ex instanceof DuplicateKeyException) {
+            return Mono.just(ResponseEntity.status(409).body(ex.getMessage()));
+        }
+        if (ex instanceof IllegalArgumentException) {
+            return Mono.just(ResponseEntity.badRequest().body(ex.getMessage()));
+        }
+        return Mono.just(ResponseEntity.status(500).body(ex.getMessage()));
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.organizationservice.controller;
+
+import com.example.organizationservice.model.OrganizationMetadata;
+import com.example.organizationservice.security.AdminPrincipal;
+import com.example.organizationservice.service.ReactiveOrganizationService;
+import com.example.organizationservice.service.TenantDataTransfer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * WebFlux twin of TenantDataController. The blocking TenantDataTransfer runs on boundedElastic and is bridged
+ * with DataBufferUtils, which keeps backpressure in both directions: export only produces as the client reads,
+ * import only requests more of the body as batches are written.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping("/org")
+public class ReactiveTenantDataController {
+
+    @Autowired
+    private ReactiveOrganizationService orgService;
+
+    @Autowired
+    private TenantDataTransfer transfer;
+
+    // declared as Flux<DataBuffer> so WebFlux writes the body as raw bytes instead of encoding it as JSON
+    @GetMapping("/export")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> exportTenant(
+            @RequestParam("organization_name") String organization_name,
+            @RequestParam(value = "format", defaultValue = "ndjson") String format,
+            @AuthenticationPrincipal AdminPrincipal principal
+    ) {
+        if (!organization_name.equals(principal.getOrganizationName())) {
+            return Mono.just(text(403, "token does not belong to this organization"));
+        }
+        return Mono.fromCallable(() -> TenantDataTransfer.Format.of(format))
+                .zipWith(tenant(organization_name))
+                .map(target -> {
+                    Flux<DataBuffer> body = Flux.from(DataBufferUtils.outputStreamPublisher(out -> {
+                        try {
+                            transfer.export(target.getT2(), target.getT1(), out);
+                        } catch (IOException ex) {
+                            throw new UncheckedIOException(ex);
+                        }
+                    }, DefaultDataBufferFactory.sharedInstance, task -> Schedulers.boundedElastic().schedule(task)));
+                    return ResponseEntity.ok()
+                            .contentType(target.getT1() == TenantDataTransfer.Format.BSON ? TenantDataController.BSON : MediaType.APPLICATION_NDJSON)
+                            .body(body);
+                })
+                .onErrorResume(ex -> Mono.just(text(ex instanceof IllegalArgumentException ? 400 : 500, ex.getMessage())));
+    }
+
+    @PostMapping("/import")
+    public Mono<ResponseEntity<?>> importTenant(
+            @RequestParam("organization_name") String organization_name,
+            @RequestParam(value = "format", defaultValue = "ndjson") String format,
+            @AuthenticationPrincipal AdminPrincipal principal,
+            @RequestBody Flux<DataBuffer> body
+    ) {
+        if (!organization_name.equals(principal.getOrganizationName())) {
+            return Mono.just(ResponseEntity.status(403).body("token does not belong to this organization"));
+        }
+        return Mono.fromCallable(() -> TenantDataTransfer.Format.of(format))
+                .zipWith(tenant(organization_name))
+                .publishOn(Schedulers.boundedElastic())
+                .<ResponseEntity<?>>map(target -> {
+                    try (InputStream in = DataBufferUtils.subscriberInputStream(body, 16)) {
+                        return ResponseEntity.ok(transfer.importData(target.getT2(), target.getT1(), in));
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                })
+                .onErrorResume(ReactiveOrganizationController::errorResponse);
+    }
+
+    private static ResponseEntity<Flux<DataBuffer>> text(int status, String message) {
+        byte[] bytes = String.valueOf(message).getBytes(StandardCharsets.UTF_8);
+        return ResponseEntity.status(status)
+                .contentType(MediaType.TEXT_PLAIN)
+                .body(Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(bytes)));
+    }
+
+    private Mono<OrganizationMetadata> tenant(String organizationName) {
+        return orgService.getCachedByName(organizationName)
+                .flatMap(entry -> entry.isPresent()
+                        ? Mono.just(entry.metadata())
+                        : Mono.error(new IllegalArgumentException("organization not found")));
+    }
+}
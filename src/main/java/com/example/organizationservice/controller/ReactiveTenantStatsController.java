@@ -0,0 +1,42 @@
+package com.example.organizationservice.controller;
+
+import com.example.organizationservice.security.AdminPrincipal;
+import com.example.organizationservice.service.ReactiveOrganizationService;
+import com.example.organizationservice.service.TenantUsageRecorder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * WebFlux twin of TenantStatsController. The stats read is one blocking findById on master_tenant_stats (shared
+ * TenantUsageRecorder), so it runs on boundedElastic.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping("/org")
+public class ReactiveTenantStatsController {
+
+    @Autowired
+    private ReactiveOrganizationService orgService;
+
+    @Autowired
+    private TenantUsageRecorder usage;
+
+    @GetMapping("/stats")
+    public Mono<ResponseEntity<?>> stats(@RequestParam("organization_name") String organization_name,
+                                         @AuthenticationPrincipal AdminPrincipal principal) {
+        if (!organization_name.equals(principal.getOrganizationName())) {
+            return Mono.just(ResponseEntity.status(403).body("token does not belong to this organization"));
+        }
+        return orgService.getCachedByName(organization_name)
+                .flatMap(entry -> entry.isPresent()
+                        ? Mono.fromCallable(() -> usage.stats(entry.metadata())).subscribeOn(Schedulers.boundedElastic())
+                        : Mono.error(new IllegalArgumentException("organization not found")))
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .onErrorResume(ReactiveOrganizationController::errorResponse);
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.organizationservice.controller;
+
+import com.example.organizationservice.model.OrganizationMetadata;
+import com.example.organizationservice.security.AdminPrincipal;
+import com.example.organizationservice.service.OrganizationService;
+import com.example.organizationservice.service.TenantDataTransfer;
+import com.example.organizationservice.service.TenantMovingException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Bulk tenant data in/out for the admin of the organization (same token check as DELETE /org/delete).
+ * format=ndjson (default) or bson; see TenantDataTransfer for both formats.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/org")
+public class TenantDataController {
+
+    static final MediaType BSON = MediaType.parseMediaType("application/bson");
+
+    @Autowired
+    private OrganizationService orgService;
+
+    @Autowired
+    private TenantDataTransfer transfer;
+
+    /** Streamed from a cursor as the client reads; nothing is buffered beyond one cursor batch. */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTenant(
+            @RequestParam("organization_name") String organization_name,
+            @RequestParam(value = "format", defaultValue = "ndjson") String format,
+            @AuthenticationPrincipal AdminPrincipal principal
+    ) {
+        // declared as StreamingResponseBody so MVC streams it; errors are written the same way as plain text
+        if (!organization_name.equals(principal.getOrganizationName())) {
+            return text(403, "token does not belong to this organization");
+        }
+        try {
+            TenantDataTransfer.Format dataFormat = TenantDataTransfer.Format.of(format);
+            OrganizationMetadata tenant = tenant(organization_name);
+            return ResponseEntity.ok()
+                    .contentType(dataFormat == TenantDataTransfer.Format.BSON ? BSON : MediaType.APPLICATION_NDJSON)
+                    .body(out -> transfer.export(tenant, dataFormat, out));
+        } catch (IllegalArgumentException iae) {
+            return text(400, iae.getMessage());
+        } catch (Exception e) {
+            return text(500, String.valueOf(e.getMessage()));
+        }
+    }
+
+    /** Body is read incrementally; each batch is written before the next is read. */
+    @PostMapping("/import")
+    public ResponseEntity<?> importTenant(
+            @RequestParam("organization_name") String organization_name,
+            @RequestParam(value = "format", defaultValue = "ndjson") String format,
+            @AuthenticationPrincipal AdminPrincipal principal,
+            InputStream body
+    ) {
+        if (!organization_name.equals(principal.getOrganizationName())) {
+            return ResponseEntity.status(403).body("token does not belong to this organization");
+        }
+        try {
+            TenantDataTransfer.Format dataFormat = TenantDataTransfer.Format.of(format);
+            return ResponseEntity.ok(transfer.importData(tenant(organization_name), dataFormat, body));
+        } catch (TenantMovingException moving) {
+            return OrganizationController.tenantMoving(moving);
+        } catch (IllegalArgumentException iae) {
+            return ResponseEntity.badRequest().body(iae.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.status(500).body(e.getMessage());
+        }
+    }
+
+    private OrganizationMetadata tenant(String organizationName) {
+        return orgService.getByName(organizationName)
+                .orElseThrow(() -> new IllegalArgumentException("organization not found"));
+    }
+
+    private static ResponseEntity<StreamingResponseBody> text(int status, String message) {
+        return ResponseEntity.status(status).contentType(MediaType.TEXT_PLAIN)
+                .body(out -> out.write(message.getBytes(StandardCharsets.UTF_8)));
+    }
+}
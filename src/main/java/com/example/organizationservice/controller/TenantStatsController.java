@@ -0,0 +1,41 @@
+package com.example.organizationservice.controller;
+
+import com.example.organizationservice.security.AdminPrincipal;
+import com.example.organizationservice.service.OrganizationService;
+import com.example.organizationservice.service.TenantUsageRecorder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Usage of the caller's organization (same token check as DELETE /org/delete), served from master_tenant_stats
+ * alone; the tenant collection is never read. See TenantUsageRecorder and TenantStatsSampler for how it is kept.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/org")
+public class TenantStatsController {
+
+    @Autowired
+    private OrganizationService orgService;
+
+    @Autowired
+    private TenantUsageRecorder usage;
+
+    @GetMapping("/stats")
+    public ResponseEntity<?> stats(@RequestParam("organization_name") String organization_name,
+                                   @AuthenticationPrincipal AdminPrincipal principal) {
+        if (!organization_name.equals(principal.getOrganizationName())) {
+            return ResponseEntity.status(403).body("token does not belong to this organization");
+        }
+        try {
+            return orgService.getByName(organization_name)
+                    .<ResponseEntity<?>>map(tenant -> ResponseEntity.ok(usage.stats(tenant)))
+                    .orElseGet(() -> ResponseEntity.badRequest().body("organization not found"));
+        } catch (Exception e) {
+            return ResponseEntity.status(500).body(e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.organizationservice.dto;
+
+import com.example.organizationservice.model.OrganizationMetadata;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of one item of POST /org/bulk-create, in request order.
+ * status uses the codes POST /org/create would answer with (200, 400, 409, 503, 500);
+ * organization is set only when status is 200, message only when it is not.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkCreateResult {
+    private String organization_name;
+    private int status;
+    private String message;
+    private OrganizationMetadata organization;
+}
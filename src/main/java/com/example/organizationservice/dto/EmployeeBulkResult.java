@@ -0,0 +1,30 @@
+package com.example.organizationservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of POST /org/employees/bulk-upsert: employees created, employees matched by email (and how many of those
+ * actually changed), and the items that were not written, by their position in the request.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeBulkResult {
+    private long upserted;
+    private long matched;
+    private long modified;
+    private List<ItemError> errors = new ArrayList<>();
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ItemError {
+        private int index;
+        private String message;
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.organizationservice.dto;
+
+import com.example.organizationservice.model.Employee;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of GET /org/employees/list, in id order; next_after is the cursor for the following page,
+ * null on the last one.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeePage {
+    private List<Employee> employees;
+    private String next_after;
+}
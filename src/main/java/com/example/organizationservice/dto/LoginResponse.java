@@ -9,4 +9,6 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class LoginResponse {
     private String token;
+    private String refreshToken; // single use: POST /admin/refresh answers a new one
+    private long expiresIn; // seconds until token expires
 }
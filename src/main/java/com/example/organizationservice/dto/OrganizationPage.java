@@ -0,0 +1,20 @@
+package com.example.organizationservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One page of GET /org/list. Items carry only the requested fields (organizationName always);
+ * next_after is the cursor for the following page, null on the last one.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrganizationPage {
+    private List<Map<String, Object>> organizations;
+    private String next_after;
+}
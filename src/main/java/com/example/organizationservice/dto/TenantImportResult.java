@@ -0,0 +1,17 @@
+package com.example.organizationservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of POST /org/import: documents written, and documents skipped because their _id
+ * was already in the tenant collection (so re-running an interrupted import is safe).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TenantImportResult {
+    private long inserted;
+    private long duplicates;
+}
@@ -0,0 +1,27 @@
+package com.example.organizationservice.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.Date;
+
+/**
+ * One admin login, in master_admin_sessions (see AdminSessionService). Access tokens carry its id as their sid
+ * claim; the refresh token is rotated on every POST /admin/refresh and only its hash is stored.
+ * Deleted when the session is revoked; otherwise expires at expiresAt (moved forward by each refresh).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "master_admin_sessions")
+public class AdminSession {
+    @Id
+    private String id; // session id: sid claim of its access tokens, prefix of its refresh token
+    private String adminId;
+    private String refreshTokenHash; // SHA-256 of the current refresh token
+    private Date createdAt;
+    private Date expiresAt;
+}
@@ -0,0 +1,28 @@
+package com.example.organizationservice.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.Date;
+
+/**
+ * Progress marker for a tenant collection copy. One document per (source, target) pair;
+ * it is removed once the copy completes, so a remaining checkpoint means a copy can be resumed.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "master_copy_checkpoints")
+public class CopyCheckpoint {
+    @Id
+    private String id; // "<source>-><target>"
+    private String sourceCollection;
+    private String targetCollection;
+    private Object lastCopiedId; // _id of the last document of the last committed batch
+    private long copiedCount;
+    private long totalEstimate;
+    private Date updatedAt;
+}
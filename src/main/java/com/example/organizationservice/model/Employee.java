@@ -0,0 +1,28 @@
+package com.example.organizationservice.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Date;
+
+/**
+ * An employee of a tenant, stored in the organization's tenant collection next to the template and admin_profile
+ * documents (marked type=employee). Follows the Employee schema of the template document.
+ * Read and written through EmployeeCodec rather than the mapping converter; fields left out of a projection are null
+ * and not rendered.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class Employee {
+    private String id; // ObjectId hex
+    private String name;
+    private String email; // unique per tenant; key of bulk upserts
+    private String position;
+    private Double salary;
+    private Date createdAt;
+    private Date updatedAt;
+}
@@ -0,0 +1,33 @@
+package com.example.organizationservice.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.Date;
+
+/**
+ * Outcome of one POST /org/create sent with an Idempotency-Key, in master_idempotency_keys (see IdempotentCreateService).
+ * Written IN_PROGRESS by the node that runs the create, then DONE with what the create answered; retries with the
+ * same key are answered from it. Expires app.idempotency.ttl-hours after createdAt.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "master_idempotency_keys")
+public class IdempotencyRecord {
+
+    public enum State { IN_PROGRESS, DONE }
+
+    @Id
+    private String id; // the Idempotency-Key
+    private String fingerprint; // hash of the request, so a key reused for another request is refused
+    private State state;
+    private int status; // DONE: 200, or the 400/409 the create answered
+    private OrganizationMetadata organization; // DONE with 200
+    private String message; // DONE with 400/409
+    private Date createdAt;
+    private Date leaseUntil; // IN_PROGRESS: after this, the node running the create is presumed dead
+}
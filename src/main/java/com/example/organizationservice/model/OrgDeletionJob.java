@@ -0,0 +1,40 @@
+package com.example.organizationservice.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.Date;
+
+/**
+ * Background deletion of one organization, in master_org_deletions (see OrgDeletionWorker).
+ * Holds everything the cleanup needs, so it survives the organization's metadata. Each step flag is set as soon
+ * as the step is done, which is also what GET /org/delete/status reports.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "master_org_deletions")
+public class OrgDeletionJob {
+
+    public enum Status { PENDING, RUNNING, DONE, FAILED }
+
+    @Id
+    private String id; // random UUID, handed out as the job id
+    private String organizationName;
+    private String organizationId;
+    private String collectionName;
+    private String connectionDetails;
+    private Status status;
+    private boolean tombstoned; // metadata deleted, admins detached from the organization name
+    private boolean collectionDropped;
+    private boolean adminsDeleted;
+    private int attempts;
+    private String lastError;
+    private Date createdAt;
+    private Date updatedAt;
+    private Date nextAttemptAt; // PENDING: not before; RUNNING: lease expiry, after which another worker takes over
+    private Date finishedAt;
+}
@@ -0,0 +1,31 @@
+package com.example.organizationservice.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Organization lifecycle event in the master_org_events outbox (a capped collection).
+ * Other nodes follow the outbox to invalidate their local caches.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "master_org_events")
+public class OrgEvent {
+
+    public enum Type { CREATED, RENAMED, UPDATED, DELETED }
+
+    @Id
+    private String id;
+    private Type type;
+    private List<String> organizationNames; // every name whose cached lookup is affected
+    private String adminId; // admin whose credentials or existence changed, if any
+    private String originNode; // node that made the change (it has already invalidated itself)
+    private Date createdAt; // when the change was made on the origin node
+}
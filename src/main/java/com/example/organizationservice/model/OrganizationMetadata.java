@@ -1,5 +1,6 @@
 package com.example.organizationservice.model;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -17,4 +18,17 @@ public class OrganizationMetadata {
     private String collectionName;
     private String adminUserId; // reference to AdminUser id
     private String connectionDetails;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private RateLimit rateLimit; // overrides app.rate-limit.org.* for this organization; set by operators
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String movingTo; // target cluster while TenantMoveWorker moves the collection; tenant writes are refused
+
+    /** Request rate admitted for one organization (see TenantRateLimiter). */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RateLimit {
+        private double requestsPerSecond;
+        private long burst;
+    }
 }
@@ -0,0 +1,27 @@
+package com.example.organizationservice.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.Date;
+
+/**
+ * A ready tenant collection (created, indexed, template inserted) waiting in master_tenant_pool.
+ * Claiming removes the document; the claiming organization takes id as its own, so
+ * collectionName stays tenant_<org_id>. connectionDetails names the cluster the collection was created on
+ * (missing on entries made before multi-cluster placement: the master database).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "master_tenant_pool")
+public class PooledTenantCollection {
+    @Id
+    private String id; // future organization id
+    private String collectionName;
+    private String connectionDetails;
+    private Date createdAt;
+}
@@ -0,0 +1,25 @@
+package com.example.organizationservice.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.Date;
+
+/**
+ * A revoked session in master_revoked_sessions, the revocation list mirrored on every node by TokenRevocationList.
+ * Kept until expiresAt, when the last access token issued for the session has expired anyway.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "master_revoked_sessions")
+public class RevokedSession {
+    @Id
+    private String id; // the session id (sid claim)
+    private String adminId;
+    private Date revokedAt; // read by other nodes to pick up new revocations
+    private Date expiresAt;
+}
@@ -0,0 +1,42 @@
+package com.example.organizationservice.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.Date;
+
+/**
+ * Background move of one organization's tenant collection to another cluster, in master_tenant_moves
+ * (see TenantMoveWorker). Each step flag is set as soon as the step is done, which is also what
+ * GET /org/move/status reports.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "master_tenant_moves")
+public class TenantMoveJob {
+
+    public enum Status { PENDING, RUNNING, DONE, FAILED }
+
+    @Id
+    private String id; // random UUID, handed out as the job id
+    private String organizationName;
+    private String organizationId;
+    private String collectionName;
+    private String sourceCluster;
+    private String targetCluster;
+    private Status status;
+    private Date frozenAt; // tenant writes refused (OrganizationMetadata.movingTo) from then on
+    private boolean copied; // documents and indexes are on the target
+    private Date switchedAt; // connectionDetails names the target, writes allowed again
+    private boolean sourceDropped;
+    private int attempts;
+    private String lastError;
+    private Date createdAt;
+    private Date updatedAt;
+    private Date nextAttemptAt; // PENDING: not before; RUNNING: lease expiry, after which another worker takes over
+    private Date finishedAt;
+}
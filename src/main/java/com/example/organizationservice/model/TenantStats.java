@@ -0,0 +1,36 @@
+package com.example.organizationservice.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.Date;
+
+/**
+ * Usage of one organization's tenant collection, in master_tenant_stats; what GET /org/stats returns.
+ * The counters are $inc'ed by TenantUsageRecorder from the write paths and request filters, and reconciled
+ * with collStats by TenantStatsSampler, which also derives the rates. Never read from the tenant collection.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "master_tenant_stats")
+public class TenantStats {
+    @Id
+    private String id; // the organization id, so a rename keeps the stats
+    private String organizationName;
+    private long documentCount;
+    private long dataSize; // BSON bytes of the documents
+    private long storageSize; // on disk, as of sampledAt
+    private long indexSize; // as of sampledAt
+    private long requests; // /org/* requests naming the organization, since it was created
+    private long writes; // documents inserted, updated or deleted by the service, since it was created
+    private double requestsPerSecond; // over the last sampling interval
+    private double writesPerSecond;
+    private long requestsAtSample; // requests and writes when sampledAt was set, the start of the next interval
+    private long writesAtSample;
+    private Date updatedAt; // last counter update
+    private Date sampledAt; // last reconciliation
+}
@@ -2,10 +2,20 @@ package com.example.organizationservice.repository;
 
 import com.example.organizationservice.model.AdminUser;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.Update;
 import java.util.Optional;
 
 public interface AdminUserRepository extends MongoRepository<AdminUser, String> {
     Optional<AdminUser> findByEmail(String email);
     Optional<AdminUser> findByEmailAndOrganizationName(String email, String organizationName);
     Optional<AdminUser> findByOrganizationName(String organizationName);
+
+    // server-side updateMulti on the organizationName index; returns modified count
+    @Query("{ 'organizationName' : ?0 }")
+    @Update("{ '$set' : { 'organizationName' : ?1 } }")
+    long updateOrganizationName(String currentName, String newName);
+
+    // server-side deleteMany on the organizationName index; returns deleted count
+    long deleteByOrganizationName(String organizationName);
 }
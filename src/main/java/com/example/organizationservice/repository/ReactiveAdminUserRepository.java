@@ -0,0 +1,19 @@
+package com.example.organizationservice.repository;
+
+import com.example.organizationservice.model.AdminUser;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.data.mongodb.repository.Update;
+import reactor.core.publisher.Mono;
+
+// non-blocking twin of AdminUserRepository, used by the reactive stack
+public interface ReactiveAdminUserRepository extends ReactiveMongoRepository<AdminUser, String> {
+    Mono<AdminUser> findByEmail(String email);
+    Mono<AdminUser> findByOrganizationName(String organizationName);
+
+    @Query("{ 'organizationName' : ?0 }")
+    @Update("{ '$set' : { 'organizationName' : ?1 } }")
+    Mono<Long> updateOrganizationName(String currentName, String newName);
+
+    Mono<Long> deleteByOrganizationName(String organizationName);
+}
@@ -0,0 +1,11 @@
+package com.example.organizationservice.repository;
+
+import com.example.organizationservice.model.OrganizationMetadata;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import reactor.core.publisher.Mono;
+
+// non-blocking twin of OrganizationMetadataRepository, used by the reactive stack
+public interface ReactiveOrganizationMetadataRepository extends ReactiveMongoRepository<OrganizationMetadata, String> {
+    Mono<OrganizationMetadata> findByOrganizationName(String organizationName);
+    Mono<Boolean> existsByOrganizationName(String organizationName);
+}
@@ -0,0 +1,84 @@
+package com.example.organizationservice.security;
+
+import com.example.organizationservice.model.AdminUser;
+import com.example.organizationservice.repository.AdminUserRepository;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * Short-lived cache of adminId -> organizationName used by JwtAuthenticationFilter, so authenticated
+ * requests do not each pay a master_admins round-trip. Unknown admins are cached too (as "").
+ * OrganizationService and OrgEventListener invalidate entries when admins are renamed or deleted;
+ * app.security.admin-cache-ttl-ms bounds staleness if an invalidation is ever missed.
+ * Misses are loaded on the calling thread outside any map lock, so a virtual thread is never pinned
+ * while it waits on Mongo; concurrent misses for one admin still share a single read.
+ */
+@Component
+public class AdminLookupCache {
+
+    private static final String NO_ADMIN = "";
+
+    private final AdminUserRepository adminRepo;
+    private final AsyncCache<String, String> cache;
+
+    public AdminLookupCache(AdminUserRepository adminRepo,
+                            @Value("${app.security.admin-cache-size:10000}") long maxSize,
+                            @Value("${app.security.admin-cache-ttl-ms:30000}") long ttlMs) {
+        this.adminRepo = adminRepo;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .buildAsync();
+    }
+
+    /** Organization the admin currently belongs to, or null if the admin does not exist. */
+    public String organizationOf(String adminId) {
+        try {
+            return organizationOfAsync(adminId,
+                    id -> CompletableFuture.completedFuture(adminRepo.findById(id).map(AdminUser::getOrganizationName))).join();
+        } catch (CompletionException ex) {
+            throw ex.getCause() instanceof RuntimeException cause ? cause : ex;
+        }
+    }
+
+    /** Same cache, with a miss loaded by the given non-blocking loader (reactive stack); completes with null for no admin. */
+    public CompletableFuture<String> organizationOfAsync(String adminId,
+                                                         Function<String, CompletableFuture<Optional<String>>> loader) {
+        CompletableFuture<String> loading = new CompletableFuture<>();
+        CompletableFuture<String> entry = cache.get(adminId, (id, executor) -> loading);
+        if (entry == loading) {
+            try {
+                loader.apply(adminId).whenComplete((org, ex) -> {
+                    if (ex != null) loading.completeExceptionally(ex);
+                    else loading.complete(org.orElse(NO_ADMIN));
+                });
+            } catch (RuntimeException ex) {
+                loading.completeExceptionally(ex);
+            }
+        }
+        return entry.thenApply(org -> NO_ADMIN.equals(org) ? null : org);
+    }
+
+    public void invalidate(String adminId) {
+        if (adminId != null) cache.synchronous().invalidate(adminId);
+    }
+
+    /** Drop every cached admin of the given organizations (rare: rename/delete). */
+    public void invalidateOrganizations(String... organizationNames) {
+        Set<String> names = Set.of(organizationNames);
+        cache.synchronous().asMap().values().removeIf(names::contains);
+    }
+
+    public void invalidateAll() {
+        cache.synchronous().invalidateAll();
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.organizationservice.security;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Authenticated admin, resolved once per request by JwtAuthenticationFilter.
+ * Controllers receive it via @AuthenticationPrincipal.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class AdminPrincipal {
+    private final String adminId;
+    private final String organizationName;
+    private final String sessionId; // sid claim; null for a token issued without a session
+}
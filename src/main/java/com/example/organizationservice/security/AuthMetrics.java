@@ -0,0 +1,72 @@
+package com.example.organizationservice.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * auth.failures{type,reason} counters shared by both stacks:
+ * - type=login: unknown_admin, bad_password, busy (hashing pool full, 503)
+ * - type=token: invalid_token (401), revoked_token (401), invalid_admin (403)
+ * - type=refresh: invalid_refresh (unknown, expired, or its admin is gone), reused_refresh (already rotated: session revoked)
+ * A spike in one reason (e.g. bad_password across many emails) is visible without reading logs.
+ */
+@Component
+public class AuthMetrics {
+
+    private final Counter unknownAdmin;
+    private final Counter badPassword;
+    private final Counter busy;
+    private final Counter invalidToken;
+    private final Counter invalidAdmin;
+    private final Counter revokedToken;
+    private final Counter invalidRefresh;
+    private final Counter reusedRefresh;
+
+    public AuthMetrics(MeterRegistry meterRegistry) {
+        this.unknownAdmin = counter(meterRegistry, "login", "unknown_admin");
+        this.badPassword = counter(meterRegistry, "login", "bad_password");
+        this.busy = counter(meterRegistry, "login", "busy");
+        this.invalidToken = counter(meterRegistry, "token", "invalid_token");
+        this.invalidAdmin = counter(meterRegistry, "token", "invalid_admin");
+        this.revokedToken = counter(meterRegistry, "token", "revoked_token");
+        this.invalidRefresh = counter(meterRegistry, "refresh", "invalid_refresh");
+        this.reusedRefresh = counter(meterRegistry, "refresh", "reused_refresh");
+    }
+
+    private static Counter counter(MeterRegistry registry, String type, String reason) {
+        return Counter.builder("auth.failures").tag("type", type).tag("reason", reason).register(registry);
+    }
+
+    public void unknownAdmin() {
+        unknownAdmin.increment();
+    }
+
+    public void badPassword() {
+        badPassword.increment();
+    }
+
+    public void busy() {
+        busy.increment();
+    }
+
+    public void invalidToken() {
+        invalidToken.increment();
+    }
+
+    public void invalidAdmin() {
+        invalidAdmin.increment();
+    }
+
+    public void revokedToken() {
+        revokedToken.increment();
+    }
+
+    public void invalidRefresh() {
+        invalidRefresh.increment();
+    }
+
+    public void reusedRefresh() {
+        reusedRefresh.increment();
+    }
+}
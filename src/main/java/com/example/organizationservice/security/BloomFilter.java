@@ -0,0 +1,101 @@
+package com.example.organizationservice.security;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bloom filter over strings, used by TokenRevocationList to answer "is this session revoked?" without I/O.
+ * - mightContain false: certainly not added; true: added, or a false positive (about fpp of the time while at
+ *   most expectedInsertions keys are in)
+ * - lock-free: put sets bits with CAS, so one writer (or several) and any number of readers share it safely;
+ *   a key is visible to readers once put returns
+ * - the bit count is rounded up to a power of two so a probe is a mask, not a division; k probes come from
+ *   two 64-bit hashes of the key (double hashing)
+ * Keys cannot be removed: a filter holding many dead keys is replaced by a new one (see TokenRevocationList).
+ */
+public final class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bitMask;
+    private final int hashes;
+    private final AtomicLong insertions = new AtomicLong();
+
+    private BloomFilter(long bits, int hashes) {
+        this.words = new AtomicLongArray((int) (bits >>> 6));
+        this.bitMask = bits - 1;
+        this.hashes = hashes;
+    }
+
+    /** Sized for expectedInsertions keys at false-positive probability fpp (e.g. 0.01). */
+    public static BloomFilter create(long expectedInsertions, double fpp) {
+        if (expectedInsertions <= 0) throw new IllegalArgumentException("expectedInsertions must be positive");
+        if (fpp <= 0 || fpp >= 1) throw new IllegalArgumentException("fpp must be between 0 and 1");
+        double optimalBits = -expectedInsertions * Math.log(fpp) / (Math.log(2) * Math.log(2));
+        long bits = Math.max(64, Long.highestOneBit((long) Math.ceil(optimalBits) - 1) << 1);
+        if (bits > (long) Integer.MAX_VALUE << 6) throw new IllegalArgumentException("filter too large");
+        int hashes = Math.max(1, (int) Math.round(optimalBits / expectedInsertions * Math.log(2)));
+        return new BloomFilter(bits, hashes);
+    }
+
+    /** Adds the key; true if that changed the filter (the key was not already, apparently, in it). */
+    public boolean put(String key) {
+        long h = hash(key);
+        long h1 = mix(h);
+        long h2 = mix(h ^ 0x9E3779B97F4A7C15L) | 1;
+        boolean changed = false;
+        for (int i = 0; i < hashes; i++) {
+            long bit = (h1 + i * h2) & bitMask;
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current;
+            while (((current = words.get(word)) & mask) == 0) {
+                if (words.compareAndSet(word, current, current | mask)) {
+                    changed = true;
+                    break;
+                }
+            }
+        }
+        if (changed) insertions.incrementAndGet();
+        return changed;
+    }
+
+    public boolean mightContain(String key) {
+        long h = hash(key);
+        long h1 = mix(h);
+        long h2 = mix(h ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < hashes; i++) {
+            long bit = (h1 + i * h2) & bitMask;
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) return false;
+        }
+        return true;
+    }
+
+    /** Keys that changed the filter when added: the distinct keys in it, minus the rare one hidden by a collision. */
+    public long insertions() {
+        return insertions.get();
+    }
+
+    public long bitSize() {
+        return bitMask + 1;
+    }
+
+    public int hashCount() {
+        return hashes;
+    }
+
+    // FNV-1a over the chars, spread by mix(): cheap, and the keys (random session ids) carry the entropy anyway
+    private static long hash(String key) {
+        long h = 0xCBF29CE484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            h = (h ^ key.charAt(i)) * 0x100000001B3L;
+        }
+        return h;
+    }
+
+    // 64-bit finalizer from MurmurHash3
+    private static long mix(long h) {
+        h = (h ^ (h >>> 33)) * 0xFF51AFD7ED558CCDL;
+        h = (h ^ (h >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return h ^ (h >>> 33);
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.organizationservice.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Validates the bearer token once per request and stores an AdminPrincipal in the SecurityContext.
+ * - no/ non-Bearer Authorization header: continue unauthenticated (protected endpoints answer 401)
+ * - invalid or expired token: continue unauthenticated; protected endpoints answer 401 "invalid token: ..."
+ * - token of a revoked session (logout, password change, organization deleted): the same, with 401 "token revoked"
+ * - admin no longer exists or moved to another organization: the same, with 403 "invalid admin"
+ * A rejected token never blocks a public endpoint (/admin/login, /admin/refresh, /org/create, /org/get), so a
+ * client holding a stale one can still sign in again. The reason is kept as a request attribute for the
+ * authentication entry point of SecurityConfig.
+ *
+ * Token verification and the admin lookup are both cached (JwtUtil, AdminLookupCache); the revocation check is
+ * an in-memory Bloom filter probe for nearly every token (TokenRevocationList).
+ * Also runs on the ASYNC dispatch of streamed responses (StreamingResponseBody): authorization is checked again
+ * there and the SecurityContext of the first dispatch is gone by then.
+ */
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String BEARER = "Bearer ";
+
+    /** Request (or exchange) attribute holding the Rejection of the presented token. */
+    public static final String REJECTION_ATTRIBUTE = JwtAuthenticationFilter.class.getName() + ".rejection";
+    public static final Rejection NO_TOKEN = new Rejection(401, "Authorization header required");
+
+    /** What a protected endpoint answers for the request's token. */
+    public record Rejection(int status, String message) {
+    }
+
+    private final JwtUtil jwtUtil;
+    private final AdminLookupCache adminLookup;
+    private final TokenRevocationList revocations;
+    private final AuthMetrics authMetrics;
+
+    public JwtAuthenticationFilter(JwtUtil jwtUtil, AdminLookupCache adminLookup, TokenRevocationList revocations,
+                                   AuthMetrics authMetrics) {
+        this.jwtUtil = jwtUtil;
+        this.adminLookup = adminLookup;
+        this.revocations = revocations;
+        this.authMetrics = authMetrics;
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authorization == null || !authorization.startsWith(BEARER)) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        Claims claims;
+        try {
+            claims = jwtUtil.validateToken(authorization.substring(BEARER.length())).getBody();
+        } catch (JwtException | IllegalArgumentException ex) {
+            authMetrics.invalidToken();
+            continueUnauthenticated(request, response, chain, new Rejection(401, "invalid token: " + ex.getMessage()));
+            return;
+        }
+
+        String sessionId = claims.get(JwtUtil.SESSION_CLAIM, String.class);
+        if (sessionId != null && revocations.isRevoked(sessionId)) {
+            authMetrics.revokedToken();
+            continueUnauthenticated(request, response, chain, new Rejection(401, "token revoked"));
+            return;
+        }
+
+        String adminId = claims.getSubject();
+        String organization = claims.get("organization", String.class);
+        if (adminId == null || organization == null || !organization.equals(adminLookup.organizationOf(adminId))) {
+            authMetrics.invalidAdmin();
+            continueUnauthenticated(request, response, chain, new Rejection(403, "invalid admin"));
+            return;
+        }
+
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+                new AdminPrincipal(adminId, organization, sessionId), null, AuthorityUtils.createAuthorityList("ROLE_ADMIN")));
+        SecurityContextHolder.setContext(context);
+        chain.doFilter(request, response);
+    }
+
+    private static void continueUnauthenticated(HttpServletRequest request, HttpServletResponse response, FilterChain chain,
+                                                Rejection rejection) throws ServletException, IOException {
+        SecurityContextHolder.clearContext();
+        request.setAttribute(REJECTION_ATTRIBUTE, rejection);
+        chain.doFilter(request, response);
+    }
+
+    /** The answer of a protected endpoint to an unauthenticated request: why its token was rejected, if it had one. */
+    static void reject(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Rejection rejection = request.getAttribute(REJECTION_ATTRIBUTE) instanceof Rejection found ? found : NO_TOKEN;
+        response.setStatus(rejection.status());
+        response.setContentType("text/plain;charset=UTF-8");
+        response.getWriter().write(rejection.message());
+    }
+}
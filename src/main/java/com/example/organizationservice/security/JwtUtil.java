@@ -1,43 +1,104 @@
 package com.example.organizationservice.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.Date;
+import java.util.HexFormat;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+/**
+ * JwtUtil
+ *
+ * - One immutable, thread-safe parser is built once and shared by all validations.
+ * - Successfully verified tokens are cached (keyed by SHA-256 of the token, bounded by app.jwt.cache-size)
+ *   until their exp, so a repeated bearer token skips signature verification and JSON parsing.
+ *   Only valid tokens are cached; invalid ones are re-checked (and rejected) every time.
+ * - Access tokens are short-lived (app.jwt.expiration-ms) and carry the login session in the sid claim;
+ *   revocation is checked per request against TokenRevocationList, not here.
+ */
 @Component
 public class JwtUtil {
+    public static final String SESSION_CLAIM = "sid";
+
     private final Key key;
     private final long expirationMs;
+    private final JwtParser parser;
+    private final Cache<String, Jws<Claims>> verified; // null when app.jwt.cache-size=0
 
     public JwtUtil(@Value("${app.jwt.secret}") String secret,
-                   @Value("${app.jwt.expiration-ms:3600000}") long expirationMs) {
+                   @Value("${app.jwt.expiration-ms:3600000}") long expirationMs,
+                   @Value("${app.jwt.cache-size:10000}") long cacheSize) {
         // WARNING: In production use a stronger key & rotate it properly
         this.key = Keys.hmacShaKeyFor(secret.getBytes());
         this.expirationMs = expirationMs;
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
+        this.verified = cacheSize <= 0 ? null : Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfter(Expiry.creating((String digest, Jws<Claims> jws) ->
+                        Duration.ofMillis(Math.max(0, jws.getBody().getExpiration().getTime() - System.currentTimeMillis()))))
+                .build();
     }
 
     public String generateToken(String adminId, String organizationName) {
+        return generateToken(adminId, organizationName, null);
+    }
+
+    /** Access token of the given login session (AdminSessionService); sessionId null for a token without one. */
+    public String generateToken(String adminId, String organizationName, String sessionId) {
         Date now = new Date();
         Date exp = new Date(now.getTime() + expirationMs);
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
                 .setSubject(adminId)
-                .claim("organization", organizationName)
+                .claim("organization", organizationName);
+        if (sessionId != null) builder.claim(SESSION_CLAIM, sessionId);
+        return builder
                 .setIssuedAt(now)
                 .setExpiration(exp)
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
     }
 
+    /** Lifetime of an access token. */
+    public long getExpirationMs() {
+        return expirationMs;
+    }
+
     public Jws<Claims> validateToken(String token) throws JwtException {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token);
+        if (verified == null) {
+            return parser.parseClaimsJws(token);
+        }
+        String digest = digest(token);
+        Jws<Claims> cached = verified.getIfPresent(digest);
+        if (cached != null) {
+            return cached;
+        }
+        Jws<Claims> jws = parser.parseClaimsJws(token);
+        if (jws.getBody().getExpiration() != null) {
+            verified.put(digest, jws);
+        }
+        return jws;
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
 }
@@ -0,0 +1,87 @@
+package com.example.organizationservice.security;
+
+import com.example.organizationservice.security.JwtAuthenticationFilter.Rejection;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * Authenticates cluster operators on the operator endpoints (/org/move, /org/move/status, and /org/list, which
+ * shows every tenant's metadata), which no admin token may reach: the X-Operator-Token header must equal app.operator.token (compared in constant time).
+ * - matching token: the request runs as "operator" with ROLE_OPERATOR, replacing any admin authentication
+ * - missing or wrong token: left as it is; the endpoint answers 401 "operator token required" / "invalid
+ *   operator token", or 403 to an authenticated admin
+ * An empty app.operator.token disables the operator endpoints.
+ * Like JwtAuthenticationFilter it also runs on the ASYNC dispatch of the streamed NDJSON list.
+ */
+public class OperatorTokenFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Operator-Token";
+    public static final String PATH = "/org/move";
+    public static final String LIST_PATH = "/org/list";
+    public static final String ROLE = "OPERATOR";
+
+    static final Rejection NO_TOKEN = new Rejection(401, "operator token required");
+    static final Rejection INVALID_TOKEN = new Rejection(401, "invalid operator token");
+
+    private final byte[] token;
+
+    public OperatorTokenFilter(String token) {
+        this.token = token.getBytes(StandardCharsets.UTF_8);
+    }
+
+    static boolean isOperatorPath(String path) {
+        return path.equals(PATH) || path.startsWith(PATH + "/") || path.equals(LIST_PATH);
+    }
+
+    static boolean matches(byte[] expected, String presented) {
+        return expected.length > 0 && presented != null
+                && MessageDigest.isEqual(expected, presented.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static Authentication operator() {
+        return UsernamePasswordAuthenticationToken.authenticated("operator", null, AuthorityUtils.createAuthorityList("ROLE_" + ROLE));
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !isOperatorPath(request.getRequestURI().substring(request.getContextPath().length()));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String presented = request.getHeader(HEADER);
+        if (matches(token, presented)) {
+            SecurityContext context = SecurityContextHolder.createEmptyContext();
+            context.setAuthentication(operator());
+            SecurityContextHolder.setContext(context);
+        } else {
+            request.setAttribute(JwtAuthenticationFilter.REJECTION_ATTRIBUTE, presented == null ? NO_TOKEN : INVALID_TOKEN);
+        }
+        chain.doFilter(request, response);
+    }
+
+    /** The answer of an operator endpoint to an authenticated admin. */
+    static void forbid(HttpServletResponse response) throws IOException {
+        response.setStatus(403);
+        response.setContentType("text/plain;charset=UTF-8");
+        response.getWriter().write(NO_TOKEN.message());
+    }
+}
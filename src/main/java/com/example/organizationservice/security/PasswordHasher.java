@@ -0,0 +1,117 @@
+package com.example.organizationservice.security;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * PasswordHasher
+ *
+ * - Runs BCrypt encode/matches on a dedicated pool (app.password.threads, default = CPU cores) instead of
+ *   request threads, so a login burst cannot occupy every core.
+ * - The pool queue is bounded (app.password.queue-capacity); when it is full, calls fail immediately with
+ *   PasswordHashingBusyException rather than queueing without limit.
+ * - needsRehash() tells whether a stored hash was made with a different cost than the configured strength.
+ * - followUps() is a second bounded pool (app.password.follow-up-threads, default = the hashing pool size) for the
+ *   blocking work that continues a hash (session insert, re-hash write), so Mongo latency never holds a BCrypt
+ *   thread and none of it lands on the common ForkJoinPool. When its queue is full the work runs on the BCrypt
+ *   thread that completed the hash, which slows hashing down instead of queueing without limit.
+ */
+@Component
+public class PasswordHasher implements DisposableBean {
+
+    private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[aby]?\\$(\\d\\d)\\$");
+
+    private final BCryptPasswordEncoder passwordEncoder;
+    private final int strength;
+    private final long retryAfterSeconds;
+    private final ThreadPoolExecutor executor;
+    private final ThreadPoolExecutor followUps;
+
+    public PasswordHasher(BCryptPasswordEncoder passwordEncoder,
+                          @Value("${app.password.bcrypt-strength:10}") int strength,
+                          @Value("${app.password.threads:0}") int threads,
+                          @Value("${app.password.queue-capacity:64}") int queueCapacity,
+                          @Value("${app.password.follow-up-threads:0}") int followUpThreads,
+                          @Value("${app.password.retry-after-seconds:1}") long retryAfterSeconds) {
+        this.passwordEncoder = passwordEncoder;
+        this.strength = strength;
+        this.retryAfterSeconds = retryAfterSeconds;
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                task -> {
+                    Thread t = new Thread(task, "bcrypt-" + counter.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        int followUpSize = followUpThreads > 0 ? followUpThreads : poolSize;
+        AtomicInteger followUpCounter = new AtomicInteger();
+        this.followUps = new ThreadPoolExecutor(followUpSize, followUpSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                task -> {
+                    Thread t = new Thread(task, "bcrypt-follow-up-" + followUpCounter.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /** Where to continue a hash with blocking work (thenApplyAsync(..., followUps())). */
+    public Executor followUps() {
+        return followUps;
+    }
+
+    public CompletableFuture<String> encode(CharSequence rawPassword) {
+        try {
+            return CompletableFuture.supplyAsync(() -> passwordEncoder.encode(rawPassword), executor);
+        } catch (RejectedExecutionException full) {
+            throw new PasswordHashingBusyException(retryAfterSeconds);
+        }
+    }
+
+    public CompletableFuture<Boolean> matches(CharSequence rawPassword, String encodedPassword) {
+        try {
+            return CompletableFuture.supplyAsync(() -> passwordEncoder.matches(rawPassword, encodedPassword), executor);
+        } catch (RejectedExecutionException full) {
+            throw new PasswordHashingBusyException(retryAfterSeconds);
+        }
+    }
+
+    /** For synchronous callers (org create/update): hashes on the pool and waits for the result. */
+    public String encodeAndWait(CharSequence rawPassword) {
+        try {
+            return encode(rawPassword).join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException re) throw re;
+            throw ex;
+        }
+    }
+
+    /** True if the hash was produced with a cost other than app.password.bcrypt-strength. */
+    public boolean needsRehash(String encodedPassword) {
+        if (encodedPassword == null) return false;
+        Matcher m = BCRYPT_COST.matcher(encodedPassword);
+        return m.find() && Integer.parseInt(m.group(1)) != strength;
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+        followUps.shutdown();
+    }
+}
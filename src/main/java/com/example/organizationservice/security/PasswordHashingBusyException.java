@@ -0,0 +1,17 @@
+package com.example.organizationservice.security;
+
+/**
+ * Thrown when the password hashing pool and its queue are full. Controllers answer 503 with Retry-After.
+ */
+public class PasswordHashingBusyException extends RuntimeException {
+    private final long retryAfterSeconds;
+
+    public PasswordHashingBusyException(long retryAfterSeconds) {
+        super("server busy, retry later");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
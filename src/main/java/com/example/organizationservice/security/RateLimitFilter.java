@@ -0,0 +1,50 @@
+package com.example.organizationservice.security;
+
+import com.example.organizationservice.service.TenantUsageRecorder;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Answers 429 with Retry-After when TenantRateLimiter rejects the request.
+ * Runs after JwtAuthenticationFilter: an admin's request is charged to the organization of its AdminPrincipal,
+ * anything else to the client IP (as resolved through server.forward-headers-strategy behind a proxy). Token
+ * verification is cached, so a rejected request still costs no Mongo read.
+ * Admitted /org/* requests of an authenticated admin are counted for its organization's stats (TenantUsageRecorder).
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final TenantRateLimiter limiter;
+    private final TenantUsageRecorder usage;
+
+    public RateLimitFilter(TenantRateLimiter limiter, TenantUsageRecorder usage) {
+        this.limiter = limiter;
+        this.usage = usage;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String path = request.getRequestURI();
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String organizationName = authentication != null && authentication.getPrincipal() instanceof AdminPrincipal admin
+                ? admin.getOrganizationName() : null;
+        long wait = limiter.admit(path, organizationName, request.getRemoteAddr());
+        if (wait > 0) {
+            response.setStatus(429);
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(TenantRateLimiter.retryAfterSeconds(wait)));
+            response.setContentType("text/plain;charset=UTF-8");
+            response.getWriter().write("rate limit exceeded");
+            return;
+        }
+        if (organizationName != null && path.startsWith(TenantRateLimiter.ORG_PATHS)) usage.request(organizationName);
+        chain.doFilter(request, response);
+    }
+}
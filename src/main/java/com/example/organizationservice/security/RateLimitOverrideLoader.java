@@ -0,0 +1,97 @@
+package com.example.organizationservice.security;
+
+import com.example.organizationservice.model.OrganizationMetadata;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.mongodb.client.model.Filters.exists;
+import static com.mongodb.client.model.Projections.include;
+
+/**
+ * Keeps TenantRateLimiter's per-organization limits in memory, so the request path never reads them from Mongo.
+ * Every app.rate-limit.override-refresh-ms it reads the organizations whose metadata sets rateLimit (a sparse
+ * index keeps that cheap however many organizations there are) and replaces the limiter's overrides.
+ * An override without a positive rate and burst is logged and ignored; a failed read keeps the previous overrides.
+ */
+@Component
+public class RateLimitOverrideLoader implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(RateLimitOverrideLoader.class);
+
+    private final MongoTemplate mongoTemplate;
+    private final TenantRateLimiter limiter;
+    private final long refreshMs;
+
+    private volatile boolean running;
+    private Thread loader;
+
+    public RateLimitOverrideLoader(MongoTemplate mongoTemplate,
+                                   TenantRateLimiter limiter,
+                                   @Value("${app.rate-limit.override-refresh-ms:30000}") long refreshMs) {
+        this.mongoTemplate = mongoTemplate;
+        this.limiter = limiter;
+        this.refreshMs = refreshMs;
+    }
+
+    void refresh() {
+        Map<String, TenantRateLimiter.Limit> overrides = new HashMap<>();
+        for (Document org : mongoTemplate.getCollection(mongoTemplate.getCollectionName(OrganizationMetadata.class))
+                .find(exists("rateLimit"))
+                .projection(include("organizationName", "rateLimit"))) {
+            String name = org.getString("organizationName");
+            Document rateLimit = org.get("rateLimit", Document.class);
+            try {
+                overrides.put(name, new TenantRateLimiter.Limit(
+                        ((Number) rateLimit.get("requestsPerSecond")).doubleValue(),
+                        ((Number) rateLimit.get("burst")).longValue()));
+            } catch (RuntimeException ex) {
+                log.warn("Ignoring invalid rateLimit of organization {}: {}", name, rateLimit);
+            }
+        }
+        limiter.setOrgOverrides(overrides);
+    }
+
+    private void refreshLoop() {
+        while (running) {
+            try {
+                refresh();
+            } catch (Exception ex) {
+                log.warn("Could not load organization rate limits: {}", ex.getMessage());
+            }
+            try {
+                Thread.sleep(refreshMs);
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        if (!limiter.isEnabled()) return;
+        running = true;
+        loader = new Thread(this::refreshLoop, "rate-limit-overrides");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (loader != null) loader.interrupt();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
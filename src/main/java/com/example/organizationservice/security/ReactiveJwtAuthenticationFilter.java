@@ -0,0 +1,127 @@
+package com.example.organizationservice.security;
+
+import com.example.organizationservice.model.AdminUser;
+import com.example.organizationservice.model.RevokedSession;
+import com.example.organizationservice.repository.ReactiveAdminUserRepository;
+import com.example.organizationservice.security.JwtAuthenticationFilter.Rejection;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * WebFlux version of JwtAuthenticationFilter with the same outcomes:
+ * - no/ non-Bearer Authorization header: continue unauthenticated (protected endpoints answer 401)
+ * - invalid or expired token: continue unauthenticated; protected endpoints answer 401 "invalid token: ..."
+ * - token of a revoked session (logout, password change, organization deleted): the same, with 401 "token revoked"
+ * - admin no longer exists or moved to another organization: the same, with 403 "invalid admin"
+ * The reason is kept as the exchange attribute JwtAuthenticationFilter.REJECTION_ATTRIBUTE for the
+ * authentication entry point of ReactiveSecurityConfig.
+ *
+ * Shares JwtUtil, AdminLookupCache and TokenRevocationList with the servlet stack; a cache miss reads
+ * master_admins (or, on a revocation filter hit, master_revoked_sessions) reactively.
+ */
+public class ReactiveJwtAuthenticationFilter implements WebFilter {
+
+    private static final String BEARER = "Bearer ";
+
+    private final JwtUtil jwtUtil;
+    private final AdminLookupCache adminLookup;
+    private final ReactiveAdminUserRepository adminRepo;
+    private final TokenRevocationList revocations;
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final AuthMetrics authMetrics;
+
+    public ReactiveJwtAuthenticationFilter(JwtUtil jwtUtil, AdminLookupCache adminLookup, ReactiveAdminUserRepository adminRepo,
+                                           TokenRevocationList revocations, ReactiveMongoTemplate mongoTemplate,
+                                           AuthMetrics authMetrics) {
+        this.jwtUtil = jwtUtil;
+        this.adminLookup = adminLookup;
+        this.adminRepo = adminRepo;
+        this.revocations = revocations;
+        this.mongoTemplate = mongoTemplate;
+        this.authMetrics = authMetrics;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String authorization = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (authorization == null || !authorization.startsWith(BEARER)) {
+            return chain.filter(exchange);
+        }
+
+        Claims claims;
+        try {
+            claims = jwtUtil.validateToken(authorization.substring(BEARER.length())).getBody();
+        } catch (JwtException | IllegalArgumentException ex) {
+            authMetrics.invalidToken();
+            return continueUnauthenticated(exchange, chain, new Rejection(401, "invalid token: " + ex.getMessage()));
+        }
+
+        String adminId = claims.getSubject();
+        String organization = claims.get("organization", String.class);
+        if (adminId == null || organization == null) {
+            authMetrics.invalidAdmin();
+            return continueUnauthenticated(exchange, chain, new Rejection(403, "invalid admin"));
+        }
+
+        String sessionId = claims.get(JwtUtil.SESSION_CLAIM, String.class);
+        Mono<Boolean> revoked = sessionId == null ? Mono.just(false)
+                : Mono.fromFuture(() -> revocations.isRevokedAsync(sessionId, id -> mongoTemplate
+                        .exists(query(where("_id").is(id)), RevokedSession.class)
+                        .toFuture()));
+        return revoked.flatMap(isRevoked -> isRevoked
+                ? Mono.fromRunnable(authMetrics::revokedToken)
+                        .then(continueUnauthenticated(exchange, chain, new Rejection(401, "token revoked")))
+                : Mono.fromFuture(() -> adminLookup.organizationOfAsync(adminId, id -> adminRepo.findById(id)
+                                .map(AdminUser::getOrganizationName)
+                                .map(Optional::of)
+                                .defaultIfEmpty(Optional.empty())
+                                .toFuture()))
+                        .map(organization::equals)
+                        .defaultIfEmpty(false)
+                        .flatMap(sameOrganization -> sameOrganization
+                                ? chain.filter(exchange).contextWrite(ReactiveSecurityContextHolder.withAuthentication(
+                                        UsernamePasswordAuthenticationToken.authenticated(new AdminPrincipal(adminId, organization, sessionId),
+                                                null, AuthorityUtils.createAuthorityList("ROLE_ADMIN"))))
+                                : Mono.fromRunnable(authMetrics::invalidAdmin)
+                                        .then(continueUnauthenticated(exchange, chain, new Rejection(403, "invalid admin")))));
+    }
+
+    private static Mono<Void> continueUnauthenticated(ServerWebExchange exchange, WebFilterChain chain, Rejection rejection) {
+        return Mono.defer(() -> {
+            exchange.getAttributes().put(JwtAuthenticationFilter.REJECTION_ATTRIBUTE, rejection);
+            return chain.filter(exchange);
+        });
+    }
+
+    /** The answer of a protected endpoint to an unauthenticated exchange: why its token was rejected, if it had one. */
+    static Mono<Void> reject(ServerWebExchange exchange) {
+        Rejection rejection = exchange.getAttributeOrDefault(JwtAuthenticationFilter.REJECTION_ATTRIBUTE, JwtAuthenticationFilter.NO_TOKEN);
+        return reject(exchange.getResponse(), HttpStatus.valueOf(rejection.status()), rejection.message());
+    }
+
+    static Mono<Void> reject(ServerHttpResponse response, HttpStatus status, String message) {
+        response.setStatusCode(status);
+        response.getHeaders().setContentType(new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8));
+        DataBuffer body = response.bufferFactory().wrap(message.getBytes(StandardCharsets.UTF_8));
+        return response.writeWith(Mono.just(body));
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.organizationservice.security;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * WebFlux version of OperatorTokenFilter with the same outcomes; runs after ReactiveJwtAuthenticationFilter, so a
+ * matching X-Operator-Token replaces any admin authentication.
+ */
+public class ReactiveOperatorTokenFilter implements WebFilter {
+
+    private final byte[] token;
+
+    public ReactiveOperatorTokenFilter(String token) {
+        this.token = token.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (!OperatorTokenFilter.isOperatorPath(exchange.getRequest().getPath().pathWithinApplication().value())) {
+            return chain.filter(exchange);
+        }
+        String presented = exchange.getRequest().getHeaders().getFirst(OperatorTokenFilter.HEADER);
+        if (OperatorTokenFilter.matches(token, presented)) {
+            return chain.filter(exchange).contextWrite(ReactiveSecurityContextHolder.withAuthentication(OperatorTokenFilter.operator()));
+        }
+        exchange.getAttributes().put(JwtAuthenticationFilter.REJECTION_ATTRIBUTE,
+                presented == null ? OperatorTokenFilter.NO_TOKEN : OperatorTokenFilter.INVALID_TOKEN);
+        return chain.filter(exchange);
+    }
+
+    /** The answer of an operator endpoint to an authenticated admin. */
+    static Mono<Void> forbid(ServerWebExchange exchange) {
+        return ReactiveJwtAuthenticationFilter.reject(exchange.getResponse(), HttpStatus.FORBIDDEN, OperatorTokenFilter.NO_TOKEN.message());
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.organizationservice.security;
+
+import com.example.organizationservice.service.TenantUsageRecorder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.util.Optional;
+
+/**
+ * Reactive twin of RateLimitFilter: 429 with Retry-After when TenantRateLimiter rejects the request, after
+ * ReactiveJwtAuthenticationFilter, charged to the authenticated admin's organization or else to the client IP.
+ * The check is a few CAS operations, so it runs on the event loop; so does counting an admitted request for its
+ * organization's stats (TenantUsageRecorder).
+ */
+public class ReactiveRateLimitFilter implements WebFilter {
+
+    private final TenantRateLimiter limiter;
+    private final TenantUsageRecorder usage;
+
+    public ReactiveRateLimitFilter(TenantRateLimiter limiter, TenantUsageRecorder usage) {
+        this.limiter = limiter;
+        this.usage = usage;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        return ReactiveSecurityContextHolder.getContext()
+                .map(SecurityContext::getAuthentication)
+                .map(authentication -> Optional.ofNullable(authentication.getPrincipal() instanceof AdminPrincipal admin
+                        ? admin.getOrganizationName() : null))
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(organizationName -> admit(exchange, chain, organizationName.orElse(null)));
+    }
+
+    private Mono<Void> admit(ServerWebExchange exchange, WebFilterChain chain, String organizationName) {
+        ServerHttpRequest request = exchange.getRequest();
+        InetSocketAddress remote = request.getRemoteAddress();
+        String clientIp = remote == null || remote.getAddress() == null ? "unknown" : remote.getAddress().getHostAddress();
+        String path = request.getPath().pathWithinApplication().value();
+        long wait = limiter.admit(path, organizationName, clientIp);
+        if (wait > 0) {
+            exchange.getResponse().getHeaders().set(HttpHeaders.RETRY_AFTER, String.valueOf(TenantRateLimiter.retryAfterSeconds(wait)));
+            return ReactiveJwtAuthenticationFilter.reject(exchange.getResponse(), HttpStatus.TOO_MANY_REQUESTS, "rate limit exceeded");
+        }
+        if (organizationName != null && path.startsWith(TenantRateLimiter.ORG_PATHS)) usage.request(organizationName);
+        return chain.filter(exchange);
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.organizationservice.security;
+
+import com.example.organizationservice.repository.ReactiveAdminUserRepository;
+import com.example.organizationservice.service.TenantUsageRecorder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+
+/**
+ * Security config for the reactive profile; mirrors SecurityConfig:
+ * - Stateless; ReactiveJwtAuthenticationFilter turns a valid bearer token into an AdminPrincipal. A rejected token
+ *   leaves the exchange unauthenticated: public endpoints still serve it, protected ones answer with the reason.
+ * - ReactiveRateLimitFilter runs right after authentication and answers 429 for organizations (of authenticated
+ *   admins) or client IPs over their TenantRateLimiter limit; what it admits for an admin is counted per
+ *   organization by TenantUsageRecorder.
+ * - POST /admin/logout, DELETE /org/delete, GET /org/export, POST /org/import, GET /org/stats and /org/employees/** require an authenticated admin; everything else is public.
+ * - POST /org/move, GET /org/move/status and GET /org/list (every tenant's metadata) are for operators only
+ *   (ReactiveOperatorTokenFilter, app.operator.token); an admin token gets 403.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveSecurityConfig {
+
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http, JwtUtil jwtUtil,
+                                                         AdminLookupCache adminLookup, ReactiveAdminUserRepository adminRepo,
+                                                         TokenRevocationList revocations, ReactiveMongoTemplate mongoTemplate,
+                                                         AuthMetrics authMetrics, TenantRateLimiter rateLimiter,
+                                                         TenantUsageRecorder usage,
+                                                         @Value("${app.operator.token:}") String operatorToken) {
+        return http
+            .csrf(csrf -> csrf.disable())
+            .httpBasic(basic -> basic.disable())
+            .formLogin(form -> form.disable())
+            .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+            // not a bean on purpose: Boot would otherwise also register it as a plain WebFilter
+            .addFilterAt(new ReactiveJwtAuthenticationFilter(jwtUtil, adminLookup, adminRepo, revocations, mongoTemplate, authMetrics), SecurityWebFiltersOrder.AUTHENTICATION)
+            .addFilterAfter(new ReactiveOperatorTokenFilter(operatorToken), SecurityWebFiltersOrder.AUTHENTICATION)
+            .addFilterBefore(new ReactiveRateLimitFilter(rateLimiter, usage), SecurityWebFiltersOrder.AUTHORIZATION)
+            .exceptionHandling(ex -> ex
+                .authenticationEntryPoint((exchange, authException) -> ReactiveJwtAuthenticationFilter.reject(exchange))
+                .accessDeniedHandler((exchange, deniedException) -> ReactiveOperatorTokenFilter.forbid(exchange)))
+            .authorizeExchange(auth -> auth
+                .pathMatchers(HttpMethod.POST, "/admin/logout").authenticated()
+                .pathMatchers(HttpMethod.DELETE, "/org/delete").authenticated()
+                .pathMatchers(HttpMethod.GET, "/org/export").authenticated()
+                .pathMatchers(HttpMethod.POST, "/org/import").authenticated()
+                .pathMatchers(HttpMethod.POST, "/org/move").hasRole(OperatorTokenFilter.ROLE)
+                .pathMatchers(HttpMethod.GET, "/org/move/status").hasRole(OperatorTokenFilter.ROLE)
+                .pathMatchers(HttpMethod.GET, "/org/list").hasRole(OperatorTokenFilter.ROLE)
+                .pathMatchers(HttpMethod.GET, "/org/stats").authenticated()
+                .pathMatchers("/org/employees/**").authenticated()
+                .anyExchange().permitAll()
+            )
+            .build();
+    }
+}
@@ -1,32 +1,67 @@
 package com.example.organizationservice.security;
 
+import com.example.organizationservice.service.TenantUsageRecorder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 /**
- * Dev-mode security config:
- * - Permits all requests at the filter chain level (we handle JWT checks manually in controllers).
- * - Provides a BCryptPasswordEncoder bean for password hashing.
+ * Security config:
+ * - Stateless; JwtAuthenticationFilter turns a valid bearer token into an AdminPrincipal once per request. A rejected
+ *   token leaves the request unauthenticated: public endpoints still serve it, protected ones answer with the reason.
+ * - RateLimitFilter runs right after authentication and answers 429 for organizations (of authenticated admins) or
+ *   client IPs over their TenantRateLimiter limit; what it admits for an admin is counted per organization by
+ *   TenantUsageRecorder.
+ * - POST /admin/logout, DELETE /org/delete, GET /org/export, POST /org/import, GET /org/stats and /org/employees/** require an authenticated admin; everything else is public as before.
+ * - POST /org/move, GET /org/move/status and GET /org/list (every tenant's metadata) are for operators only
+ *   (OperatorTokenFilter, app.operator.token); an admin token gets 403.
+ * - Provides a BCryptPasswordEncoder bean (cost app.password.bcrypt-strength); it is used through PasswordHasher.
+ * - The filter chain is servlet-only; the reactive profile uses ReactiveSecurityConfig instead.
  * - We exclude UserDetailsServiceAutoConfiguration to prevent default in-memory user creation.
  */
 @Configuration
 public class SecurityConfig {
 
     @Bean
-    public BCryptPasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BCryptPasswordEncoder passwordEncoder(@Value("${app.password.bcrypt-strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, JwtUtil jwtUtil, AdminLookupCache adminLookup,
+                                                   TokenRevocationList revocations, AuthMetrics authMetrics,
+                                                   TenantRateLimiter rateLimiter, TenantUsageRecorder usage,
+                                                   @Value("${app.operator.token:}") String operatorToken) throws Exception {
         http
             .csrf(csrf -> csrf.disable())
+            .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+            // not a bean on purpose: Boot would otherwise also register it as a plain servlet filter
+            .addFilterBefore(new JwtAuthenticationFilter(jwtUtil, adminLookup, revocations, authMetrics), UsernamePasswordAuthenticationFilter.class)
+            .addFilterAfter(new OperatorTokenFilter(operatorToken), JwtAuthenticationFilter.class)
+            .addFilterAfter(new RateLimitFilter(rateLimiter, usage), OperatorTokenFilter.class)
+            .exceptionHandling(ex -> ex
+                .authenticationEntryPoint((request, response, authException) -> JwtAuthenticationFilter.reject(request, response))
+                .accessDeniedHandler((request, response, deniedException) -> OperatorTokenFilter.forbid(response)))
             .authorizeHttpRequests(auth -> auth
+                .requestMatchers(HttpMethod.POST, "/admin/logout").authenticated()
+                .requestMatchers(HttpMethod.DELETE, "/org/delete").authenticated()
+                .requestMatchers(HttpMethod.GET, "/org/export").authenticated()
+                .requestMatchers(HttpMethod.POST, "/org/import").authenticated()
+                .requestMatchers(HttpMethod.POST, "/org/move").hasRole(OperatorTokenFilter.ROLE)
+                .requestMatchers(HttpMethod.GET, "/org/move/status").hasRole(OperatorTokenFilter.ROLE)
+                .requestMatchers(HttpMethod.GET, "/org/list").hasRole(OperatorTokenFilter.ROLE)
+                .requestMatchers(HttpMethod.GET, "/org/stats").authenticated()
+                .requestMatchers("/org/employees/**").authenticated()
                 .anyRequest().permitAll()
             );
         return http.build();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,198 @@
+package com.example.organizationservice.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * TenantRateLimiter
+ *
+ * Per-tenant admission control, checked by RateLimitFilter / ReactiveRateLimitFilter right after authentication:
+ * - one token bucket per key: "org:<name>" for /org/* requests of an authenticated admin, charged to the admin's own
+ *   organization (limits app.rate-limit.org.*, or the organization's own OrganizationMetadata.rateLimit);
+ *   "ip:<ip>" for unauthenticated /org/* requests (app.rate-limit.org.*) and "login:<ip>" for /admin/login
+ *   (app.rate-limit.login.*). Query parameters never pick the bucket, so nobody can drain another tenant's.
+ * - a bucket is a GCRA token bucket: its state is one "theoretical arrival time" per stripe, advanced with a
+ *   single CAS, so checking a bucket takes no lock and allocates nothing
+ * - a bucket is split into up to app.rate-limit.stripes stripes (rate and burst shared evenly, the remainder of the
+ *   burst on the first stripes; one cache line each);
+ *   a thread starts at its own stripe and only moves on when that one is empty, so threads hammering one tenant do
+ *   not all CAS the same word. A request is rejected only when every stripe is empty.
+ * - buckets live in a bounded map (app.rate-limit.max-keys) and are dropped after app.rate-limit.idle-ms without
+ *   requests; a dropped bucket comes back full, which is what it would have refilled to anyway once idle-ms
+ *   covers burst / rate
+ *
+ * Metrics: rate.limit.rejected{scope=org|ip|login}.
+ */
+@Component
+public class TenantRateLimiter {
+
+    /** Sustained rate and burst admitted for one key. */
+    public record Limit(double requestsPerSecond, long burst) {
+        public Limit {
+            if (!(requestsPerSecond > 0) || burst < 1) {
+                throw new IllegalArgumentException("rate limit needs requestsPerSecond > 0 and burst >= 1");
+            }
+        }
+    }
+
+    public static final String LOGIN_PATH = "/admin/login";
+    public static final String ORG_PATHS = "/org/";
+    private static final int MAX_DEFAULT_STRIPES = 16;
+
+    private final boolean enabled;
+    private final Limit orgLimit;
+    private final Limit loginLimit;
+    private final int maxStripes;
+    private final Cache<String, Bucket> buckets;
+    private final Counter orgRejected;
+    private final Counter ipRejected;
+    private final Counter loginRejected;
+    private volatile Map<String, Limit> orgOverrides = Map.of();
+
+    public TenantRateLimiter(MeterRegistry meterRegistry,
+                             @Value("${app.rate-limit.enabled:true}") boolean enabled,
+                             @Value("${app.rate-limit.org.requests-per-second:100}") double orgRate,
+                             @Value("${app.rate-limit.org.burst:200}") long orgBurst,
+                             @Value("${app.rate-limit.login.requests-per-second:5}") double loginRate,
+                             @Value("${app.rate-limit.login.burst:20}") long loginBurst,
+                             @Value("${app.rate-limit.stripes:0}") int stripes,
+                             @Value("${app.rate-limit.max-keys:100000}") long maxKeys,
+                             @Value("${app.rate-limit.idle-ms:60000}") long idleMs) {
+        this.enabled = enabled;
+        this.orgLimit = new Limit(orgRate, orgBurst);
+        this.loginLimit = new Limit(loginRate, loginBurst);
+        // 0: one stripe per core, up to 16; always a power of two so a stripe is picked with a mask
+        this.maxStripes = Integer.highestOneBit(stripes > 0
+                ? stripes
+                : Math.min(MAX_DEFAULT_STRIPES, Runtime.getRuntime().availableProcessors()));
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(Duration.ofMillis(idleMs))
+                .build();
+        this.orgRejected = rejected(meterRegistry, "org");
+        this.ipRejected = rejected(meterRegistry, "ip");
+        this.loginRejected = rejected(meterRegistry, "login");
+    }
+
+    private static Counter rejected(MeterRegistry registry, String scope) {
+        return Counter.builder("rate.limit.rejected").tag("scope", scope).register(registry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /** The organization's own limit if its metadata sets one, app.rate-limit.org.* otherwise. */
+    public Limit orgLimit(String organizationName) {
+        Limit own = orgOverrides.get(organizationName);
+        return own != null ? own : orgLimit;
+    }
+
+    public Limit loginLimit() {
+        return loginLimit;
+    }
+
+    /** Replaces every per-organization limit (RateLimitOverrideLoader); buckets pick up a changed limit on next use. */
+    void setOrgOverrides(Map<String, Limit> overrides) {
+        orgOverrides = Map.copyOf(overrides);
+    }
+
+    /**
+     * Admission check for one request, shared by both stacks: 0 if admitted (or not limited), otherwise
+     * nanoseconds until it would be. organizationName is the authenticated admin's organization, null for an
+     * unauthenticated request.
+     */
+    public long admit(String path, String organizationName, String clientIp) {
+        if (!enabled) return 0;
+        if (LOGIN_PATH.equals(path)) {
+            return count(acquire("login:" + clientIp, loginLimit), loginRejected);
+        }
+        if (!path.startsWith(ORG_PATHS)) return 0;
+        if (organizationName == null || organizationName.isBlank()) {
+            return count(acquire("ip:" + clientIp, orgLimit), ipRejected);
+        }
+        return count(acquire("org:" + organizationName, orgLimit(organizationName)), orgRejected);
+    }
+
+    private static long count(long wait, Counter rejected) {
+        if (wait > 0) rejected.increment();
+        return wait;
+    }
+
+    /** Takes one request from the key's bucket: 0 if admitted, otherwise nanoseconds until one would be. */
+    public long acquire(String key, Limit limit) {
+        Bucket bucket = buckets.getIfPresent(key);
+        if (bucket == null || !bucket.limit.equals(limit)) {
+            // new key or changed limit (starts full again); no I/O under the map lock
+            bucket = buckets.asMap().compute(key, (k, current) ->
+                    current != null && current.limit.equals(limit) ? current : new Bucket(limit, maxStripes));
+        }
+        return bucket.acquire(System.nanoTime());
+    }
+
+    /** Whole seconds to wait for the given acquire() result, for Retry-After. */
+    public static long retryAfterSeconds(long waitNanos) {
+        return Math.max(1, (waitNanos + 999_999_999L) / 1_000_000_000L);
+    }
+
+    static final class Bucket {
+
+        private static final int PAD = 8; // longs per stripe: one 64-byte cache line each
+
+        final Limit limit;
+        private final int mask;
+        private final long interval;    // nanos between requests on one stripe
+        private final long[] tolerance; // how far each stripe's arrival time may run ahead of now: its share of the burst
+        private final AtomicLongArray arrival;
+
+        Bucket(Limit limit, int maxStripes) {
+            this(limit, maxStripes, System.nanoTime());
+        }
+
+        Bucket(Limit limit, int maxStripes, long now) {
+            int stripes = Math.min(maxStripes, Integer.highestOneBit((int) Math.min(limit.burst(), 1 << 30)));
+            this.limit = limit;
+            this.mask = stripes - 1;
+            this.interval = Math.max(1, (long) (stripes * 1e9 / limit.requestsPerSecond()));
+            this.tolerance = new long[stripes];
+            this.arrival = new AtomicLongArray(stripes * PAD);
+            // a stripe admits tolerance / interval requests at once; the first burst % stripes stripes take one
+            // more, so the stripes add up to exactly the burst
+            long share = limit.burst() / stripes;
+            long rest = limit.burst() % stripes;
+            for (int i = 0; i < stripes; i++) {
+                tolerance[i] = (share + (i < rest ? 1 : 0)) * interval;
+                arrival.set(i * PAD, now - tolerance[i]);
+            }
+        }
+
+        long acquire(long now) {
+            int home = (int) ((Thread.currentThread().getId() * 0x9E3779B97F4A7C15L) >>> 40);
+            long wait = Long.MAX_VALUE;
+            for (int i = 0; i <= mask; i++) {
+                int stripe = (home + i) & mask;
+                int slot = stripe * PAD;
+                for (;;) {
+                    long tat = arrival.get(slot);
+                    // nanoTime values are compared by difference only: they may wrap
+                    long next = (tat - now > 0 ? tat : now) + interval;
+                    long over = next - now - tolerance[stripe];
+                    if (over > 0) {
+                        wait = Math.min(wait, over);
+                        break;
+                    }
+                    if (arrival.compareAndSet(slot, tat, next)) return 0;
+                }
+            }
+            return wait;
+        }
+    }
+}
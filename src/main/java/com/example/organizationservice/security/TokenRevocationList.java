@@ -0,0 +1,232 @@
+package com.example.organizationservice.security;
+
+import com.example.organizationservice.model.RevokedSession;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mongodb.client.MongoCollection;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+import static com.mongodb.client.model.Filters.gt;
+import static com.mongodb.client.model.Filters.gte;
+import static com.mongodb.client.model.Projections.include;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * In-memory mirror of master_revoked_sessions, consulted by the JWT filters for every token with a sid claim.
+ * - a BloomFilter holds every revoked session id, so an unrevoked token (nearly all of them) is cleared without I/O
+ * - a filter hit is checked exactly against Mongo (_id lookup); results are cached (app.revocation.exact-cache-size),
+ *   so neither a revoked token nor a false positive costs a read per request
+ * - every app.revocation.refresh-ms the revocations made since the last read (by revokedAt, with
+ *   app.revocation.clock-skew-ms of overlap for other nodes' clocks) are added; revocations made on this node are
+ *   added at once. So a revocation takes effect here immediately and on other nodes within refresh-ms
+ * - every app.revocation.rebuild-ms, or when more sessions were added than it was sized for, the filter is rebuilt
+ *   from the unexpired entries (expired ones cannot be removed from a Bloom filter) and swapped in
+ * - until the first load completes every check goes to Mongo
+ *
+ * Metrics: auth.revocation.exact.checks{result=revoked|false_positive} (filter hits that went to Mongo),
+ * auth.revocation.entries (sessions in the filter).
+ */
+@Component
+public class TokenRevocationList implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenRevocationList.class);
+    private static final CompletableFuture<Boolean> NOT_REVOKED = CompletableFuture.completedFuture(false);
+
+    private final MongoTemplate mongoTemplate;
+    private final long expectedEntries;
+    private final double fpp;
+    private final long refreshMs;
+    private final long rebuildMs;
+    private final long clockSkewMs;
+    private final AsyncCache<String, Boolean> exact;
+    private final Counter revokedChecks;
+    private final Counter falsePositives;
+
+    private volatile BloomFilter filter; // null until loaded
+    private volatile long capacity;
+    private long readUpTo; // revokedAt of the newest entry read; refresh thread only
+    private long rebuiltAt;
+    private volatile boolean running;
+    private Thread refresher;
+
+    public TokenRevocationList(MongoTemplate mongoTemplate,
+                               MeterRegistry meterRegistry,
+                               @Value("${app.revocation.expected-entries:100000}") long expectedEntries,
+                               @Value("${app.revocation.false-positive-rate:0.01}") double fpp,
+                               @Value("${app.revocation.refresh-ms:1000}") long refreshMs,
+                               @Value("${app.revocation.rebuild-ms:3600000}") long rebuildMs,
+                               @Value("${app.revocation.clock-skew-ms:5000}") long clockSkewMs,
+                               @Value("${app.revocation.exact-cache-size:10000}") long exactCacheSize) {
+        this.mongoTemplate = mongoTemplate;
+        this.expectedEntries = expectedEntries;
+        this.fpp = fpp;
+        this.refreshMs = refreshMs;
+        this.rebuildMs = rebuildMs;
+        this.clockSkewMs = clockSkewMs;
+        // entries only go from "not revoked" to "revoked", and every revocation read invalidates its entry
+        this.exact = Caffeine.newBuilder()
+                .maximumSize(exactCacheSize)
+                .expireAfterWrite(Duration.ofMillis(rebuildMs))
+                .buildAsync();
+        this.revokedChecks = exactChecks(meterRegistry, "revoked");
+        this.falsePositives = exactChecks(meterRegistry, "false_positive");
+        Gauge.builder("auth.revocation.entries", this, list -> {
+                    BloomFilter current = list.filter;
+                    return current == null ? 0 : current.insertions();
+                })
+                .description("Revoked sessions in the local Bloom filter")
+                .register(meterRegistry);
+    }
+
+    private static Counter exactChecks(MeterRegistry registry, String result) {
+        return Counter.builder("auth.revocation.exact.checks").tag("result", result).register(registry);
+    }
+
+    /** True if the session was revoked; blocking on a filter hit that is not cached yet. */
+    public boolean isRevoked(String sessionId) {
+        try {
+            return isRevokedAsync(sessionId, id -> CompletableFuture.completedFuture(
+                    mongoTemplate.exists(query(where("_id").is(id)), RevokedSession.class))).join();
+        } catch (CompletionException ex) {
+            throw ex.getCause() instanceof RuntimeException cause ? cause : ex;
+        }
+    }
+
+    /** Same check, with a filter hit looked up by the given non-blocking loader (reactive stack). */
+    public CompletableFuture<Boolean> isRevokedAsync(String sessionId, Function<String, CompletableFuture<Boolean>> loader) {
+        BloomFilter current = filter;
+        if (current != null && !current.mightContain(sessionId)) return NOT_REVOKED;
+
+        CompletableFuture<Boolean> loading = new CompletableFuture<>();
+        CompletableFuture<Boolean> entry = exact.get(sessionId, (id, executor) -> loading);
+        if (entry == loading) {
+            try {
+                loader.apply(sessionId).whenComplete((revoked, ex) -> {
+                    if (ex != null) {
+                        loading.completeExceptionally(ex);
+                    } else {
+                        (revoked ? revokedChecks : falsePositives).increment();
+                        loading.complete(revoked);
+                    }
+                });
+            } catch (RuntimeException ex) {
+                loading.completeExceptionally(ex);
+            }
+        }
+        return entry;
+    }
+
+    /** Mirrors revocations just written to master_revoked_sessions by this node. */
+    public void revoked(List<String> sessionIds) {
+        BloomFilter current = filter;
+        for (String sessionId : sessionIds) {
+            if (current != null) current.put(sessionId);
+            exact.put(sessionId, CompletableFuture.completedFuture(true));
+        }
+    }
+
+    /** True once the filter has been loaded; before that every check reads Mongo. */
+    public boolean isLoaded() {
+        return filter != null;
+    }
+
+    private MongoCollection<Document> revocations() {
+        return mongoTemplate.getCollection(mongoTemplate.getCollectionName(RevokedSession.class));
+    }
+
+    /** Loads every unexpired entry into a new filter and swaps it in, then catches up with what came in meanwhile. */
+    void rebuild() {
+        long started = System.currentTimeMillis();
+        long count = revocations().estimatedDocumentCount();
+        long size = Math.max(expectedEntries, count * 2);
+        BloomFilter next = BloomFilter.create(size, fpp);
+        long newest = 0;
+        for (Document entry : revocations().find(gt("expiresAt", new Date(started))).projection(include("revokedAt"))) {
+            next.put(entry.getString("_id"));
+            Date revokedAt = entry.getDate("revokedAt");
+            if (revokedAt != null) newest = Math.max(newest, revokedAt.getTime());
+        }
+        filter = next;
+        capacity = size;
+        readUpTo = Math.max(readUpTo, newest);
+        rebuiltAt = started;
+        catchUp();
+        log.info("Revocation filter rebuilt: {} sessions, {} bits, {} ms", next.insertions(), next.bitSize(),
+                System.currentTimeMillis() - started);
+    }
+
+    /** Adds the revocations made since the last read (on any node) and drops their cached "not revoked". */
+    void catchUp() {
+        BloomFilter current = filter;
+        List<String> read = new ArrayList<>();
+        for (Document entry : revocations().find(gte("revokedAt", new Date(readUpTo - clockSkewMs)))
+                .projection(include("revokedAt"))) {
+            String sessionId = entry.getString("_id");
+            current.put(sessionId);
+            // even when put changed nothing: a session that was a false positive has a cached "not revoked"
+            read.add(sessionId);
+            Date revokedAt = entry.getDate("revokedAt");
+            if (revokedAt != null) readUpTo = Math.max(readUpTo, revokedAt.getTime());
+        }
+        if (!read.isEmpty()) exact.synchronous().invalidateAll(read);
+    }
+
+    private void refreshLoop() {
+        while (running) {
+            try {
+                BloomFilter current = filter;
+                if (current == null || System.currentTimeMillis() - rebuiltAt >= rebuildMs || current.insertions() > capacity) {
+                    rebuild();
+                } else {
+                    catchUp();
+                }
+            } catch (Exception ex) {
+                if (!running) return;
+                log.warn("Could not read revoked sessions: {}", ex.getMessage());
+            }
+            try {
+                Thread.sleep(refreshMs);
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        refresher = new Thread(this::refreshLoop, "token-revocations");
+        refresher.setDaemon(true);
+        refresher.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (refresher != null) refresher.interrupt();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.organizationservice.service;
+
+import com.example.organizationservice.model.AdminUser;
+import com.example.organizationservice.repository.AdminUserRepository;
+import com.example.organizationservice.security.AuthMetrics;
+import com.example.organizationservice.security.PasswordHasher;
+import com.example.organizationservice.security.PasswordHashingBusyException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * AdminAuthService
+ *
+ * - Verifies admin credentials with BCrypt on the PasswordHasher pool (the request thread is released).
+ * - After a successful login, if the stored hash was made with a different cost than the configured
+ *   strength, re-hashes the password in the background and swaps it in only if the hash is unchanged.
+ */
+@Service
+public class AdminAuthService {
+
+    private static final Logger log = LoggerFactory.getLogger(AdminAuthService.class);
+
+    @Autowired
+    private AdminUserRepository adminRepo;
+
+    @Autowired
+    private PasswordHasher passwordHasher;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private AuthMetrics authMetrics;
+
+    /**
+     * Completes with the admin if the credentials match, empty otherwise.
+     * Throws PasswordHashingBusyException if the hashing pool is saturated.
+     */
+    public CompletableFuture<Optional<AdminUser>> authenticate(String email, String password) {
+        if (email == null || password == null) {
+            return CompletableFuture.completedFuture(Optional.empty());
+        }
+        AdminUser admin = adminRepo.findByEmail(email).orElse(null);
+        if (admin == null) {
+            authMetrics.unknownAdmin();
+            return CompletableFuture.completedFuture(Optional.empty());
+        }
+        CompletableFuture<Boolean> matches;
+        try {
+            matches = passwordHasher.matches(password, admin.getPasswordHash());
+        } catch (PasswordHashingBusyException busy) {
+            authMetrics.busy();
+            throw busy;
+        }
+        return matches
+                .thenApply(ok -> {
+                    if (!ok) {
+                        authMetrics.badPassword();
+                        return Optional.empty();
+                    }
+                    if (passwordHasher.needsRehash(admin.getPasswordHash())) {
+                        rehash(admin, password);
+                    }
+                    return Optional.of(admin);
+                });
+    }
+
+    private void rehash(AdminUser admin, String password) {
+        try {
+            // the write runs off the hashing pool so Mongo latency never holds a BCrypt thread
+            passwordHasher.encode(password)
+                    .thenAcceptAsync(newHash -> mongoTemplate.updateFirst(
+                            // conditional: a password change in between wins
+                            query(where("_id").is(admin.getId()).and("passwordHash").is(admin.getPasswordHash())),
+                            Update.update("passwordHash", newHash), AdminUser.class), passwordHasher.followUps())
+                    .exceptionally(ex -> {
+                        log.warn("Could not rehash password for admin {}: {}", admin.getId(), ex.getMessage());
+                        return null;
+                    });
+        } catch (PasswordHashingBusyException busy) {
+            // pool saturated; the next successful login tries again
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.example.organizationservice.service;
+
+import com.example.organizationservice.dto.LoginResponse;
+import com.example.organizationservice.model.AdminSession;
+import com.example.organizationservice.model.AdminUser;
+import com.example.organizationservice.model.RevokedSession;
+import com.example.organizationservice.security.AdminLookupCache;
+import com.example.organizationservice.security.AuthMetrics;
+import com.example.organizationservice.security.JwtUtil;
+import com.example.organizationservice.security.TokenRevocationList;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * AdminSessionService
+ *
+ * Login sessions behind the short-lived access tokens:
+ * - login opens a session (master_admin_sessions): an access token carrying its id as sid, plus a refresh token
+ *   "<sid>.<random>" of which only the SHA-256 is stored
+ * - POST /admin/refresh swaps a refresh token for a new access token and a new refresh token (rotation). Each refresh
+ *   token works once: presenting an already rotated one means it leaked, and the whole session is revoked. Clients
+ *   must therefore not refresh one session concurrently
+ * - revoking a session (logout, password change, organization deletion) deletes it, so it cannot be refreshed, and
+ *   records it in master_revoked_sessions until its last access token has expired, so the access tokens already
+ *   out are refused too (TokenRevocationList, checked by the JWT filters)
+ *
+ * A login that checked the old password just before a password change can still open its session after the
+ * change's revocation; that session stays valid until it is logged out or expires.
+ * Metrics: auth.failures{type=refresh,reason=invalid_refresh|reused_refresh}.
+ */
+@Service
+public class AdminSessionService {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private TokenRevocationList revocations;
+
+    @Autowired
+    private AdminLookupCache adminLookup;
+
+    @Autowired
+    private AuthMetrics authMetrics;
+
+    @Value("${app.jwt.refresh-expiration-ms:604800000}")
+    private long refreshExpirationMs;
+
+    /** Opens a session for an admin who just logged in: the first access token and refresh token. */
+    public LoginResponse open(AdminUser admin) {
+        String refreshToken = newRefreshToken(newSessionId());
+        AdminSession session = mongoTemplate.insert(newSession(admin.getId(), refreshToken, refreshExpirationMs));
+        return tokens(jwtUtil, admin.getId(), admin.getOrganizationName(), session.getId(), refreshToken);
+    }
+
+    /** Rotates the refresh token; empty if it is unknown, expired or already used, or its admin is gone. */
+    public Optional<LoginResponse> refresh(String refreshToken) {
+        String sessionId = sessionIdOf(refreshToken);
+        AdminSession session = sessionId == null ? null : mongoTemplate.findById(sessionId, AdminSession.class);
+        if (session == null || session.getExpiresAt().before(new Date())) {
+            authMetrics.invalidRefresh();
+            return Optional.empty();
+        }
+        if (!hash(refreshToken).equals(session.getRefreshTokenHash())) {
+            authMetrics.reusedRefresh();
+            revoke(List.of(sessionId), session.getAdminId());
+            return Optional.empty();
+        }
+        // the organization may have been renamed since login; the new access token carries the current name
+        String organization = adminLookup.organizationOf(session.getAdminId());
+        if (organization == null) {
+            authMetrics.invalidRefresh();
+            revoke(List.of(sessionId), session.getAdminId());
+            return Optional.empty();
+        }
+        String next = newRefreshToken(sessionId);
+        if (mongoTemplate.findAndModify(rotateQuery(session), rotate(next, refreshExpirationMs), AdminSession.class) == null) {
+            // a concurrent refresh with the same token got there first
+            authMetrics.invalidRefresh();
+            return Optional.empty();
+        }
+        return Optional.of(tokens(jwtUtil, session.getAdminId(), organization, sessionId, next));
+    }
+
+    /** Logout: revokes the session the presented access token belongs to. */
+    public void revokeSession(String sessionId, String adminId) {
+        revoke(List.of(sessionId), adminId);
+    }
+
+    /** Revokes every session of the admin (password change, organization deletion); returns how many. */
+    public int revokeAdmin(String adminId) {
+        Query byAdmin = query(where("adminId").is(adminId));
+        byAdmin.fields().include("_id");
+        List<String> sessionIds = mongoTemplate.find(byAdmin, AdminSession.class).stream().map(AdminSession::getId).toList();
+        revoke(sessionIds, adminId);
+        return sessionIds.size();
+    }
+
+    // revocation entries first: once the sessions are gone nothing else remembers their ids
+    private void revoke(List<String> sessionIds, String adminId) {
+        if (sessionIds.isEmpty()) return;
+        BulkOperations entries = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, RevokedSession.class);
+        for (String sessionId : sessionIds) {
+            entries.upsert(query(where("_id").is(sessionId)), revokedEntry(adminId, jwtUtil.getExpirationMs()));
+        }
+        entries.execute();
+        mongoTemplate.remove(query(where("_id").in(sessionIds)), AdminSession.class);
+        revocations.revoked(sessionIds);
+    }
+
+    static AdminSession newSession(String adminId, String refreshToken, long refreshExpirationMs) {
+        Date now = new Date();
+        return new AdminSession(sessionIdOf(refreshToken), adminId, hash(refreshToken), now,
+                new Date(now.getTime() + refreshExpirationMs));
+    }
+
+    static LoginResponse tokens(JwtUtil jwtUtil, String adminId, String organization, String sessionId, String refreshToken) {
+        return new LoginResponse(jwtUtil.generateToken(adminId, organization, sessionId), refreshToken,
+                jwtUtil.getExpirationMs() / 1000);
+    }
+
+    /** Matches the session only while it still holds the presented refresh token, so one refresh wins. */
+    static Query rotateQuery(AdminSession session) {
+        return query(where("_id").is(session.getId()).and("refreshTokenHash").is(session.getRefreshTokenHash()));
+    }
+
+    static Update rotate(String nextRefreshToken, long refreshExpirationMs) {
+        return new Update()
+                .set("refreshTokenHash", hash(nextRefreshToken))
+                .set("expiresAt", new Date(System.currentTimeMillis() + refreshExpirationMs));
+    }
+
+    /** Kept as long as an access token issued just now stays valid. */
+    static Update revokedEntry(String adminId, long accessTokenMs) {
+        Date now = new Date();
+        return new Update()
+                .set("adminId", adminId)
+                .set("revokedAt", now)
+                .set("expiresAt", new Date(now.getTime() + accessTokenMs));
+    }
+
+    static String newSessionId() {
+        return randomToken(16);
+    }
+
+    static String newRefreshToken(String sessionId) {
+        return sessionId + "." + randomToken(32);
+    }
+
+    /** The session id a refresh token starts with, or null if it is not one. */
+    static String sessionIdOf(String refreshToken) {
+        int dot = refreshToken == null ? -1 : refreshToken.indexOf('.');
+        return dot > 0 ? refreshToken.substring(0, dot) : null;
+    }
+
+    private static String randomToken(int bytes) {
+        byte[] random = new byte[bytes];
+        RANDOM.nextBytes(random);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(random);
+    }
+
+    static String hash(String refreshToken) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(refreshToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,334 @@
+package com.example.organizationservice.service;
+
+import com.example.organizationservice.dto.BulkCreateResult;
+import com.example.organizationservice.dto.CreateOrgRequest;
+import com.example.organizationservice.model.AdminUser;
+import com.example.organizationservice.model.OrgEvent;
+import com.example.organizationservice.model.OrganizationMetadata;
+import com.example.organizationservice.security.PasswordHasher;
+import com.example.organizationservice.security.PasswordHashingBusyException;
+import com.mongodb.ErrorCategory;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.client.model.InsertManyOptions;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * BulkOrganizationService
+ *
+ * Same result per organization as OrganizationService.createOrganization, for up to app.bulk-create.max-items
+ * organizations per call:
+ * - validates and dedupes the whole batch in one pass, then checks existing names and emails with one $in each
+ * - hashes passwords in parallel on the PasswordHasher pool, app.bulk-create.hash-window at a time
+ * - inserts admins, then metadata, with one unordered insertMany each
+ * - creates tenant collections concurrently on a pool of app.bulk-create.collection-threads, each on the
+ *   cluster TenantClusterRouter places it on
+ *
+ * Items fail independently and are reported with the status the single create would answer with.
+ * An item failing after its admin or collection was written is compensated (admin deleted, collection dropped).
+ */
+@Service
+public class BulkOrganizationService implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkOrganizationService.class);
+    private static final String OPERATION = "bulkCreate";
+
+    private final MongoTemplate mongoTemplate;
+    private final TenantClusterRouter clusterRouter;
+    private final PasswordHasher passwordHasher;
+    private final OrganizationMetadataCache orgCache;
+    private final OrgEventPublisher orgEvents;
+    private final MeterRegistry meterRegistry;
+    private final int maxItems;
+    private final int hashWindow;
+    private final ExecutorService collectionExecutor;
+
+    /** One request item on its way through the stages. */
+    private static final class Item {
+        final CreateOrgRequest request;
+        final BulkCreateResult result;
+        AdminUser admin;
+        OrganizationMetadata metadata;
+        boolean collectionCreated;
+
+        Item(CreateOrgRequest request, BulkCreateResult result) {
+            this.request = request;
+            this.result = result;
+        }
+
+        boolean failed() {
+            return result.getStatus() != 0;
+        }
+
+        void fail(int status, String message) {
+            result.setStatus(status);
+            result.setMessage(message);
+        }
+    }
+
+    public BulkOrganizationService(MongoTemplate mongoTemplate,
+                                   TenantClusterRouter clusterRouter,
+                                   PasswordHasher passwordHasher,
+                                   OrganizationMetadataCache orgCache,
+                                   OrgEventPublisher orgEvents,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${app.bulk-create.max-items:1000}") int maxItems,
+                                   @Value("${app.bulk-create.hash-window:32}") int hashWindow,
+                                   @Value("${app.bulk-create.collection-threads:8}") int collectionThreads) {
+        if (maxItems <= 0 || hashWindow <= 0 || collectionThreads <= 0) {
+            throw new IllegalArgumentException("app.bulk-create.* settings must be positive");
+        }
+        this.mongoTemplate = mongoTemplate;
+        this.clusterRouter = clusterRouter;
+        this.passwordHasher = passwordHasher;
+        this.orgCache = orgCache;
+        this.orgEvents = orgEvents;
+        this.meterRegistry = meterRegistry;
+        this.maxItems = maxItems;
+        this.hashWindow = hashWindow;
+        AtomicInteger counter = new AtomicInteger();
+        this.collectionExecutor = Executors.newFixedThreadPool(collectionThreads, task -> {
+            Thread t = new Thread(task, "bulk-create-" + counter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * Create every valid, non-conflicting organization of the batch.
+     * Returns one result per request item, in request order.
+     */
+    public List<BulkCreateResult> createOrganizations(List<CreateOrgRequest> requests) {
+        if (requests == null || requests.isEmpty()) throw new IllegalArgumentException("at least one organization required");
+        if (requests.size() > maxItems) throw new IllegalArgumentException("at most " + maxItems + " organizations per request");
+
+        List<Item> items = new ArrayList<>(requests.size());
+        for (CreateOrgRequest req : requests) {
+            items.add(new Item(req, new BulkCreateResult(req == null ? null : req.getOrganization_name(), 0, null, null)));
+        }
+
+        List<Item> valid = phase("validate", () -> validate(items));
+        List<Item> free = phase("existsCheck", () -> rejectExisting(valid));
+        List<Item> hashed = phase("hashPassword", () -> hashPasswords(free));
+        List<Item> withAdmin = phase("adminSave", () -> insertAll(AdminUser.class, hashed, item -> item.admin, "admin email already used"));
+        List<Item> withCollection = phase("createCollections", () -> createCollections(withAdmin));
+        List<Item> created = phase("metadataSave", () -> insertAll(OrganizationMetadata.class, withCollection, item -> item.metadata,
+                "organization already exists"));
+
+        List<Item> rollback = items.stream().filter(item -> item.failed() && (item.admin != null || item.collectionCreated)).toList();
+        if (!rollback.isEmpty()) phase("compensate", () -> compensate(rollback));
+
+        for (Item item : created) {
+            item.result.setStatus(200);
+            item.result.setOrganization(item.metadata);
+        }
+        if (!created.isEmpty()) {
+            orgCache.invalidate(created.stream().map(item -> item.metadata.getOrganizationName()).toArray(String[]::new)); // drop cached 404s
+            created.forEach(item -> orgEvents.publish(OrgEvent.Type.CREATED, item.admin.getId(), item.metadata.getOrganizationName()));
+        }
+        log.info("Bulk create: {} of {} organizations created", created.size(), items.size());
+        return items.stream().map(item -> item.result).toList();
+    }
+
+    private <T> T phase(String phase, Supplier<T> step) {
+        return meterRegistry.timer(OrganizationService.PHASE_TIMER, "operation", OPERATION, "phase", phase).record(step);
+    }
+
+    private void phase(String phase, Runnable step) {
+        meterRegistry.timer(OrganizationService.PHASE_TIMER, "operation", OPERATION, "phase", phase).record(step);
+    }
+
+    // same checks as the single create, plus duplicates inside the batch (the first occurrence wins)
+    private List<Item> validate(List<Item> items) {
+        Set<String> names = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+        List<Item> valid = new ArrayList<>(items.size());
+        for (Item item : items) {
+            CreateOrgRequest req = item.request;
+            if (req == null || req.getOrganization_name() == null || req.getOrganization_name().isBlank()) {
+                item.fail(400, "organization_name required");
+            } else if (req.getEmail() == null || req.getEmail().isBlank()) {
+                item.fail(400, "admin email required");
+            } else if (req.getPassword() == null || req.getPassword().isBlank()) {
+                item.fail(400, "admin password required");
+            } else if (names.contains(req.getOrganization_name())) {
+                item.fail(409, "organization repeated in request");
+            } else if (emails.contains(req.getEmail())) {
+                item.fail(409, "admin email repeated in request");
+            } else {
+                names.add(req.getOrganization_name());
+                emails.add(req.getEmail());
+                valid.add(item);
+            }
+        }
+        return valid;
+    }
+
+    private List<Item> rejectExisting(List<Item> items) {
+        if (items.isEmpty()) return items;
+        Set<String> takenEmails = new HashSet<>(mongoTemplate.findDistinct(
+                query(where("email").in(items.stream().map(item -> item.request.getEmail()).toList())),
+                "email", AdminUser.class, String.class));
+        Set<String> takenNames = new HashSet<>(mongoTemplate.findDistinct(
+                query(where("organizationName").in(items.stream().map(item -> item.request.getOrganization_name()).toList())),
+                "organizationName", OrganizationMetadata.class, String.class));
+
+        List<Item> free = new ArrayList<>(items.size());
+        for (Item item : items) {
+            if (takenEmails.contains(item.request.getEmail())) {
+                item.fail(409, "admin email already used");
+            } else if (takenNames.contains(item.request.getOrganization_name())) {
+                item.fail(409, "organization already exists");
+            } else {
+                free.add(item);
+            }
+        }
+        return free;
+    }
+
+    // at most hashWindow hashes in flight, so one batch cannot fill the PasswordHasher queue that logins share
+    private List<Item> hashPasswords(List<Item> items) {
+        List<Item> hashed = new ArrayList<>(items.size());
+        for (int from = 0; from < items.size(); from += hashWindow) {
+            List<Item> window = items.subList(from, Math.min(from + hashWindow, items.size()));
+            List<CompletableFuture<String>> hashes = new ArrayList<>(window.size());
+            for (Item item : window) {
+                try {
+                    hashes.add(passwordHasher.encode(item.request.getPassword()));
+                } catch (PasswordHashingBusyException busy) {
+                    item.fail(503, busy.getMessage());
+                    hashes.add(null);
+                }
+            }
+            for (int i = 0; i < window.size(); i++) {
+                Item item = window.get(i);
+                if (hashes.get(i) == null) continue;
+                try {
+                    String orgName = item.request.getOrganization_name();
+                    item.admin = new AdminUser(new ObjectId().toHexString(), item.request.getEmail(), hashes.get(i).join(), orgName);
+                    String orgId = new ObjectId().toHexString();
+                    item.metadata = new OrganizationMetadata(orgId, orgName, OrganizationService.tenantCollectionName(orgId),
+                            item.admin.getId(), clusterRouter.place(orgName), null, null);
+                    hashed.add(item);
+                } catch (CompletionException ex) {
+                    item.fail(500, ex.getCause().getMessage());
+                }
+            }
+        }
+        return hashed;
+    }
+
+    /**
+     * One unordered insertMany for the whole stage. Items whose document was rejected are failed
+     * (duplicate key: 409 with duplicateMessage, lost to a concurrent create); the rest carry on.
+     */
+    private <T> List<Item> insertAll(Class<T> type, List<Item> items, Function<Item, T> entity, String duplicateMessage) {
+        if (items.isEmpty()) return items;
+        List<Document> documents = new ArrayList<>(items.size());
+        for (Item item : items) {
+            Document document = new Document();
+            mongoTemplate.getConverter().write(entity.apply(item), document);
+            documents.add(document);
+        }
+        try {
+            mongoTemplate.getCollection(mongoTemplate.getCollectionName(type))
+                    .insertMany(documents, new InsertManyOptions().ordered(false));
+            return items;
+        } catch (MongoBulkWriteException ex) {
+            for (BulkWriteError error : ex.getWriteErrors()) {
+                boolean duplicate = ErrorCategory.fromErrorCode(error.getCode()) == ErrorCategory.DUPLICATE_KEY;
+                items.get(error.getIndex()).fail(duplicate ? 409 : 500, duplicate ? duplicateMessage : error.getMessage());
+            }
+        } catch (RuntimeException ex) {
+            // unknown which documents made it; fail them all and let compensation delete by id
+            log.warn("Bulk insert into {} failed: {}", mongoTemplate.getCollectionName(type), ex.getMessage());
+            items.forEach(item -> item.fail(500, ex.getMessage()));
+        }
+        return items.stream().filter(item -> !item.failed()).toList();
+    }
+
+    private List<Item> createCollections(List<Item> items) {
+        List<CompletableFuture<Void>> futures = items.stream()
+                .map(item -> CompletableFuture.runAsync(() -> createTenantCollection(item), collectionExecutor))
+                .toList();
+        List<Item> created = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            Item item = items.get(i);
+            try {
+                futures.get(i).join();
+                created.add(item);
+            } catch (CompletionException ex) {
+                log.warn("Could not create tenant collection {}: {}", item.metadata.getCollectionName(), ex.getCause().getMessage());
+                item.fail(500, ex.getCause().getMessage());
+            }
+        }
+        return created;
+    }
+
+    // the collection name comes from a fresh ObjectId, so the single create's collectionExists round trip is skipped
+    private void createTenantCollection(Item item) {
+        String collName = item.metadata.getCollectionName();
+        MongoTemplate tenantDb = clusterRouter.template(item.metadata.getConnectionDetails());
+        tenantDb.createCollection(collName);
+        item.collectionCreated = true;
+        tenantDb.insert(List.of(OrganizationService.templateDocument(),
+                OrganizationService.adminProfileDocument(item.admin, item.metadata.getOrganizationName())), collName);
+        try {
+            tenantDb.indexOps(collName).createIndex(new Index().on("adminEmail", Sort.Direction.ASC));
+        } catch (Exception ex) {
+            // index creation failure should not block org creation
+            log.warn("Could not create index on {}: {}", collName, ex.getMessage());
+            meterRegistry.counter("org.service.index.failures").increment();
+        }
+    }
+
+    // deletes by the ids this call generated, so a document written by a concurrent create is never touched
+    private void compensate(List<Item> items) {
+        try {
+            mongoTemplate.remove(query(where("_id").in(items.stream()
+                    .filter(item -> item.admin != null).map(item -> item.admin.getId()).toList())), AdminUser.class);
+            mongoTemplate.remove(query(where("_id").in(items.stream()
+                    .filter(item -> item.collectionCreated).map(item -> item.metadata.getId()).toList())), OrganizationMetadata.class);
+        } catch (Exception ex) {
+            log.error("Could not remove admins/metadata of failed bulk-create items: {}", ex.getMessage());
+        }
+        for (Item item : items) {
+            if (!item.collectionCreated) continue;
+            try {
+                clusterRouter.template(item.metadata.getConnectionDetails()).dropCollection(item.metadata.getCollectionName());
+            } catch (Exception ex) {
+                log.error("Could not drop tenant collection {}: {}", item.metadata.getCollectionName(), ex.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        collectionExecutor.shutdown();
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.organizationservice.service;
+
+import com.example.organizationservice.model.Employee;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.types.ObjectId;
+
+import java.util.Date;
+
+/**
+ * BSON codec for Employee: fields are written and read directly, without the reflection and intermediate
+ * Document/Map of the mapping converter.
+ * - encode adds type=employee and skips null fields (an update never clears a field by omission)
+ * - decode ignores unknown fields and values of an unexpected type (documents written by an import may differ),
+ *   so a projected document simply leaves the rest null
+ */
+public class EmployeeCodec implements Codec<Employee> {
+
+    public static final String TYPE = "employee";
+
+    @Override
+    public void encode(BsonWriter writer, Employee employee, EncoderContext context) {
+        writer.writeStartDocument();
+        if (employee.getId() != null) writer.writeObjectId("_id", new ObjectId(employee.getId()));
+        writer.writeString("type", TYPE);
+        writeString(writer, "name", employee.getName());
+        writeString(writer, "email", employee.getEmail());
+        writeString(writer, "position", employee.getPosition());
+        if (employee.getSalary() != null) writer.writeDouble("salary", employee.getSalary());
+        writeDate(writer, "createdAt", employee.getCreatedAt());
+        writeDate(writer, "updatedAt", employee.getUpdatedAt());
+        writer.writeEndDocument();
+    }
+
+    private static void writeString(BsonWriter writer, String name, String value) {
+        if (value != null) writer.writeString(name, value);
+    }
+
+    private static void writeDate(BsonWriter writer, String name, Date value) {
+        if (value != null) writer.writeDateTime(name, value.getTime());
+    }
+
+    @Override
+    public Employee decode(BsonReader reader, DecoderContext context) {
+        Employee employee = new Employee();
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            String name = reader.readName();
+            BsonType type = reader.getCurrentBsonType();
+            switch (name) {
+                case "_id" -> employee.setId(type == BsonType.OBJECT_ID ? reader.readObjectId().toHexString() : readString(reader, type));
+                case "name" -> employee.setName(readString(reader, type));
+                case "email" -> employee.setEmail(readString(reader, type));
+                case "position" -> employee.setPosition(readString(reader, type));
+                case "salary" -> employee.setSalary(readNumber(reader, type));
+                case "createdAt" -> employee.setCreatedAt(readDate(reader, type));
+                case "updatedAt" -> employee.setUpdatedAt(readDate(reader, type));
+                default -> reader.skipValue();
+            }
+        }
+        reader.readEndDocument();
+        return employee;
+    }
+
+    private static String readString(BsonReader reader, BsonType type) {
+        if (type == BsonType.STRING) return reader.readString();
+        reader.skipValue();
+        return null;
+    }
+
+    private static Double readNumber(BsonReader reader, BsonType type) {
+        switch (type) {
+            case DOUBLE:
+                return reader.readDouble();
+            case INT32:
+                return (double) reader.readInt32();
+            case INT64:
+                return (double) reader.readInt64();
+            case DECIMAL128:
+                return reader.readDecimal128().doubleValue();
+            default:
+                reader.skipValue();
+                return null;
+        }
+    }
+
+    private static Date readDate(BsonReader reader, BsonType type) {
+        if (type == BsonType.DATE_TIME) return new Date(reader.readDateTime());
+        reader.skipValue();
+        return null;
+    }
+
+    @Override
+    public Class<Employee> getEncoderClass() {
+        return Employee.class;
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.organizationservice.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * EmployeeIndexTracker
+ *
+ * Which tenant collections (cluster/collection) have their employee indexes on this node, for EmployeeService and
+ * ReactiveEmployeeService:
+ * - a collection counts as indexed only once createIndexes succeeded; until then one request at a time is let
+ *   through to try it (the others go on without waiting for it)
+ * - after a failure (e.g. duplicate emails from an import) the next try is app.employees.index-retry-ms later,
+ *   doubling up to 10 minutes, so a broken tenant does not cost every request an index build
+ */
+@Component
+public class EmployeeIndexTracker {
+
+    private static final long MAX_BACKOFF_MS = TimeUnit.MINUTES.toMillis(10);
+
+    /** Earliest next try (nanoTime) and the wait after it, should it fail too. */
+    private record Retry(long notBefore, long backoffMs) {
+    }
+
+    private final long retryMs;
+    private final Set<String> indexed = ConcurrentHashMap.newKeySet();
+    private final ConcurrentHashMap<String, Retry> pending = new ConcurrentHashMap<>();
+
+    public EmployeeIndexTracker(@Value("${app.employees.index-retry-ms:1000}") long retryMs) {
+        if (retryMs <= 0) throw new IllegalArgumentException("app.employees.index-retry-ms must be positive");
+        this.retryMs = retryMs;
+    }
+
+    /** True if the caller should create the indexes now; it then reports success with indexed(). */
+    public boolean claim(String key) {
+        if (indexed.contains(key)) return false;
+        long now = System.nanoTime();
+        boolean[] claimed = {false};
+        pending.compute(key, (k, retry) -> {
+            // nanoTime values are compared by difference only: they may wrap
+            if (retry != null && retry.notBefore() - now > 0) return retry;
+            claimed[0] = true;
+            long backoff = retry == null ? retryMs : Math.min(MAX_BACKOFF_MS, retry.backoffMs() * 2);
+            return new Retry(now + TimeUnit.MILLISECONDS.toNanos(backoff), backoff);
+        });
+        return claimed[0];
+    }
+
+    public void indexed(String key) {
+        indexed.add(key);
+        pending.remove(key);
+    }
+}
@@ -0,0 +1,400 @@
+package com.example.organizationservice.service;
+
+import com.example.organizationservice.dto.EmployeeBulkResult;
+import com.example.organizationservice.dto.EmployeePage;
+import com.example.organizationservice.model.Employee;
+import com.example.organizationservice.model.OrganizationMetadata;
+import com.mongodb.ErrorCategory;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.MongoException;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.bulk.BulkWriteUpsert;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.FindOneAndUpdateOptions;
+import com.mongodb.client.model.IndexModel;
+import com.mongodb.client.model.IndexOptions;
+import com.mongodb.client.model.Indexes;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.ReturnDocument;
+import com.mongodb.client.model.Sorts;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.Updates;
+import com.mongodb.client.model.WriteModel;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.bson.BsonBinaryWriter;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.conversions.Bson;
+import org.bson.io.BasicOutputBuffer;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static com.mongodb.client.model.Filters.and;
+import static com.mongodb.client.model.Filters.eq;
+import static com.mongodb.client.model.Filters.gt;
+import static org.bson.codecs.configuration.CodecRegistries.fromCodecs;
+import static org.bson.codecs.configuration.CodecRegistries.fromRegistries;
+
+/**
+ * EmployeeService
+ *
+ * Employees of a tenant, kept in its tenant collection (on its cluster) as type=employee documents:
+ * - the driver collection is typed with EmployeeCodec, so documents are encoded/decoded field by field
+ * - secondary indexes are created per tenant on first use on this node: email (unique, sparse so the template and
+ *   admin_profile documents are left out) and (position, _id), which serves the position filter of the list;
+ *   a failed creation is tried again with backoff (EmployeeIndexTracker)
+ * - list is keyset-paginated on _id (after = previous page's last id), optionally filtered by position and
+ *   projected to the requested fields; id is always returned, it is the cursor
+ * - bulkUpsert matches on email and writes unordered bulkWrite batches of app.employees.write-batch-size; a
+ *   failed item does not stop the rest and is reported by its position in the request
+ * - every write is reported to TenantUsageRecorder (documents added or removed, their encoded size); an update's
+ *   change in size is left to TenantStatsSampler
+ * - writes are refused with TenantMovingException while the tenant collection is being moved to another cluster;
+ *   TenantWriteFence checks the master right before each write and each bulkWrite batch
+ *
+ * The static helpers build the filters, updates and batches shared with ReactiveEmployeeService.
+ * Each call is timed as org.service.phase{operation=employee}.
+ */
+@Service
+public class EmployeeService {
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeeService.class);
+
+    private static final EmployeeCodec CODEC = new EmployeeCodec();
+
+    static final CodecRegistry CODECS = fromRegistries(fromCodecs(CODEC), MongoClientSettings.getDefaultCodecRegistry());
+
+    /** Fields the list and get can project; id is always included. */
+    static final List<String> FIELDS = List.of("id", "name", "email", "position", "salary", "createdAt", "updatedAt");
+
+    static final List<IndexModel> INDEXES = List.of(
+            new IndexModel(Indexes.ascending("email"), new IndexOptions().name("employee_email").unique(true).sparse(true)),
+            new IndexModel(Indexes.ascending("position", "_id"), new IndexOptions().name("employee_position")));
+
+    private static final BulkWriteOptions UNORDERED = new BulkWriteOptions().ordered(false);
+    private static final UpdateOptions UPSERT = new UpdateOptions().upsert(true);
+    private static final FindOneAndUpdateOptions RETURN_UPDATED = new FindOneAndUpdateOptions().returnDocument(ReturnDocument.AFTER);
+
+    @Autowired
+    private TenantClusterRouter clusterRouter;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private TenantUsageRecorder usage;
+
+    @Value("${app.employees.max-limit:1000}")
+    private int maxLimit;
+
+    @Value("${app.employees.bulk-max-items:10000}")
+    private int bulkMaxItems;
+
+    @Value("${app.employees.write-batch-size:1000}")
+    private int writeBatchSize;
+
+    @Autowired
+    private EmployeeIndexTracker indexes;
+
+    @Autowired
+    private TenantWriteFence writeFence;
+
+    private <T> T phase(String phase, Supplier<T> step) {
+        return meterRegistry.timer(OrganizationService.PHASE_TIMER, "operation", "employee", "phase", phase).record(step);
+    }
+
+    // ---- shared with ReactiveEmployeeService ----
+
+    static Bson employees() {
+        return eq("type", EmployeeCodec.TYPE);
+    }
+
+    static Bson byId(String id) {
+        if (id == null || !ObjectId.isValid(id)) throw new IllegalArgumentException("invalid employee id");
+        return and(eq("_id", new ObjectId(id)), employees());
+    }
+
+    static Bson listFilter(String position, String after) {
+        List<Bson> filters = new ArrayList<>();
+        filters.add(employees());
+        if (position != null && !position.isEmpty()) filters.add(eq("position", position));
+        if (after != null && !after.isEmpty()) {
+            if (!ObjectId.isValid(after)) throw new IllegalArgumentException("invalid after cursor");
+            filters.add(gt("_id", new ObjectId(after)));
+        }
+        return and(filters);
+    }
+
+    static Bson listSort() {
+        return Sorts.ascending("_id");
+    }
+
+    /** Projection for the requested fields, null for all of them. */
+    static Bson projection(List<String> fields) {
+        if (fields == null || fields.isEmpty()) return null;
+        List<String> included = new ArrayList<>();
+        for (String field : fields) {
+            if (!FIELDS.contains(field)) throw new IllegalArgumentException("unknown field: " + field);
+            if (!field.equals("id")) included.add(field);
+        }
+        return Projections.include(included); // _id is included unless excluded
+    }
+
+    static void checkLimit(int limit, int maxLimit) {
+        OrganizationService.checkListLimit(limit, maxLimit);
+    }
+
+    /** Validated copy of a new employee, with a fresh id and timestamps. */
+    static Employee newEmployee(Employee request) {
+        if (request == null || request.getEmail() == null || request.getEmail().isBlank()) {
+            throw new IllegalArgumentException("email required");
+        }
+        if (request.getName() == null || request.getName().isBlank()) throw new IllegalArgumentException("name required");
+        Date now = new Date();
+        return new Employee(new ObjectId().toHexString(), request.getName(), request.getEmail(), request.getPosition(),
+                request.getSalary(), now, now);
+    }
+
+    /** $set of the fields present in the request; id and timestamps are not client-settable. */
+    static Bson changes(Employee request) {
+        List<Bson> updates = new ArrayList<>();
+        if (request != null) {
+            if (request.getEmail() != null && request.getEmail().isBlank()) throw new IllegalArgumentException("email must not be blank");
+            if (request.getName() != null) updates.add(Updates.set("name", request.getName()));
+            if (request.getEmail() != null) updates.add(Updates.set("email", request.getEmail()));
+            if (request.getPosition() != null) updates.add(Updates.set("position", request.getPosition()));
+            if (request.getSalary() != null) updates.add(Updates.set("salary", request.getSalary()));
+        }
+        if (updates.isEmpty()) throw new IllegalArgumentException("nothing to update");
+        updates.add(Updates.set("updatedAt", new Date()));
+        return Updates.combine(updates);
+    }
+
+    /** One unordered bulkWrite: the models and, for each, its position in the request. */
+    record UpsertBatch(List<WriteModel<Employee>> models, int[] positions) {
+    }
+
+    static void checkBulk(List<Employee> items, int bulkMaxItems) {
+        if (items == null || items.isEmpty()) throw new IllegalArgumentException("at least one employee required");
+        if (items.size() > bulkMaxItems) throw new IllegalArgumentException("at most " + bulkMaxItems + " employees per request");
+    }
+
+    /**
+     * Upserts keyed by email, in batches of batchSize. Invalid items, and repeats of an email already in the
+     * request (their order inside an unordered batch is undefined), are reported in result and left out.
+     */
+    static List<UpsertBatch> upsertBatches(List<Employee> items, int batchSize, EmployeeBulkResult result) {
+        Date now = new Date();
+        Set<String> emails = new HashSet<>();
+        List<UpsertBatch> batches = new ArrayList<>();
+        List<WriteModel<Employee>> models = new ArrayList<>(Math.min(batchSize, items.size()));
+        int[] positions = new int[Math.min(batchSize, items.size())];
+        for (int i = 0; i < items.size(); i++) {
+            Employee item = items.get(i);
+            if (item == null || item.getEmail() == null || item.getEmail().isBlank()) {
+                result.getErrors().add(new EmployeeBulkResult.ItemError(i, "email required"));
+                continue;
+            }
+            if (!emails.add(item.getEmail())) {
+                result.getErrors().add(new EmployeeBulkResult.ItemError(i, "email repeated in this request"));
+                continue;
+            }
+            List<Bson> updates = new ArrayList<>(6);
+            if (item.getName() != null) updates.add(Updates.set("name", item.getName()));
+            if (item.getPosition() != null) updates.add(Updates.set("position", item.getPosition()));
+            if (item.getSalary() != null) updates.add(Updates.set("salary", item.getSalary()));
+            updates.add(Updates.set("updatedAt", now));
+            updates.add(Updates.setOnInsert("createdAt", now));
+            // ids made here like create's, so id order (the list order) stays creation order; type and email come from the filter
+            updates.add(Updates.setOnInsert("_id", new ObjectId()));
+            positions[models.size()] = i;
+            models.add(new UpdateOneModel<>(and(employees(), eq("email", item.getEmail())), Updates.combine(updates), UPSERT));
+            if (models.size() == batchSize) {
+                batches.add(new UpsertBatch(models, positions));
+                models = new ArrayList<>(batchSize);
+                positions = new int[batchSize];
+            }
+        }
+        if (!models.isEmpty()) batches.add(new UpsertBatch(models, positions));
+        return batches;
+    }
+
+    static void record(EmployeeBulkResult result, UpsertBatch batch, BulkWriteResult written, List<BulkWriteError> errors) {
+        if (written != null && written.wasAcknowledged()) {
+            result.setUpserted(result.getUpserted() + written.getUpserts().size());
+            result.setMatched(result.getMatched() + written.getMatchedCount());
+            result.setModified(result.getModified() + written.getModifiedCount());
+        }
+        for (BulkWriteError error : errors) {
+            String message = error.getCategory() == ErrorCategory.DUPLICATE_KEY ? "email already exists" : error.getMessage();
+            result.getErrors().add(new EmployeeBulkResult.ItemError(batch.positions()[error.getIndex()], message));
+        }
+    }
+
+    /** BSON size of the employee as EmployeeCodec writes it. */
+    static long encodedSize(Employee employee) {
+        try (BasicOutputBuffer buffer = new BasicOutputBuffer(); BsonBinaryWriter writer = new BsonBinaryWriter(buffer)) {
+            CODEC.encode(writer, employee, EncoderContext.builder().build());
+            return buffer.getPosition();
+        }
+    }
+
+    /** Estimated size of the documents a batch inserted: each upserted item as a new employee would be written. */
+    static long upsertedBytes(List<Employee> items, UpsertBatch batch, BulkWriteResult written) {
+        if (written == null || !written.wasAcknowledged()) return 0;
+        Date now = new Date();
+        long bytes = 0;
+        for (BulkWriteUpsert upsert : written.getUpserts()) {
+            Employee item = items.get(batch.positions()[upsert.getIndex()]);
+            bytes += encodedSize(new Employee(new ObjectId().toHexString(), item.getName(), item.getEmail(), item.getPosition(),
+                    item.getSalary(), now, now));
+        }
+        return bytes;
+    }
+
+    static long upserts(BulkWriteResult written) {
+        return written == null || !written.wasAcknowledged() ? 0 : written.getUpserts().size();
+    }
+
+    /** Documents a batch wrote: inserted, or changed by the update. */
+    static long writes(BulkWriteResult written) {
+        return written == null || !written.wasAcknowledged() ? 0 : written.getUpserts().size() + written.getModifiedCount();
+    }
+
+    static void sortErrors(EmployeeBulkResult result) {
+        result.getErrors().sort((a, b) -> Integer.compare(a.getIndex(), b.getIndex()));
+    }
+
+    static RuntimeException translate(RuntimeException ex) {
+        if (ex instanceof MongoException mongo && ErrorCategory.fromErrorCode(mongo.getCode()) == ErrorCategory.DUPLICATE_KEY) {
+            return new DuplicateKeyException("employee email already exists");
+        }
+        return ex;
+    }
+
+    static EmployeePage page(List<Employee> found, int limit) {
+        if (found.size() <= limit) return new EmployeePage(found, null);
+        List<Employee> page = found.subList(0, limit);
+        return new EmployeePage(page, page.get(limit - 1).getId());
+    }
+
+    static String indexKey(OrganizationMetadata tenant) {
+        return TenantClusterRouter.clusterOf(tenant) + "/" + tenant.getCollectionName();
+    }
+
+    // ---- blocking API ----
+
+    private MongoCollection<Employee> collection(OrganizationMetadata tenant) {
+        MongoCollection<Employee> collection = clusterRouter.template(TenantClusterRouter.clusterOf(tenant))
+                .getCollection(tenant.getCollectionName())
+                .withCodecRegistry(CODECS)
+                .withDocumentClass(Employee.class);
+        String key = indexKey(tenant);
+        if (indexes.claim(key)) {
+            try {
+                phase("ensureIndexes", () -> collection.createIndexes(INDEXES));
+                indexes.indexed(key);
+            } catch (Exception ex) {
+                // e.g. duplicate emails from an import; tried again after a backoff
+                log.warn("Could not create employee indexes on {}: {}", tenant.getCollectionName(), ex.getMessage());
+                meterRegistry.counter("org.service.index.failures").increment();
+            }
+        }
+        return collection;
+    }
+
+    public Employee create(OrganizationMetadata tenant, Employee request) {
+        writeFence.check(tenant);
+        Employee employee = newEmployee(request);
+        MongoCollection<Employee> collection = collection(tenant);
+        try {
+            phase("create", () -> collection.insertOne(employee));
+        } catch (MongoException ex) {
+            throw translate(ex);
+        }
+        usage.written(tenant, 1, encodedSize(employee), 1);
+        return employee;
+    }
+
+    public Optional<Employee> get(OrganizationMetadata tenant, String id, List<String> fields) {
+        Bson filter = byId(id);
+        Bson projection = projection(fields);
+        MongoCollection<Employee> collection = collection(tenant);
+        return Optional.ofNullable(phase("get", () -> collection.find(filter).projection(projection).first()));
+    }
+
+    /** One page in id order; reads limit + 1 documents to know whether another page exists. */
+    public EmployeePage list(OrganizationMetadata tenant, String position, String after, int limit, List<String> fields) {
+        checkLimit(limit, maxLimit);
+        Bson filter = listFilter(position, after);
+        Bson projection = projection(fields);
+        MongoCollection<Employee> collection = collection(tenant);
+        List<Employee> found = phase("list", () -> collection.find(filter).projection(projection).sort(listSort())
+                .limit(limit + 1).into(new ArrayList<>(limit + 1)));
+        return page(found, limit);
+    }
+
+    public Optional<Employee> update(OrganizationMetadata tenant, String id, Employee request) {
+        writeFence.check(tenant);
+        Bson filter = byId(id);
+        Bson update = changes(request);
+        MongoCollection<Employee> collection = collection(tenant);
+        Employee updated;
+        try {
+            updated = phase("update", () -> collection.findOneAndUpdate(filter, update, RETURN_UPDATED));
+        } catch (MongoException ex) {
+            throw translate(ex);
+        }
+        if (updated != null) usage.written(tenant, 0, 0, 1);
+        return Optional.ofNullable(updated);
+    }
+
+    public boolean delete(OrganizationMetadata tenant, String id) {
+        writeFence.check(tenant);
+        Bson filter = byId(id);
+        MongoCollection<Employee> collection = collection(tenant);
+        // findOneAndDelete rather than deleteOne: the removed document's size is taken off the stats
+        Employee deleted = phase("delete", () -> collection.findOneAndDelete(filter));
+        if (deleted == null) return false;
+        usage.written(tenant, -1, -encodedSize(deleted), 1);
+        return true;
+    }
+
+    public EmployeeBulkResult bulkUpsert(OrganizationMetadata tenant, List<Employee> items) {
+        checkBulk(items, bulkMaxItems);
+        EmployeeBulkResult result = new EmployeeBulkResult();
+        MongoCollection<Employee> collection = collection(tenant);
+        for (UpsertBatch batch : upsertBatches(items, writeBatchSize, result)) {
+            // checked per batch: a move frozen mid-request stops the rest; upserts on email are safe to retry
+            writeFence.check(tenant);
+            BulkWriteResult written;
+            try {
+                written = phase("bulkWrite", () -> collection.bulkWrite(batch.models(), UNORDERED));
+                record(result, batch, written, List.of());
+            } catch (MongoBulkWriteException ex) {
+                written = ex.getWriteResult();
+                record(result, batch, written, ex.getWriteErrors());
+            }
+            usage.written(tenant, upserts(written), upsertedBytes(items, batch, written), writes(written));
+        }
+        sortErrors(result);
+        return result;
+    }
+}
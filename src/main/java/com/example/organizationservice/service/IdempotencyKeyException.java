@@ -0,0 +1,25 @@
+package com.example.organizationservice.service;
+
+/**
+ * A request whose Idempotency-Key cannot be honoured: 422 when the key was used for a different request,
+ * 409 with Retry-After while another node is still running the request with that key.
+ */
+public class IdempotencyKeyException extends RuntimeException {
+    private final int status;
+    private final long retryAfterSeconds;
+
+    public IdempotencyKeyException(int status, String message, long retryAfterSeconds) {
+        super(message);
+        this.status = status;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    /** 0 when the request should not be retried as is. */
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,294 @@
+package com.example.organizationservice.service;
+
+import com.example.organizationservice.model.AdminUser;
+import com.example.organizationservice.model.IdempotencyRecord;
+import com.example.organizationservice.model.OrganizationMetadata;
+import com.example.organizationservice.repository.AdminUserRepository;
+import com.example.organizationservice.repository.OrganizationMetadataRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * IdempotentCreateService
+ *
+ * POST /org/create in front of OrganizationService.createOrganization, so that retries cost one lookup
+ * and not a second BCrypt hash and collection build:
+ * - single-flight: concurrent identical requests on this node (same Idempotency-Key and body, or the same body
+ *   when there is no key) wait for the one that got there first and share its answer
+ * - with an Idempotency-Key the answer is stored in master_idempotency_keys (IdempotencyRecord): the node that
+ *   inserts the key runs the create; 200, 400 and 409 are kept and replayed to every later request with that key,
+ *   503 and 500 release the key so the retry runs the create again
+ * - a request finding the key IN_PROGRESS on another node polls for up to app.idempotency.wait-ms, then answers
+ *   409 with Retry-After. A key left IN_PROGRESS past app.idempotency.lease-ms (its node died) is taken over;
+ *   if that create got as far as saving the metadata, it is replayed instead of run again
+ * - a key reused with a different request answers 422
+ *
+ * The key is stored with an HMAC (app.idempotency.fingerprint-secret) of the key, name and email; the password
+ * goes only into the in-memory single-flight key, never into Mongo, so a leaked record cannot be brute-forced
+ * for it. A key reused with the same name and email but another password therefore replays the first answer.
+ * Metrics: org.create.deduplicated{source=in-flight|stored}.
+ */
+@Service
+public class IdempotentCreateService {
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotentCreateService.class);
+    static final int MAX_KEY_LENGTH = 255;
+
+    /** An organization created or replayed; replayed when this request did not run the create itself. */
+    public record Created(OrganizationMetadata organization, boolean replayed) {
+    }
+
+    @Autowired
+    private OrganizationService orgService;
+
+    @Autowired
+    private OrganizationMetadataRepository orgRepo;
+
+    @Autowired
+    private AdminUserRepository adminRepo;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.idempotency.lease-ms:30000}")
+    private long leaseMs;
+
+    @Value("${app.idempotency.wait-ms:5000}")
+    private long waitMs;
+
+    @Value("${app.idempotency.poll-ms:50}")
+    private long pollMs;
+
+    @Value("${app.idempotency.fingerprint-secret}")
+    private String fingerprintSecret;
+
+    private final ConcurrentHashMap<String, CompletableFuture<Created>> inFlight = new ConcurrentHashMap<>();
+
+    /** key is the Idempotency-Key header, null when the request has none. */
+    public Created createOrganization(String key, String orgName, String email, String password) {
+        checkKey(key);
+        String flight = flightKey(key, orgName, email, password);
+        CompletableFuture<Created> mine = new CompletableFuture<>();
+        CompletableFuture<Created> running = inFlight.putIfAbsent(flight, mine);
+        if (running != null) {
+            meterRegistry.counter("org.create.deduplicated", "source", "in-flight").increment();
+            try {
+                return new Created(running.join().organization(), true);
+            } catch (CompletionException ex) {
+                throw ex.getCause() instanceof RuntimeException cause ? cause : ex;
+            }
+        }
+        try {
+            Created created = key == null
+                    ? new Created(orgService.createOrganization(orgName, email, password), false)
+                    : createOnce(key, fingerprint(fingerprintSecret, key, orgName, email), orgName, email, password);
+            mine.complete(created);
+            return created;
+        } catch (RuntimeException ex) {
+            mine.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(flight, mine);
+        }
+    }
+
+    private Created createOnce(String key, String fingerprint, String orgName, String email, String password) {
+        long deadline = System.nanoTime() + waitMs * 1_000_000;
+        for (;;) {
+            IdempotencyRecord record = claim(key, fingerprint);
+            if (record == null) break;
+            if (!fingerprint.equals(record.getFingerprint())) throw reused();
+            if (record.getState() == IdempotencyRecord.State.DONE) {
+                meterRegistry.counter("org.create.deduplicated", "source", "stored").increment();
+                return replay(record);
+            }
+            if (leaseExpired(record)) {
+                if (mongoTemplate.findAndModify(takeOverQuery(record), renewLease(leaseMs), IdempotencyRecord.class) == null) continue;
+                Optional<OrganizationMetadata> done = completedBefore(orgName, email);
+                if (done.isPresent()) {
+                    finish(key, 200, done.get(), null);
+                    return new Created(done.get(), true);
+                }
+                break;
+            }
+            if (System.nanoTime() - deadline > 0) throw inProgress();
+            try {
+                Thread.sleep(pollMs);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw inProgress();
+            }
+        }
+
+        // this request holds the key
+        try {
+            OrganizationMetadata meta = orgService.createOrganization(orgName, email, password);
+            finish(key, 200, meta, null);
+            return new Created(meta, false);
+        } catch (DuplicateKeyException | IllegalArgumentException ex) {
+            finish(key, statusOf(ex), null, ex.getMessage());
+            throw ex;
+        } catch (RuntimeException ex) {
+            release(key);
+            throw ex;
+        }
+    }
+
+    /**
+     * Inserts the key IN_PROGRESS: null if this request now holds it, otherwise the record already there.
+     * Reads first: in a retry storm the key nearly always exists, and a read is cheaper than a failing insert.
+     */
+    private IdempotencyRecord claim(String key, String fingerprint) {
+        for (;;) {
+            IdempotencyRecord existing = mongoTemplate.findById(key, IdempotencyRecord.class);
+            if (existing != null) return existing;
+            try {
+                mongoTemplate.insert(newRecord(key, fingerprint, leaseMs));
+                return null;
+            } catch (DuplicateKeyException ex) {
+                // inserted in between: read it
+            }
+        }
+    }
+
+    /** The organization a dead node's create made with this name and admin email, if it got that far. */
+    private Optional<OrganizationMetadata> completedBefore(String orgName, String email) {
+        Optional<AdminUser> admin = adminRepo.findByEmailAndOrganizationName(email, orgName);
+        if (admin.isEmpty()) return Optional.empty();
+        return orgRepo.findByOrganizationName(orgName).filter(meta -> admin.get().getId().equals(meta.getAdminUserId()));
+    }
+
+    // a failure here only costs the replay: a retry takes the key over after the lease and finds the create done
+    private void finish(String key, int status, OrganizationMetadata organization, String message) {
+        try {
+            mongoTemplate.updateFirst(byKey(key), done(status, organization, message), IdempotencyRecord.class);
+        } catch (Exception ex) {
+            log.warn("Could not store the outcome of idempotent create {}: {}", key, ex.getMessage());
+        }
+    }
+
+    private void release(String key) {
+        try {
+            mongoTemplate.remove(byKey(key), IdempotencyRecord.class);
+        } catch (Exception ex) {
+            log.warn("Could not release idempotency key {}: {}", key, ex.getMessage());
+        }
+    }
+
+    static void checkKey(String key) {
+        if (key != null && (key.isBlank() || key.length() > MAX_KEY_LENGTH)) {
+            throw new IllegalArgumentException("Idempotency-Key must be 1 to " + MAX_KEY_LENGTH + " characters");
+        }
+    }
+
+    /** SHA-256 over the key and the request fields, password included: the single-flight key, kept in memory only. */
+    static String flightKey(String key, String orgName, String email, String password) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String part : new String[]{key, orgName, email, password}) {
+                if (part != null) digest.update(part.getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /** HMAC-SHA256 over the key, name and email (not the password): what master_idempotency_keys stores. */
+    static String fingerprint(String secret, String key, String orgName, String email) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            for (String part : new String[]{key, orgName, email}) {
+                if (part != null) mac.update(part.getBytes(StandardCharsets.UTF_8));
+                mac.update((byte) 0);
+            }
+            return HexFormat.of().formatHex(mac.doFinal());
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    static IdempotencyRecord newRecord(String key, String fingerprint, long leaseMs) {
+        Date now = new Date();
+        return new IdempotencyRecord(key, fingerprint, IdempotencyRecord.State.IN_PROGRESS, 0, null, null,
+                now, new Date(now.getTime() + leaseMs));
+    }
+
+    static boolean leaseExpired(IdempotencyRecord record) {
+        return record.getLeaseUntil() == null || record.getLeaseUntil().before(new Date());
+    }
+
+    static Query byKey(String key) {
+        return query(where("_id").is(key));
+    }
+
+    /** Matches the record only while it still carries the expired lease, so one request takes it over. */
+    static Query takeOverQuery(IdempotencyRecord record) {
+        return query(where("_id").is(record.getId())
+                .and("state").is(IdempotencyRecord.State.IN_PROGRESS)
+                .and("leaseUntil").is(record.getLeaseUntil()));
+    }
+
+    static Update renewLease(long leaseMs) {
+        return new Update().set("leaseUntil", new Date(System.currentTimeMillis() + leaseMs));
+    }
+
+    static Update done(int status, OrganizationMetadata organization, String message) {
+        Update update = new Update()
+                .set("state", IdempotencyRecord.State.DONE)
+                .set("status", status)
+                .unset("leaseUntil");
+        if (organization != null) update.set("organization", organization);
+        if (message != null) update.set("message", message);
+        return update;
+    }
+
+    /** Status kept for a failed create; other failures (busy, Mongo errors) are not kept. */
+    static int statusOf(RuntimeException ex) {
+        return ex instanceof DuplicateKeyException ? 409 : 400;
+    }
+
+    /** The stored answer, thrown again as the exception the create threw if it was not a 200. */
+    static Created replay(IdempotencyRecord record) {
+        if (record.getStatus() == 200) return new Created(record.getOrganization(), true);
+        if (record.getStatus() == 409) throw new DuplicateKeyException(record.getMessage());
+        throw new IllegalArgumentException(record.getMessage());
+    }
+
+    static IdempotencyKeyException reused() {
+        return new IdempotencyKeyException(422, "Idempotency-Key already used for a different request", 0);
+    }
+
+    static IdempotencyKeyException inProgress() {
+        return new IdempotencyKeyException(409, "a request with this Idempotency-Key is still in progress", 1);
+    }
+}
@@ -0,0 +1,203 @@
+package com.example.organizationservice.service;
+
+import com.example.organizationservice.model.AdminSession;
+import com.example.organizationservice.model.AdminUser;
+import com.example.organizationservice.model.IdempotencyRecord;
+import com.example.organizationservice.model.OrgDeletionJob;
+import com.example.organizationservice.model.OrganizationMetadata;
+import com.example.organizationservice.model.RevokedSession;
+import com.example.organizationservice.model.TenantMoveJob;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Connects to MongoDB and creates the master collection indexes in the background, so startup never waits for
+ * the database:
+ * - master_admins.email (unique)
+ * - master_admins.organizationName (backs the per-org updateMulti/deleteMany)
+ * - master_organizations.organizationName (unique)
+ * - master_organizations.rateLimit (sparse: only organizations with their own limit, read by RateLimitOverrideLoader)
+ * - master_org_deletions: (status, nextAttemptAt) for OrgDeletionWorker's claim; finished jobs expire after
+ *   app.org-delete.job-ttl-hours
+ * - master_tenant_moves: (status, nextAttemptAt) for TenantMoveWorker's claim; organizationId (one move at a time)
+ * - master_idempotency_keys.createdAt: stored create outcomes expire after app.idempotency.ttl-hours
+ * - master_admin_sessions: adminId (revoking every session of an admin); expiresAt (TTL, at that date)
+ * - master_revoked_sessions: revokedAt (TokenRevocationList's catch-up read); expiresAt (TTL, at that date)
+ *
+ * The master database is pinged until it answers (retried every app.startup.mongo-retry-ms, doubling up to 30 s),
+ * then the indexes are created and every tenant cluster is pinged once to open its first connection. Until then
+ * isReady() is false and MongoStartupHealthIndicator keeps /actuator/health/readiness OUT_OF_SERVICE, so a load
+ * balancer holds traffic back; the unique indexes in particular must exist before creates are accepted.
+ *
+ * createIndex is a no-op when the index already exists. Each index is created on its own, so one failure (e.g.
+ * existing duplicates preventing a unique index) does not skip the others; failed ones are logged, counted as
+ * org.service.index.failures and retried with the same backoff. The service only becomes ready once every unique
+ * index exists (readiness names the missing ones); a missing non-unique index is retried in the background
+ * without holding readiness back.
+ */
+@Component
+public class MasterIndexInitializer implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(MasterIndexInitializer.class);
+    private static final long MAX_RETRY_MS = TimeUnit.SECONDS.toMillis(30);
+
+    private record MasterIndex(Class<?> type, Index index, boolean unique) {
+        String describe() {
+            return type.getSimpleName() + index.getIndexKeys().keySet();
+        }
+    }
+
+    private final MongoTemplate mongoTemplate;
+    private final TenantClusterRouter clusterRouter;
+    private final MeterRegistry meterRegistry;
+    private final long deletionJobTtlHours;
+    private final long idempotencyTtlHours;
+    private final long retryMs;
+
+    private volatile boolean running;
+    private volatile boolean ready;
+    private volatile List<String> missingUnique = List.of();
+    private Thread initializer;
+
+    public MasterIndexInitializer(MongoTemplate mongoTemplate,
+                                  TenantClusterRouter clusterRouter,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${app.org-delete.job-ttl-hours:24}") long deletionJobTtlHours,
+                                  @Value("${app.idempotency.ttl-hours:24}") long idempotencyTtlHours,
+                                  @Value("${app.startup.mongo-retry-ms:1000}") long retryMs) {
+        if (retryMs <= 0) throw new IllegalArgumentException("app.startup.mongo-retry-ms must be positive");
+        this.mongoTemplate = mongoTemplate;
+        this.clusterRouter = clusterRouter;
+        this.meterRegistry = meterRegistry;
+        this.deletionJobTtlHours = deletionJobTtlHours;
+        this.idempotencyTtlHours = idempotencyTtlHours;
+        this.retryMs = retryMs;
+    }
+
+    /** True once the master database answered and every unique master index exists. */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /** The unique indexes that could not be created yet, while not ready. */
+    public List<String> missingUniqueIndexes() {
+        return missingUnique;
+    }
+
+    private void initialize() {
+        long started = System.nanoTime();
+        long wait = retryMs;
+        while (running) {
+            try {
+                mongoTemplate.executeCommand(new Document("ping", 1));
+                break;
+            } catch (Exception ex) {
+                log.warn("MongoDB not reachable yet, retrying in {} ms: {}", wait, ex.getMessage());
+                if (!sleep(wait)) return;
+                wait = Math.min(MAX_RETRY_MS, wait * 2);
+            }
+        }
+        if (!running) return;
+        List<MasterIndex> pending = createIndexes(masterIndexes());
+        wait = retryMs;
+        while (running && pending.stream().anyMatch(MasterIndex::unique)) {
+            if (!sleep(wait)) return;
+            wait = Math.min(MAX_RETRY_MS, wait * 2);
+            pending = createIndexes(pending);
+        }
+        if (!running) return;
+        for (String cluster : clusterRouter.clusters()) {
+            if (TenantClusterRouter.DEFAULT_CLUSTER.equals(cluster)) continue;
+            try {
+                clusterRouter.template(cluster).executeCommand(new Document("ping", 1));
+            } catch (Exception ex) {
+                // only that cluster's tenants are affected; the driver keeps reconnecting on its own
+                log.warn("Tenant cluster {} not reachable: {}", cluster, ex.getMessage());
+            }
+        }
+        ready = true;
+        log.info("MongoDB ready after {} ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+
+        // the service runs without these, only slower or without expiry; keep trying at the longest interval
+        while (running && !pending.isEmpty()) {
+            if (!sleep(MAX_RETRY_MS)) return;
+            pending = createIndexes(pending);
+        }
+    }
+
+    // false once interrupted by stop()
+    private static boolean sleep(long ms) {
+        try {
+            Thread.sleep(ms);
+            return true;
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private List<MasterIndex> masterIndexes() {
+        return List.of(
+                new MasterIndex(AdminUser.class, new Index().on("email", Sort.Direction.ASC).unique(), true),
+                new MasterIndex(AdminUser.class, new Index().on("organizationName", Sort.Direction.ASC), false),
+                new MasterIndex(OrganizationMetadata.class, new Index().on("organizationName", Sort.Direction.ASC).unique(), true),
+                new MasterIndex(OrganizationMetadata.class, new Index().on("rateLimit", Sort.Direction.ASC).sparse(), false),
+                new MasterIndex(OrgDeletionJob.class, new Index().on("status", Sort.Direction.ASC).on("nextAttemptAt", Sort.Direction.ASC), false),
+                new MasterIndex(OrgDeletionJob.class, new Index().on("finishedAt", Sort.Direction.ASC).expire(Duration.ofHours(deletionJobTtlHours)), false),
+                new MasterIndex(TenantMoveJob.class, new Index().on("status", Sort.Direction.ASC).on("nextAttemptAt", Sort.Direction.ASC), false),
+                new MasterIndex(TenantMoveJob.class, new Index().on("organizationId", Sort.Direction.ASC), false),
+                new MasterIndex(IdempotencyRecord.class, new Index().on("createdAt", Sort.Direction.ASC).expire(Duration.ofHours(idempotencyTtlHours)), false),
+                new MasterIndex(AdminSession.class, new Index().on("adminId", Sort.Direction.ASC), false),
+                new MasterIndex(AdminSession.class, new Index().on("expiresAt", Sort.Direction.ASC).expire(Duration.ZERO), false),
+                new MasterIndex(RevokedSession.class, new Index().on("revokedAt", Sort.Direction.ASC), false),
+                new MasterIndex(RevokedSession.class, new Index().on("expiresAt", Sort.Direction.ASC).expire(Duration.ZERO), false));
+    }
+
+    /** Creates each index on its own; returns the ones that failed. */
+    private List<MasterIndex> createIndexes(List<MasterIndex> indexes) {
+        List<MasterIndex> failed = new ArrayList<>();
+        for (MasterIndex index : indexes) {
+            try {
+                mongoTemplate.indexOps(index.type()).createIndex(index.index());
+            } catch (Exception ex) {
+                failed.add(index);
+                meterRegistry.counter("org.service.index.failures").increment();
+                log.error("Could not create master index {}: {}", index.describe(), ex.getMessage());
+            }
+        }
+        missingUnique = failed.stream().filter(MasterIndex::unique).map(MasterIndex::describe).toList();
+        return failed;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        initializer = new Thread(this::initialize, "mongo-startup");
+        initializer.setDaemon(true);
+        initializer.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (initializer != null) initializer.interrupt();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
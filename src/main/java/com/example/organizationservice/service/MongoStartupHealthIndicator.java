@@ -0,0 +1,30 @@
+package com.example.organizationservice.service;
+
+import org.springframework.boot.health.contributor.Health;
+import org.springframework.boot.health.contributor.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * "mongoStartup" health contributor, part of the readiness group (management.endpoint.health.group.readiness):
+ * OUT_OF_SERVICE until MasterIndexInitializer has reached MongoDB and created the unique master indexes, UP after.
+ */
+@Component
+public class MongoStartupHealthIndicator implements HealthIndicator {
+
+    private final MasterIndexInitializer initializer;
+
+    public MongoStartupHealthIndicator(MasterIndexInitializer initializer) {
+        this.initializer = initializer;
+    }
+
+    @Override
+    public Health health() {
+        if (initializer.isReady()) return Health.up().build();
+        List<String> missing = initializer.missingUniqueIndexes();
+        return missing.isEmpty()
+                ? Health.outOfService().withDetail("reason", "waiting for MongoDB and master indexes").build()
+                : Health.outOfService().withDetail("reason", "unique master indexes missing").withDetail("indexes", missing).build();
+    }
+}
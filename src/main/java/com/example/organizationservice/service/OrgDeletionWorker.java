@@ -0,0 +1,263 @@
+package com.example.organizationservice.service;
+
+import com.example.organizationservice.model.OrgDeletionJob;
+import com.example.organizationservice.model.OrgEvent;
+import com.example.organizationservice.model.OrganizationMetadata;
+import com.example.organizationservice.model.TenantStats;
+import com.example.organizationservice.repository.AdminUserRepository;
+import com.example.organizationservice.security.AdminLookupCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * OrgDeletionWorker
+ *
+ * Finishes organization deletions in the background, so DELETE /org/delete costs the same for any tenant size.
+ * The request only records an OrgDeletionJob and tombstones the organization:
+ * - its admins are moved to a per-job placeholder organization name, so their tokens stop matching at once
+ * - its metadata is deleted: the organization is gone for every lookup and its name can be taken again
+ * This worker then drops the tenant collection on its cluster (and removes its stats) and deletes the detached admins.
+ *
+ * - Jobs are claimed with findAndModify and a lease (app.org-delete.lease-ms): any node can run them, and a job
+ *   whose node died is taken over once the lease expires.
+ * - Every step is idempotent and recorded as soon as it is done. A failed attempt is retried with exponential
+ *   backoff (app.org-delete.retry-backoff-ms, doubling, at most 5 minutes) and marked FAILED after
+ *   app.org-delete.max-attempts.
+ * - A job whose request died before the tombstone was complete is tombstoned here once the request's lease is over;
+ *   while a TenantMoveWorker move holds the organization this waits for it, and then drops the collection wherever
+ *   the move left it.
+ *
+ * Metrics: org.delete.jobs{result=done|retry|failed}, org.service.phase{operation=deleteJob} per step.
+ */
+@Component
+public class OrgDeletionWorker implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(OrgDeletionWorker.class);
+    private static final long MAX_BACKOFF_MS = TimeUnit.MINUTES.toMillis(5);
+
+    private final MongoTemplate mongoTemplate;
+    private final AdminUserRepository adminRepo;
+    private final TenantClusterRouter clusterRouter;
+    private final OrganizationMetadataCache orgCache;
+    private final AdminLookupCache adminLookup;
+    private final OrgEventPublisher orgEvents;
+    private final MeterRegistry meterRegistry;
+    private final long pollIntervalMs;
+    private final long leaseMs;
+    private final long retryBackoffMs;
+    private final int maxAttempts;
+    private final Counter done;
+    private final Counter retried;
+    private final Counter failed;
+    private final Semaphore wakeups = new Semaphore(0);
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public OrgDeletionWorker(MongoTemplate mongoTemplate,
+                             AdminUserRepository adminRepo,
+                             TenantClusterRouter clusterRouter,
+                             OrganizationMetadataCache orgCache,
+                             AdminLookupCache adminLookup,
+                             OrgEventPublisher orgEvents,
+                             MeterRegistry meterRegistry,
+                             @Value("${app.org-delete.poll-interval-ms:5000}") long pollIntervalMs,
+                             @Value("${app.org-delete.lease-ms:60000}") long leaseMs,
+                             @Value("${app.org-delete.retry-backoff-ms:1000}") long retryBackoffMs,
+                             @Value("${app.org-delete.max-attempts:10}") int maxAttempts) {
+        if (pollIntervalMs <= 0 || leaseMs <= 0 || retryBackoffMs <= 0 || maxAttempts <= 0) {
+            throw new IllegalArgumentException("app.org-delete.* settings must be positive");
+        }
+        this.mongoTemplate = mongoTemplate;
+        this.adminRepo = adminRepo;
+        this.clusterRouter = clusterRouter;
+        this.orgCache = orgCache;
+        this.adminLookup = adminLookup;
+        this.orgEvents = orgEvents;
+        this.meterRegistry = meterRegistry;
+        this.pollIntervalMs = pollIntervalMs;
+        this.leaseMs = leaseMs;
+        this.retryBackoffMs = retryBackoffMs;
+        this.maxAttempts = maxAttempts;
+        this.done = Counter.builder("org.delete.jobs").tag("result", "done").register(meterRegistry);
+        this.retried = Counter.builder("org.delete.jobs").tag("result", "retry").register(meterRegistry);
+        this.failed = Counter.builder("org.delete.jobs").tag("result", "failed").register(meterRegistry);
+    }
+
+    /**
+     * A new job for the organization. It is not due before the lease runs out, so the worker leaves the tombstone
+     * to the request until tombstoneDone() is written (or the request is assumed dead).
+     */
+    public OrgDeletionJob newJob(OrganizationMetadata meta) {
+        Date now = new Date();
+        return new OrgDeletionJob(UUID.randomUUID().toString(), meta.getOrganizationName(), meta.getId(),
+                meta.getCollectionName(), TenantClusterRouter.clusterOf(meta), OrgDeletionJob.Status.PENDING,
+                false, false, false, 0, null, now, now, new Date(now.getTime() + leaseMs), null);
+    }
+
+    /** Organization name the admins of a deleted organization are parked under until the job deletes them. */
+    public static String detachedOrganization(String jobId) {
+        return "deleted:" + jobId;
+    }
+
+    /**
+     * The job's organization, as long as it is still on the cluster the job drops and no move holds it: deleting
+     * the metadata through this query cannot leave a moved copy of the tenant collection behind.
+     */
+    public static Query metadataOf(OrgDeletionJob job) {
+        return query(where("_id").is(job.getOrganizationId()).and("movingTo").is(null)
+                .andOperator(TenantClusterRouter.onCluster(job.getConnectionDetails())));
+    }
+
+    public static Query byId(String jobId) {
+        return query(where("_id").is(jobId));
+    }
+
+    /** Written by the request once metadata and admins are dealt with; makes the job due right away. */
+    public static Update tombstoneDone() {
+        Date now = new Date();
+        return Update.update("tombstoned", true).set("nextAttemptAt", now).set("updatedAt", now);
+    }
+
+    /** Run due jobs now instead of at the next poll. */
+    public void wakeUp() {
+        wakeups.release();
+    }
+
+    public Optional<OrgDeletionJob> find(String jobId) {
+        return Optional.ofNullable(mongoTemplate.findById(jobId, OrgDeletionJob.class));
+    }
+
+    // oldest due job, whether pending or with an expired lease; the claim renews the lease and counts the attempt
+    private OrgDeletionJob claim() {
+        Date now = new Date();
+        Query due = query(where("status").in(OrgDeletionJob.Status.PENDING, OrgDeletionJob.Status.RUNNING)
+                .and("nextAttemptAt").lte(now))
+                .with(Sort.by(Sort.Direction.ASC, "nextAttemptAt"));
+        Update lease = Update.update("status", OrgDeletionJob.Status.RUNNING)
+                .set("nextAttemptAt", new Date(now.getTime() + leaseMs))
+                .set("updatedAt", now)
+                .inc("attempts", 1);
+        return mongoTemplate.findAndModify(due, lease, FindAndModifyOptions.options().returnNew(true), OrgDeletionJob.class);
+    }
+
+    void runJob(OrgDeletionJob job) {
+        try {
+            if (!job.isTombstoned()) step(job, "tombstoned", () -> tombstone(job));
+            if (!job.isCollectionDropped()) {
+                step(job, "collectionDropped", () -> {
+                    clusterRouter.template(job.getConnectionDetails()).dropCollection(job.getCollectionName());
+                    mongoTemplate.remove(query(where("_id").is(job.getOrganizationId())), TenantStats.class);
+                });
+            }
+            if (!job.isAdminsDeleted()) {
+                step(job, "adminsDeleted", () -> adminRepo.deleteByOrganizationName(detachedOrganization(job.getId())));
+            }
+            Date now = new Date();
+            mongoTemplate.updateFirst(byId(job.getId()), Update.update("status", OrgDeletionJob.Status.DONE)
+                    .set("finishedAt", now).set("updatedAt", now).unset("lastError"), OrgDeletionJob.class);
+            done.increment();
+            log.info("Deleted organization {} ({} on {})", job.getOrganizationName(), job.getCollectionName(), job.getConnectionDetails());
+        } catch (Exception ex) {
+            boolean giveUp = job.getAttempts() >= maxAttempts;
+            long backoff = Math.min(MAX_BACKOFF_MS, retryBackoffMs << Math.min(job.getAttempts() - 1, 20));
+            Date now = new Date();
+            mongoTemplate.updateFirst(byId(job.getId()), Update.update("status", giveUp ? OrgDeletionJob.Status.FAILED : OrgDeletionJob.Status.PENDING)
+                    .set("nextAttemptAt", new Date(now.getTime() + backoff))
+                    .set("lastError", String.valueOf(ex.getMessage()))
+                    .set("updatedAt", now), OrgDeletionJob.class);
+            (giveUp ? failed : retried).increment();
+            log.warn("Deletion of organization {} failed (attempt {} of {}): {}",
+                    job.getOrganizationName(), job.getAttempts(), maxAttempts, ex.getMessage());
+        }
+    }
+
+    private void step(OrgDeletionJob job, String flag, Runnable action) {
+        meterRegistry.timer(OrganizationService.PHASE_TIMER, "operation", "deleteJob", "phase", flag).record(action);
+        mongoTemplate.updateFirst(byId(job.getId()), Update.update(flag, true).set("updatedAt", new Date()), OrgDeletionJob.class);
+    }
+
+    // the request died half-way; its metadata still holds the name, so no other organization can have taken it
+    // a move may have frozen or moved it since: retried until the move is over, then the collection is dropped where it is
+    private void tombstone(OrgDeletionJob job) {
+        OrganizationMetadata meta = mongoTemplate.findById(job.getOrganizationId(), OrganizationMetadata.class);
+        if (meta == null) return;
+        if (meta.getMovingTo() != null) throw new TenantMovingException();
+        String cluster = TenantClusterRouter.clusterOf(meta);
+        if (!cluster.equals(job.getConnectionDetails())) {
+            mongoTemplate.updateFirst(byId(job.getId()), Update.update("connectionDetails", cluster), OrgDeletionJob.class);
+            job.setConnectionDetails(cluster);
+        }
+        adminRepo.updateOrganizationName(job.getOrganizationName(), detachedOrganization(job.getId()));
+        if (mongoTemplate.remove(metadataOf(job), OrganizationMetadata.class).getDeletedCount() == 0) {
+            throw new TenantMovingException();
+        }
+        orgCache.invalidate(job.getOrganizationName());
+        adminLookup.invalidateOrganizations(job.getOrganizationName());
+        orgEvents.publish(OrgEvent.Type.DELETED, null, job.getOrganizationName());
+    }
+
+    private void workLoop() {
+        while (running) {
+            try {
+                for (OrgDeletionJob job = claim(); job != null && running; job = claim()) {
+                    runJob(job);
+                }
+            } catch (Exception ex) {
+                log.warn("Could not claim organization deletion jobs: {}", ex.getMessage());
+            }
+            try {
+                wakeups.tryAcquire(pollIntervalMs, TimeUnit.MILLISECONDS);
+                wakeups.drainPermits();
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = new Thread(this::workLoop, "org-deletion-worker");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            wakeups.release(); // no interrupt: a running step finishes and is recorded; the rest resumes elsewhere
+            try {
+                worker.join(5000);
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
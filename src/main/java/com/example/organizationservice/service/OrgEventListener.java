@@ -0,0 +1,175 @@
+package com.example.organizationservice.service;
+
+import com.example.organizationservice.model.OrgEvent;
+import com.example.organizationservice.security.AdminLookupCache;
+import com.mongodb.CursorType;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OrgEventListener
+ *
+ * Follows the master_org_events outbox and invalidates local caches (org metadata, admin lookups)
+ * for changes made on other nodes.
+ * - app.org-events.mode=change-stream: watches inserts (needs a replica set).
+ * - app.org-events.mode=poll: tailable-await cursor on the capped outbox (works on a single node).
+ *
+ * A tailable cursor replays the whole outbox when reopened, which is harmless because invalidation is
+ * idempotent. After an error (network, capped collection wrapped past the cursor, change stream lost)
+ * events may have been missed, so the local caches are cleared entirely before following again.
+ *
+ * Cross-node staleness (origin write -> local invalidation) is recorded as the org.events.staleness timer;
+ * it compares wall clocks of two nodes, so it is only as accurate as their clock sync.
+ */
+@Component
+public class OrgEventListener implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(OrgEventListener.class);
+
+    private final MongoTemplate mongoTemplate;
+    private final OrgEventPublisher publisher;
+    private final OrganizationMetadataCache orgCache;
+    private final AdminLookupCache adminLookup;
+    private final boolean enabled;
+    private final boolean changeStream;
+    private final long pollIntervalMs;
+    private final Timer staleness;
+
+    private volatile boolean running;
+    private Thread follower;
+
+    public OrgEventListener(MongoTemplate mongoTemplate,
+                            OrgEventPublisher publisher,
+                            OrganizationMetadataCache orgCache,
+                            AdminLookupCache adminLookup,
+                            MeterRegistry meterRegistry,
+                            @Value("${app.org-events.enabled:true}") boolean enabled,
+                            @Value("${app.org-events.mode:poll}") String mode,
+                            @Value("${app.org-events.poll-interval-ms:500}") long pollIntervalMs) {
+        this.mongoTemplate = mongoTemplate;
+        this.publisher = publisher;
+        this.orgCache = orgCache;
+        this.adminLookup = adminLookup;
+        this.enabled = enabled;
+        this.changeStream = "change-stream".equals(mode);
+        this.pollIntervalMs = pollIntervalMs;
+        this.staleness = Timer.builder("org.events.staleness")
+                .description("Time from a change on another node to its invalidation here")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    private void followLoop() {
+        boolean mayHaveMissed = false;
+        while (running) {
+            long openedAt = System.currentTimeMillis();
+            try {
+                publisher.ensureOutbox();
+                if (mayHaveMissed) {
+                    orgCache.invalidateAll();
+                    adminLookup.invalidateAll();
+                    mayHaveMissed = false;
+                }
+                MongoCollection<Document> outbox = mongoTemplate.getCollection(mongoTemplate.getCollectionName(OrgEvent.class));
+                if (changeStream) {
+                    followChangeStream(outbox, openedAt);
+                } else {
+                    followTailable(outbox, openedAt);
+                }
+            } catch (Exception ex) {
+                if (!running) return;
+                log.warn("Org event follower failed, reopening: {}", ex.getMessage());
+                mayHaveMissed = true;
+            }
+            sleep(pollIntervalMs);
+        }
+    }
+
+    private void followChangeStream(MongoCollection<Document> outbox, long openedAt) {
+        try (MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor = outbox
+                .watch(List.of(Aggregates.match(Filters.eq("operationType", "insert"))))
+                .maxAwaitTime(1, TimeUnit.SECONDS)
+                .cursor()) {
+            while (running) {
+                ChangeStreamDocument<Document> change = cursor.tryNext();
+                if (change != null) apply(change.getFullDocument(), openedAt);
+            }
+        }
+    }
+
+    private void followTailable(MongoCollection<Document> outbox, long openedAt) {
+        try (MongoCursor<Document> cursor = outbox.find()
+                .cursorType(CursorType.TailableAwait)
+                .maxAwaitTime(1, TimeUnit.SECONDS)
+                .iterator()) {
+            while (running) {
+                Document event = cursor.tryNext();
+                if (event != null) {
+                    apply(event, openedAt);
+                } else if (cursor.getServerCursor() == null) {
+                    return; // dead cursor (empty outbox or wrapped); reopen after the poll interval
+                }
+            }
+        }
+    }
+
+    private void apply(Document event, long openedAt) {
+        if (event == null || publisher.getNodeId().equals(event.getString("originNode"))) return;
+        List<String> names = event.getList("organizationNames", String.class);
+        if (names != null) {
+            orgCache.invalidate(names.toArray(String[]::new));
+            adminLookup.invalidateOrganizations(names.toArray(String[]::new));
+        }
+        adminLookup.invalidate(event.getString("adminId"));
+
+        Date createdAt = event.getDate("createdAt");
+        if (createdAt != null && createdAt.getTime() >= openedAt) {
+            staleness.record(Math.max(0, System.currentTimeMillis() - createdAt.getTime()), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private static void sleep(long ms) {
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void start() {
+        if (!enabled) return;
+        running = true;
+        follower = new Thread(this::followLoop, "org-event-follower");
+        follower.setDaemon(true);
+        follower.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (follower != null) follower.interrupt();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.organizationservice.service;
+
+import com.example.organizationservice.model.OrgEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.core.CollectionOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OrgEventPublisher
+ *
+ * - publish() only enqueues (bounded queue), so org writes never wait on the outbox.
+ * - A single writer thread drains whatever is queued (up to app.org-events.batch-size) into one insertMany.
+ * - When the queue is full the event is dropped and counted (org.events.dropped); remote caches then
+ *   fall back to their TTL for that change.
+ * - The outbox master_org_events is a capped collection so it stays bounded and can be tailed.
+ */
+@Component
+public class OrgEventPublisher implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(OrgEventPublisher.class);
+
+    private final MongoTemplate mongoTemplate;
+    private final boolean enabled;
+    private final String nodeId;
+    private final int batchSize;
+    private final long outboxBytes;
+    private final BlockingQueue<OrgEvent> queue;
+    private final Counter dropped;
+
+    private volatile boolean running;
+    private volatile boolean outboxReady;
+    private Thread writer;
+
+    public OrgEventPublisher(MongoTemplate mongoTemplate,
+                             MeterRegistry meterRegistry,
+                             @Value("${app.org-events.enabled:true}") boolean enabled,
+                             @Value("${app.node-id:}") String nodeId,
+                             @Value("${app.org-events.batch-size:100}") int batchSize,
+                             @Value("${app.org-events.queue-capacity:10000}") int queueCapacity,
+                             @Value("${app.org-events.outbox-bytes:16777216}") long outboxBytes) {
+        this.mongoTemplate = mongoTemplate;
+        this.enabled = enabled;
+        this.nodeId = nodeId.isBlank() ? UUID.randomUUID().toString() : nodeId;
+        this.batchSize = batchSize;
+        this.outboxBytes = outboxBytes;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.dropped = Counter.builder("org.events.dropped").register(meterRegistry);
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public void publish(OrgEvent.Type type, String adminId, String... organizationNames) {
+        if (!enabled) return;
+        OrgEvent event = new OrgEvent(null, type, List.of(organizationNames), adminId, nodeId, new Date());
+        if (!queue.offer(event)) {
+            dropped.increment();
+            log.warn("Org event queue full, dropped {} event for {}", type, event.getOrganizationNames());
+        }
+    }
+
+    /** Create the capped outbox if missing; safe to call from several threads and nodes. */
+    void ensureOutbox() {
+        if (outboxReady) return;
+        if (!mongoTemplate.collectionExists(OrgEvent.class)) {
+            try {
+                mongoTemplate.createCollection(OrgEvent.class, CollectionOptions.empty().capped().size(outboxBytes));
+            } catch (DataAccessException raced) {
+                // created concurrently by another thread or node
+            }
+        }
+        outboxReady = true;
+    }
+
+    private void drainLoop() {
+        List<OrgEvent> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                OrgEvent first = queue.poll(200, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                ensureOutbox();
+                mongoTemplate.insert(batch, OrgEvent.class);
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception ex) {
+                log.warn("Could not write {} org event(s) to outbox: {}", batch.size(), ex.getMessage());
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        if (!enabled) return;
+        running = true;
+        writer = new Thread(this::drainLoop, "org-event-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (writer != null) {
+            try {
+                writer.join(5000); // let queued events flush
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.organizationservice.service;
+
+import com.example.organizationservice.model.OrganizationMetadata;
+import com.example.organizationservice.repository.OrganizationMetadataRepository;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * OrganizationMetadataCache
+ *
+ * - Bounded (app.org-cache.max-size) in-process cache in front of findByOrganizationName.
+ * - Found entries expire after app.org-cache.ttl-ms, misses (404s) after the shorter app.org-cache.negative-ttl-ms.
+ * - Each entry carries a precomputed ETag so conditional GETs do not rehash metadata.
+ * - OrganizationService invalidates names on every create/rename/update/delete.
+ * - Hit/miss/eviction counts are published as cache.* meters tagged cache=org_metadata.
+ * - Concurrent misses for one name share a single Mongo read, which runs on the calling thread
+ *   outside any map lock (a Caffeine compute would pin a virtual thread's carrier during the query).
+ */
+@Component
+public class OrganizationMetadataCache {
+
+    /** Cached lookup result; metadata is null for a negative entry. */
+    public record Entry(OrganizationMetadata metadata, String etag) {
+        public boolean isPresent() {
+            return metadata != null;
+        }
+    }
+
+    private static final Entry MISSING = new Entry(null, null);
+
+    private final OrganizationMetadataRepository orgRepo;
+    private final AsyncCache<String, Entry> cache;
+
+    public OrganizationMetadataCache(OrganizationMetadataRepository orgRepo,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${app.org-cache.max-size:10000}") long maxSize,
+                                     @Value("${app.org-cache.ttl-ms:300000}") long ttlMs,
+                                     @Value("${app.org-cache.negative-ttl-ms:30000}") long negativeTtlMs) {
+        this.orgRepo = orgRepo;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(Expiry.creating((String name, Entry entry) -> entry.isPresent()
+                        ? Duration.ofMillis(ttlMs)
+                        : Duration.ofMillis(negativeTtlMs)))
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "org_metadata");
+    }
+
+    public Entry lookup(String organizationName) {
+        try {
+            return lookupAsync(organizationName,
+                    name -> CompletableFuture.completedFuture(orgRepo.findByOrganizationName(name))).join();
+        } catch (CompletionException ex) {
+            throw ex.getCause() instanceof RuntimeException cause ? cause : ex;
+        }
+    }
+
+    /**
+     * Same cache, with the miss loaded by the given non-blocking loader (used by the reactive stack).
+     * The loader is only called by the first caller for a name; the rest share its result.
+     */
+    public CompletableFuture<Entry> lookupAsync(String organizationName,
+                                                Function<String, CompletableFuture<Optional<OrganizationMetadata>>> loader) {
+        CompletableFuture<Entry> loading = new CompletableFuture<>();
+        CompletableFuture<Entry> entry = cache.get(organizationName, (name, executor) -> loading);
+        if (entry == loading) {
+            try {
+                loader.apply(organizationName).whenComplete((meta, ex) -> {
+                    // a failed future is dropped from the cache, so the next lookup retries
+                    if (ex != null) loading.completeExceptionally(ex);
+                    else loading.complete(meta.map(m -> new Entry(m, etagFor(m))).orElse(MISSING));
+                });
+            } catch (RuntimeException ex) {
+                loading.completeExceptionally(ex);
+            }
+        }
+        return entry;
+    }
+
+    public void invalidate(String... organizationNames) {
+        for (String name : organizationNames) {
+            if (name != null) cache.synchronous().invalidate(name);
+        }
+    }
+
+    public void invalidateAll() {
+        cache.synchronous().invalidateAll();
+    }
+
+    private static String etagFor(OrganizationMetadata meta) {
+        String state = meta.getId() + '\u0000' + meta.getOrganizationName() + '\u0000' + meta.getCollectionName()
+                + '\u0000' + meta.getAdminUserId() + '\u0000' + meta.getConnectionDetails() + '\u0000' + meta.getRateLimit();
+        return "\"" + DigestUtils.md5DigestAsHex(state.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
@@ -1,33 +1,62 @@
 package com.example.organizationservice.service;
 
+import com.example.organizationservice.dto.OrganizationPage;
 import com.example.organizationservice.model.AdminUser;
+import com.example.organizationservice.model.OrgDeletionJob;
+import com.example.organizationservice.model.OrgEvent;
 import com.example.organizationservice.model.OrganizationMetadata;
+import com.example.organizationservice.model.PooledTenantCollection;
 import com.example.organizationservice.repository.AdminUserRepository;
 import com.example.organizationservice.repository.OrganizationMetadataRepository;
+import com.example.organizationservice.security.AdminLookupCache;
+import com.example.organizationservice.security.PasswordHasher;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.index.Index;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
 
 /**
  * OrganizationService
  *
  * - Creates org metadata and admin in master collections.
- * - Dynamically creates tenant collection named org_<sanitized_name>.
+ * - Dynamically creates tenant collection named tenant_<org_id>. The name never changes, so renames are
+ *   metadata-only; every other operation resolves the collection through OrganizationMetadata.collectionName.
  * - Inserts a basic template document into the tenant collection so it is NOT empty.
  * - Inserts a lightweight admin profile document into the tenant collection (no password).
  * - Optionally creates an index on adminEmail inside tenant collection.
+ * - Takes the collection from TenantCollectionPool when one is ready, leaving only the admin profile insert.
+ * - Places the tenant collection on a cluster chosen by TenantClusterRouter and records it in connectionDetails;
+ *   master collections stay on the master database.
+ *
+ * Every write invalidates the local metadata/admin caches and publishes an OrgEvent so other nodes do the same.
+ * Each step of each operation is timed as org.service.phase{operation,phase}, so slow phases
+ * (BCrypt, collection creation, index builds) show up separately in /actuator/prometheus.
  *
- * Note: This service uses MongoTemplate for dynamic collection operations.
+ * Note: This service uses MongoTemplate for dynamic collection operations (the tenant cluster's template for tenant collections).
  */
 @Service
 public class OrganizationService {
 
+    private static final Logger log = LoggerFactory.getLogger(OrganizationService.class);
+    static final String PHASE_TIMER = "org.service.phase";
+
     @Autowired
     private OrganizationMetadataRepository orgRepo;
 
@@ -38,25 +67,104 @@ public class OrganizationService {
     private MongoTemplate mongoTemplate;
 
     @Autowired
-    private BCryptPasswordEncoder passwordEncoder;
+    private PasswordHasher passwordHasher;
+
+    @Autowired
+    private OrganizationMetadataCache orgCache;
+
+    @Autowired
+    private OrgEventPublisher orgEvents;
+
+    @Autowired
+    private AdminLookupCache adminLookup;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private TenantCollectionPool tenantPool;
+
+    @Autowired
+    private TenantClusterRouter clusterRouter;
+
+    @Autowired
+    private OrgDeletionWorker deletionWorker;
+
+    @Autowired
+    private AdminSessionService sessions;
+
+    @Value("${app.org-list.max-limit:1000}")
+    private int listMaxLimit;
+
+    @Value("${app.org-list.stream-batch-size:1000}")
+    private int listStreamBatchSize;
 
-    private String sanitizeName(String name) {
+    private <T> T phase(String operation, String phase, Supplier<T> step) {
+        return meterRegistry.timer(PHASE_TIMER, "operation", operation, "phase", phase).record(step);
+    }
+
+    private void phase(String operation, String phase, Runnable step) {
+        meterRegistry.timer(PHASE_TIMER, "operation", operation, "phase", phase).record(step);
+    }
+
+    static String sanitizeName(String name) {
         if (name == null) return null;
         return name.trim().toLowerCase().replaceAll("[^a-z0-9_\\-]", "_");
     }
 
-    private String collectionNameForOrg(String organizationName) {
+    /** Stable physical collection for an org; keyed by id so it survives renames. */
+    static String tenantCollectionName(String orgId) {
+        return "tenant_" + orgId;
+    }
+
+    /** Name-derived collection used before tenant_<org_id>; only needed to migrate old orgs. */
+    static String legacyCollectionName(String organizationName) {
         return "org_" + sanitizeName(organizationName);
     }
 
+    /** Template document describing the tenant 'Employee' schema (so a new collection is not empty). */
+    static Map<String, Object> templateDocument() {
+        Map<String, Object> basicSchema = new HashMap<>();
+        basicSchema.put("template", true);
+
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put("name", "string");
+        fields.put("email", "string");
+        fields.put("position", "string");
+        fields.put("salary", "number");
+        fields.put("createdAt", "date");
+        fields.put("updatedAt", "date");
+
+        basicSchema.put("fields", fields);
+        basicSchema.put("createdAt", new Date());
+        basicSchema.put("description", "This is a template document describing the tenant 'Employee' schema. Remove if needed.");
+        return basicSchema;
+    }
+
+    /** Lightweight admin profile stored in the tenant collection (no password). */
+    static Map<String, Object> adminProfileDocument(AdminUser admin, String orgName) {
+        Map<String, Object> adminProfile = new HashMap<>();
+        adminProfile.put("type", "admin_profile");
+        adminProfile.put("adminId", admin.getId());
+        adminProfile.put("adminEmail", admin.getEmail());
+        adminProfile.put("organizationName", orgName);
+        adminProfile.put("createdAt", new Date());
+        return adminProfile;
+    }
+
     /**
      * Create a new organization:
      * - validate inputs
      * - create admin in master_admins (password hashed)
-     * - create tenant collection org_<name>
+     * - place the organization on a tenant cluster
+     * - claim a pre-provisioned tenant collection there, or create tenant collection tenant_<org_id>
      * - insert a basic template doc into the tenant collection
      * - insert an admin_profile doc into the tenant collection (no password)
      * - save metadata to master_organizations
+     *
+     * The lookups up front only spare BCrypt for an obvious duplicate; the unique indexes on master_admins.email and
+     * master_organizations.organizationName decide races. A create that fails after its admin was saved (lost race,
+     * Mongo error) is compensated: its admin is deleted and its tenant collection dropped, so nothing is left half-made.
      */
     public OrganizationMetadata createOrganization(String orgName, String email, String password) {
         if (orgName == null || orgName.isBlank()) throw new IllegalArgumentException("organization_name required");
@@ -64,145 +172,237 @@ public class OrganizationService {
         if (password == null || password.isBlank()) throw new IllegalArgumentException("admin password required");
 
         // avoid duplicate admin email across master admin collection
-        if (adminRepo.findByEmail(email).isPresent()) {
+        if (phase("create", "adminLookup", () -> adminRepo.findByEmail(email)).isPresent()) {
             throw new DuplicateKeyException("admin email already used");
         }
         // avoid duplicate organization name
-        if (orgRepo.existsByOrganizationName(orgName)) {
+        if (phase("create", "existsCheck", () -> orgRepo.existsByOrganizationName(orgName))) {
             throw new DuplicateKeyException("organization already exists");
         }
 
         // create admin user (hash password)
         AdminUser admin = new AdminUser();
         admin.setEmail(email);
-        admin.setPasswordHash(passwordEncoder.encode(password));
+        admin.setPasswordHash(phase("create", "hashPassword", () -> passwordHasher.encodeAndWait(password)));
         admin.setOrganizationName(orgName);
         // if AdminUser has role field, you can set it here, e.g. admin.setRole("ADMIN");
-        AdminUser savedAdmin = adminRepo.save(admin);
+        AdminUser savedAdmin = phase("create", "adminSave", () -> unique(() -> adminRepo.save(admin), "admin email already used"));
+
+        String cluster = clusterRouter.place(orgName);
+        MongoTemplate tenantDb = clusterRouter.template(cluster);
+        String orgId = null;
+        String collName = null;
+        try {
+            // a pooled collection is already created, indexed and seeded: only the admin profile is left to write
+            PooledTenantCollection pooled = phase("create", "claimPooled", () -> tenantPool.claim(cluster)).orElse(null);
+
+            // otherwise create collection dynamically; the id is assigned up front so the collection can be keyed by it
+            orgId = pooled != null ? pooled.getId() : new ObjectId().toHexString();
+            collName = pooled != null ? pooled.getCollectionName() : tenantCollectionName(orgId);
+            OrganizationMetadata saved = createTenant(tenantDb, pooled, orgId, collName, savedAdmin, orgName, cluster);
+            orgCache.invalidate(orgName); // drop a cached 404
+            orgEvents.publish(OrgEvent.Type.CREATED, savedAdmin.getId(), orgName);
+            return saved;
+        } catch (RuntimeException ex) {
+            compensateCreate(savedAdmin, tenantDb, orgId, collName);
+            throw ex;
+        }
+    }
 
-        // create collection dynamically
-        String collName = collectionNameForOrg(orgName);
-        if (!mongoTemplate.collectionExists(collName)) {
-            mongoTemplate.createCollection(collName);
+    private OrganizationMetadata createTenant(MongoTemplate tenantDb, PooledTenantCollection pooled, String orgId, String collName,
+                                              AdminUser savedAdmin, String orgName, String cluster) {
+        if (pooled != null) {
+            phase("create", "insertAdminProfile", () -> tenantDb.insert(adminProfileDocument(savedAdmin, orgName), collName));
+        } else if (!phase("create", "collectionExists", () -> tenantDb.collectionExists(collName))) {
+            phase("create", "createCollection", () -> tenantDb.createCollection(collName));
 
             // --- Insert basic template document (so collection is not empty) ---
-            Map<String, Object> basicSchema = new HashMap<>();
-            basicSchema.put("template", true);
-
-            Map<String, String> fields = new LinkedHashMap<>();
-            fields.put("name", "string");
-            fields.put("email", "string");
-            fields.put("position", "string");
-            fields.put("salary", "number");
-            fields.put("createdAt", "date");
-            fields.put("updatedAt", "date");
-
-            basicSchema.put("fields", fields);
-            basicSchema.put("createdAt", new Date());
-            basicSchema.put("description", "This is a template document describing the tenant 'Employee' schema. Remove if needed.");
-
-            mongoTemplate.insert(basicSchema, collName);
+            phase("create", "insertTemplate", () -> tenantDb.insert(templateDocument(), collName));
 
             // --- Insert a lightweight admin profile document into tenant collection ---
-            Map<String, Object> adminProfile = new HashMap<>();
-            adminProfile.put("type", "admin_profile");
-            adminProfile.put("adminId", savedAdmin.getId());
-            adminProfile.put("adminEmail", savedAdmin.getEmail());
-            adminProfile.put("organizationName", orgName);
-            adminProfile.put("createdAt", new Date());
-
-            mongoTemplate.insert(adminProfile, collName);
+            phase("create", "insertAdminProfile", () -> tenantDb.insert(adminProfileDocument(savedAdmin, orgName), collName));
 
             // --- Create a helpful index on adminEmail inside tenant collection (optional) ---
             try {
-                mongoTemplate.indexOps(collName)
-                        .ensureIndex(new Index().on("adminEmail", Sort.Direction.ASC));
+                phase("create", "ensureIndex", () -> tenantDb.indexOps(collName)
+                        .createIndex(new Index().on("adminEmail", Sort.Direction.ASC)));
             } catch (Exception ex) {
-                // index creation failure should not block org creation; log if you have logger, otherwise ignore
-                // e.g., logger.warn("Could not create index on {}: {}", collName, ex.getMessage());
+                // index creation failure should not block org creation
+                log.warn("Could not create index on {}: {}", collName, ex.getMessage());
+                meterRegistry.counter("org.service.index.failures").increment();
             }
         }
 
         // create metadata in master DB
         OrganizationMetadata meta = new OrganizationMetadata();
+        meta.setId(orgId);
         meta.setOrganizationName(orgName);
         meta.setCollectionName(collName);
         meta.setAdminUserId(savedAdmin.getId());
-        meta.setConnectionDetails("single_mongo_instance"); // placeholder
-        return orgRepo.save(meta);
+        meta.setConnectionDetails(cluster);
+        return phase("create", "metadataSave", () -> unique(() -> orgRepo.save(meta), "organization already exists"));
+    }
+
+    /** Runs a write guarded by a unique index, reporting a violation as a DuplicateKeyException with the given message. */
+    static <T> T unique(Supplier<T> write, String message) {
+        try {
+            return write.get();
+        } catch (DuplicateKeyException ex) {
+            throw new DuplicateKeyException(message, ex);
+        }
+    }
+
+    /**
+     * Undoes a create that failed after its admin was saved. Deletes by this call's admin id and drops only the
+     * collection it claimed or created (named after a fresh id), never anything a concurrent create wrote.
+     * Metadata that did get saved (a write applied but reported failed, e.g. a timeout) means the create went
+     * through, so it is left alone.
+     */
+    private void compensateCreate(AdminUser admin, MongoTemplate tenantDb, String orgId, String collName) {
+        phase("create", "compensate", () -> {
+            try {
+                if (orgId != null && orgRepo.existsById(orgId)) return;
+                adminRepo.deleteById(admin.getId());
+            } catch (Exception ex) {
+                log.error("Could not remove admin {} of a failed create: {}", admin.getId(), ex.getMessage());
+                return;
+            }
+            if (collName == null) return;
+            try {
+                tenantDb.dropCollection(collName);
+            } catch (Exception ex) {
+                log.error("Could not drop tenant collection {} of a failed create: {}", collName, ex.getMessage());
+            }
+        });
     }
 
     public Optional<OrganizationMetadata> getByName(String orgName) {
-        return orgRepo.findByOrganizationName(orgName);
+        return Optional.ofNullable(phase("get", "lookup", () -> orgCache.lookup(orgName)).metadata());
+    }
+
+    /** Cached lookup including the ETag for conditional GETs. */
+    public OrganizationMetadataCache.Entry getCachedByName(String orgName) {
+        return phase("get", "lookup", () -> orgCache.lookup(orgName));
     }
 
+    /** Fields GET /org/list can project; organizationName is always returned (it is the page cursor). */
+    static final List<String> LIST_FIELDS = List.of("id", "organizationName", "collectionName", "adminUserId", "connectionDetails");
+
     /**
-     * Update organization name: create new tenant collection (if needed),
-     * copy documents from old collection to new collection, update admin references and metadata.
+     * Keyset query over master_organizations, served by the unique organizationName index:
+     * - prefix: range [prefix, prefix + U+FFFF) on organizationName, so the index bounds stay tight
+     * - after: organizationName > after (the previous page's last name); no skip, so every page costs the same
+     * - fields: server-side projection (null/empty = all LIST_FIELDS)
+     */
+    static Query listQuery(String prefix, String after, List<String> fields) {
+        Criteria name = where("organizationName");
+        boolean bounded = false;
+        if (prefix != null && !prefix.isEmpty()) {
+            name = name.gte(prefix).lt(prefix + Character.MAX_VALUE);
+            bounded = true;
+        }
+        if (after != null && !after.isEmpty()) {
+            name = name.gt(after);
+            bounded = true;
+        }
+        Query query = bounded ? query(name) : new Query();
+        query.with(Sort.by(Sort.Direction.ASC, "organizationName"));
+
+        List<String> projected = fields == null || fields.isEmpty() ? LIST_FIELDS : fields;
+        for (String field : projected) {
+            if (!LIST_FIELDS.contains(field)) throw new IllegalArgumentException("unknown field: " + field);
+        }
+        query.fields().include("organizationName");
+        projected.stream().filter(field -> !field.equals("id")).forEach(query.fields()::include);
+        if (!projected.contains("id")) query.fields().exclude("_id");
+        return query;
+    }
+
+    /** Raw master_organizations document to a list item: _id as hex "id", type hint dropped. */
+    static Map<String, Object> listItem(Document document) {
+        Map<String, Object> item = new LinkedHashMap<>();
+        document.forEach((key, value) -> {
+            if (key.equals("_id")) item.put("id", value instanceof ObjectId oid ? oid.toHexString() : value);
+            else if (!key.equals("_class")) item.put(key, value);
+        });
+        return item;
+    }
+
+    static void checkListLimit(int limit, int maxLimit) {
+        if (limit < 1 || limit > maxLimit) throw new IllegalArgumentException("limit must be between 1 and " + maxLimit);
+    }
+
+    /** One page in organizationName order; reads limit + 1 documents to know whether another page exists. */
+    public OrganizationPage listOrganizations(String prefix, String after, int limit, List<String> fields) {
+        checkListLimit(limit, listMaxLimit);
+        Query query = listQuery(prefix, after, fields).limit(limit + 1);
+        List<Map<String, Object>> items = phase("list", "find", () -> mongoTemplate.find(query, Document.class,
+                mongoTemplate.getCollectionName(OrganizationMetadata.class))).stream().map(OrganizationService::listItem).toList();
+        if (items.size() <= limit) return new OrganizationPage(items, null);
+        List<Map<String, Object>> page = items.subList(0, limit);
+        return new OrganizationPage(page, (String) page.get(limit - 1).get("organizationName"));
+    }
+
+    /**
+     * Every matching organization straight off a Mongo cursor (app.org-list.stream-batch-size per round trip),
+     * so memory stays flat however many there are. The caller must close the stream.
+     */
+    public Stream<Map<String, Object>> streamOrganizations(String prefix, String after, List<String> fields) {
+        Query query = listQuery(prefix, after, fields).cursorBatchSize(listStreamBatchSize);
+        return mongoTemplate.stream(query, Document.class, mongoTemplate.getCollectionName(OrganizationMetadata.class))
+                .map(OrganizationService::listItem);
+    }
+
+    /**
+     * Update organization name: metadata-only. The tenant collection keeps its physical name
+     * (OrganizationMetadata.collectionName), so only admin references and metadata are updated.
+     * The metadata is saved first, so the unique organizationName index settles a race with another rename or
+     * create before any admin is touched; if the admins cannot be renamed, the metadata and admins are put back.
      */
     public OrganizationMetadata updateOrganizationName(String currentName, String newName) {
         if (currentName == null || newName == null || newName.isBlank())
             throw new IllegalArgumentException("names required");
 
-        if (!orgRepo.existsByOrganizationName(currentName)) {
-            throw new IllegalArgumentException("organization does not exist: " + currentName);
-        }
-        if (orgRepo.existsByOrganizationName(newName)) {
+        OrganizationMetadata meta = phase("rename", "findMetadata", () -> orgRepo.findByOrganizationName(currentName))
+                .orElseThrow(() -> new IllegalArgumentException("organization does not exist: " + currentName));
+        if (phase("rename", "existsCheck", () -> orgRepo.existsByOrganizationName(newName))) {
             throw new IllegalArgumentException("target organization name already exists: " + newName);
         }
 
-        // copy collection data to new collection
-        String oldColl = collectionNameForOrg(currentName);
-        String newColl = collectionNameForOrg(newName);
-
-        if (!mongoTemplate.collectionExists(newColl)) {
-            mongoTemplate.createCollection(newColl);
+        // update metadata (collectionName is left untouched); the unique index rejects a name taken meanwhile
+        meta.setOrganizationName(newName);
+        OrganizationMetadata saved;
+        try {
+            saved = phase("rename", "metadataSave", () -> orgRepo.save(meta));
+        } catch (DuplicateKeyException ex) {
+            throw new IllegalArgumentException("target organization name already exists: " + newName);
         }
 
-        // copy all documents from oldColl to newColl
-        List<?> docs = mongoTemplate.findAll(Object.class, oldColl);
-        if (!docs.isEmpty()) {
-            mongoTemplate.insert(docs, newColl);
-        } else {
-            // If old collection was empty, still insert a template into new collection so it's not empty
-            Map<String, Object> basicSchema = new HashMap<>();
-            basicSchema.put("template", true);
-            Map<String, String> fields = new LinkedHashMap<>();
-            fields.put("name", "string");
-            fields.put("email", "string");
-            fields.put("position", "string");
-            fields.put("salary", "number");
-            fields.put("createdAt", "date");
-            fields.put("updatedAt", "date");
-            basicSchema.put("fields", fields);
-            basicSchema.put("createdAt", new Date());
-            basicSchema.put("description", "Template added during rename from " + currentName + " to " + newName);
-            mongoTemplate.insert(basicSchema, newColl);
+        // update admin users that reference old org name (single updateMulti)
+        try {
+            phase("rename", "renameAdmins", () -> adminRepo.updateOrganizationName(currentName, newName));
+        } catch (RuntimeException ex) {
+            // updateMulti is not atomic: move back the admins it reached, then the name
+            try {
+                adminRepo.updateOrganizationName(newName, currentName);
+                meta.setOrganizationName(currentName);
+                orgRepo.save(meta);
+            } catch (RuntimeException undo) {
+                ex.addSuppressed(undo);
+                log.error("Rename of {} to {} failed half-way and could not be undone", currentName, newName, undo);
+            }
+            orgCache.invalidate(currentName, newName);
+            throw ex;
         }
-
-        // update admin users that reference old org name
-        List<AdminUser> admins = adminRepo.findAll();
-        admins.stream()
-                .filter(a -> currentName.equals(a.getOrganizationName()))
-                .forEach(a -> {
-                    a.setOrganizationName(newName);
-                    adminRepo.save(a);
-                });
-
-        // update metadata
-        OrganizationMetadata meta = orgRepo.findByOrganizationName(currentName)
-                .orElseThrow(() -> new IllegalStateException("metadata not found"));
-        meta.setOrganizationName(newName);
-        meta.setCollectionName(newColl);
-        OrganizationMetadata saved = orgRepo.save(meta);
-
-        // optionally drop old collection (we keep old for safety; but you can drop)
-        // mongoTemplate.dropCollection(oldColl);
+        orgCache.invalidate(currentName, newName);
+        adminLookup.invalidateOrganizations(currentName);
+        orgEvents.publish(OrgEvent.Type.RENAMED, meta.getAdminUserId(), currentName, newName);
         return saved;
     }
 
     /**
      * Update organization details: update admin email and password for the organization.
+     * Every session of the admin is revoked, so tokens issued with the old credentials stop working.
      */
     public OrganizationMetadata updateOrganization(String orgName, String newEmail, String newPassword) {
         if (orgName == null || orgName.isBlank()) {
@@ -215,42 +415,67 @@ public class OrganizationService {
             throw new IllegalArgumentException("password required");
         }
 
-        OrganizationMetadata meta = orgRepo.findByOrganizationName(orgName)
+        OrganizationMetadata meta = phase("update", "findMetadata", () -> orgRepo.findByOrganizationName(orgName))
                 .orElseThrow(() -> new IllegalArgumentException("organization not found: " + orgName));
 
         // Find and update the admin user
-        AdminUser admin = adminRepo.findByOrganizationName(orgName)
+        AdminUser admin = phase("update", "findAdmin", () -> adminRepo.findByOrganizationName(orgName))
                 .orElseThrow(() -> new IllegalArgumentException("admin not found for organization: " + orgName));
 
         admin.setEmail(newEmail);
-        admin.setPasswordHash(passwordEncoder.encode(newPassword));
-        adminRepo.save(admin);
+        admin.setPasswordHash(phase("update", "hashPassword", () -> passwordHasher.encodeAndWait(newPassword)));
+        phase("update", "adminSave", () -> adminRepo.save(admin));
+        phase("update", "revokeSessions", () -> sessions.revokeAdmin(admin.getId()));
+        orgCache.invalidate(orgName);
+        adminLookup.invalidate(admin.getId());
+        orgEvents.publish(OrgEvent.Type.UPDATED, admin.getId(), orgName);
 
         return meta;
     }
 
     /**
-     * Delete an organization:
-     * - drop tenant collection
-     * - delete admin(s) for that org from master_admins
-     * - delete the organization metadata
+     * Delete an organization. Only the tombstone is done here, so the request costs the same for any tenant size:
+     * - record an OrgDeletionJob (master_org_deletions) holding everything the cleanup needs
+     * - detach the admins (parked under a per-job organization name) and delete the metadata: the organization is
+     *   gone for every lookup from here on, and its name is free again
+     * - OrgDeletionWorker drops the tenant collection and deletes the admins in the background, retrying on failure
+     * Returns the job; GET /org/delete/status reports its progress.
+     * The admin's sessions are revoked first, so its tokens are refused (401) everywhere, not just unmatched (403).
+     * Refused with TenantMovingException while TenantMoveWorker moves the tenant collection (movingTo), including a
+     * move frozen during the request, so the job never drops a collection the move is about to switch to.
      */
-    public void deleteOrganization(String orgName) {
-        OrganizationMetadata meta = orgRepo.findByOrganizationName(orgName)
+    public OrgDeletionJob deleteOrganization(String orgName) {
+        OrganizationMetadata meta = phase("delete", "findMetadata", () -> orgRepo.findByOrganizationName(orgName))
                 .orElseThrow(() -> new IllegalArgumentException("organization not found"));
+        // the job drops the collection where it is now: not while a move is copying it elsewhere
+        if (meta.getMovingTo() != null) throw new TenantMovingException();
 
-        // drop collection
-        if (mongoTemplate.collectionExists(meta.getCollectionName())) {
-            mongoTemplate.dropCollection(meta.getCollectionName());
+        if (meta.getAdminUserId() != null) {
+            phase("delete", "revokeSessions", () -> sessions.revokeAdmin(meta.getAdminUserId()));
         }
 
-        // delete admin users that belong to this org
-        List<AdminUser> admins = adminRepo.findAll();
-        admins.stream()
-                .filter(a -> orgName.equals(a.getOrganizationName()))
-                .forEach(a -> adminRepo.deleteById(a.getId()));
+        OrgDeletionJob job = phase("delete", "recordJob", () -> mongoTemplate.insert(deletionWorker.newJob(meta)));
+        // admins before metadata: once the metadata is gone the name can be reused, and a by-name update could hit the new org's admins
+        phase("delete", "detachAdmins", () -> adminRepo.updateOrganizationName(orgName, OrgDeletionWorker.detachedOrganization(job.getId())));
+        if (phase("delete", "deleteMetadata", () -> mongoTemplate.remove(OrgDeletionWorker.metadataOf(job), OrganizationMetadata.class)).getDeletedCount() == 0) {
+            // a move froze the organization since it was read: undo the tombstone, the client retries after the move
+            adminRepo.updateOrganizationName(OrgDeletionWorker.detachedOrganization(job.getId()), orgName);
+            mongoTemplate.remove(OrgDeletionWorker.byId(job.getId()), OrgDeletionJob.class);
+            if (!orgRepo.existsById(meta.getId())) throw new IllegalArgumentException("organization not found");
+            throw new TenantMovingException();
+        }
+        phase("delete", "tombstoneDone", () -> mongoTemplate.updateFirst(OrgDeletionWorker.byId(job.getId()),
+                OrgDeletionWorker.tombstoneDone(), OrgDeletionJob.class));
+        job.setTombstoned(true);
+
+        orgCache.invalidate(orgName);
+        adminLookup.invalidateOrganizations(orgName);
+        orgEvents.publish(OrgEvent.Type.DELETED, meta.getAdminUserId(), orgName);
+        deletionWorker.wakeUp();
+        return job;
+    }
 
-        // delete metadata
-        orgRepo.deleteById(meta.getId());
+    public Optional<OrgDeletionJob> getDeletionJob(String jobId) {
+        return deletionWorker.find(jobId);
     }
 }
@@ -0,0 +1,76 @@
+package com.example.organizationservice.service;
+
+import com.example.organizationservice.model.AdminUser;
+import com.example.organizationservice.repository.ReactiveAdminUserRepository;
+import com.example.organizationservice.security.AuthMetrics;
+import com.example.organizationservice.security.PasswordHasher;
+import com.example.organizationservice.security.PasswordHashingBusyException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * Non-blocking counterpart of AdminAuthService for the reactive profile: same BCrypt pool, same
+ * background re-hash when the stored cost differs from app.password.bcrypt-strength.
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveAdminAuthService {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactiveAdminAuthService.class);
+
+    @Autowired
+    private ReactiveAdminUserRepository adminRepo;
+
+    @Autowired
+    private PasswordHasher passwordHasher;
+
+    @Autowired
+    private ReactiveMongoTemplate mongoTemplate;
+
+    @Autowired
+    private AuthMetrics authMetrics;
+
+    /**
+     * Emits the admin if the credentials match, completes empty otherwise.
+     * Errors with PasswordHashingBusyException if the hashing pool is saturated.
+     */
+    public Mono<AdminUser> authenticate(String email, String password) {
+        if (email == null || password == null) {
+            return Mono.empty();
+        }
+        return adminRepo.findByEmail(email)
+                .switchIfEmpty(Mono.fromRunnable(authMetrics::unknownAdmin))
+                .filterWhen(admin -> Mono.defer(() -> Mono.fromFuture(passwordHasher.matches(password, admin.getPasswordHash())))
+                        .doOnNext(ok -> {
+                            if (!ok) authMetrics.badPassword();
+                        })
+                        .doOnError(PasswordHashingBusyException.class, busy -> authMetrics.busy()))
+                .doOnNext(admin -> {
+                    if (passwordHasher.needsRehash(admin.getPasswordHash())) {
+                        rehash(admin, password);
+                    }
+                });
+    }
+
+    private void rehash(AdminUser admin, String password) {
+        try {
+            Mono.fromFuture(passwordHasher.encode(password))
+                    .flatMap(newHash -> mongoTemplate.updateFirst(
+                            // conditional: a password change in between wins
+                            query(where("_id").is(admin.getId()).and("passwordHash").is(admin.getPasswordHash())),
+                            Update.update("passwordHash", newHash), AdminUser.class))
+                    .subscribe(null, ex -> log.warn("Could not rehash password for admin {}: {}", admin.getId(), ex.getMessage()));
+        } catch (PasswordHashingBusyException busy) {
+            // pool saturated; the next successful login tries again
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.organizationservice.service;
+
+import com.example.organizationservice.dto.LoginResponse;
+import com.example.organizationservice.model.AdminSession;
+import com.example.organizationservice.model.AdminUser;
+import com.example.organizationservice.model.RevokedSession;
+import com.example.organizationservice.repository.ReactiveAdminUserRepository;
+import com.example.organizationservice.security.AdminLookupCache;
+import com.example.organizationservice.security.AuthMetrics;
+import com.example.organizationservice.security.JwtUtil;
+import com.example.organizationservice.security.TokenRevocationList;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.ReactiveBulkOperations;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * Reactive twin of AdminSessionService: same sessions, rotation, reuse detection and revocation entries,
+ * written with the reactive driver. Shares TokenRevocationList and AdminLookupCache with the servlet stack.
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveAdminSessionService {
+
+    @Autowired
+    private ReactiveMongoTemplate mongoTemplate;
+
+    @Autowired
+    private ReactiveAdminUserRepository adminRepo;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private TokenRevocationList revocations;
+
+    @Autowired
+    private AdminLookupCache adminLookup;
+
+    @Autowired
+    private AuthMetrics authMetrics;
+
+    @Value("${app.jwt.refresh-expiration-ms:604800000}")
+    private long refreshExpirationMs;
+
+    /** See AdminSessionService.open. */
+    public Mono<LoginResponse> open(AdminUser admin) {
+        return Mono.defer(() -> {
+            String refreshToken = AdminSessionService.newRefreshToken(AdminSessionService.newSessionId());
+            return mongoTemplate.insert(AdminSessionService.newSession(admin.getId(), refreshToken, refreshExpirationMs))
+                    .map(session -> AdminSessionService.tokens(jwtUtil, admin.getId(), admin.getOrganizationName(),
+                            session.getId(), refreshToken));
+        });
+    }
+
+    /** See AdminSessionService.refresh; completes empty where that answers empty. */
+    public Mono<LoginResponse> refresh(String refreshToken) {
+        String sessionId = AdminSessionService.sessionIdOf(refreshToken);
+        Mono<AdminSession> found = sessionId == null ? Mono.empty() : mongoTemplate.findById(sessionId, AdminSession.class);
+        return found
+                .filter(session -> !session.getExpiresAt().before(new Date()))
+                .switchIfEmpty(Mono.fromRunnable(authMetrics::invalidRefresh))
+                .flatMap(session -> {
+                    if (!AdminSessionService.hash(refreshToken).equals(session.getRefreshTokenHash())) {
+                        authMetrics.reusedRefresh();
+                        return revoke(List.of(sessionId), session.getAdminId()).then(Mono.empty());
+                    }
+                    return Mono.fromFuture(() -> adminLookup.organizationOfAsync(session.getAdminId(), id -> adminRepo.findById(id)
+                                    .map(AdminUser::getOrganizationName)
+                                    .map(Optional::of)
+                                    .defaultIfEmpty(Optional.empty())
+                                    .toFuture()))
+                            .switchIfEmpty(Mono.defer(() -> {
+                                authMetrics.invalidRefresh();
+                                return revoke(List.of(sessionId), session.getAdminId()).then(Mono.empty());
+                            }))
+                            .flatMap(organization -> {
+                                String next = AdminSessionService.newRefreshToken(sessionId);
+                                return mongoTemplate.findAndModify(AdminSessionService.rotateQuery(session),
+                                                AdminSessionService.rotate(next, refreshExpirationMs), AdminSession.class)
+                                        .map(rotated -> AdminSessionService.tokens(jwtUtil, session.getAdminId(), organization, sessionId, next))
+                                        // a concurrent refresh with the same token got there first
+                                        .switchIfEmpty(Mono.fromRunnable(authMetrics::invalidRefresh));
+                            });
+                });
+    }
+
+    /** See AdminSessionService.revokeSession. */
+    public Mono<Void> revokeSession(String sessionId, String adminId) {
+        return revoke(List.of(sessionId), adminId);
+    }
+
+    /** See AdminSessionService.revokeAdmin. */
+    public Mono<Integer> revokeAdmin(String adminId) {
+        Query byAdmin = query(where("adminId").is(adminId));
+        byAdmin.fields().include("_id");
+        return mongoTemplate.find(byAdmin, AdminSession.class)
+                .map(AdminSession::getId)
+                .collectList()
+                .flatMap(sessionIds -> revoke(sessionIds, adminId).thenReturn(sessionIds.size()));
+    }
+
+    private Mono<Void> revoke(List<String> sessionIds, String adminId) {
+        if (sessionIds.isEmpty()) return Mono.empty();
+        return Mono.defer(() -> {
+            ReactiveBulkOperations entries = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, RevokedSession.class);
+            for (String sessionId : sessionIds) {
+                entries.upsert(query(where("_id").is(sessionId)), AdminSessionService.revokedEntry(adminId, jwtUtil.getExpirationMs()));
+            }
+            return entries.execute();
+        })
+                .then(mongoTemplate.remove(query(where("_id").in(sessionIds)), AdminSession.class))
+                .then(Mono.fromRunnable(() -> revocations.revoked(sessionIds)));
+    }
+}
@@ -0,0 +1,160 @@
+package com.example.organizationservice.service;
+
+import com.example.organizationservice.dto.EmployeeBulkResult;
+import com.example.organizationservice.dto.EmployeePage;
+import com.example.organizationservice.model.Employee;
+import com.example.organizationservice.model.OrganizationMetadata;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.MongoException;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.FindOneAndUpdateOptions;
+import com.mongodb.client.model.ReturnDocument;
+import com.mongodb.reactivestreams.client.MongoCollection;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.bson.conversions.Bson;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Reactive twin of EmployeeService on the reactive driver, with the same codec, indexes, filters and batches;
+ * writes are reported to TenantUsageRecorder the same way and fenced by TenantWriteFence before each write and batch.
+ * Bulk upsert batches are written one after the other, so a large request never has more than one in flight.
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveEmployeeService {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactiveEmployeeService.class);
+
+    private static final BulkWriteOptions UNORDERED = new BulkWriteOptions().ordered(false);
+    private static final FindOneAndUpdateOptions RETURN_UPDATED = new FindOneAndUpdateOptions().returnDocument(ReturnDocument.AFTER);
+
+    @Autowired
+    private TenantClusterRouter clusterRouter;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private TenantUsageRecorder usage;
+
+    @Value("${app.employees.max-limit:1000}")
+    private int maxLimit;
+
+    @Value("${app.employees.bulk-max-items:10000}")
+    private int bulkMaxItems;
+
+    @Value("${app.employees.write-batch-size:1000}")
+    private int writeBatchSize;
+
+    @Autowired
+    private EmployeeIndexTracker indexes;
+
+    @Autowired
+    private ReactiveMongoTemplate mongoTemplate;
+
+    @Autowired
+    private TenantWriteFence writeFence;
+
+    /** TenantWriteFence.check on the reactive driver: completes empty while the tenant may be written. */
+    private Mono<Void> writable(OrganizationMetadata tenant) {
+        if (tenant.getMovingTo() != null) return Mono.error(() -> writeFence.refused(tenant));
+        return mongoTemplate.exists(TenantWriteFence.writable(tenant), OrganizationMetadata.class)
+                .flatMap(writable -> writable ? Mono.<Void>empty() : Mono.error(writeFence.refused(tenant)));
+    }
+
+    private Mono<MongoCollection<Employee>> collection(OrganizationMetadata tenant) {
+        Mono<MongoCollection<Employee>> collection = clusterRouter.reactiveTemplate(TenantClusterRouter.clusterOf(tenant))
+                .getCollection(tenant.getCollectionName())
+                .map(coll -> coll.withCodecRegistry(EmployeeService.CODECS).withDocumentClass(Employee.class));
+        String key = EmployeeService.indexKey(tenant);
+        if (!indexes.claim(key)) return collection;
+        return collection.flatMap(coll -> Flux.from(coll.createIndexes(EmployeeService.INDEXES))
+                .then(Mono.fromRunnable(() -> indexes.indexed(key)))
+                // see EmployeeService: tried again after a backoff
+                .doOnError(ex -> {
+                    log.warn("Could not create employee indexes on {}: {}", tenant.getCollectionName(), ex.getMessage());
+                    meterRegistry.counter("org.service.index.failures").increment();
+                })
+                .onErrorResume(ex -> Mono.empty())
+                .thenReturn(coll));
+    }
+
+    public Mono<Employee> create(OrganizationMetadata tenant, Employee request) {
+        return Mono.defer(() -> {
+            Employee employee = EmployeeService.newEmployee(request);
+            return writable(tenant).then(collection(tenant)).flatMap(coll -> Mono.from(coll.insertOne(employee)))
+                    .then(Mono.fromCallable(() -> {
+                        usage.written(tenant, 1, EmployeeService.encodedSize(employee), 1);
+                        return employee;
+                    }));
+        }).onErrorMap(MongoException.class, EmployeeService::translate);
+    }
+
+    public Mono<Employee> get(OrganizationMetadata tenant, String id, List<String> fields) {
+        return Mono.defer(() -> {
+            Bson filter = EmployeeService.byId(id);
+            Bson projection = EmployeeService.projection(fields);
+            return collection(tenant).flatMap(coll -> Mono.from(coll.find(filter).projection(projection).first()));
+        });
+    }
+
+    public Mono<EmployeePage> list(OrganizationMetadata tenant, String position, String after, int limit, List<String> fields) {
+        return Mono.defer(() -> {
+            EmployeeService.checkLimit(limit, maxLimit);
+            Bson filter = EmployeeService.listFilter(position, after);
+            Bson projection = EmployeeService.projection(fields);
+            return collection(tenant).flatMap(coll -> Flux.from(coll.find(filter).projection(projection)
+                    .sort(EmployeeService.listSort()).limit(limit + 1)).collectList());
+        }).map(found -> EmployeeService.page(found, limit));
+    }
+
+    public Mono<Employee> update(OrganizationMetadata tenant, String id, Employee request) {
+        return Mono.defer(() -> {
+            Bson filter = EmployeeService.byId(id);
+            Bson update = EmployeeService.changes(request);
+            return writable(tenant).then(collection(tenant)).flatMap(coll -> Mono.from(coll.findOneAndUpdate(filter, update, RETURN_UPDATED)));
+        }).onErrorMap(MongoException.class, EmployeeService::translate)
+                .doOnNext(updated -> usage.written(tenant, 0, 0, 1));
+    }
+
+    public Mono<Boolean> delete(OrganizationMetadata tenant, String id) {
+        return Mono.defer(() -> {
+            Bson filter = EmployeeService.byId(id);
+            return writable(tenant).then(collection(tenant)).flatMap(coll -> Mono.from(coll.findOneAndDelete(filter)));
+        })
+                .doOnNext(deleted -> usage.written(tenant, -1, -EmployeeService.encodedSize(deleted), 1))
+                .hasElement();
+    }
+
+    public Mono<EmployeeBulkResult> bulkUpsert(OrganizationMetadata tenant, List<Employee> items) {
+        return Mono.defer(() -> {
+            EmployeeService.checkBulk(items, bulkMaxItems);
+            EmployeeBulkResult result = new EmployeeBulkResult();
+            List<EmployeeService.UpsertBatch> batches = EmployeeService.upsertBatches(items, writeBatchSize, result);
+            return collection(tenant)
+                    .flatMapMany(coll -> Flux.fromIterable(batches)
+                            .concatMap(batch -> writable(tenant).then(Mono.from(coll.bulkWrite(batch.models(), UNORDERED)))
+                                    .doOnNext(written -> EmployeeService.record(result, batch, written, List.of()))
+                                    .onErrorResume(MongoBulkWriteException.class, ex -> {
+                                        EmployeeService.record(result, batch, ex.getWriteResult(), ex.getWriteErrors());
+                                        return Mono.just(ex.getWriteResult());
+                                    })
+                                    .doOnNext(written -> usage.written(tenant, EmployeeService.upserts(written),
+                                            EmployeeService.upsertedBytes(items, batch, written), EmployeeService.writes(written)))))
+                    .then(Mono.fromCallable(() -> {
+                        EmployeeService.sortErrors(result);
+                        return result;
+                    }));
+        });
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.organizationservice.service;
+
+import com.example.organizationservice.model.IdempotencyRecord;
+import com.example.organizationservice.model.OrganizationMetadata;
+import com.example.organizationservice.repository.ReactiveAdminUserRepository;
+import com.example.organizationservice.repository.ReactiveOrganizationMetadataRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reactive twin of IdempotentCreateService: same single-flight, stored outcomes, lease and status codes.
+ * Waiting for another node polls with Mono.delay instead of sleeping, and a coalesced request never blocks:
+ * it subscribes to the running create's future. If that create is cancelled (its client went away),
+ * the waiting requests start over, and one of them runs the create.
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveIdempotentCreateService {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactiveIdempotentCreateService.class);
+
+    @Autowired
+    private ReactiveOrganizationService orgService;
+
+    @Autowired
+    private ReactiveOrganizationMetadataRepository orgRepo;
+
+    @Autowired
+    private ReactiveAdminUserRepository adminRepo;
+
+    @Autowired
+    private ReactiveMongoTemplate mongoTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.idempotency.lease-ms:30000}")
+    private long leaseMs;
+
+    @Value("${app.idempotency.wait-ms:5000}")
+    private long waitMs;
+
+    @Value("${app.idempotency.poll-ms:50}")
+    private long pollMs;
+
+    @Value("${app.idempotency.fingerprint-secret}")
+    private String fingerprintSecret;
+
+    private final ConcurrentHashMap<String, CompletableFuture<IdempotentCreateService.Created>> inFlight = new ConcurrentHashMap<>();
+
+    /** See IdempotentCreateService.createOrganization. */
+    public Mono<IdempotentCreateService.Created> createOrganization(String key, String orgName, String email, String password) {
+        return Mono.defer(() -> {
+            IdempotentCreateService.checkKey(key);
+            String flight = IdempotentCreateService.flightKey(key, orgName, email, password);
+            CompletableFuture<IdempotentCreateService.Created> mine = new CompletableFuture<>();
+            CompletableFuture<IdempotentCreateService.Created> running = inFlight.putIfAbsent(flight, mine);
+            if (running != null) {
+                meterRegistry.counter("org.create.deduplicated", "source", "in-flight").increment();
+                // suppressCancel: a waiting client going away must not cancel the create it waits for
+                return Mono.fromFuture(running, true)
+                        .map(created -> new IdempotentCreateService.Created(created.organization(), true))
+                        .onErrorResume(CancellationException.class, ex -> createOrganization(key, orgName, email, password));
+            }
+            Mono<IdempotentCreateService.Created> create = key == null
+                    ? orgService.createOrganization(orgName, email, password).map(meta -> new IdempotentCreateService.Created(meta, false))
+                    : createOnce(key, IdempotentCreateService.fingerprint(fingerprintSecret, key, orgName, email),
+                            orgName, email, password, System.nanoTime() + waitMs * 1_000_000);
+            return create
+                    .doOnSuccess(mine::complete)
+                    .doOnError(mine::completeExceptionally)
+                    .doOnCancel(() -> mine.cancel(false))
+                    .doFinally(signal -> inFlight.remove(flight, mine));
+        });
+    }
+
+    private Mono<IdempotentCreateService.Created> createOnce(String key, String fingerprint, String orgName, String email,
+                                                             String password, long deadline) {
+        return claim(key, fingerprint).flatMap(existing -> {
+            if (existing.isEmpty()) return run(key, orgName, email, password);
+            IdempotencyRecord record = existing.get();
+            if (!fingerprint.equals(record.getFingerprint())) return Mono.error(IdempotentCreateService.reused());
+            if (record.getState() == IdempotencyRecord.State.DONE) {
+                meterRegistry.counter("org.create.deduplicated", "source", "stored").increment();
+                return Mono.fromCallable(() -> IdempotentCreateService.replay(record));
+            }
+            if (IdempotentCreateService.leaseExpired(record)) {
+                return mongoTemplate.findAndModify(IdempotentCreateService.takeOverQuery(record),
+                                IdempotentCreateService.renewLease(leaseMs), IdempotencyRecord.class)
+                        .flatMap(taken -> completedBefore(orgName, email)
+                                .flatMap(done -> finish(key, 200, done, null).thenReturn(new IdempotentCreateService.Created(done, true)))
+                                .switchIfEmpty(Mono.defer(() -> run(key, orgName, email, password))))
+                        .switchIfEmpty(Mono.defer(() -> createOnce(key, fingerprint, orgName, email, password, deadline)));
+            }
+            if (System.nanoTime() - deadline > 0) return Mono.error(IdempotentCreateService.inProgress());
+            return Mono.delay(Duration.ofMillis(pollMs)).then(Mono.defer(() -> createOnce(key, fingerprint, orgName, email, password, deadline)));
+        });
+    }
+
+    /** The create itself, by the request holding the key; see IdempotentCreateService for which outcomes are kept. */
+    private Mono<IdempotentCreateService.Created> run(String key, String orgName, String email, String password) {
+        return orgService.createOrganization(orgName, email, password)
+                .flatMap(meta -> finish(key, 200, meta, null).thenReturn(new IdempotentCreateService.Created(meta, false)))
+                .onErrorResume(ex -> ex instanceof DuplicateKeyException || ex instanceof IllegalArgumentException
+                        ? finish(key, IdempotentCreateService.statusOf((RuntimeException) ex), null, ex.getMessage()).then(Mono.error(ex))
+                        : release(key).then(Mono.error(ex)));
+    }
+
+    /** See IdempotentCreateService.claim; empty when this request now holds the key. */
+    private Mono<Optional<IdempotencyRecord>> claim(String key, String fingerprint) {
+        return mongoTemplate.findById(key, IdempotencyRecord.class)
+                .map(Optional::of)
+                .switchIfEmpty(Mono.defer(() -> mongoTemplate.insert(IdempotentCreateService.newRecord(key, fingerprint, leaseMs))
+                        .map(inserted -> Optional.<IdempotencyRecord>empty())
+                        // inserted in between: read it
+                        .onErrorResume(DuplicateKeyException.class, ex -> claim(key, fingerprint))));
+    }
+
+    /** See IdempotentCreateService.completedBefore. */
+    private Mono<OrganizationMetadata> completedBefore(String orgName, String email) {
+        return adminRepo.findByEmail(email)
+                .filter(admin -> orgName.equals(admin.getOrganizationName()))
+                .flatMap(admin -> orgRepo.findByOrganizationName(orgName)
+                        .filter(meta -> admin.getId().equals(meta.getAdminUserId())));
+    }
+
+    private Mono<Void> finish(String key, int status, OrganizationMetadata organization, String message) {
+        return mongoTemplate.updateFirst(IdempotentCreateService.byKey(key), IdempotentCreateService.done(status, organization, message),
+                        IdempotencyRecord.class)
+                .then()
+                .onErrorResume(ex -> {
+                    log.warn("Could not store the outcome of idempotent create {}: {}", key, ex.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private Mono<Void> release(String key) {
+        return mongoTemplate.remove(IdempotentCreateService.byKey(key), IdempotencyRecord.class)
+                .then()
+                .onErrorResume(ex -> {
+                    log.warn("Could not release idempotency key {}: {}", key, ex.getMessage());
+                    return Mono.empty();
+                });
+    }
+}
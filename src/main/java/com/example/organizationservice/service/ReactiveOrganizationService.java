@@ -0,0 +1,279 @@
+package com.example.organizationservice.service;
+
+import com.example.organizationservice.dto.OrganizationPage;
+import com.example.organizationservice.model.AdminUser;
+import com.example.organizationservice.model.OrgDeletionJob;
+import com.example.organizationservice.model.OrgEvent;
+import com.example.organizationservice.model.OrganizationMetadata;
+import com.example.organizationservice.model.PooledTenantCollection;
+import com.example.organizationservice.repository.ReactiveAdminUserRepository;
+import com.example.organizationservice.repository.ReactiveOrganizationMetadataRepository;
+import com.example.organizationservice.security.AdminLookupCache;
+import com.example.organizationservice.security.PasswordHasher;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * ReactiveOrganizationService
+ *
+ * Non-blocking counterpart of OrganizationService for the reactive profile (WebFlux + reactive Mongo).
+ * - Same contract and side effects: tenant_<org_id> collection with the template and admin_profile
+ *   documents, metadata in master_organizations, admin in master_admins.
+ * - Shares OrganizationMetadataCache, AdminLookupCache and OrgEventPublisher with the blocking stack, so
+ *   ETags, cache metrics and cross-node invalidation behave the same.
+ * - BCrypt still runs on the PasswordHasher pool; its future is adapted into the pipeline, never joined.
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveOrganizationService {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactiveOrganizationService.class);
+
+    @Autowired
+    private ReactiveOrganizationMetadataRepository orgRepo;
+
+    @Autowired
+    private ReactiveAdminUserRepository adminRepo;
+
+    @Autowired
+    private ReactiveMongoTemplate mongoTemplate;
+
+    @Autowired
+    private PasswordHasher passwordHasher;
+
+    @Autowired
+    private OrganizationMetadataCache orgCache;
+
+    @Autowired
+    private OrgEventPublisher orgEvents;
+
+    @Autowired
+    private AdminLookupCache adminLookup;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private TenantCollectionPool tenantPool;
+
+    @Autowired
+    private TenantClusterRouter clusterRouter;
+
+    @Autowired
+    private OrgDeletionWorker deletionWorker;
+
+    @Autowired
+    private ReactiveAdminSessionService sessions;
+
+    @Value("${app.org-list.max-limit:1000}")
+    private int listMaxLimit;
+
+    @Value("${app.org-list.stream-batch-size:1000}")
+    private int listStreamBatchSize;
+
+    /** See OrganizationService.createOrganization. */
+    public Mono<OrganizationMetadata> createOrganization(String orgName, String email, String password) {
+        if (orgName == null || orgName.isBlank()) return Mono.error(new IllegalArgumentException("organization_name required"));
+        if (email == null || email.isBlank()) return Mono.error(new IllegalArgumentException("admin email required"));
+        if (password == null || password.isBlank()) return Mono.error(new IllegalArgumentException("admin password required"));
+
+        return adminRepo.findByEmail(email)
+                .flatMap(existing -> Mono.<AdminUser>error(new DuplicateKeyException("admin email already used")))
+                .then(orgRepo.existsByOrganizationName(orgName))
+                .flatMap(exists -> exists
+                        ? Mono.error(new DuplicateKeyException("organization already exists"))
+                        : encode(password))
+                .flatMap(hash -> {
+                    AdminUser admin = new AdminUser();
+                    admin.setEmail(email);
+                    admin.setPasswordHash(hash);
+                    admin.setOrganizationName(orgName);
+                    return adminRepo.save(admin).onErrorMap(DuplicateKeyException.class, ex -> new DuplicateKeyException("admin email already used", ex));
+                })
+                .flatMap(savedAdmin -> {
+                    String cluster = clusterRouter.place(orgName);
+                    ReactiveMongoTemplate tenantDb = clusterRouter.reactiveTemplate(cluster);
+                    return claimPooled(cluster)
+                            .onErrorResume(ex -> compensateCreate(savedAdmin, tenantDb, null).then(Mono.error(ex)))
+                            .flatMap(pooled -> {
+                                String orgId = pooled.map(PooledTenantCollection::getId).orElseGet(() -> new ObjectId().toHexString());
+                                String collName = pooled.map(PooledTenantCollection::getCollectionName)
+                                        .orElseGet(() -> OrganizationService.tenantCollectionName(orgId));
+
+                                OrganizationMetadata meta = new OrganizationMetadata();
+                                meta.setId(orgId);
+                                meta.setOrganizationName(orgName);
+                                meta.setCollectionName(collName);
+                                meta.setAdminUserId(savedAdmin.getId());
+                                meta.setConnectionDetails(cluster);
+
+                                Mono<?> tenantCollection = pooled.isPresent()
+                                        ? tenantDb.insert(OrganizationService.adminProfileDocument(savedAdmin, orgName), collName)
+                                        : createTenantCollection(tenantDb, collName, savedAdmin, orgName);
+                                return tenantCollection
+                                        .then(orgRepo.save(meta))
+                                        .onErrorMap(DuplicateKeyException.class, ex -> new DuplicateKeyException("organization already exists", ex))
+                                        .doOnSuccess(saved -> {
+                                            orgCache.invalidate(orgName); // drop a cached 404
+                                            orgEvents.publish(OrgEvent.Type.CREATED, savedAdmin.getId(), orgName);
+                                        })
+                                        .onErrorResume(ex -> orgRepo.existsById(orgId)
+                                                // saved after all (applied but reported failed): the create went through
+                                                .flatMap(saved -> saved ? Mono.error(ex) : compensateCreate(savedAdmin, tenantDb, collName).then(Mono.error(ex))));
+                            });
+                });
+    }
+
+    /** See OrganizationService.compensateCreate. */
+    private Mono<Void> compensateCreate(AdminUser admin, ReactiveMongoTemplate tenantDb, String collName) {
+        Mono<Void> dropCollection = collName == null ? Mono.empty() : tenantDb.dropCollection(collName)
+                .onErrorResume(ex -> {
+                    log.error("Could not drop tenant collection {} of a failed create: {}", collName, ex.getMessage());
+                    return Mono.empty();
+                });
+        return adminRepo.deleteById(admin.getId())
+                .then(dropCollection)
+                .onErrorResume(ex -> {
+                    log.error("Could not remove admin {} of a failed create: {}", admin.getId(), ex.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    /** See TenantCollectionPool.claim; same findAndRemove on the reactive driver. */
+    private Mono<Optional<PooledTenantCollection>> claimPooled(String cluster) {
+        if (!tenantPool.isEnabled()) return Mono.just(Optional.empty());
+        return mongoTemplate.findAndRemove(TenantCollectionPool.claimQuery(cluster), PooledTenantCollection.class)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .doOnNext(pooled -> tenantPool.claimed(pooled.isPresent()));
+    }
+
+    private Mono<Void> createTenantCollection(ReactiveMongoTemplate tenantDb, String collName, AdminUser admin, String orgName) {
+        return tenantDb.collectionExists(collName)
+                .flatMap(exists -> exists ? Mono.empty() : tenantDb.createCollection(collName)
+                        .then(tenantDb.insert(OrganizationService.templateDocument(), collName))
+                        .then(tenantDb.insert(OrganizationService.adminProfileDocument(admin, orgName), collName))
+                        .then(tenantDb.indexOps(collName)
+                                .createIndex(new Index().on("adminEmail", Sort.Direction.ASC))
+                                // index creation failure should not block org creation
+                                .doOnError(ex -> {
+                                    log.warn("Could not create index on {}: {}", collName, ex.getMessage());
+                                    meterRegistry.counter("org.service.index.failures").increment();
+                                })
+                                .onErrorResume(ex -> Mono.empty()))
+                        .then());
+    }
+
+    /** Cached lookup including the ETag; a miss is read through the reactive repository. */
+    public Mono<OrganizationMetadataCache.Entry> getCachedByName(String orgName) {
+        return Mono.fromFuture(() -> orgCache.lookupAsync(orgName, name -> orgRepo.findByOrganizationName(name)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .toFuture()));
+    }
+
+    /** See OrganizationService.listOrganizations. */
+    public Mono<OrganizationPage> listOrganizations(String prefix, String after, int limit, List<String> fields) {
+        return Mono.defer(() -> {
+            OrganizationService.checkListLimit(limit, listMaxLimit);
+            Query query = OrganizationService.listQuery(prefix, after, fields).limit(limit + 1);
+            return mongoTemplate.find(query, Document.class, mongoTemplate.getCollectionName(OrganizationMetadata.class))
+                    .map(OrganizationService::listItem)
+                    .collectList()
+                    .map(items -> items.size() <= limit
+                            ? new OrganizationPage(items, null)
+                            : new OrganizationPage(items.subList(0, limit), (String) items.get(limit - 1).get("organizationName")));
+        });
+    }
+
+    /**
+     * See OrganizationService.streamOrganizations; demand-driven, so a slow client slows the cursor down.
+     * Bad fields throw IllegalArgumentException right away, before any response is committed.
+     */
+    public Flux<Map<String, Object>> streamOrganizations(String prefix, String after, List<String> fields) {
+        Query query = OrganizationService.listQuery(prefix, after, fields).cursorBatchSize(listStreamBatchSize);
+        return mongoTemplate.find(query, Document.class, mongoTemplate.getCollectionName(OrganizationMetadata.class))
+                .map(OrganizationService::listItem);
+    }
+
+    /** See OrganizationService.updateOrganization. */
+    public Mono<OrganizationMetadata> updateOrganization(String orgName, String newEmail, String newPassword) {
+        if (orgName == null || orgName.isBlank()) return Mono.error(new IllegalArgumentException("organization name required"));
+        if (newEmail == null || newEmail.isBlank()) return Mono.error(new IllegalArgumentException("email required"));
+        if (newPassword == null || newPassword.isBlank()) return Mono.error(new IllegalArgumentException("password required"));
+
+        return orgRepo.findByOrganizationName(orgName)
+                .switchIfEmpty(Mono.error(() -> new IllegalArgumentException("organization not found: " + orgName)))
+                .flatMap(meta -> adminRepo.findByOrganizationName(orgName)
+                        .switchIfEmpty(Mono.error(() -> new IllegalArgumentException("admin not found for organization: " + orgName)))
+                        .flatMap(admin -> encode(newPassword).flatMap(hash -> {
+                            admin.setEmail(newEmail);
+                            admin.setPasswordHash(hash);
+                            return adminRepo.save(admin);
+                        }))
+                        .flatMap(admin -> sessions.revokeAdmin(admin.getId()).thenReturn(admin))
+                        .map(admin -> {
+                            orgCache.invalidate(orgName);
+                            adminLookup.invalidate(admin.getId());
+                            orgEvents.publish(OrgEvent.Type.UPDATED, admin.getId(), orgName);
+                            return meta;
+                        }));
+    }
+
+    /** See OrganizationService.deleteOrganization; the background part is the same OrgDeletionWorker. */
+    public Mono<OrgDeletionJob> deleteOrganization(String orgName) {
+        return orgRepo.findByOrganizationName(orgName)
+                .switchIfEmpty(Mono.error(() -> new IllegalArgumentException("organization not found")))
+                .filter(meta -> meta.getMovingTo() == null)
+                .switchIfEmpty(Mono.error(TenantMovingException::new))
+                .flatMap(meta -> (meta.getAdminUserId() == null ? Mono.empty() : sessions.revokeAdmin(meta.getAdminUserId()))
+                        .then(mongoTemplate.insert(deletionWorker.newJob(meta)))
+                        .flatMap(job -> adminRepo.updateOrganizationName(orgName, OrgDeletionWorker.detachedOrganization(job.getId()))
+                                .then(mongoTemplate.remove(OrgDeletionWorker.metadataOf(job), OrganizationMetadata.class))
+                                .flatMap(removed -> removed.getDeletedCount() > 0 ? Mono.empty() : undoTombstone(orgName, meta, job))
+                                .then(mongoTemplate.updateFirst(OrgDeletionWorker.byId(job.getId()), OrgDeletionWorker.tombstoneDone(), OrgDeletionJob.class))
+                                .then(Mono.fromSupplier(() -> {
+                                    job.setTombstoned(true);
+                                    orgCache.invalidate(orgName);
+                                    adminLookup.invalidateOrganizations(orgName);
+                                    orgEvents.publish(OrgEvent.Type.DELETED, meta.getAdminUserId(), orgName);
+                                    deletionWorker.wakeUp();
+                                    return job;
+                                }))));
+    }
+
+    // a move froze the organization since it was read (see OrganizationService.deleteOrganization)
+    private Mono<Void> undoTombstone(String orgName, OrganizationMetadata meta, OrgDeletionJob job) {
+        return adminRepo.updateOrganizationName(OrgDeletionWorker.detachedOrganization(job.getId()), orgName)
+                .then(mongoTemplate.remove(OrgDeletionWorker.byId(job.getId()), OrgDeletionJob.class))
+                .then(orgRepo.existsById(meta.getId()))
+                .flatMap(exists -> Mono.error(exists ? new TenantMovingException() : new IllegalArgumentException("organization not found")));
+    }
+
+    public Mono<OrgDeletionJob> getDeletionJob(String jobId) {
+        return mongoTemplate.findById(jobId, OrgDeletionJob.class);
+    }
+
+    // PasswordHasher throws PasswordHashingBusyException synchronously when its queue is full; defer turns it into an error signal
+    private Mono<String> encode(String password) {
+        return Mono.defer(() -> Mono.fromFuture(passwordHasher.encode(password)));
+    }
+}
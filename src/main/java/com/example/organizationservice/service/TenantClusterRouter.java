@@ -0,0 +1,219 @@
+package com.example.organizationservice.service;
+
+import com.example.organizationservice.model.OrganizationMetadata;
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.mongodb.MongoMetricsCommandListener;
+import io.micrometer.core.instrument.binder.mongodb.MongoMetricsConnectionPoolListener;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.SimpleMongoClientDatabaseFactory;
+import org.springframework.data.mongodb.core.SimpleReactiveMongoDatabaseFactory;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.stereotype.Component;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.group;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.newAggregation;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * TenantClusterRouter
+ *
+ * Maps OrganizationMetadata.connectionDetails to the MongoDB cluster holding the tenant collection:
+ * - "single_mongo_instance" (DEFAULT_CLUSTER) is the master database itself, so existing organizations stay put.
+ * - Further clusters are listed in app.tenant-clusters.names, each with app.tenant-clusters.<name>.uri (the URI
+ *   names the database). Their clients are created on first use and kept: one connection pool per cluster and
+ *   driver (blocking, reactive), reporting the same mongodb.driver.* metrics as the master client.
+ * - place() picks the cluster of a new organization: least-loaded (fewest organizations; counted from
+ *   master_organizations in the background every app.tenant-clusters.load-refresh-ms, plus local placements
+ *   since) or hash (stable per organization name).
+ *
+ * Master collections (organizations, admins, events, pool registry, checkpoints) always stay on the master database.
+ */
+@Component
+public class TenantClusterRouter implements DisposableBean {
+
+    public static final String DEFAULT_CLUSTER = "single_mongo_instance";
+
+    private static final Logger log = LoggerFactory.getLogger(TenantClusterRouter.class);
+
+    private final MongoTemplate mongoTemplate;
+    private final ObjectProvider<ReactiveMongoTemplate> reactiveMongoTemplate;
+    private final MeterRegistry meterRegistry;
+    private final TenantCommandTagsProvider commandTags;
+    private final Map<String, ConnectionString> uris = new LinkedHashMap<>();
+    private final List<String> clusters = new ArrayList<>();
+    private final boolean hashPlacement;
+    private final long loadRefreshNanos;
+
+    private final Map<String, MongoTemplate> templates = new ConcurrentHashMap<>();
+    private final Map<String, ReactiveMongoTemplate> reactiveTemplates = new ConcurrentHashMap<>();
+    private final List<Closeable> clients = new CopyOnWriteArrayList<>();
+
+    // organizations per cluster; replaced by each background count, bumped by every local placement
+    private final Map<String, Long> load = new HashMap<>();
+    private final AtomicBoolean counting = new AtomicBoolean();
+    private final ExecutorService loadCounter;
+    private volatile long loadCountedAt;
+
+    public TenantClusterRouter(MongoTemplate mongoTemplate,
+                               ObjectProvider<ReactiveMongoTemplate> reactiveMongoTemplate,
+                               MeterRegistry meterRegistry,
+                               TenantCommandTagsProvider commandTags,
+                               Environment environment,
+                               @Value("${app.tenant-clusters.names:}") String names,
+                               @Value("${app.tenant-clusters.placement:least-loaded}") String placement,
+                               @Value("${app.tenant-clusters.load-refresh-ms:10000}") long loadRefreshMs) {
+        if (!placement.equals("least-loaded") && !placement.equals("hash")) {
+            throw new IllegalArgumentException("app.tenant-clusters.placement must be least-loaded or hash");
+        }
+        this.mongoTemplate = mongoTemplate;
+        this.reactiveMongoTemplate = reactiveMongoTemplate;
+        this.meterRegistry = meterRegistry;
+        this.commandTags = commandTags;
+        this.hashPlacement = placement.equals("hash");
+        this.loadRefreshNanos = TimeUnit.MILLISECONDS.toNanos(loadRefreshMs);
+
+        clusters.add(DEFAULT_CLUSTER);
+        for (String name : names.split(",")) {
+            name = name.trim();
+            if (name.isEmpty() || name.equals(DEFAULT_CLUSTER)) continue;
+            ConnectionString uri = new ConnectionString(environment.getRequiredProperty("app.tenant-clusters." + name + ".uri"));
+            if (uri.getDatabase() == null) {
+                throw new IllegalArgumentException("app.tenant-clusters." + name + ".uri must name a database");
+            }
+            uris.put(name, uri);
+            clusters.add(name);
+        }
+        this.loadCounter = Executors.newSingleThreadExecutor(task -> {
+            Thread t = new Thread(task, "tenant-cluster-load");
+            t.setDaemon(true);
+            return t;
+        });
+        if (clusters.size() > 1) log.info("Tenant clusters: {} ({} placement)", clusters, placement);
+    }
+
+    /** Every cluster a tenant can live on, the master database first. */
+    public List<String> clusters() {
+        return List.copyOf(clusters);
+    }
+
+    /** Cluster of an organization; metadata written before placement existed has no (or the placeholder) value. */
+    public static String clusterOf(OrganizationMetadata meta) {
+        return meta.getConnectionDetails() == null ? DEFAULT_CLUSTER : meta.getConnectionDetails();
+    }
+
+    /** Matches organization metadata on the given cluster, including metadata without connectionDetails on the default one. */
+    public static Criteria onCluster(String cluster) {
+        return DEFAULT_CLUSTER.equals(cluster)
+                ? where("connectionDetails").in(cluster, null)
+                : where("connectionDetails").is(cluster);
+    }
+
+    /** Cluster for a new organization. Never blocks: load counts are refreshed in the background. */
+    public String place(String organizationName) {
+        if (clusters.size() == 1) return DEFAULT_CLUSTER;
+        if (hashPlacement) return clusters.get(Math.floorMod(organizationName.hashCode(), clusters.size()));
+
+        if (System.nanoTime() - loadCountedAt > loadRefreshNanos && counting.compareAndSet(false, true)) {
+            loadCounter.execute(this::countLoad);
+        }
+        synchronized (load) {
+            String least = clusters.stream().min(Comparator.comparingLong(cluster -> load.getOrDefault(cluster, 0L))).orElseThrow();
+            load.merge(least, 1L, Long::sum);
+            return least;
+        }
+    }
+
+    private void countLoad() {
+        try {
+            Map<String, Long> counted = new HashMap<>();
+            mongoTemplate.aggregate(newAggregation(group("connectionDetails").count().as("count")),
+                            OrganizationMetadata.class, Document.class)
+                    .forEach(row -> counted.merge(row.get("_id") == null ? DEFAULT_CLUSTER : row.getString("_id"),
+                            ((Number) row.get("count")).longValue(), Long::sum));
+            synchronized (load) {
+                load.clear();
+                load.putAll(counted);
+            }
+        } catch (Exception ex) {
+            log.warn("Could not count organizations per tenant cluster: {}", ex.getMessage());
+        } finally {
+            loadCountedAt = System.nanoTime();
+            counting.set(false);
+        }
+    }
+
+    /** Blocking template for a cluster's database. */
+    public MongoTemplate template(String cluster) {
+        if (cluster == null || cluster.equals(DEFAULT_CLUSTER)) return mongoTemplate;
+        return templates.computeIfAbsent(cluster, name -> {
+            ConnectionString uri = uri(name);
+            MongoClient client = MongoClients.create(settings(uri));
+            clients.add(client);
+            return new MongoTemplate(new SimpleMongoClientDatabaseFactory(client, uri.getDatabase()), mongoTemplate.getConverter());
+        });
+    }
+
+    /** Reactive template for a cluster's database (reactive profile only). */
+    public ReactiveMongoTemplate reactiveTemplate(String cluster) {
+        ReactiveMongoTemplate master = reactiveMongoTemplate.getObject();
+        if (cluster == null || cluster.equals(DEFAULT_CLUSTER)) return master;
+        return reactiveTemplates.computeIfAbsent(cluster, name -> {
+            ConnectionString uri = uri(name);
+            com.mongodb.reactivestreams.client.MongoClient client = com.mongodb.reactivestreams.client.MongoClients.create(settings(uri));
+            clients.add(client);
+            return new ReactiveMongoTemplate(new SimpleReactiveMongoDatabaseFactory(client, uri.getDatabase()), master.getConverter());
+        });
+    }
+
+    private ConnectionString uri(String cluster) {
+        ConnectionString uri = uris.get(cluster);
+        if (uri == null) throw new IllegalStateException("unknown tenant cluster: " + cluster);
+        return uri;
+    }
+
+    private MongoClientSettings settings(ConnectionString uri) {
+        return MongoClientSettings.builder()
+                .applyConnectionString(uri)
+                .addCommandListener(new MongoMetricsCommandListener(meterRegistry, commandTags))
+                .applyToConnectionPoolSettings(pool -> pool.addConnectionPoolListener(new MongoMetricsConnectionPoolListener(meterRegistry)))
+                .build();
+    }
+
+    @Override
+    public void destroy() {
+        loadCounter.shutdownNow();
+        for (Closeable client : clients) {
+            try {
+                client.close();
+            } catch (Exception ex) {
+                log.warn("Could not close tenant cluster client: {}", ex.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.organizationservice.service;
+
+import com.example.organizationservice.model.CopyCheckpoint;
+import com.mongodb.ErrorCategory;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.InsertManyOptions;
+import com.mongodb.client.model.Sorts;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * TenantCollectionCopier
+ *
+ * - Streams a tenant collection through a cursor ordered by _id (no full load onto the heap).
+ * - Writes to the target in bounded, unordered insertMany batches.
+ * - Persists a CopyCheckpoint after every batch so a failed copy resumes after the last committed _id.
+ * - Reports progress to an optional callback after every batch.
+ * - Copies within the master database, or between tenant clusters (TenantMoveWorker); checkpoints always live
+ *   on the master database.
+ */
+@Component
+public class TenantCollectionCopier {
+
+    private static final Logger log = LoggerFactory.getLogger(TenantCollectionCopier.class);
+
+    private final MongoTemplate mongoTemplate;
+    private final int batchSize;
+
+    public TenantCollectionCopier(MongoTemplate mongoTemplate,
+                                  @Value("${app.tenant-copy.batch-size:1000}") int batchSize) {
+        if (batchSize <= 0) throw new IllegalArgumentException("app.tenant-copy.batch-size must be positive");
+        this.mongoTemplate = mongoTemplate;
+        this.batchSize = batchSize;
+    }
+
+    public CopyCheckpoint copy(String sourceColl, String targetColl) {
+        return copy(sourceColl, targetColl, progress -> { });
+    }
+
+    /**
+     * Copy every document of sourceColl into targetColl, resuming from a stored checkpoint if present.
+     * Returns the final checkpoint (copiedCount covers previous attempts as well).
+     */
+    public CopyCheckpoint copy(String sourceColl, String targetColl, Consumer<CopyCheckpoint> progress) {
+        return copy(mongoTemplate, sourceColl, mongoTemplate, targetColl, sourceColl + "->" + targetColl, progress);
+    }
+
+    /** Copy collName from one cluster's database to another's; checkpointId must name both clusters. */
+    public CopyCheckpoint copy(MongoTemplate sourceDb, MongoTemplate targetDb, String collName, String checkpointId) {
+        return copy(sourceDb, collName, targetDb, collName, checkpointId, progress -> { });
+    }
+
+    /** As above, reporting every batch; a progress callback that throws stops the copy (the checkpoint stays). */
+    public CopyCheckpoint copy(MongoTemplate sourceDb, MongoTemplate targetDb, String collName, String checkpointId,
+                               Consumer<CopyCheckpoint> progress) {
+        return copy(sourceDb, collName, targetDb, collName, checkpointId, progress);
+    }
+
+    private CopyCheckpoint copy(MongoTemplate sourceDb, String sourceColl, MongoTemplate targetDb, String targetColl,
+                                String checkpointId, Consumer<CopyCheckpoint> progress) {
+        CopyCheckpoint checkpoint = mongoTemplate.findById(checkpointId, CopyCheckpoint.class);
+        if (checkpoint == null) {
+            checkpoint = new CopyCheckpoint(checkpointId, sourceColl, targetColl, null, 0, 0, new Date());
+        } else {
+            log.info("Resuming copy {} after {} documents", checkpointId, checkpoint.getCopiedCount());
+        }
+
+        MongoCollection<Document> source = sourceDb.getCollection(sourceColl);
+        MongoCollection<Document> target = targetDb.getCollection(targetColl);
+        checkpoint.setTotalEstimate(source.estimatedDocumentCount());
+
+        Bson filter = checkpoint.getLastCopiedId() == null
+                ? new Document()
+                : Filters.gt("_id", checkpoint.getLastCopiedId());
+
+        List<Document> batch = new ArrayList<>(batchSize);
+        try (MongoCursor<Document> cursor = source.find(filter)
+                .sort(Sorts.ascending("_id"))
+                .batchSize(batchSize)
+                .iterator()) {
+            while (cursor.hasNext()) {
+                batch.add(cursor.next());
+                if (batch.size() == batchSize) {
+                    flush(target, batch, checkpoint, progress);
+                }
+            }
+            if (!batch.isEmpty()) {
+                flush(target, batch, checkpoint, progress);
+            }
+        }
+
+        // copy finished: a leftover checkpoint would make the next copy of the same pair skip everything
+        mongoTemplate.remove(query(where("_id").is(checkpointId)), CopyCheckpoint.class);
+        log.info("Copied {} documents ({})", checkpoint.getCopiedCount(), checkpointId);
+        return checkpoint;
+    }
+
+    private void flush(MongoCollection<Document> target, List<Document> batch,
+                       CopyCheckpoint checkpoint, Consumer<CopyCheckpoint> progress) {
+        try {
+            target.insertMany(batch, new InsertManyOptions().ordered(false));
+        } catch (MongoBulkWriteException ex) {
+            // a batch that was in flight when a previous attempt failed may be partly present already
+            boolean onlyDuplicates = ex.getWriteErrors().stream()
+                    .allMatch(e -> ErrorCategory.fromErrorCode(e.getCode()) == ErrorCategory.DUPLICATE_KEY);
+            if (!onlyDuplicates) throw ex;
+        }
+
+        checkpoint.setLastCopiedId(batch.get(batch.size() - 1).get("_id"));
+        checkpoint.setCopiedCount(checkpoint.getCopiedCount() + batch.size());
+        checkpoint.setUpdatedAt(new Date());
+        mongoTemplate.save(checkpoint);
+        batch.clear();
+
+        log.debug("Copy {}: {}/{} documents", checkpoint.getId(), checkpoint.getCopiedCount(), checkpoint.getTotalEstimate());
+        progress.accept(checkpoint);
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.organizationservice.service;
+
+import com.example.organizationservice.model.OrgEvent;
+import com.example.organizationservice.model.OrganizationMetadata;
+import com.mongodb.MongoCommandException;
+import com.mongodb.MongoNamespace;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.stream.Stream;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * TenantCollectionMigration
+ *
+ * One-off startup migration (app.tenant-migration.enabled=true) that moves organizations created
+ * before tenant_<org_id> naming off their name-derived org_<name> collections:
+ * - backfills a missing collectionName with the legacy org_<name>
+ * - renames the collection server-side (renameCollection is a metadata operation within one database)
+ * - falls back to a batched copy + drop when the server refuses the rename (e.g. sharded collections)
+ * - then points metadata at the new name
+ *
+ * Each step is idempotent, so an interrupted run can simply be started again.
+ */
+@Component
+@ConditionalOnProperty(name = "app.tenant-migration.enabled", havingValue = "true")
+public class TenantCollectionMigration implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(TenantCollectionMigration.class);
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private TenantCollectionCopier collectionCopier;
+
+    @Autowired
+    private OrganizationMetadataCache orgCache;
+
+    @Autowired
+    private OrgEventPublisher orgEvents;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int migrated = 0;
+        try (Stream<OrganizationMetadata> orgs = mongoTemplate.stream(new Query(), OrganizationMetadata.class)) {
+            for (OrganizationMetadata meta : (Iterable<OrganizationMetadata>) orgs::iterator) {
+                if (migrate(meta)) migrated++;
+            }
+        }
+        log.info("Tenant collection migration finished, {} organization(s) migrated", migrated);
+    }
+
+    private boolean migrate(OrganizationMetadata meta) {
+        String target = OrganizationService.tenantCollectionName(meta.getId());
+        String source = meta.getCollectionName() != null
+                ? meta.getCollectionName()
+                : OrganizationService.legacyCollectionName(meta.getOrganizationName());
+        if (source.equals(target)) return false;
+
+        // a previous run may have moved the data but stopped before updating metadata
+        if (mongoTemplate.collectionExists(source)) {
+            if (mongoTemplate.collectionExists(target)) {
+                // target left behind by an interrupted copy; the copier resumes from its checkpoint
+                copyAndDrop(source, target);
+            } else {
+                try {
+                    mongoTemplate.getCollection(source)
+                            .renameCollection(new MongoNamespace(mongoTemplate.getDb().getName(), target));
+                } catch (MongoCommandException ex) {
+                    log.warn("renameCollection {} -> {} failed ({}), copying instead", source, target, ex.getErrorMessage());
+                    copyAndDrop(source, target);
+                }
+            }
+        }
+
+        mongoTemplate.updateFirst(query(where("_id").is(meta.getId())),
+                Update.update("collectionName", target), OrganizationMetadata.class);
+        orgCache.invalidate(meta.getOrganizationName());
+        orgEvents.publish(OrgEvent.Type.UPDATED, null, meta.getOrganizationName());
+        log.info("Migrated org {} from {} to {}", meta.getOrganizationName(), source, target);
+        return true;
+    }
+
+    private void copyAndDrop(String source, String target) {
+        collectionCopier.copy(source, target);
+        mongoTemplate.dropCollection(source);
+    }
+}
@@ -0,0 +1,181 @@
+package com.example.organizationservice.service;
+
+import com.example.organizationservice.model.PooledTenantCollection;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * TenantCollectionPool
+ *
+ * - Keeps app.tenant-pool.size tenant collections ready per tenant cluster (TenantClusterRouter), registered in
+ *   master_tenant_pool: created, indexed on adminEmail and seeded with the template document, so org creation
+ *   skips that DDL.
+ * - claim(cluster) is one findAndRemove (oldest first), so concurrent creates on any node never get the same collection.
+ * - A background thread tops the pool up after every claim and every app.tenant-pool.refill-interval-ms.
+ *   Several nodes may each top up at once; the pool then briefly holds a few extra collections.
+ * - When the pool is empty or disabled, callers fall back to creating the collection themselves.
+ *
+ * Metrics: tenant.pool.available (all clusters), tenant.pool.claims{result=hit|miss}.
+ */
+@Component
+public class TenantCollectionPool implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(TenantCollectionPool.class);
+
+    private final MongoTemplate mongoTemplate;
+    private final TenantClusterRouter clusterRouter;
+    private final boolean enabled;
+    private final int size;
+    private final long refillIntervalMs;
+    private final Counter hits;
+    private final Counter misses;
+    private final AtomicLong available = new AtomicLong();
+    private final Semaphore wakeups = new Semaphore(0);
+
+    private volatile boolean running;
+    private Thread filler;
+
+    public TenantCollectionPool(MongoTemplate mongoTemplate,
+                                TenantClusterRouter clusterRouter,
+                                MeterRegistry meterRegistry,
+                                @Value("${app.tenant-pool.enabled:true}") boolean enabled,
+                                @Value("${app.tenant-pool.size:20}") int size,
+                                @Value("${app.tenant-pool.refill-interval-ms:30000}") long refillIntervalMs) {
+        this.mongoTemplate = mongoTemplate;
+        this.clusterRouter = clusterRouter;
+        this.enabled = enabled && size > 0;
+        this.size = size;
+        this.refillIntervalMs = refillIntervalMs;
+        this.hits = Counter.builder("tenant.pool.claims").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("tenant.pool.claims").tag("result", "miss").register(meterRegistry);
+        Gauge.builder("tenant.pool.available", available, AtomicLong::get).register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /** Pooled collections on one cluster; entries without connectionDetails predate placement and live on the master. */
+    private static Query clusterQuery(String cluster) {
+        return TenantClusterRouter.DEFAULT_CLUSTER.equals(cluster)
+                ? query(where("connectionDetails").in(cluster, null))
+                : query(where("connectionDetails").is(cluster));
+    }
+
+    /** Oldest pooled collection on the cluster first; shared with the reactive service's findAndRemove. */
+    public static Query claimQuery(String cluster) {
+        return clusterQuery(cluster).with(Sort.by(Sort.Direction.ASC, "createdAt"));
+    }
+
+    /** Take a ready collection on the cluster out of the pool, or empty if none is left (or the pool is disabled). */
+    public Optional<PooledTenantCollection> claim(String cluster) {
+        if (!enabled) return Optional.empty();
+        PooledTenantCollection claimed = mongoTemplate.findAndRemove(claimQuery(cluster), PooledTenantCollection.class);
+        claimed(claimed != null);
+        return Optional.ofNullable(claimed);
+    }
+
+    /** Record a claim attempt made elsewhere (reactive path) and schedule a refill. */
+    public void claimed(boolean hit) {
+        if (hit) {
+            hits.increment();
+            available.updateAndGet(n -> Math.max(0, n - 1));
+        } else {
+            misses.increment();
+        }
+        wakeups.release();
+    }
+
+    /** Create, seed and index a tenant collection; the same DDL OrganizationService runs on a pool miss. */
+    void provision(MongoTemplate tenantDb, String collName) {
+        tenantDb.createCollection(collName);
+        try {
+            tenantDb.insert(OrganizationService.templateDocument(), collName);
+            tenantDb.indexOps(collName).createIndex(new Index().on("adminEmail", Sort.Direction.ASC));
+        } catch (RuntimeException ex) {
+            tenantDb.dropCollection(collName); // never pool a half-provisioned collection
+            throw ex;
+        }
+    }
+
+    void refill() {
+        available.set(mongoTemplate.count(new Query(), PooledTenantCollection.class));
+        for (String cluster : clusterRouter.clusters()) {
+            MongoTemplate tenantDb = clusterRouter.template(cluster);
+            long count = mongoTemplate.count(clusterQuery(cluster), PooledTenantCollection.class);
+            while (running && count < size) {
+                String id = new ObjectId().toHexString();
+                String collName = OrganizationService.tenantCollectionName(id);
+                provision(tenantDb, collName);
+                // registered only once ready, so a claimed collection is always complete
+                mongoTemplate.insert(new PooledTenantCollection(id, collName, cluster, new Date()));
+                available.incrementAndGet();
+                count++;
+            }
+        }
+    }
+
+    private void fillLoop() {
+        while (running) {
+            try {
+                refill();
+            } catch (Exception ex) {
+                log.warn("Could not refill tenant collection pool: {}", ex.getMessage());
+            }
+            try {
+                wakeups.tryAcquire(refillIntervalMs, TimeUnit.MILLISECONDS);
+                wakeups.drainPermits(); // one refill covers every claim since the last one
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        if (!enabled) return;
+        running = true;
+        filler = new Thread(this::fillLoop, "tenant-pool-filler");
+        filler.setDaemon(true);
+        filler.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (filler != null) {
+            wakeups.release(); // no interrupt: an in-flight provision finishes registering or rolling back
+            try {
+                filler.join(5000);
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
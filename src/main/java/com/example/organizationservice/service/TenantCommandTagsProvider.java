@@ -0,0 +1,28 @@
+package com.example.organizationservice.service;
+
+import com.mongodb.event.CommandEvent;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.mongodb.DefaultMongoCommandTagsProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tags for the mongodb.driver.commands timers (picked up by Boot's Mongo metrics auto-config).
+ * - Same tags as the default provider, but every tenant_<org_id> collection is reported as "tenant_*",
+ *   so the number of series does not grow with the number of organizations.
+ * - master_* collections keep their own name.
+ */
+@Component
+public class TenantCommandTagsProvider extends DefaultMongoCommandTagsProvider {
+
+    static final String TENANT_COLLECTIONS = OrganizationService.tenantCollectionName("*");
+
+    @Override
+    public Iterable<Tag> commandTags(CommandEvent event) {
+        return Tags.of(super.commandTags(event)).stream()
+                .map(tag -> "collection".equals(tag.getKey()) && tag.getValue().startsWith(OrganizationService.tenantCollectionName(""))
+                        ? Tag.of("collection", TENANT_COLLECTIONS)
+                        : tag)
+                .toList();
+    }
+}
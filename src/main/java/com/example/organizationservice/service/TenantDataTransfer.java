@@ -0,0 +1,248 @@
+package com.example.organizationservice.service;
+
+import com.example.organizationservice.dto.TenantImportResult;
+import com.example.organizationservice.model.OrganizationMetadata;
+import com.mongodb.ErrorCategory;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.InsertManyOptions;
+import org.bson.BsonInvalidOperationException;
+import org.bson.RawBsonDocument;
+import org.bson.json.JsonMode;
+import org.bson.json.JsonParseException;
+import org.bson.json.JsonWriterSettings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * TenantDataTransfer
+ *
+ * Moves a tenant collection in and out as a byte stream, never holding more than one batch in memory:
+ * - NDJSON: one relaxed Extended JSON document per line (the mongoexport format)
+ * - BSON: concatenated raw BSON documents (the mongodump .bson format); exact types, no re-encoding on export
+ *
+ * Export reads a cursor (app.tenant-transfer.batch-size per round trip) straight into the output stream.
+ * Import parses the input incrementally into unordered insertMany batches of the same size; the next batch is
+ * only read once the previous one is written, so a fast sender is throttled by the database. Documents whose
+ * _id already exists are skipped and counted. What each batch inserted is reported to TenantUsageRecorder.
+ * An NDJSON line is read with a bound (16M characters), as a BSON document's length is checked, so one endless
+ * line cannot exhaust the heap.
+ */
+@Component
+public class TenantDataTransfer {
+
+    public enum Format {
+        NDJSON, BSON;
+
+        public static Format of(String name) {
+            try {
+                return valueOf(name.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException | NullPointerException ex) {
+                throw new IllegalArgumentException("format must be ndjson or bson");
+            }
+        }
+    }
+
+    private static final Logger log = LoggerFactory.getLogger(TenantDataTransfer.class);
+    private static final JsonWriterSettings JSON = JsonWriterSettings.builder().outputMode(JsonMode.RELAXED).build();
+    private static final int MAX_BSON_DOCUMENT = 16 * 1024 * 1024;
+    private static final int MAX_BATCH_BYTES = 16 * 1024 * 1024;
+    private static final int MAX_NDJSON_LINE = 16 * 1024 * 1024; // chars
+
+    private final TenantClusterRouter clusterRouter;
+    private final TenantUsageRecorder usage;
+    private final TenantWriteFence writeFence;
+    private final int batchSize;
+
+    public TenantDataTransfer(TenantClusterRouter clusterRouter,
+                              TenantUsageRecorder usage,
+                              TenantWriteFence writeFence,
+                              @Value("${app.tenant-transfer.batch-size:1000}") int batchSize) {
+        if (batchSize <= 0) throw new IllegalArgumentException("app.tenant-transfer.batch-size must be positive");
+        this.clusterRouter = clusterRouter;
+        this.usage = usage;
+        this.writeFence = writeFence;
+        this.batchSize = batchSize;
+    }
+
+    // the tenant collection on whichever cluster the organization lives on
+    private MongoCollection<RawBsonDocument> collection(OrganizationMetadata tenant) {
+        return clusterRouter.template(TenantClusterRouter.clusterOf(tenant))
+                .getCollection(tenant.getCollectionName()).withDocumentClass(RawBsonDocument.class);
+    }
+
+    /** Write every document of the tenant collection to out; returns the number of documents written. */
+    public long export(OrganizationMetadata tenant, Format format, OutputStream out) throws IOException {
+        String collName = tenant.getCollectionName();
+        long count = 0;
+        OutputStream buffered = new BufferedOutputStream(out, 64 * 1024);
+        try (MongoCursor<RawBsonDocument> cursor = collection(tenant).find().batchSize(batchSize).iterator()) {
+            while (cursor.hasNext()) {
+                RawBsonDocument document = cursor.next();
+                if (format == Format.BSON) {
+                    ByteBuffer bytes = document.getByteBuffer().asNIO();
+                    buffered.write(bytes.array(), bytes.arrayOffset() + bytes.position(), bytes.remaining());
+                } else {
+                    buffered.write(document.toJson(JSON).getBytes(StandardCharsets.UTF_8));
+                    buffered.write('\n');
+                }
+                count++;
+            }
+        }
+        buffered.flush();
+        log.debug("Exported {} documents from {}", count, collName);
+        return count;
+    }
+
+    /**
+     * Insert every document read from in. A malformed document stops the import with IllegalArgumentException;
+     * batches before it stay written. Refused with TenantMovingException while the collection is being moved; a move
+     * frozen while the import runs stops it at its next batch (TenantWriteFence), batches before it stay written.
+     */
+    public TenantImportResult importData(OrganizationMetadata tenant, Format format, InputStream in) throws IOException {
+        writeFence.check(tenant);
+        String collName = tenant.getCollectionName();
+        MongoCollection<RawBsonDocument> target = collection(tenant);
+        TenantImportResult result = new TenantImportResult(0, 0);
+        List<RawBsonDocument> batch = new ArrayList<>(batchSize);
+        long batchBytes = 0;
+        long position = 0;
+
+        LineReader lines = format == Format.NDJSON
+                ? new LineReader(new InputStreamReader(in, StandardCharsets.UTF_8))
+                : null;
+        while (true) {
+            RawBsonDocument document;
+            position++;
+            if (lines != null) {
+                String line = lines.readLine(result, position);
+                if (line == null) break;
+                if (line.isBlank()) continue;
+                try {
+                    document = RawBsonDocument.parse(line);
+                } catch (JsonParseException | BsonInvalidOperationException ex) {
+                    throw new IllegalArgumentException(malformed(result, "line " + position, ex));
+                }
+            } else {
+                document = readBson(in, result, position);
+                if (document == null) break;
+            }
+
+            batch.add(document);
+            batchBytes += document.getByteBuffer().remaining();
+            if (batch.size() == batchSize || batchBytes >= MAX_BATCH_BYTES) {
+                insert(tenant, target, batch, result);
+                batchBytes = 0;
+            }
+        }
+        if (!batch.isEmpty()) insert(tenant, target, batch, result);
+        log.info("Imported {} documents into {} ({} duplicates skipped)", result.getInserted(), collName, result.getDuplicates());
+        return result;
+    }
+
+    /** BufferedReader.readLine without its unbounded line: a line past MAX_NDJSON_LINE stops the import. */
+    private static final class LineReader {
+        private final Reader in;
+        private final char[] buffer = new char[64 * 1024];
+        private final StringBuilder line = new StringBuilder();
+        private int pos;
+        private int end;
+
+        LineReader(Reader in) {
+            this.in = in;
+        }
+
+        // the next line without its \n or \r\n, or null at the end of the stream
+        String readLine(TenantImportResult result, long position) throws IOException {
+            line.setLength(0);
+            boolean read = false;
+            while (true) {
+                if (pos == end) {
+                    end = Math.max(0, in.read(buffer));
+                    pos = 0;
+                    if (end == 0) return read ? stripCr() : null;
+                }
+                read = true;
+                int start = pos;
+                while (pos < end && buffer[pos] != '\n') pos++;
+                if (line.length() + (pos - start) > MAX_NDJSON_LINE) {
+                    throw new IllegalArgumentException(malformed(result, "line " + position,
+                            "longer than " + MAX_NDJSON_LINE + " characters"));
+                }
+                line.append(buffer, start, pos - start);
+                if (pos < end) {
+                    pos++;
+                    return stripCr();
+                }
+            }
+        }
+
+        private String stripCr() {
+            int length = line.length();
+            if (length > 0 && line.charAt(length - 1) == '\r') line.setLength(length - 1);
+            return line.toString();
+        }
+    }
+
+    // one length-prefixed document, or null at a clean end of stream
+    private static RawBsonDocument readBson(InputStream in, TenantImportResult result, long position) throws IOException {
+        byte[] header = in.readNBytes(4);
+        if (header.length == 0) return null;
+        if (header.length < 4) throw new IllegalArgumentException(malformed(result, "document " + position, "truncated length"));
+        int length = ByteBuffer.wrap(header).order(ByteOrder.LITTLE_ENDIAN).getInt();
+        if (length < 5 || length > MAX_BSON_DOCUMENT) {
+            throw new IllegalArgumentException(malformed(result, "document " + position, "invalid length " + length));
+        }
+        byte[] bytes = new byte[length];
+        System.arraycopy(header, 0, bytes, 0, 4);
+        if (in.readNBytes(bytes, 4, length - 4) < length - 4) {
+            throw new IllegalArgumentException(malformed(result, "document " + position, "truncated document"));
+        }
+        return new RawBsonDocument(bytes);
+    }
+
+    private static String malformed(TenantImportResult result, String where, Object cause) {
+        String reason = cause instanceof Exception ex ? ex.getMessage() : String.valueOf(cause);
+        return "malformed " + where + ": " + reason + " (" + result.getInserted() + " documents imported before it)";
+    }
+
+    private void insert(OrganizationMetadata tenant, MongoCollection<RawBsonDocument> target, List<RawBsonDocument> batch,
+                        TenantImportResult result) {
+        writeFence.check(tenant);
+        long bytes = 0;
+        for (RawBsonDocument document : batch) bytes += document.getByteBuffer().remaining();
+        try {
+            target.insertMany(batch, new InsertManyOptions().ordered(false));
+            result.setInserted(result.getInserted() + batch.size());
+            usage.written(tenant, batch.size(), bytes, batch.size());
+        } catch (MongoBulkWriteException ex) {
+            boolean onlyDuplicates = ex.getWriteErrors().stream()
+                    .allMatch(e -> ErrorCategory.fromErrorCode(e.getCode()) == ErrorCategory.DUPLICATE_KEY);
+            // unordered: everything without a write error went in
+            for (BulkWriteError error : ex.getWriteErrors()) bytes -= batch.get(error.getIndex()).getByteBuffer().remaining();
+            int inserted = batch.size() - ex.getWriteErrors().size();
+            usage.written(tenant, inserted, bytes, inserted);
+            if (!onlyDuplicates) throw ex;
+            result.setInserted(result.getInserted() + inserted);
+            result.setDuplicates(result.getDuplicates() + ex.getWriteErrors().size());
+        }
+        batch.clear();
+    }
+}
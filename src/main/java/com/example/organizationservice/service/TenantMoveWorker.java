@@ -0,0 +1,383 @@
+package com.example.organizationservice.service;
+
+import com.example.organizationservice.model.CopyCheckpoint;
+import com.example.organizationservice.model.OrgEvent;
+import com.example.organizationservice.model.OrganizationMetadata;
+import com.example.organizationservice.model.TenantMoveJob;
+import com.example.organizationservice.repository.OrganizationMetadataRepository;
+import com.mongodb.client.model.IndexOptions;
+import com.mongodb.client.result.UpdateResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * TenantMoveWorker
+ *
+ * Moves tenant collections to other clusters in the background. POST /org/move (operators only) checks the
+ * request, records a TenantMoveJob and answers 202 with its id; this worker runs it while the organization stays
+ * readable:
+ * - freeze: movingTo is set on the metadata, only if the organization is still on the source and no other move
+ *   holds it. Every tenant write path (employee create, update, delete and bulk upsert, import) checks
+ *   TenantWriteFence against the master, not its cached metadata, before each write and each batch, and refuses
+ *   from then on with TenantMovingException (503 + Retry-After); a long import or bulk upsert stops at its next
+ *   batch. The copy starts app.tenant-clusters.move-drain-ms later, so a write that passed its check just before
+ *   the freeze has finished. Caches are invalidated here and, on a best-effort basis, on other nodes (OrgEvent
+ *   UPDATED); correctness does not depend on that event arriving
+ * - copy: TenantCollectionCopier streams the collection across in checkpointed batches (the freeze holds between
+ *   attempts, so a retry resumes where the last one stopped), then the source's secondary indexes are created on
+ *   the target
+ * - verify: the source and target document counts must match before the switch; otherwise the source changed
+ *   during the copy, and the copy is discarded and started over after another drain
+ * - switch: connectionDetails is set to the target and movingTo removed in one conditional update; caches are
+ *   invalidated again, and a write routed to the source by stale metadata fails its fence check from then on
+ * - after another drain (reads still routed by stale caches), the source collection is dropped
+ * Updates and deletes on the source during a move therefore cannot be lost or resurrected.
+ *
+ * - Jobs are claimed like OrgDeletionWorker's, with a lease (app.tenant-move.lease-ms) renewed after every copied
+ *   batch, so a long copy keeps its job and a job whose node died is taken over.
+ * - A failed attempt is retried with exponential backoff (app.tenant-move.retry-backoff-ms, doubling, at most
+ *   5 minutes) and marked FAILED after app.tenant-move.max-attempts; at once if the organization was deleted or is
+ *   held by another move. A job that gives up before the switch lifts the freeze and discards its partial copy.
+ *
+ * Metrics: tenant.move.jobs{result=done|retry|failed}, org.service.phase{operation=move} per step.
+ */
+@Component
+public class TenantMoveWorker implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(TenantMoveWorker.class);
+    private static final long MAX_BACKOFF_MS = TimeUnit.MINUTES.toMillis(5);
+
+    /** The organization is gone or held by another move: retrying cannot help. */
+    private static class MoveAbortedException extends RuntimeException {
+        MoveAbortedException(String message) {
+            super(message);
+        }
+    }
+
+    /** Another worker took the job over; it must not be written to from here any more. */
+    private static class LeaseLostException extends RuntimeException {
+        LeaseLostException() {
+            super("lease lost");
+        }
+    }
+
+    private final OrganizationMetadataRepository orgRepo;
+    private final MongoTemplate mongoTemplate;
+    private final TenantClusterRouter clusterRouter;
+    private final TenantCollectionCopier copier;
+    private final OrganizationMetadataCache orgCache;
+    private final OrgEventPublisher orgEvents;
+    private final MeterRegistry meterRegistry;
+    private final long drainMs;
+    private final long pollIntervalMs;
+    private final long leaseMs;
+    private final long retryBackoffMs;
+    private final int maxAttempts;
+    private final Counter done;
+    private final Counter retried;
+    private final Counter failed;
+    private final Semaphore wakeups = new Semaphore(0);
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public TenantMoveWorker(OrganizationMetadataRepository orgRepo,
+                            MongoTemplate mongoTemplate,
+                            TenantClusterRouter clusterRouter,
+                            TenantCollectionCopier copier,
+                            OrganizationMetadataCache orgCache,
+                            OrgEventPublisher orgEvents,
+                            MeterRegistry meterRegistry,
+                            @Value("${app.tenant-clusters.move-drain-ms:2000}") long drainMs,
+                            @Value("${app.tenant-move.poll-interval-ms:5000}") long pollIntervalMs,
+                            @Value("${app.tenant-move.lease-ms:60000}") long leaseMs,
+                            @Value("${app.tenant-move.retry-backoff-ms:1000}") long retryBackoffMs,
+                            @Value("${app.tenant-move.max-attempts:10}") int maxAttempts) {
+        if (pollIntervalMs <= 0 || leaseMs <= 0 || retryBackoffMs <= 0 || maxAttempts <= 0) {
+            throw new IllegalArgumentException("app.tenant-move.* settings must be positive");
+        }
+        this.orgRepo = orgRepo;
+        this.mongoTemplate = mongoTemplate;
+        this.clusterRouter = clusterRouter;
+        this.copier = copier;
+        this.orgCache = orgCache;
+        this.orgEvents = orgEvents;
+        this.meterRegistry = meterRegistry;
+        this.drainMs = drainMs;
+        this.pollIntervalMs = pollIntervalMs;
+        this.leaseMs = leaseMs;
+        this.retryBackoffMs = retryBackoffMs;
+        this.maxAttempts = maxAttempts;
+        this.done = Counter.builder("tenant.move.jobs").tag("result", "done").register(meterRegistry);
+        this.retried = Counter.builder("tenant.move.jobs").tag("result", "retry").register(meterRegistry);
+        this.failed = Counter.builder("tenant.move.jobs").tag("result", "failed").register(meterRegistry);
+    }
+
+    private <T> T phase(String phase, Supplier<T> step) {
+        return meterRegistry.timer(OrganizationService.PHASE_TIMER, "operation", "move", "phase", phase).record(step);
+    }
+
+    private void phase(String phase, Runnable step) {
+        meterRegistry.timer(OrganizationService.PHASE_TIMER, "operation", "move", "phase", phase).record(step);
+    }
+
+    /** Checks the request and records the move; it starts right away, on this node or another. */
+    public TenantMoveJob submit(String orgName, String targetCluster) {
+        if (orgName == null || orgName.isBlank()) throw new IllegalArgumentException("organization_name required");
+        if (!clusterRouter.clusters().contains(targetCluster)) throw new IllegalArgumentException("unknown cluster: " + targetCluster);
+
+        OrganizationMetadata meta = orgRepo.findByOrganizationName(orgName)
+                .orElseThrow(() -> new IllegalArgumentException("organization not found"));
+        String sourceCluster = TenantClusterRouter.clusterOf(meta);
+        if (sourceCluster.equals(targetCluster)) throw new IllegalArgumentException("organization is already on " + targetCluster);
+        // a second job submitted concurrently fails at the freeze
+        if (meta.getMovingTo() != null || mongoTemplate.exists(query(where("organizationId").is(meta.getId())
+                .and("status").in(TenantMoveJob.Status.PENDING, TenantMoveJob.Status.RUNNING)), TenantMoveJob.class)) {
+            throw new IllegalArgumentException("organization is already being moved");
+        }
+
+        Date now = new Date();
+        TenantMoveJob job = mongoTemplate.insert(new TenantMoveJob(UUID.randomUUID().toString(), orgName, meta.getId(),
+                meta.getCollectionName(), sourceCluster, targetCluster, TenantMoveJob.Status.PENDING,
+                null, false, null, false, 0, null, now, now, now, null));
+        wakeups.release();
+        return job;
+    }
+
+    public Optional<TenantMoveJob> find(String jobId) {
+        return Optional.ofNullable(mongoTemplate.findById(jobId, TenantMoveJob.class));
+    }
+
+    // oldest due job, whether pending or with an expired lease; the claim renews the lease and counts the attempt
+    private TenantMoveJob claim() {
+        Date now = new Date();
+        Query due = query(where("status").in(TenantMoveJob.Status.PENDING, TenantMoveJob.Status.RUNNING)
+                .and("nextAttemptAt").lte(now))
+                .with(Sort.by(Sort.Direction.ASC, "nextAttemptAt"));
+        Update lease = Update.update("status", TenantMoveJob.Status.RUNNING)
+                .set("nextAttemptAt", new Date(now.getTime() + leaseMs))
+                .set("updatedAt", now)
+                .inc("attempts", 1);
+        return mongoTemplate.findAndModify(due, lease, FindAndModifyOptions.options().returnNew(true), TenantMoveJob.class);
+    }
+
+    // the job as long as this attempt holds it
+    private static Query leased(TenantMoveJob job) {
+        return query(where("_id").is(job.getId()).and("attempts").is(job.getAttempts()));
+    }
+
+    private void record(TenantMoveJob job, Update update) {
+        if (mongoTemplate.updateFirst(leased(job), update.set("updatedAt", new Date()), TenantMoveJob.class).getMatchedCount() == 0) {
+            throw new LeaseLostException();
+        }
+    }
+
+    private void renewLease(TenantMoveJob job) {
+        record(job, Update.update("nextAttemptAt", new Date(System.currentTimeMillis() + leaseMs)));
+    }
+
+    void runJob(TenantMoveJob job) {
+        MongoTemplate source = clusterRouter.template(job.getSourceCluster());
+        MongoTemplate target = clusterRouter.template(job.getTargetCluster());
+        String collName = job.getCollectionName();
+        try {
+            if (job.getFrozenAt() == null) {
+                freeze(job);
+                Date frozenAt = new Date();
+                record(job, Update.update("frozenAt", frozenAt));
+                job.setFrozenAt(frozenAt);
+            }
+            if (!job.isCopied()) {
+                awaitDrain(job.getFrozenAt());
+                phase("copy", () -> copier.copy(source, target, collName, checkpointId(job), progress -> renewLease(job)));
+                renewLease(job);
+                phase("copyIndexes", () -> copyIndexes(source, target, collName));
+                record(job, Update.update("copied", true));
+                job.setCopied(true);
+            }
+            if (job.getSwitchedAt() == null) {
+                verifyCopy(job, source, target);
+                switchOver(job, target);
+                Date switchedAt = new Date();
+                record(job, Update.update("switchedAt", switchedAt));
+                job.setSwitchedAt(switchedAt);
+            }
+            if (!job.isSourceDropped()) {
+                awaitDrain(job.getSwitchedAt());
+                phase("dropSource", () -> source.dropCollection(collName));
+                record(job, Update.update("sourceDropped", true));
+            }
+            Date now = new Date();
+            record(job, Update.update("status", TenantMoveJob.Status.DONE).set("finishedAt", now).unset("lastError"));
+            done.increment();
+            log.info("Moved {} ({}) from {} to {}", job.getOrganizationName(), collName, job.getSourceCluster(), job.getTargetCluster());
+        } catch (LeaseLostException ex) {
+            log.warn("Move of {} was taken over by another worker", job.getOrganizationName());
+        } catch (Exception ex) {
+            boolean giveUp = ex instanceof MoveAbortedException || job.getAttempts() >= maxAttempts;
+            if (giveUp && job.getFrozenAt() != null && job.getSwitchedAt() == null) unfreeze(job, target);
+            long backoff = Math.min(MAX_BACKOFF_MS, retryBackoffMs << Math.min(job.getAttempts() - 1, 20));
+            Date now = new Date();
+            Update update = Update.update("status", giveUp ? TenantMoveJob.Status.FAILED : TenantMoveJob.Status.PENDING)
+                    .set("nextAttemptAt", new Date(now.getTime() + backoff))
+                    .set("lastError", String.valueOf(ex.getMessage()))
+                    .set("updatedAt", now);
+            if (giveUp) update.set("finishedAt", now);
+            mongoTemplate.updateFirst(leased(job), update, TenantMoveJob.class);
+            (giveUp ? failed : retried).increment();
+            log.warn("Move of {} to {} failed (attempt {} of {}): {}",
+                    job.getOrganizationName(), job.getTargetCluster(), job.getAttempts(), maxAttempts, ex.getMessage());
+        }
+    }
+
+    private static String checkpointId(TenantMoveJob job) {
+        return job.getSourceCluster() + "/" + job.getCollectionName() + "->" + job.getTargetCluster() + "/" + job.getCollectionName();
+    }
+
+    private void freeze(TenantMoveJob job) {
+        UpdateResult frozen = phase("freeze", () -> mongoTemplate.updateFirst(
+                query(where("_id").is(job.getOrganizationId()).and("movingTo").is(null)
+                        .andOperator(TenantClusterRouter.onCluster(job.getSourceCluster()))),
+                Update.update("movingTo", job.getTargetCluster()), OrganizationMetadata.class));
+        if (frozen.getMatchedCount() == 0) {
+            throw new MoveAbortedException(orgRepo.existsById(job.getOrganizationId())
+                    ? "organization is being moved by another job or is no longer on " + job.getSourceCluster()
+                    : "organization was deleted");
+        }
+        refresh(job);
+    }
+
+    // a write that slipped past the freeze changed the source after (part of) it was copied: copy it again
+    private void verifyCopy(TenantMoveJob job, MongoTemplate source, MongoTemplate target) {
+        String collName = job.getCollectionName();
+        long sourceCount = phase("verify", () -> source.getCollection(collName).countDocuments());
+        long targetCount = target.getCollection(collName).countDocuments();
+        if (sourceCount == targetCount) return;
+        target.dropCollection(collName);
+        mongoTemplate.remove(query(where("_id").is(checkpointId(job))), CopyCheckpoint.class);
+        Date frozenAt = new Date();
+        record(job, Update.update("copied", false).set("frozenAt", frozenAt));
+        job.setCopied(false);
+        job.setFrozenAt(frozenAt);
+        throw new IllegalStateException("source changed during the copy (" + sourceCount + " documents, "
+                + targetCount + " copied); copying again");
+    }
+
+    private void switchOver(TenantMoveJob job, MongoTemplate target) {
+        UpdateResult switched = phase("switch", () -> mongoTemplate.updateFirst(
+                query(where("_id").is(job.getOrganizationId()).and("movingTo").is(job.getTargetCluster())),
+                Update.update("connectionDetails", job.getTargetCluster()).unset("movingTo"), OrganizationMetadata.class));
+        if (switched.getMatchedCount() == 0) {
+            // deleted meanwhile (the deletion drops the source): the copy is an orphan
+            target.dropCollection(job.getCollectionName());
+            throw new MoveAbortedException("organization was deleted");
+        }
+        refresh(job);
+    }
+
+    // writes resume on the source, so a later move must not resume this copy: drop it and its checkpoint
+    private void unfreeze(TenantMoveJob job, MongoTemplate target) {
+        try {
+            target.dropCollection(job.getCollectionName());
+            mongoTemplate.remove(query(where("_id").is(checkpointId(job))), CopyCheckpoint.class);
+            mongoTemplate.updateFirst(query(where("_id").is(job.getOrganizationId()).and("movingTo").is(job.getTargetCluster())),
+                    new Update().unset("movingTo"), OrganizationMetadata.class);
+            refresh(job);
+        } catch (RuntimeException ex) {
+            log.error("Could not lift the write freeze of {}: {}", job.getOrganizationName(), ex.getMessage());
+        }
+    }
+
+    // by the current name: the organization may have been renamed since the job was submitted
+    private void refresh(TenantMoveJob job) {
+        orgRepo.findById(job.getOrganizationId()).ifPresent(meta -> {
+            orgCache.invalidate(meta.getOrganizationName());
+            orgEvents.publish(OrgEvent.Type.UPDATED, meta.getAdminUserId(), meta.getOrganizationName());
+        });
+    }
+
+    private void awaitDrain(Date since) throws InterruptedException {
+        long remaining = since.getTime() + drainMs - System.currentTimeMillis();
+        if (remaining > 0) Thread.sleep(remaining);
+    }
+
+    // inserted documents carry no index definitions; recreate everything but _id_ with its name and options
+    private static void copyIndexes(MongoTemplate source, MongoTemplate target, String collName) {
+        for (Document index : source.getCollection(collName).listIndexes()) {
+            if ("_id_".equals(index.getString("name"))) continue;
+            IndexOptions options = new IndexOptions()
+                    .name(index.getString("name"))
+                    .unique(index.getBoolean("unique", false))
+                    .sparse(index.getBoolean("sparse", false));
+            if (index.get("partialFilterExpression") instanceof Document filter) options.partialFilterExpression(filter);
+            if (index.get("expireAfterSeconds") instanceof Number ttl) options.expireAfter(ttl.longValue(), TimeUnit.SECONDS);
+            target.getCollection(collName).createIndex(index.get("key", Document.class), options);
+        }
+    }
+
+    private void workLoop() {
+        while (running) {
+            try {
+                for (TenantMoveJob job = claim(); job != null && running; job = claim()) {
+                    runJob(job);
+                }
+            } catch (Exception ex) {
+                log.warn("Could not claim tenant move jobs: {}", ex.getMessage());
+            }
+            try {
+                wakeups.tryAcquire(pollIntervalMs, TimeUnit.MILLISECONDS);
+                wakeups.drainPermits();
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = new Thread(this::workLoop, "tenant-move-worker");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            wakeups.release(); // no interrupt: a running copy keeps its checkpoint and is resumed once the lease expires
+            try {
+                worker.join(5000);
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
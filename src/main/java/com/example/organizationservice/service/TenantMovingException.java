@@ -0,0 +1,19 @@
+package com.example.organizationservice.service;
+
+/**
+ * A write to a tenant whose collection is being moved to another cluster (OrganizationMetadata.movingTo), or that
+ * was routed with metadata the move has made stale. Writes are refused for the length of the copy so nothing is
+ * lost between source and target; reads keep working. Raised by TenantWriteFence; controllers answer 503 with
+ * Retry-After.
+ */
+public class TenantMovingException extends RuntimeException {
+    public static final long RETRY_AFTER_SECONDS = 5;
+
+    public TenantMovingException() {
+        super("organization is being moved to another cluster, retry later");
+    }
+
+    public long getRetryAfterSeconds() {
+        return RETRY_AFTER_SECONDS;
+    }
+}
@@ -0,0 +1,228 @@
+package com.example.organizationservice.service;
+
+import com.example.organizationservice.model.OrganizationMetadata;
+import com.example.organizationservice.model.TenantStats;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * TenantStatsSampler
+ *
+ * Low-priority reconciliation of master_tenant_stats; the only place the stats read a tenant collection:
+ * - every app.tenant-stats.sample-interval-ms a pass walks the organizations in id order,
+ *   app.tenant-stats.sample-page-size at a time. Each one not sampled within the interval is claimed with
+ *   findAndModify on sampledAt (with several nodes, each tenant is sampled by one of them), collStats is run on its
+ *   collection on its cluster, and documentCount, dataSize, storageSize and indexSize are set from it
+ * - requestsPerSecond and writesPerSecond are the growth of the request and write counters since the previous sample
+ * - it runs on a minimum-priority thread and pauses app.tenant-stats.sample-pause-ms after each tenant, so a pass
+ *   over thousands of tenants is spread out rather than a burst of collStats
+ * - after a pass, stats left behind by deleted organizations are removed
+ * Counts flushed by TenantUsageRecorder between a collStats and its update are overwritten; the next sample
+ * corrects them.
+ *
+ * Metrics: tenant.stats.samples{result=ok|failed}, org.service.phase{operation=tenantStats,phase=collStats}.
+ */
+@Component
+public class TenantStatsSampler implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(TenantStatsSampler.class);
+
+    private final MongoTemplate mongoTemplate;
+    private final TenantClusterRouter clusterRouter;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final long intervalMs;
+    private final long pauseMs;
+    private final int pageSize;
+    private final Counter sampled;
+    private final Counter failed;
+    private final Semaphore wakeups = new Semaphore(0);
+
+    private volatile boolean running;
+    private Thread sampler;
+
+    public TenantStatsSampler(MongoTemplate mongoTemplate,
+                              TenantClusterRouter clusterRouter,
+                              MeterRegistry meterRegistry,
+                              @Value("${app.tenant-stats.sampler.enabled:true}") boolean enabled,
+                              @Value("${app.tenant-stats.sample-interval-ms:300000}") long intervalMs,
+                              @Value("${app.tenant-stats.sample-pause-ms:100}") long pauseMs,
+                              @Value("${app.tenant-stats.sample-page-size:100}") int pageSize) {
+        if (intervalMs <= 0 || pauseMs < 0 || pageSize <= 0) throw new IllegalArgumentException("app.tenant-stats.* settings must be positive");
+        this.mongoTemplate = mongoTemplate;
+        this.clusterRouter = clusterRouter;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.intervalMs = intervalMs;
+        this.pauseMs = pauseMs;
+        this.pageSize = pageSize;
+        this.sampled = Counter.builder("tenant.stats.samples").tag("result", "ok").register(meterRegistry);
+        this.failed = Counter.builder("tenant.stats.samples").tag("result", "failed").register(meterRegistry);
+    }
+
+    /** One pass over every organization; false if stopped part-way. */
+    boolean samplePass() throws InterruptedException {
+        String after = null;
+        while (running) {
+            Query page = (after == null ? new Query() : query(where("_id").gt(after)))
+                    .with(Sort.by(Sort.Direction.ASC, "_id"))
+                    .limit(pageSize);
+            page.fields().include("organizationName", "collectionName", "connectionDetails");
+            List<OrganizationMetadata> tenants = mongoTemplate.find(page, OrganizationMetadata.class);
+            if (tenants.isEmpty()) return true;
+            after = tenants.get(tenants.size() - 1).getId();
+
+            Date due = new Date(System.currentTimeMillis() - intervalMs);
+            Map<String, Date> sampledAt = sampledAt(tenants);
+            for (OrganizationMetadata tenant : tenants) {
+                Date last = sampledAt.get(tenant.getId());
+                if (last != null && !last.before(due)) continue;
+                TenantStats previous = claim(tenant.getId());
+                if (previous == null) continue;
+                try {
+                    sample(tenant, previous);
+                    sampled.increment();
+                } catch (Exception ex) {
+                    failed.increment();
+                    log.warn("Could not sample {} ({}): {}", tenant.getOrganizationName(), tenant.getCollectionName(), ex.getMessage());
+                }
+                if (!pause(pauseMs)) return false;
+            }
+        }
+        return false;
+    }
+
+    private Map<String, Date> sampledAt(List<OrganizationMetadata> tenants) {
+        Query stats = query(where("_id").in(tenants.stream().map(OrganizationMetadata::getId).toList()));
+        stats.fields().include("sampledAt");
+        return mongoTemplate.find(stats, TenantStats.class).stream()
+                .filter(found -> found.getSampledAt() != null)
+                .collect(Collectors.toMap(TenantStats::getId, TenantStats::getSampledAt));
+    }
+
+    // the stats before the claim (empty ones for a first sample), or null if another node sampled it meanwhile
+    private TenantStats claim(String tenantId) {
+        Date now = new Date();
+        Query due = query(where("_id").is(tenantId)
+                .orOperator(where("sampledAt").is(null), where("sampledAt").lt(new Date(now.getTime() - intervalMs))));
+        try {
+            TenantStats previous = mongoTemplate.findAndModify(due, Update.update("sampledAt", now),
+                    FindAndModifyOptions.options().upsert(true), TenantStats.class);
+            return previous == null ? new TenantStats() : previous;
+        } catch (DuplicateKeyException ex) {
+            return null; // the document exists but is not due: the upsert collided with it
+        }
+    }
+
+    private void sample(OrganizationMetadata tenant, TenantStats previous) {
+        Document collStats = meterRegistry.timer(OrganizationService.PHASE_TIMER, "operation", "tenantStats", "phase", "collStats")
+                .record(() -> clusterRouter.template(TenantClusterRouter.clusterOf(tenant))
+                        .executeCommand(new Document("collStats", tenant.getCollectionName())));
+        Update update = Update.update("organizationName", tenant.getOrganizationName())
+                .set("documentCount", number(collStats, "count"))
+                .set("dataSize", number(collStats, "size"))
+                .set("storageSize", number(collStats, "storageSize"))
+                .set("indexSize", number(collStats, "totalIndexSize"))
+                .set("requestsAtSample", previous.getRequests())
+                .set("writesAtSample", previous.getWrites());
+        if (previous.getSampledAt() != null) {
+            double seconds = (System.currentTimeMillis() - previous.getSampledAt().getTime()) / 1000.0;
+            if (seconds > 0) {
+                update.set("requestsPerSecond", (previous.getRequests() - previous.getRequestsAtSample()) / seconds)
+                        .set("writesPerSecond", (previous.getWrites() - previous.getWritesAtSample()) / seconds);
+            }
+        }
+        mongoTemplate.updateFirst(query(where("_id").is(tenant.getId())), update, TenantStats.class);
+    }
+
+    private static long number(Document collStats, String field) {
+        return collStats.get(field) instanceof Number value ? value.longValue() : 0;
+    }
+
+    /** Removes stats whose organization is gone (a flush can recreate them after OrgDeletionWorker removed them). */
+    void removeOrphans() {
+        String after = null;
+        while (running) {
+            Query page = (after == null ? new Query() : query(where("_id").gt(after)))
+                    .with(Sort.by(Sort.Direction.ASC, "_id"))
+                    .limit(pageSize);
+            page.fields().include("_id");
+            List<String> ids = mongoTemplate.find(page, TenantStats.class).stream().map(TenantStats::getId).toList();
+            if (ids.isEmpty()) return;
+            after = ids.get(ids.size() - 1);
+
+            Query existing = query(where("_id").in(ids));
+            existing.fields().include("_id");
+            Set<String> live = mongoTemplate.find(existing, OrganizationMetadata.class).stream()
+                    .map(OrganizationMetadata::getId)
+                    .collect(Collectors.toSet());
+            List<String> orphans = ids.stream().filter(id -> !live.contains(id)).toList();
+            if (!orphans.isEmpty()) mongoTemplate.remove(query(where("_id").in(orphans)), TenantStats.class);
+        }
+    }
+
+    // false once stopping
+    private boolean pause(long ms) throws InterruptedException {
+        return !wakeups.tryAcquire(ms, TimeUnit.MILLISECONDS) && running;
+    }
+
+    private void sampleLoop() {
+        // the first pass waits an interval too, so it does not add to startup
+        while (running) {
+            try {
+                if (!pause(intervalMs)) return;
+                if (samplePass()) removeOrphans();
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception ex) {
+                if (!running) return;
+                log.warn("Could not sample tenant stats: {}", ex.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        if (!enabled) return;
+        running = true;
+        sampler = new Thread(this::sampleLoop, "tenant-stats-sampler");
+        sampler.setDaemon(true);
+        sampler.setPriority(Thread.MIN_PRIORITY);
+        sampler.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        wakeups.release();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
@@ -0,0 +1,226 @@
+package com.example.organizationservice.service;
+
+import com.example.organizationservice.model.OrganizationMetadata;
+import com.example.organizationservice.model.TenantStats;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * TenantUsageRecorder
+ *
+ * Keeps the counters of master_tenant_stats (TenantStats) current without reading tenant collections:
+ * - the write paths (EmployeeService, ReactiveEmployeeService, TenantDataTransfer) report the documents they added
+ *   or removed, their BSON bytes and the documents written; the rate limit filters report every admitted /org/*
+ *   request of an authenticated admin, for the admin's own organization. Query parameters are never counted, so
+ *   unauthenticated traffic can neither inflate a tenant's counters nor make the flush look up made-up names
+ * - both only add to in-memory counts (merged per key, so none is lost to a concurrent flush); every
+ *   app.tenant-stats.flush-ms they are written as one unordered bulk of $inc upserts, so a request costs no Mongo
+ *   round trip and a busy tenant one update per flush
+ * - requests are counted by the organization name of the admin's token (checked against master_admins by the JWT
+ *   filter) and resolved to the organization id when flushed, through OrganizationMetadataCache, which the
+ *   request itself has just filled; an organization deleted in between is dropped then. At most
+ *   app.tenant-stats.max-pending organizations are held between flushes, requests for further ones are not counted
+ * - a failed flush is retried with the next one. What a node had not flushed when it died is lost; the document
+ *   counts and sizes are corrected by TenantStatsSampler, the request and write counters are not
+ *
+ * Metrics: tenant.stats.flushes{result=ok|failed}, tenant.stats.dropped (requests not counted).
+ */
+@Component
+public class TenantUsageRecorder implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(TenantUsageRecorder.class);
+
+    /** Counts of one organization not flushed yet. */
+    private record Usage(String organizationName, long documents, long bytes, long writes, long requests) {
+        Usage plus(Usage other) {
+            // the later name wins, so a rename reaches the stats with the next flush
+            return new Usage(other.organizationName, documents + other.documents, bytes + other.bytes,
+                    writes + other.writes, requests + other.requests);
+        }
+
+        Update update(Date now) {
+            Update update = new Update().set("organizationName", organizationName).set("updatedAt", now);
+            if (documents != 0) update.inc("documentCount", documents);
+            if (bytes != 0) update.inc("dataSize", bytes);
+            if (writes != 0) update.inc("writes", writes);
+            if (requests != 0) update.inc("requests", requests);
+            return update;
+        }
+    }
+
+    private final MongoTemplate mongoTemplate;
+    private final OrganizationMetadataCache orgCache;
+    private final long flushMs;
+    private final int maxPending;
+    private final Counter flushed;
+    private final Counter flushFailed;
+    private final Counter dropped;
+    private final ConcurrentHashMap<String, Usage> byTenant = new ConcurrentHashMap<>(); // by organization id
+    private final ConcurrentHashMap<String, Long> requestsByName = new ConcurrentHashMap<>();
+    private final Semaphore wakeups = new Semaphore(0);
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    public TenantUsageRecorder(MongoTemplate mongoTemplate,
+                               OrganizationMetadataCache orgCache,
+                               MeterRegistry meterRegistry,
+                               @Value("${app.tenant-stats.flush-ms:5000}") long flushMs,
+                               @Value("${app.tenant-stats.max-pending:100000}") int maxPending) {
+        if (flushMs <= 0 || maxPending <= 0) throw new IllegalArgumentException("app.tenant-stats.* settings must be positive");
+        this.mongoTemplate = mongoTemplate;
+        this.orgCache = orgCache;
+        this.flushMs = flushMs;
+        this.maxPending = maxPending;
+        this.flushed = Counter.builder("tenant.stats.flushes").tag("result", "ok").register(meterRegistry);
+        this.flushFailed = Counter.builder("tenant.stats.flushes").tag("result", "failed").register(meterRegistry);
+        this.dropped = Counter.builder("tenant.stats.dropped").register(meterRegistry);
+    }
+
+    /** An admitted request of an authenticated admin of the organization; called by the rate limit filters. */
+    public void request(String organizationName) {
+        if (organizationName == null || organizationName.isBlank()) return;
+        if (requestsByName.size() >= maxPending && !requestsByName.containsKey(organizationName)) {
+            dropped.increment();
+            return;
+        }
+        requestsByName.merge(organizationName, 1L, Long::sum);
+    }
+
+    /** Documents added (negative: removed) to the tenant collection, their BSON bytes, and documents written. */
+    public void written(OrganizationMetadata tenant, long documents, long bytes, long writes) {
+        if (documents == 0 && bytes == 0 && writes == 0) return;
+        byTenant.merge(tenant.getId(), new Usage(tenant.getOrganizationName(), documents, bytes, writes, 0), Usage::plus);
+    }
+
+    /** The organization's stats as last flushed (at most app.tenant-stats.flush-ms behind); zeros before the first. */
+    public TenantStats stats(OrganizationMetadata tenant) {
+        TenantStats stats = mongoTemplate.findById(tenant.getId(), TenantStats.class);
+        if (stats == null) {
+            stats = new TenantStats();
+            stats.setId(tenant.getId());
+        }
+        stats.setOrganizationName(tenant.getOrganizationName());
+        return stats;
+    }
+
+    void flush() {
+        for (String name : requestsByName.keySet()) {
+            Long count = requestsByName.remove(name);
+            if (count == null) continue;
+            OrganizationMetadata tenant;
+            try {
+                tenant = orgCache.lookup(name).metadata();
+            } catch (RuntimeException ex) {
+                requestsByName.merge(name, count, Long::sum);
+                throw ex;
+            }
+            if (tenant != null) {
+                byTenant.merge(tenant.getId(), new Usage(tenant.getOrganizationName(), 0, 0, 0, count), Usage::plus);
+            }
+        }
+
+        List<Map.Entry<String, Usage>> batch = new ArrayList<>();
+        for (String tenantId : byTenant.keySet()) {
+            Usage usage = byTenant.remove(tenantId);
+            if (usage != null) batch.add(Map.entry(tenantId, usage));
+        }
+        if (batch.isEmpty()) return;
+        Date now = new Date();
+        BulkOperations updates = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, TenantStats.class);
+        for (Map.Entry<String, Usage> entry : batch) {
+            updates.upsert(query(where("_id").is(entry.getKey())), entry.getValue().update(now));
+        }
+        try {
+            updates.execute();
+            flushed.increment();
+        } catch (BulkOperationException ex) {
+            // unordered: only the failed updates go again (e.g. two nodes creating the same document)
+            ex.getErrors().forEach(error -> requeue(batch.get(error.getIndex())));
+            flushFailed.increment();
+            throw ex;
+        } catch (RuntimeException ex) {
+            batch.forEach(this::requeue);
+            flushFailed.increment();
+            throw ex;
+        }
+    }
+
+    private void requeue(Map.Entry<String, Usage> entry) {
+        byTenant.merge(entry.getKey(), entry.getValue(), (queued, failed) -> failed.plus(queued));
+    }
+
+    private void flushLoop() {
+        while (running) {
+            try {
+                if (wakeups.tryAcquire(flushMs, TimeUnit.MILLISECONDS)) return; // stopping: stop() flushes last
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            try {
+                flush();
+            } catch (Exception ex) {
+                log.warn("Could not flush tenant usage: {}", ex.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        flusher = new Thread(this::flushLoop, "tenant-usage-flush");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (flusher != null) {
+            // no interrupt: a flush cut short after the server applied it would be counted twice
+            wakeups.release();
+            try {
+                flusher.join(5000);
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        try {
+            flush();
+        } catch (Exception ex) {
+            log.warn("Could not flush tenant usage on shutdown: {}", ex.getMessage());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // stopped after the web server, so the last flush has the last requests
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+}
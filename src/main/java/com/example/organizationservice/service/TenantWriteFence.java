@@ -0,0 +1,50 @@
+package com.example.organizationservice.service;
+
+import com.example.organizationservice.model.OrganizationMetadata;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * TenantWriteFence
+ *
+ * Checked by every tenant write path right before each write (each employee write, each bulk-upsert and import
+ * batch), against master_organizations and not the metadata cache: the write only goes ahead while the
+ * organization is still on the cluster the request resolved and no move has frozen it (movingTo). So a node with
+ * stale cached metadata, or a long import that started before the freeze, stops writing to the source at its next
+ * batch; TenantMoveWorker's drain only has to cover a write already past this check.
+ * A refused write drops the organization from this node's OrganizationMetadataCache, so the client's retry after
+ * the move is routed to the new cluster.
+ */
+@Component
+public class TenantWriteFence {
+
+    private final MongoTemplate mongoTemplate;
+    private final OrganizationMetadataCache orgCache;
+
+    public TenantWriteFence(MongoTemplate mongoTemplate, OrganizationMetadataCache orgCache) {
+        this.mongoTemplate = mongoTemplate;
+        this.orgCache = orgCache;
+    }
+
+    /** Matches the tenant's metadata only while writes to the collection the tenant names are allowed. */
+    public static Query writable(OrganizationMetadata tenant) {
+        return query(where("_id").is(tenant.getId()).and("movingTo").is(null)
+                .andOperator(TenantClusterRouter.onCluster(TenantClusterRouter.clusterOf(tenant))));
+    }
+
+    public void check(OrganizationMetadata tenant) {
+        if (tenant.getMovingTo() != null || !mongoTemplate.exists(writable(tenant), OrganizationMetadata.class)) {
+            throw refused(tenant);
+        }
+    }
+
+    /** The exception for a refused write, after dropping the stale cache entry. */
+    public TenantMovingException refused(OrganizationMetadata tenant) {
+        orgCache.invalidate(tenant.getOrganizationName());
+        return new TenantMovingException();
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.organizationservice.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * Logs which threading mode serves requests.
+ *
+ * - spring.threads.virtual.enabled=true runs Tomcat request handling (and with it the service layer and
+ *   its blocking Mongo calls) on virtual threads. Spring Boot only honours it on a Java 21+ runtime.
+ * - On an older runtime the flag is silently ignored by Spring Boot, so a warning is logged here instead.
+ * - BCrypt stays on PasswordHasher's bounded platform pool in both modes (CPU-bound work).
+ */
+@Component
+public class ThreadingModeReporter implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(ThreadingModeReporter.class);
+
+    @Autowired
+    private Environment environment;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualRequested;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            log.info("Request handling runs on virtual threads");
+        } else if (virtualRequested) {
+            log.warn("spring.threads.virtual.enabled=true needs Java 21+, running on Java {} with platform threads",
+                    Runtime.version().feature());
+        } else {
+            log.info("Request handling runs on platform threads");
+        }
+    }
+}
@@ -0,0 +1,863 @@
+package com.example.organizationservice.contract;
+
+import com.example.organizationservice.dto.EmployeeBulkResult;
+import com.example.organizationservice.dto.EmployeePage;
+import com.example.organizationservice.dto.LoginResponse;
+import com.example.organizationservice.dto.OrganizationPage;
+import com.example.organizationservice.model.Employee;
+import com.example.organizationservice.model.OrgDeletionJob;
+import com.example.organizationservice.model.OrganizationMetadata;
+import com.example.organizationservice.model.TenantMoveJob;
+import com.example.organizationservice.model.TenantStats;
+import com.example.organizationservice.security.JwtUtil;
+import com.example.organizationservice.security.OperatorTokenFilter;
+import com.mongodb.ConnectionString;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoDatabase;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.reactive.function.BodyInserters;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * HTTP contract of the organization API, run against both stacks (ServletApiContractTest, ReactiveApiContractTest)
+ * over a real port, with in-memory MongoDB wire-protocol servers standing in for mongod: one for the master
+ * database (and default tenant cluster), one as a second tenant cluster.
+ */
+abstract class OrganizationApiContract {
+
+    private static final MongoServer MONGO = new MongoServer(new MemoryBackend());
+    private static final InetSocketAddress MONGO_ADDRESS = MONGO.bind();
+    private static final String MASTER_URI = "mongodb://" + MONGO_ADDRESS.getHostString() + ":" + MONGO_ADDRESS.getPort() + "/org_contract_db";
+    private static final MongoServer CLUSTER_B = new MongoServer(new MemoryBackend());
+    private static final InetSocketAddress CLUSTER_B_ADDRESS = CLUSTER_B.bind();
+    private static final String CLUSTER_B_URI = "mongodb://" + CLUSTER_B_ADDRESS.getHostString() + ":" + CLUSTER_B_ADDRESS.getPort() + "/org_contract_tenants";
+
+    private static final String OPERATOR_TOKEN = "contract-operator-token";
+
+    @DynamicPropertySource
+    static void mongo(DynamicPropertyRegistry registry) {
+        registry.add("spring.mongodb.uri", () -> MASTER_URI);
+        registry.add("app.tenant-clusters.names", () -> "cluster-b");
+        registry.add("app.tenant-clusters.cluster-b.uri", () -> CLUSTER_B_URI);
+        registry.add("app.tenant-clusters.move-drain-ms", () -> "0");
+        registry.add("app.operator.token", () -> OPERATOR_TOKEN);
+        // every test logs in from 127.0.0.1; only organizationOverRateLimitGets429 is meant to hit a limit
+        registry.add("app.rate-limit.login.requests-per-second", () -> "1000");
+        registry.add("app.rate-limit.login.burst", () -> "1000");
+        registry.add("app.rate-limit.override-refresh-ms", () -> "100");
+        registry.add("app.tenant-stats.flush-ms", () -> "100");
+        registry.add("app.tenant-stats.sample-interval-ms", () -> "300");
+        registry.add("app.tenant-stats.sample-pause-ms", () -> "0");
+    }
+
+    @LocalServerPort
+    int port;
+
+    @Value("${app.jwt.secret}")
+    String jwtSecret;
+
+    WebTestClient client;
+    String org;
+    String email;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        client = WebTestClient.bindToServer().baseUrl("http://localhost:" + port).build();
+        org = "contract-" + UUID.randomUUID();
+        email = "admin@" + org + ".example";
+        awaitReadiness();
+    }
+
+    /** Like a load balancer: no traffic until MasterIndexInitializer has connected and created the unique indexes. */
+    private void awaitReadiness() throws InterruptedException {
+        for (int attempt = 0; attempt < 200; attempt++) {
+            if (client.get().uri("/actuator/health/readiness").exchange().returnResult(String.class).getStatus().value() == 200) return;
+            Thread.sleep(50);
+        }
+        throw new AssertionError("service not ready after 10 s");
+    }
+
+    @Test
+    void createReturnsMetadataWithTenantCollection() {
+        OrganizationMetadata meta = create(org, email, "Admin@1234")
+                .expectStatus().isOk()
+                .expectBody(OrganizationMetadata.class).returnResult().getResponseBody();
+
+        assertThat(meta.getOrganizationName()).isEqualTo(org);
+        assertThat(meta.getCollectionName()).isEqualTo("tenant_" + meta.getId());
+        assertThat(meta.getAdminUserId()).isNotBlank();
+        assertThat(meta.getConnectionDetails()).isIn("single_mongo_instance", "cluster-b");
+    }
+
+    @Test
+    void createRejectsDuplicatesAndMissingFields() {
+        create(org, email, "Admin@1234").expectStatus().isOk();
+
+        create(org, "other@" + org + ".example", "Admin@1234").expectStatus().isEqualTo(409);
+        create(org + "-2", email, "Admin@1234").expectStatus().isEqualTo(409);
+        create("", email, "Admin@1234").expectStatus().isBadRequest();
+    }
+
+    @Test
+    void createWithIdempotencyKeyReplaysRetriesAndCoalescesConcurrentOnes() {
+        String key = UUID.randomUUID().toString();
+        OrganizationMetadata first = create(key, org, email, "Admin@1234")
+                .expectStatus().isOk()
+                .expectHeader().doesNotExist("Idempotent-Replayed")
+                .expectBody(OrganizationMetadata.class).returnResult().getResponseBody();
+        create(key, org, email, "Admin@1234")
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("Idempotent-Replayed", "true")
+                .expectBody().jsonPath("$.id").isEqualTo(first.getId());
+        create(key, org, "other@" + org + ".example", "Admin@1234").expectStatus().isEqualTo(422);
+        create("x".repeat(256), org + "-long", email, "Admin@1234").expectStatus().isBadRequest();
+
+        // a 409 is kept too: the retry gets it again even once the name is free
+        String conflictKey = UUID.randomUUID().toString();
+        create(conflictKey, org, "other@" + org + ".example", "Admin@1234").expectStatus().isEqualTo(409);
+        create(conflictKey, org, "other@" + org + ".example", "Admin@1234").expectStatus().isEqualTo(409);
+
+        // a retry storm with one key: one organization, every caller gets it
+        String stormKey = UUID.randomUUID().toString();
+        String storm = org + "-storm";
+        List<String> ids = concurrently(8, i -> create(stormKey, storm, "storm@" + org + ".example", "Admin@1234")
+                .expectStatus().isOk()
+                .expectBody(OrganizationMetadata.class).returnResult().getResponseBody().getId());
+        assertThat(ids).containsOnly(ids.get(0));
+
+        // racing creates of one name without a key: one wins, the losers leave no admin behind
+        String race = org + "-race";
+        List<Integer> statuses = concurrently(6, i -> create(race, "race" + i + "@" + org + ".example", "Admin@1234")
+                .returnResult(String.class).getStatus().value());
+        assertThat(statuses).containsOnly(200, 409).filteredOn(status -> status == 200).hasSize(1);
+        for (int i = 0; i < statuses.size(); i++) {
+            login("race" + i + "@" + org + ".example", "Admin@1234").expectStatus().isEqualTo(statuses.get(i) == 200 ? 200 : 401);
+        }
+    }
+
+    @Test
+    void bulkCreateReportsEachItemInOrder() {
+        create(org, email, "Admin@1234").expectStatus().isOk();
+        String first = org + "-a";
+        String second = org + "-b";
+
+        client.post().uri("/org/bulk-create").contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(List.of(
+                        Map.of("organization_name", first, "email", "a@" + org + ".example", "password", "Admin@1234"),
+                        Map.of("organization_name", org, "email", "b@" + org + ".example", "password", "Admin@1234"),
+                        Map.of("organization_name", first, "email", "c@" + org + ".example", "password", "Admin@1234"),
+                        Map.of("organization_name", org + "-c", "email", email, "password", "Admin@1234"),
+                        Map.of("organization_name", org + "-d", "email", "d@" + org + ".example", "password", ""),
+                        Map.of("organization_name", second, "email", "e@" + org + ".example", "password", "Admin@1234")))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(6)
+                .jsonPath("$[0].status").isEqualTo(200)
+                .jsonPath("$[0].organization.organizationName").isEqualTo(first)
+                .jsonPath("$[1].status").isEqualTo(409)
+                .jsonPath("$[2].status").isEqualTo(409)
+                .jsonPath("$[3].status").isEqualTo(409)
+                .jsonPath("$[4].status").isEqualTo(400)
+                .jsonPath("$[5].status").isEqualTo(200);
+
+        client.get().uri("/org/get?organization_name={org}", second).exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.collectionName").value(name -> assertThat((String) name).startsWith("tenant_"));
+        login("e@" + org + ".example", "Admin@1234").expectStatus().isOk();
+        client.get().uri("/org/get?organization_name={org}", org + "-c").exchange().expectStatus().isNotFound();
+
+        client.post().uri("/org/bulk-create").contentType(MediaType.APPLICATION_JSON).bodyValue(List.of())
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void listPagesByNameWithPrefixProjectionAndNdjsonForOperators() {
+        for (String suffix : List.of("c", "a", "b")) {
+            create(org + "-" + suffix, suffix + "@" + org + ".example", "Admin@1234").expectStatus().isOk();
+        }
+
+        OrganizationPage first = client.get().uri("/org/list?prefix={prefix}&limit=2&fields=collectionName", org + "-")
+                .header(OperatorTokenFilter.HEADER, OPERATOR_TOKEN).exchange()
+                .expectStatus().isOk()
+                .expectBody(OrganizationPage.class).returnResult().getResponseBody();
+        assertThat(first.getOrganizations()).extracting(item -> item.get("organizationName")).containsExactly(org + "-a", org + "-b");
+        assertThat(first.getOrganizations().get(0)).containsOnlyKeys("organizationName", "collectionName");
+        assertThat(first.getNext_after()).isEqualTo(org + "-b");
+
+        OrganizationPage last = client.get().uri("/org/list?prefix={prefix}&limit=2&after={after}", org + "-", first.getNext_after())
+                .header(OperatorTokenFilter.HEADER, OPERATOR_TOKEN).exchange()
+                .expectStatus().isOk()
+                .expectBody(OrganizationPage.class).returnResult().getResponseBody();
+        assertThat(last.getOrganizations()).extracting(item -> item.get("organizationName")).containsExactly(org + "-c");
+        assertThat(last.getOrganizations().get(0)).containsKeys("id", "adminUserId");
+        assertThat(last.getNext_after()).isNull();
+
+        String ndjson = client.get().uri("/org/list?prefix={prefix}&fields=id", org + "-")
+                .header(OperatorTokenFilter.HEADER, OPERATOR_TOKEN).accept(MediaType.APPLICATION_NDJSON).exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class).returnResult().getResponseBody();
+        assertThat(ndjson.lines()).hasSize(3).allSatisfy(line -> assertThat(line).contains("\"id\"").doesNotContain("collectionName"));
+
+        client.get().uri("/org/list?fields=passwordHash").header(OperatorTokenFilter.HEADER, OPERATOR_TOKEN)
+                .exchange().expectStatus().isBadRequest();
+        client.get().uri("/org/list?fields=passwordHash").header(OperatorTokenFilter.HEADER, OPERATOR_TOKEN)
+                .accept(MediaType.APPLICATION_NDJSON).exchange().expectStatus().isBadRequest();
+        client.get().uri("/org/list?limit=0").header(OperatorTokenFilter.HEADER, OPERATOR_TOKEN)
+                .exchange().expectStatus().isBadRequest();
+
+        // every tenant's metadata: operators only, in both forms
+        client.get().uri("/org/list").exchange().expectStatus().isUnauthorized();
+        client.get().uri("/org/list").accept(MediaType.APPLICATION_NDJSON).exchange().expectStatus().isUnauthorized();
+        client.get().uri("/org/list").header(OperatorTokenFilter.HEADER, "wrong").exchange().expectStatus().isUnauthorized();
+        client.get().uri("/org/list").header(HttpHeaders.AUTHORIZATION, "Bearer " + token("a@" + org + ".example", "Admin@1234"))
+                .exchange().expectStatus().isForbidden();
+    }
+
+    @Test
+    void getServesEtagAndNotModified() {
+        create(org, email, "Admin@1234").expectStatus().isOk();
+
+        String etag = client.get().uri("/org/get?organization_name={org}", org).exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.organizationName").isEqualTo(org)
+                .returnResult().getResponseHeaders().getETag();
+        assertThat(etag).isNotBlank();
+
+        client.get().uri("/org/get?organization_name={org}", org).header(HttpHeaders.IF_NONE_MATCH, etag).exchange()
+                .expectStatus().isNotModified();
+        client.get().uri("/org/get?organization_name={org}", org + "-missing").exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void organizationOverRateLimitGets429() {
+        create(org, email, "Admin@1234").expectStatus().isOk();
+        String neighbour = org + "-neighbour";
+        create(neighbour, "admin@" + neighbour + ".example", "Admin@1234").expectStatus().isOk();
+        String token = token(email, "Admin@1234");
+        String neighbourToken = token("admin@" + neighbour + ".example", "Admin@1234");
+        try (MongoClient master = MongoClients.create(MASTER_URI)) {
+            master.getDatabase(new ConnectionString(MASTER_URI).getDatabase()).getCollection("master_organizations")
+                    .updateOne(new Document("organizationName", org),
+                            new Document("$set", new Document("rateLimit", new Document("requestsPerSecond", 0.5).append("burst", 2))));
+        }
+
+        // the override is picked up by the next refresh; from then on the burst of 2 runs out at once
+        long deadline = System.currentTimeMillis() + 5_000;
+        HttpHeaders rejected = null;
+        while (rejected == null) {
+            assertThat(System.currentTimeMillis()).as("rate limit override applied in time").isLessThan(deadline);
+            var result = employees(token).returnResult(String.class);
+            if (result.getStatus().value() == 429) {
+                rejected = result.getResponseHeaders();
+            } else {
+                assertThat(result.getStatus().value()).isEqualTo(200);
+            }
+        }
+        assertThat(Long.parseLong(rejected.getFirst(HttpHeaders.RETRY_AFTER))).isPositive();
+        employees(token).expectStatus().isEqualTo(429)
+                .expectBody(String.class).isEqualTo("rate limit exceeded");
+        client.get().uri("/org/employees/list?organization_name={org}&limit=1", neighbour)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + neighbourToken).exchange().expectStatus().isOk();
+        // naming the organization without its token is charged to the caller's IP, not to the organization
+        client.get().uri("/org/get?organization_name={org}", org).exchange().expectStatus().isOk();
+    }
+
+    @Test
+    void loginChecksCredentialsAndUpdateChangesThem() {
+        create(org, email, "Admin@1234").expectStatus().isOk();
+
+        login(email, "wrong").expectStatus().isUnauthorized();
+        login(email, "Admin@1234").expectStatus().isOk()
+                .expectBody(LoginResponse.class).value(res -> assertThat(res.getToken()).isNotBlank());
+
+        String newEmail = "new-" + email;
+        client.put().uri("/org/update").contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("organization_name", org, "email", newEmail, "password", "Changed@1234"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.organizationName").isEqualTo(org);
+        client.put().uri("/org/update").contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("organization_name", org + "-missing", "email", newEmail, "password", "x"))
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        login(email, "Admin@1234").expectStatus().isUnauthorized();
+        login(newEmail, "Changed@1234").expectStatus().isOk();
+    }
+
+    @Test
+    void refreshRotatesTokensAndRevokedSessionsAreRefused() {
+        create(org, email, "Admin@1234").expectStatus().isOk();
+        LoginResponse first = session(email, "Admin@1234");
+        assertThat(first.getRefreshToken()).isNotBlank();
+        assertThat(first.getExpiresIn()).isPositive();
+        employees(first.getToken()).expectStatus().isOk();
+
+        // rotation: a new pair each time, and a refresh token works once
+        LoginResponse second = refresh(first.getRefreshToken()).expectStatus().isOk()
+                .expectBody(LoginResponse.class).returnResult().getResponseBody();
+        assertThat(second.getRefreshToken()).isNotEqualTo(first.getRefreshToken());
+        employees(second.getToken()).expectStatus().isOk();
+        refresh("not-a-refresh-token").expectStatus().isUnauthorized();
+        // a rotated refresh token presented again has leaked: the whole session is revoked, access tokens included
+        refresh(first.getRefreshToken()).expectStatus().isUnauthorized();
+        refresh(second.getRefreshToken()).expectStatus().isUnauthorized();
+        employees(second.getToken()).expectStatus().isUnauthorized();
+
+        // logout ends that session only
+        LoginResponse laptop = session(email, "Admin@1234");
+        LoginResponse phone = session(email, "Admin@1234");
+        logout(null).expectStatus().isUnauthorized();
+        logout(laptop.getToken()).expectStatus().isNoContent();
+        employees(laptop.getToken()).expectStatus().isUnauthorized();
+        refresh(laptop.getRefreshToken()).expectStatus().isUnauthorized();
+        employees(phone.getToken()).expectStatus().isOk();
+
+        // a password change revokes every session of the admin
+        client.put().uri("/org/update").contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("organization_name", org, "email", email, "password", "Changed@1234"))
+                .exchange()
+                .expectStatus().isOk();
+        employees(phone.getToken()).expectStatus().isUnauthorized();
+        refresh(phone.getRefreshToken()).expectStatus().isUnauthorized();
+        employees(token(email, "Changed@1234")).expectStatus().isOk();
+    }
+
+    @Test
+    void staleTokensDoNotBlockPublicEndpoints() {
+        OrganizationMetadata meta = create(org, email, "Admin@1234").expectStatus().isOk()
+                .expectBody(OrganizationMetadata.class).returnResult().getResponseBody();
+        String expired = new JwtUtil(jwtSecret, -60_000, 1).generateToken(meta.getAdminUserId(), org, "expired-session");
+        LoginResponse loggedOut = session(email, "Admin@1234");
+        logout(loggedOut.getToken()).expectStatus().isNoContent();
+
+        for (String stale : List.of(expired, loggedOut.getToken(), "not-a-jwt")) {
+            client.post().uri("/admin/login").contentType(MediaType.APPLICATION_JSON)
+                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + stale)
+                    .bodyValue(Map.of("email", email, "password", "Admin@1234"))
+                    .exchange()
+                    .expectStatus().isOk();
+            client.get().uri("/org/get?organization_name={org}", org)
+                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + stale)
+                    .exchange()
+                    .expectStatus().isOk();
+        }
+        LoginResponse live = session(email, "Admin@1234");
+        client.post().uri("/admin/refresh").contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + expired)
+                .bodyValue(Map.of("refreshToken", live.getRefreshToken()))
+                .exchange()
+                .expectStatus().isOk();
+        String other = org + "-other";
+        client.post().uri("/org/create").contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + expired)
+                .bodyValue(Map.of("organization_name", other, "email", "admin@" + other + ".example", "password", "Admin@1234"))
+                .exchange()
+                .expectStatus().isOk();
+
+        // protected endpoints still refuse them, with the reason
+        employees(expired).expectStatus().isUnauthorized()
+                .expectBody(String.class).value(body -> assertThat(body).startsWith("invalid token"));
+        employees(loggedOut.getToken()).expectStatus().isUnauthorized()
+                .expectBody(String.class).isEqualTo("token revoked");
+    }
+
+    @Test
+    void deleteRequiresTokenOfTheSameOrganization() {
+        create(org, email, "Admin@1234").expectStatus().isOk();
+        String other = org + "-other";
+        create(other, "admin@" + other + ".example", "Admin@1234").expectStatus().isOk();
+        String token = token(email, "Admin@1234");
+
+        delete(org, null).expectStatus().isUnauthorized();
+        delete(org, "not-a-jwt").expectStatus().isUnauthorized();
+        delete(other, token).expectStatus().isForbidden();
+
+        OrgDeletionJob job = delete(org, token).expectStatus().isAccepted()
+                .expectHeader().valueMatches(HttpHeaders.LOCATION, "/org/delete/status\\?job_id=[0-9a-f-]{36}")
+                .expectBody(OrgDeletionJob.class).returnResult().getResponseBody();
+        // tombstoned right away: gone for lookups, and the admin's token no longer matches
+        assertThat(job.isTombstoned()).isTrue();
+        client.get().uri("/org/get?organization_name={org}", org).exchange().expectStatus().isNotFound();
+        // its admin's sessions were revoked with it
+        delete(org, token).expectStatus().isUnauthorized();
+
+        // the name is free again; the background cleanup must not touch the new organization
+        String newEmail = "new-" + email;
+        create(org, newEmail, "Admin@1234").expectStatus().isOk();
+        OrgDeletionJob finished = awaitDeletion(job.getId());
+        assertThat(finished.isCollectionDropped()).isTrue();
+        assertThat(finished.isAdminsDeleted()).isTrue();
+        // the admin is gone with its organization
+        login(email, "Admin@1234").expectStatus().isUnauthorized();
+        login(newEmail, "Admin@1234").expectStatus().isOk();
+        client.get().uri("/org/get?organization_name={org}", org).exchange().expectStatus().isOk();
+        client.get().uri("/org/delete/status?job_id={id}", "no-such-job").exchange().expectStatus().isNotFound();
+    }
+
+    @Test
+    void exportAndImportTenantDataAsNdjsonAndBson() {
+        create(org, email, "Admin@1234").expectStatus().isOk();
+        String other = org + "-copy";
+        create(other, "admin@" + other + ".example", "Admin@1234").expectStatus().isOk();
+        String token = token(email, "Admin@1234");
+        String otherToken = token("admin@" + other + ".example", "Admin@1234");
+
+        client.post().uri("/org/import?organization_name={org}", org).header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .bodyValue("{\"_id\": 1, \"name\": \"Ada\"}\n\n{\"name\": \"Grace\", \"salary\": 10.5}\n")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.inserted").isEqualTo(2).jsonPath("$.duplicates").isEqualTo(0);
+
+        String ndjson = client.get().uri("/org/export?organization_name={org}", org).header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_NDJSON)
+                .expectBody(String.class).returnResult().getResponseBody();
+        // template + admin_profile + the two imported documents
+        assertThat(ndjson.lines()).hasSize(4).anySatisfy(line -> assertThat(line).contains("\"Ada\""));
+
+        byte[] bson = client.get().uri("/org/export?organization_name={org}&format=bson", org).header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(byte[].class).returnResult().getResponseBody();
+        for (int duplicates : new int[]{0, 4}) {
+            client.post().uri("/org/import?organization_name={org}&format=bson", other).header(HttpHeaders.AUTHORIZATION, "Bearer " + otherToken)
+                    .contentType(MediaType.APPLICATION_OCTET_STREAM).bodyValue(bson)
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody().jsonPath("$.inserted").isEqualTo(4 - duplicates).jsonPath("$.duplicates").isEqualTo(duplicates);
+        }
+
+        client.get().uri("/org/export?organization_name={org}", org).exchange().expectStatus().isUnauthorized();
+        client.get().uri("/org/export?organization_name={org}", other).header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .exchange().expectStatus().isForbidden();
+        client.get().uri("/org/export?organization_name={org}&format=csv", org).header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .exchange().expectStatus().isBadRequest();
+        client.post().uri("/org/import?organization_name={org}", org).header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .contentType(MediaType.APPLICATION_NDJSON).bodyValue("{\"name\": \"ok\"}\n{not json\n")
+                .exchange().expectStatus().isBadRequest();
+    }
+
+    @Test
+    void employeesCrudBulkUpsertAndKeysetPages() {
+        create(org, email, "Admin@1234").expectStatus().isOk();
+        String token = token(email, "Admin@1234");
+
+        Employee ada = client.post().uri("/org/employees/create?organization_name={org}", org)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .bodyValue(Map.of("name", "Ada", "email", "ada@" + org, "position", "engineer", "salary", 100))
+                .exchange().expectStatus().isOk()
+                .expectBody(Employee.class).returnResult().getResponseBody();
+        assertThat(ada.getId()).matches("[0-9a-f]{24}");
+        assertThat(ada.getCreatedAt()).isNotNull();
+        client.post().uri("/org/employees/create?organization_name={org}", org).header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .bodyValue(Map.of("name", "Other Ada", "email", "ada@" + org)).exchange().expectStatus().isEqualTo(409);
+
+        client.get().uri("/org/employees/get?organization_name={org}&id={id}&fields=name", org, ada.getId())
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token).exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(ada.getId())
+                .jsonPath("$.name").isEqualTo("Ada")
+                .jsonPath("$.salary").doesNotExist();
+
+        // ada is matched and changed; two are new; one has no email, one repeats an email of the request
+        EmployeeBulkResult bulk = client.post().uri("/org/employees/bulk-upsert?organization_name={org}", org)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .bodyValue(List.of(
+                        Map.of("email", "ada@" + org, "position", "lead"),
+                        Map.of("name", "Bob", "email", "bob@" + org, "position", "engineer"),
+                        Map.of("name", "Cy", "email", "cy@" + org, "position", "engineer", "salary", 90),
+                        Map.of("name", "Nobody"),
+                        Map.of("name", "Bob again", "email", "bob@" + org)))
+                .exchange().expectStatus().isOk()
+                .expectBody(EmployeeBulkResult.class).returnResult().getResponseBody();
+        assertThat(bulk.getUpserted()).isEqualTo(2);
+        assertThat(bulk.getMatched()).isEqualTo(1);
+        assertThat(bulk.getErrors()).extracting(EmployeeBulkResult.ItemError::getIndex).containsExactly(3, 4);
+
+        EmployeePage first = client.get().uri("/org/employees/list?organization_name={org}&limit=2", org)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token).exchange()
+                .expectStatus().isOk()
+                .expectBody(EmployeePage.class).returnResult().getResponseBody();
+        assertThat(first.getEmployees()).extracting(Employee::getName).containsExactly("Ada", "Bob");
+        assertThat(first.getEmployees().get(0).getPosition()).isEqualTo("lead");
+        EmployeePage second = client.get().uri("/org/employees/list?organization_name={org}&limit=2&after={after}", org, first.getNext_after())
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token).exchange()
+                .expectStatus().isOk()
+                .expectBody(EmployeePage.class).returnResult().getResponseBody();
+        assertThat(second.getEmployees()).extracting(Employee::getName).containsExactly("Cy");
+        assertThat(second.getNext_after()).isNull();
+        EmployeePage engineers = client.get().uri("/org/employees/list?organization_name={org}&position=engineer&fields=email", org)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token).exchange()
+                .expectStatus().isOk()
+                .expectBody(EmployeePage.class).returnResult().getResponseBody();
+        assertThat(engineers.getEmployees()).extracting(Employee::getEmail).containsExactly("bob@" + org, "cy@" + org);
+        assertThat(engineers.getEmployees()).allSatisfy(employee -> assertThat(employee.getName()).isNull());
+
+        client.put().uri("/org/employees/update?organization_name={org}&id={id}", org, ada.getId())
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .bodyValue(Map.of("salary", 120)).exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.salary").isEqualTo(120.0).jsonPath("$.position").isEqualTo("lead");
+        client.put().uri("/org/employees/update?organization_name={org}&id={id}", org, ada.getId())
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .bodyValue(Map.of("email", "bob@" + org)).exchange().expectStatus().isEqualTo(409);
+        client.delete().uri("/org/employees/delete?organization_name={org}&id={id}", org, ada.getId())
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token).exchange().expectStatus().isOk();
+        client.get().uri("/org/employees/get?organization_name={org}&id={id}", org, ada.getId())
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token).exchange().expectStatus().isNotFound();
+        client.get().uri("/org/employees/get?organization_name={org}&id=nope", org)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token).exchange().expectStatus().isBadRequest();
+
+        client.get().uri("/org/employees/list?organization_name={org}", org).exchange().expectStatus().isUnauthorized();
+        String other = org + "-other";
+        create(other, "admin@" + other + ".example", "Admin@1234").expectStatus().isOk();
+        client.get().uri("/org/employees/list?organization_name={org}", other)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token).exchange().expectStatus().isForbidden();
+    }
+
+    @Test
+    void statsCountWritesAndRequestsAndAreReconciledWithTheCollection() {
+        create(org, email, "Admin@1234").expectStatus().isOk();
+        String token = token(email, "Admin@1234");
+        Employee last = null;
+        for (String name : List.of("Ada", "Bob", "Cy")) {
+            last = client.post().uri("/org/employees/create?organization_name={org}", org)
+                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                    .bodyValue(Map.of("name", name, "email", name + "@" + org)).exchange()
+                    .expectStatus().isOk()
+                    .expectBody(Employee.class).returnResult().getResponseBody();
+        }
+        // Ada is matched and changed, Dee is new
+        client.post().uri("/org/employees/bulk-upsert?organization_name={org}", org)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .bodyValue(List.of(Map.of("email", "Ada@" + org, "position", "lead"), Map.of("name", "Dee", "email", "Dee@" + org)))
+                .exchange().expectStatus().isOk();
+        client.delete().uri("/org/employees/delete?organization_name={org}&id={id}", org, last.getId())
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token).exchange().expectStatus().isOk();
+        long documents = client.get().uri("/org/export?organization_name={org}", org).header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .exchange().expectStatus().isOk()
+                .expectBody(String.class).returnResult().getResponseBody().lines().count();
+
+        // 3 creates, 1 upsert + 1 change, 1 delete; the document count includes the seeded documents once sampled
+        TenantStats stats = awaitStats(token, found -> found.getSampledAt() != null && found.getWrites() == 6
+                && found.getDocumentCount() == documents);
+        assertThat(stats.getOrganizationName()).isEqualTo(org);
+        assertThat(stats.getRequests()).isGreaterThanOrEqualTo(6);
+        assertThat(stats.getDataSize()).isPositive();
+        assertThat(stats.getRequestsPerSecond()).isNotNegative();
+
+        client.get().uri("/org/stats?organization_name={org}", org).exchange().expectStatus().isUnauthorized();
+        String other = org + "-other";
+        create(other, "admin@" + other + ".example", "Admin@1234").expectStatus().isOk();
+        client.get().uri("/org/stats?organization_name={org}", other)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token).exchange().expectStatus().isForbidden();
+    }
+
+    @Test
+    void moveTenantToAnotherClusterKeepsItsDataAndIndexes() {
+        OrganizationMetadata meta = create(org, email, "Admin@1234").expectStatus().isOk()
+                .expectBody(OrganizationMetadata.class).returnResult().getResponseBody();
+        String target = meta.getConnectionDetails().equals("cluster-b") ? "single_mongo_instance" : "cluster-b";
+        String token = token(email, "Admin@1234");
+        client.post().uri("/org/import?organization_name={org}", org).header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .contentType(MediaType.APPLICATION_NDJSON).bodyValue("{\"name\": \"Ada\"}\n")
+                .exchange().expectStatus().isOk();
+
+        // tenant admins cannot move their organization; operators get a job to follow
+        move(org, target, token).expectStatus().isForbidden();
+        move(org, target, null).expectStatus().isUnauthorized();
+        client.post().uri("/org/move?organization_name={org}&cluster={cluster}", org, target)
+                .header(OperatorTokenFilter.HEADER, "wrong").exchange().expectStatus().isUnauthorized();
+        TenantMoveJob job = move(org, target, null, OPERATOR_TOKEN).expectStatus().isAccepted()
+                .expectHeader().valueMatches(HttpHeaders.LOCATION, "/org/move/status\\?job_id=[0-9a-f-]{36}")
+                .expectBody(TenantMoveJob.class).returnResult().getResponseBody();
+        assertThat(job.getSourceCluster()).isEqualTo(meta.getConnectionDetails());
+        client.get().uri("/org/move/status?job_id={id}", job.getId()).header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .exchange().expectStatus().isForbidden();
+        assertThat(awaitMove(job.getId()).isSourceDropped()).isTrue();
+        client.get().uri("/org/get?organization_name={org}", org).exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.connectionDetails").isEqualTo(target);
+        String ndjson = client.get().uri("/org/export?organization_name={org}", org).header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .exchange().expectStatus().isOk()
+                .expectBody(String.class).returnResult().getResponseBody();
+        assertThat(ndjson.lines()).hasSize(3).anySatisfy(line -> assertThat(line).contains("\"Ada\""));
+
+        // the copy carries the adminEmail index; the source collection is gone
+        String targetUri = target.equals("cluster-b") ? CLUSTER_B_URI : MASTER_URI;
+        String sourceUri = target.equals("cluster-b") ? MASTER_URI : CLUSTER_B_URI;
+        try (MongoClient targetClient = MongoClients.create(targetUri); MongoClient sourceClient = MongoClients.create(sourceUri)) {
+            MongoDatabase targetDb = targetClient.getDatabase(new ConnectionString(targetUri).getDatabase());
+            assertThat(targetDb.getCollection(meta.getCollectionName()).listIndexes())
+                    .anySatisfy(index -> assertThat(index.get("key", Document.class)).containsKey("adminEmail"));
+            assertThat(sourceClient.getDatabase(new ConnectionString(sourceUri).getDatabase()).listCollectionNames())
+                    .doesNotContain(meta.getCollectionName());
+        }
+
+        move(org, target, null, OPERATOR_TOKEN).expectStatus().isBadRequest();
+        move(org, "nowhere", null, OPERATOR_TOKEN).expectStatus().isBadRequest();
+        client.get().uri("/org/move/status?job_id={id}", "unknown").header(OperatorTokenFilter.HEADER, OPERATOR_TOKEN)
+                .exchange().expectStatus().isNotFound();
+        awaitDeletion(delete(org, token).expectStatus().isAccepted()
+                .expectBody(OrgDeletionJob.class).returnResult().getResponseBody().getId());
+    }
+
+    @Test
+    void deleteIsRefusedWhileTheTenantIsBeingMoved() {
+        OrganizationMetadata meta = create(org, email, "Admin@1234").expectStatus().isOk()
+                .expectBody(OrganizationMetadata.class).returnResult().getResponseBody();
+        String target = meta.getConnectionDetails().equals("cluster-b") ? "single_mongo_instance" : "cluster-b";
+        String token = token(email, "Admin@1234");
+
+        // frozen by a move: the deletion would drop the source and leave the copy on the target behind
+        try (MongoClient master = MongoClients.create(MASTER_URI)) {
+            var organizations = master.getDatabase(new ConnectionString(MASTER_URI).getDatabase()).getCollection("master_organizations");
+            organizations.updateOne(new Document("organizationName", org), new Document("$set", new Document("movingTo", target)));
+            delete(org, token).expectStatus().isEqualTo(503).expectHeader().exists(HttpHeaders.RETRY_AFTER);
+            // nothing was tombstoned: the organization and its admin's token still work
+            client.get().uri("/org/get?organization_name={org}", org).exchange().expectStatus().isOk();
+            employees(token).expectStatus().isOk();
+
+            organizations.updateOne(new Document("organizationName", org), new Document("$unset", new Document("movingTo", "")));
+        }
+        OrgDeletionJob job = awaitDeletion(delete(org, token).expectStatus().isAccepted()
+                .expectBody(OrgDeletionJob.class).returnResult().getResponseBody().getId());
+        assertThat(job.getConnectionDetails()).isEqualTo(meta.getConnectionDetails());
+        assertThat(job.isCollectionDropped()).isTrue();
+    }
+
+    @Test
+    void importRunningWhileTheTenantIsMovedLosesNoWrites() {
+        OrganizationMetadata meta = create(org, email, "Admin@1234").expectStatus().isOk()
+                .expectBody(OrganizationMetadata.class).returnResult().getResponseBody();
+        String target = meta.getConnectionDetails().equals("cluster-b") ? "single_mongo_instance" : "cluster-b";
+        String token = token(email, "Admin@1234");
+        IntFunction<String> line = i -> "{\"_id\": " + i + ", \"name\": \"employee " + i + "\"}\n";
+
+        // two import batches (app.tenant-transfer.batch-size 1000): the move is frozen after the first and a half
+        // were sent, so the second must be refused rather than written to the source behind the copy's back
+        AtomicReference<CompletableFuture<String>> moved = new AtomicReference<>();
+        Flux<String> body = Flux.concat(
+                Flux.range(0, 1500).map(line::apply),
+                // not cancelled with the body: the import may be refused before the move is seen frozen here
+                Mono.defer(() -> Mono.fromFuture(moved.updateAndGet(started -> CompletableFuture.supplyAsync(() ->
+                        awaitFrozen(move(org, target, null, OPERATOR_TOKEN).expectStatus().isAccepted()
+                                .expectBody(TenantMoveJob.class).returnResult().getResponseBody().getId()))), true))
+                        .thenMany(Flux.<String>empty()),
+                Flux.range(1500, 500).map(line::apply));
+        client.post().uri("/org/import?organization_name={org}", org).header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .contentType(MediaType.APPLICATION_NDJSON).body(BodyInserters.fromPublisher(body, String.class))
+                .exchange()
+                .expectStatus().isEqualTo(503)
+                .expectHeader().exists(HttpHeaders.RETRY_AFTER);
+        awaitMove(moved.get().join());
+
+        // the copy holds whole batches written before the freeze and nothing after it; the retry completes it
+        String targetUri = target.equals("cluster-b") ? CLUSTER_B_URI : MASTER_URI;
+        long imported;
+        try (MongoClient targetClient = MongoClients.create(targetUri)) {
+            imported = targetClient.getDatabase(new ConnectionString(targetUri).getDatabase())
+                    .getCollection(meta.getCollectionName()).countDocuments(new Document("name", new Document("$exists", true)));
+        }
+        assertThat(imported).isIn(0L, 1000L);
+        client.post().uri("/org/import?organization_name={org}", org).header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .bodyValue(String.join("", IntStream.range(0, 2000).mapToObj(line).toList()))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.inserted").isEqualTo((int) (2000 - imported))
+                .jsonPath("$.duplicates").isEqualTo((int) imported);
+        awaitDeletion(delete(org, token).expectStatus().isAccepted()
+                .expectBody(OrgDeletionJob.class).returnResult().getResponseBody().getId());
+    }
+
+    private WebTestClient.ResponseSpec create(String organization, String adminEmail, String password) {
+        return client.post().uri("/org/create").contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("organization_name", organization, "email", adminEmail, "password", password))
+                .exchange();
+    }
+
+    private WebTestClient.ResponseSpec create(String idempotencyKey, String organization, String adminEmail, String password) {
+        return client.post().uri("/org/create").contentType(MediaType.APPLICATION_JSON)
+                .header("Idempotency-Key", idempotencyKey)
+                .bodyValue(Map.of("organization_name", organization, "email", adminEmail, "password", password))
+                .exchange();
+    }
+
+    /** Runs call(0..n-1) on n threads at once and returns the results in index order. */
+    private static <T> List<T> concurrently(int n, IntFunction<T> call) {
+        ExecutorService pool = Executors.newFixedThreadPool(n);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<CompletableFuture<T>> results = IntStream.range(0, n)
+                    .mapToObj(i -> CompletableFuture.supplyAsync(() -> {
+                        try {
+                            start.await();
+                        } catch (InterruptedException ex) {
+                            Thread.currentThread().interrupt();
+                        }
+                        return call.apply(i);
+                    }, pool))
+                    .toList();
+            start.countDown();
+            return results.stream().map(CompletableFuture::join).toList();
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private WebTestClient.ResponseSpec login(String adminEmail, String password) {
+        return client.post().uri("/admin/login").contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("email", adminEmail, "password", password))
+                .exchange();
+    }
+
+    private String token(String adminEmail, String password) {
+        return session(adminEmail, password).getToken();
+    }
+
+    private LoginResponse session(String adminEmail, String password) {
+        return login(adminEmail, password).expectStatus().isOk()
+                .expectBody(LoginResponse.class).returnResult().getResponseBody();
+    }
+
+    private WebTestClient.ResponseSpec refresh(String refreshToken) {
+        return client.post().uri("/admin/refresh").contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("refreshToken", refreshToken))
+                .exchange();
+    }
+
+    private WebTestClient.ResponseSpec logout(String token) {
+        WebTestClient.RequestHeadersSpec<?> request = client.post().uri("/admin/logout");
+        if (token != null) request = request.header(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+        return request.exchange();
+    }
+
+    private WebTestClient.ResponseSpec employees(String token) {
+        return client.get().uri("/org/employees/list?organization_name={org}&limit=1", org)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .exchange();
+    }
+
+    private WebTestClient.ResponseSpec move(String organization, String cluster, String token) {
+        return move(organization, cluster, token, null);
+    }
+
+    private WebTestClient.ResponseSpec move(String organization, String cluster, String token, String operatorToken) {
+        WebTestClient.RequestHeadersSpec<?> request = client.post().uri("/org/move?organization_name={org}&cluster={cluster}", organization, cluster);
+        if (token != null) request = request.header(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+        if (operatorToken != null) request = request.header(OperatorTokenFilter.HEADER, operatorToken);
+        return request.exchange();
+    }
+
+    private TenantMoveJob awaitMove(String jobId) {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (true) {
+            TenantMoveJob job = client.get().uri("/org/move/status?job_id={id}", jobId).header(OperatorTokenFilter.HEADER, OPERATOR_TOKEN)
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody(TenantMoveJob.class).returnResult().getResponseBody();
+            if (job.getStatus() == TenantMoveJob.Status.DONE) return job;
+            assertThat(job.getStatus()).as("move job, last error: %s", job.getLastError()).isNotEqualTo(TenantMoveJob.Status.FAILED);
+            assertThat(System.currentTimeMillis()).as("move job finished in time").isLessThan(deadline);
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException ie) {
+                throw new IllegalStateException(ie);
+            }
+        }
+    }
+
+    private String awaitFrozen(String jobId) {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (client.get().uri("/org/move/status?job_id={id}", jobId).header(OperatorTokenFilter.HEADER, OPERATOR_TOKEN)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(TenantMoveJob.class).returnResult().getResponseBody().getFrozenAt() == null) {
+            assertThat(System.currentTimeMillis()).as("move frozen in time").isLessThan(deadline);
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException ie) {
+                throw new IllegalStateException(ie);
+            }
+        }
+        return jobId;
+    }
+
+    private OrgDeletionJob awaitDeletion(String jobId) {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (true) {
+            OrgDeletionJob job = client.get().uri("/org/delete/status?job_id={id}", jobId).exchange()
+                    .expectStatus().isOk()
+                    .expectBody(OrgDeletionJob.class).returnResult().getResponseBody();
+            if (job.getStatus() == OrgDeletionJob.Status.DONE) return job;
+            assertThat(job.getStatus()).isNotEqualTo(OrgDeletionJob.Status.FAILED);
+            assertThat(System.currentTimeMillis()).as("deletion job finished in time").isLessThan(deadline);
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException ie) {
+                throw new IllegalStateException(ie);
+            }
+        }
+    }
+
+    // the counters are flushed and reconciled in the background
+    private TenantStats awaitStats(String token, Predicate<TenantStats> expected) {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (true) {
+            TenantStats stats = client.get().uri("/org/stats?organization_name={org}", org)
+                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + token).exchange()
+                    .expectStatus().isOk()
+                    .expectBody(TenantStats.class).returnResult().getResponseBody();
+            if (expected.test(stats)) return stats;
+            assertThat(System.currentTimeMillis()).as("stats caught up in time: %s", stats).isLessThan(deadline);
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException ie) {
+                throw new IllegalStateException(ie);
+            }
+        }
+    }
+
+    private WebTestClient.ResponseSpec delete(String organization, String token) {
+        WebTestClient.RequestHeadersSpec<?> request = client.delete().uri("/org/delete?organization_name={org}", organization);
+        if (token != null) request = request.header(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+        return request.exchange();
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.organizationservice.contract;
+
+import com.example.organizationservice.OrganizationServiceApplication;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest(classes = OrganizationServiceApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "app.org-events.enabled=false")
+@ActiveProfiles("reactive")
+class ReactiveApiContractTest extends OrganizationApiContract {
+}
@@ -0,0 +1,9 @@
+package com.example.organizationservice.contract;
+
+import com.example.organizationservice.OrganizationServiceApplication;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(classes = OrganizationServiceApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "app.org-events.enabled=false")
+class ServletApiContractTest extends OrganizationApiContract {
+}
@@ -0,0 +1,64 @@
+package com.example.organizationservice.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * BloomFilter never forgets a key it was given (a false negative would let a revoked token through), and its
+ * false positives stay near the configured rate.
+ */
+class BloomFilterTest {
+
+    @Test
+    void everyAddedKeyIsFoundEvenWhenOverfilled() {
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+
+        // three times what it was sized for: more false positives, still no false negatives
+        IntStream.range(0, 30_000).forEach(i -> filter.put("session-" + i));
+
+        assertThat(IntStream.range(0, 30_000)).allMatch(i -> filter.mightContain("session-" + i));
+    }
+
+    @Test
+    void keysAddedConcurrentlyAreAllFound() throws InterruptedException {
+        BloomFilter filter = BloomFilter.create(100_000, 0.01);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        for (int t = 0; t < 8; t++) {
+            int thread = t;
+            pool.execute(() -> IntStream.range(0, 10_000).forEach(i -> filter.put(thread + "-" + i)));
+        }
+        pool.shutdown();
+        assertThat(pool.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        for (int t = 0; t < 8; t++) {
+            int thread = t;
+            assertThat(IntStream.range(0, 10_000)).allMatch(i -> filter.mightContain(thread + "-" + i));
+        }
+    }
+
+    @Test
+    void falsePositivesStayNearTheConfiguredRate() {
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        IntStream.range(0, 10_000).forEach(i -> filter.put("session-" + i));
+
+        long falsePositives = IntStream.range(0, 100_000).filter(i -> filter.mightContain("other-" + i)).count();
+
+        // the bit count is rounded up to a power of two, so the rate is at most the configured one, give or take noise
+        assertThat(falsePositives / 100_000.0).isLessThan(0.015);
+        assertThat(filter.insertions()).isBetween(9_900L, 10_000L);
+    }
+
+    @Test
+    void rejectsSizesItCannotHonour() {
+        assertThatThrownBy(() -> BloomFilter.create(0, 0.01)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> BloomFilter.create(1_000, 1.0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> BloomFilter.create(1_000, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
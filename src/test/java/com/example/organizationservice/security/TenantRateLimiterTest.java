@@ -0,0 +1,60 @@
+package com.example.organizationservice.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Burst arithmetic of TenantRateLimiter: however a bucket is striped, a full bucket admits exactly its burst at
+ * once and nothing more.
+ */
+class TenantRateLimiterTest {
+
+    private static final long NOW = 1_000_000_000_000L;
+
+    @ParameterizedTest
+    @CsvSource({
+            "1, 200", "2, 200", "16, 200", "8, 200",
+            "1, 7", "2, 7", "16, 7", "16, 1", "16, 17", "16, 1000", "4, 1001"
+    })
+    void fullBucketAdmitsExactlyTheBurst(int stripes, long burst) {
+        TenantRateLimiter.Bucket bucket = new TenantRateLimiter.Bucket(new TenantRateLimiter.Limit(100, burst), stripes, NOW);
+
+        long admitted = 0;
+        while (bucket.acquire(NOW) == 0) admitted++;
+
+        assertThat(admitted).isEqualTo(burst);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"1, 200", "2, 200", "16, 200", "12, 200", "3, 200", "12, 5"})
+    void configuredStripesAdmitExactlyTheBurst(int stripes, long burst) {
+        // a refill of one request every 1000 s: nothing comes back while the burst is drained
+        TenantRateLimiter limiter = new TenantRateLimiter(new SimpleMeterRegistry(), true,
+                0.001, burst, 0.001, burst, stripes, 100, 60_000);
+        TenantRateLimiter.Limit limit = limiter.orgLimit("acme");
+
+        long admitted = 0;
+        while (limiter.acquire("org:acme", limit) == 0) admitted++;
+
+        assertThat(admitted).isEqualTo(burst);
+        assertThat(limiter.acquire("org:acme", limit)).isPositive();
+    }
+
+    @Test
+    void emptiedBucketAdmitsAgainAtTheSustainedRate() {
+        TenantRateLimiter.Limit limit = new TenantRateLimiter.Limit(100, 20);
+        TenantRateLimiter.Bucket bucket = new TenantRateLimiter.Bucket(limit, 4, NOW);
+        while (bucket.acquire(NOW) == 0) {
+            // drain
+        }
+
+        // 100/s over 4 stripes: each stripe gets one request back every 40 ms
+        long wait = bucket.acquire(NOW);
+        assertThat(wait).isPositive().isLessThanOrEqualTo(40_000_000L);
+        assertThat(bucket.acquire(NOW + wait)).isZero();
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.organizationservice.security;
+
+import com.example.organizationservice.model.RevokedSession;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.net.InetSocketAddress;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TokenRevocationList against an in-memory MongoDB wire-protocol server: no revoked session is ever missed, whether
+ * it was loaded by a rebuild, picked up by a catch-up, or revoked on this node.
+ */
+class TokenRevocationListTest {
+
+    private static final long HOUR = 3_600_000L;
+
+    private MongoServer server;
+    private MongoClient client;
+    private MongoTemplate mongoTemplate;
+    private TokenRevocationList revocations;
+
+    @BeforeEach
+    void setUp() {
+        server = new MongoServer(new MemoryBackend());
+        InetSocketAddress address = server.bind();
+        client = MongoClients.create("mongodb://" + address.getHostString() + ":" + address.getPort());
+        mongoTemplate = new MongoTemplate(client, "revocation_test");
+        // sized for 100 entries: the 1000 revoked below overfill it, which only adds false positives
+        revocations = new TokenRevocationList(mongoTemplate, new SimpleMeterRegistry(), 100, 0.01, 1000, HOUR, 5000, 10_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.close();
+        server.shutdownNow();
+    }
+
+    private void revoke(String sessionId) {
+        Date now = new Date();
+        mongoTemplate.insert(new RevokedSession(sessionId, "admin", now, new Date(now.getTime() + HOUR)));
+    }
+
+    @Test
+    void everyRevokedSessionIsRevokedAndOthersAreNot() {
+        IntStream.range(0, 1_000).forEach(i -> revoke("revoked-" + i));
+        assertThat(revocations.isLoaded()).isFalse();
+
+        revocations.rebuild();
+
+        assertThat(revocations.isLoaded()).isTrue();
+        assertThat(IntStream.range(0, 1_000)).allMatch(i -> revocations.isRevoked("revoked-" + i));
+        // filter hits that are false positives are settled by the exact lookup
+        assertThat(IntStream.range(0, 1_000)).noneMatch(i -> revocations.isRevoked("active-" + i));
+    }
+
+    @Test
+    void revocationsFromOtherNodesArePickedUpAndLocalOnesAtOnce() {
+        revocations.rebuild();
+        assertThat(revocations.isRevoked("elsewhere")).isFalse();
+
+        // revoked by another node: the cached "not revoked" is dropped by the next catch-up
+        revoke("elsewhere");
+        revocations.catchUp();
+        assertThat(revocations.isRevoked("elsewhere")).isTrue();
+
+        // revoked on this node: effective before any read
+        revoke("here");
+        revocations.revoked(List.of("here"));
+        assertThat(revocations.isRevoked("here")).isTrue();
+    }
+}
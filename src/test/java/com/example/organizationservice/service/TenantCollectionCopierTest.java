@@ -0,0 +1,141 @@
+package com.example.organizationservice.service;
+
+import com.example.organizationservice.model.CopyCheckpoint;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoCollection;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * TenantCollectionCopier against in-memory MongoDB wire-protocol servers: batches and progress, resuming from the
+ * checkpoint after a failed attempt, and copying between two clusters.
+ */
+class TenantCollectionCopierTest {
+
+    private static final int BATCH_SIZE = 10;
+    private static final int DOCUMENTS = 25;
+
+    private MongoServer masterServer;
+    private MongoServer otherServer;
+    private MongoClient masterClient;
+    private MongoClient otherClient;
+    private MongoTemplate master;
+    private MongoTemplate other;
+    private TenantCollectionCopier copier;
+
+    @BeforeEach
+    void setUp() {
+        masterServer = new MongoServer(new MemoryBackend());
+        otherServer = new MongoServer(new MemoryBackend());
+        masterClient = MongoClients.create(uri(masterServer.bind()));
+        otherClient = MongoClients.create(uri(otherServer.bind()));
+        master = new MongoTemplate(masterClient, "copier_master");
+        other = new MongoTemplate(otherClient, "copier_other");
+        copier = new TenantCollectionCopier(master, BATCH_SIZE);
+        master.getCollection("source").insertMany(IntStream.range(0, DOCUMENTS)
+                .mapToObj(i -> new Document("_id", i).append("name", "employee " + i))
+                .toList());
+    }
+
+    @AfterEach
+    void tearDown() {
+        masterClient.close();
+        otherClient.close();
+        masterServer.shutdownNow();
+        otherServer.shutdownNow();
+    }
+
+    private static String uri(InetSocketAddress address) {
+        return "mongodb://" + address.getHostString() + ":" + address.getPort();
+    }
+
+    @Test
+    void copiesInBatchesReportingProgressAndRemovesTheCheckpoint() {
+        List<Long> progress = new ArrayList<>();
+
+        CopyCheckpoint done = copier.copy("source", "target", checkpoint -> {
+            progress.add(checkpoint.getCopiedCount());
+            assertThat(checkpoint.getTotalEstimate()).isEqualTo(DOCUMENTS);
+        });
+
+        assertThat(progress).containsExactly(10L, 20L, 25L);
+        assertThat(done.getCopiedCount()).isEqualTo(DOCUMENTS);
+        assertThat(done.getLastCopiedId()).isEqualTo(DOCUMENTS - 1);
+        assertThat(ids(master.getCollection("target"))).isEqualTo(IntStream.range(0, DOCUMENTS).boxed().toList());
+        assertThat(master.findAll(CopyCheckpoint.class)).isEmpty();
+    }
+
+    @Test
+    void failedCopyResumesAfterTheLastCommittedBatch() {
+        assertThatThrownBy(() -> copier.copy("source", "target", checkpoint -> {
+            if (checkpoint.getCopiedCount() == 20) throw new IllegalStateException("node stopped");
+        })).hasMessage("node stopped");
+
+        // two batches committed and recorded
+        CopyCheckpoint stored = master.findById("source->target", CopyCheckpoint.class);
+        assertThat(stored.getCopiedCount()).isEqualTo(20);
+        assertThat(stored.getLastCopiedId()).isEqualTo(19);
+        assertThat(master.getCollection("target").countDocuments()).isEqualTo(20);
+
+        // the retry reads only what comes after the checkpoint
+        List<Long> progress = new ArrayList<>();
+        CopyCheckpoint done = copier.copy("source", "target", checkpoint -> progress.add(checkpoint.getCopiedCount()));
+
+        assertThat(progress).containsExactly(25L);
+        assertThat(done.getCopiedCount()).isEqualTo(DOCUMENTS);
+        assertThat(ids(master.getCollection("target"))).isEqualTo(IntStream.range(0, DOCUMENTS).boxed().toList());
+        assertThat(master.findAll(CopyCheckpoint.class)).isEmpty();
+    }
+
+    @Test
+    void resumedBatchAlreadyPartlyWrittenSkipsTheDuplicateIds() {
+        assertThatThrownBy(() -> copier.copy("source", "target", checkpoint -> {
+            throw new IllegalStateException("node stopped");
+        })).hasMessage("node stopped");
+        // the next batch was in flight when the attempt died: written, but not yet in the checkpoint
+        master.getCollection("target").insertMany(IntStream.range(10, 15)
+                .mapToObj(i -> new Document("_id", i).append("name", "employee " + i))
+                .toList());
+
+        CopyCheckpoint done = copier.copy("source", "target");
+
+        assertThat(done.getCopiedCount()).isEqualTo(DOCUMENTS);
+        assertThat(ids(master.getCollection("target"))).isEqualTo(IntStream.range(0, DOCUMENTS).boxed().toList());
+    }
+
+    @Test
+    void copiesBetweenClustersWithTheCheckpointOnTheMaster() {
+        assertThatThrownBy(() -> copier.copy(master, other, "source", "a/source->b/source", checkpoint -> {
+            throw new IllegalStateException("lease lost");
+        })).hasMessage("lease lost");
+        assertThat(master.findById("a/source->b/source", CopyCheckpoint.class).getCopiedCount()).isEqualTo(BATCH_SIZE);
+        assertThat(other.getCollectionNames()).doesNotContain("master_copy_checkpoints");
+
+        CopyCheckpoint done = copier.copy(master, other, "source", "a/source->b/source");
+
+        assertThat(done.getCopiedCount()).isEqualTo(DOCUMENTS);
+        assertThat(ids(other.getCollection("source"))).isEqualTo(IntStream.range(0, DOCUMENTS).boxed().toList());
+        assertThat(master.getCollection("source").countDocuments()).isEqualTo(DOCUMENTS);
+        assertThat(master.findAll(CopyCheckpoint.class)).isEmpty();
+    }
+
+    private static List<Object> ids(MongoCollection<Document> collection) {
+        List<Object> ids = new ArrayList<>();
+        for (Document document : collection.find().sort(new Document("_id", 1))) ids.add(document.get("_id"));
+        return ids;
+    }
+}